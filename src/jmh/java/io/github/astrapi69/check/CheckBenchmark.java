@@ -0,0 +1,164 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.check;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark class for the classes {@link Check} and {@link Argument}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CheckBenchmark
+{
+
+	/** The int value to check */
+	private int intValue = 42;
+
+	/** The boxed integer value to check */
+	private Integer integerValue = 42;
+
+	/** The double value to check */
+	private double doubleValue = 4.2d;
+
+	/** The boxed double value to check */
+	private Double boxedDoubleValue = 4.2d;
+
+	/** The string value to check */
+	private String stringValue = "foo";
+
+	/** The list to check */
+	private List<String> listValue = List.of("foo", "bar");
+
+	/**
+	 * Benchmark for {@link Check#isInRange(int, int, int, String)}
+	 *
+	 * @return the check instance
+	 */
+	@Benchmark
+	public Check checkIsInRangeInt()
+	{
+		return Check.get().isInRange(0, 100, intValue, "intValue");
+	}
+
+	/**
+	 * Benchmark for {@link Check#isInRange(Integer, Integer, Integer, String)}
+	 *
+	 * @return the check instance
+	 */
+	@Benchmark
+	public Check checkIsInRangeInteger()
+	{
+		return Check.get().isInRange(Integer.valueOf(0), Integer.valueOf(100), integerValue,
+			"integerValue");
+	}
+
+	/**
+	 * Benchmark for {@link Check#isInRange(double, double, double, String)}
+	 *
+	 * @return the check instance
+	 */
+	@Benchmark
+	public Check checkIsInRangeDouble()
+	{
+		return Check.get().isInRange(0d, 10d, doubleValue, "doubleValue");
+	}
+
+	/**
+	 * Benchmark for {@link Check#isInRange(Double, Double, Double, String)}
+	 *
+	 * @return the check instance
+	 */
+	@Benchmark
+	public Check checkIsInRangeBoxedDouble()
+	{
+		return Check.get().isInRange(Double.valueOf(0d), Double.valueOf(10d), boxedDoubleValue,
+			"boxedDoubleValue");
+	}
+
+	/**
+	 * Benchmark for chained checks with {@link Check#notNull(Object, String)} and
+	 * {@link Check#notEmpty(CharSequence, String)}
+	 *
+	 * @return the check instance
+	 */
+	@Benchmark
+	public Check checkChain()
+	{
+		return Check.get().notNull(stringValue, "stringValue").notEmpty(stringValue, "stringValue")
+			.notEmpty(listValue, "listValue");
+	}
+
+	/**
+	 * Benchmark for {@link Argument#isInRange(int, int, int, String)}
+	 *
+	 * @return the value
+	 */
+	@Benchmark
+	public int argumentIsInRangeInt()
+	{
+		return Argument.isInRange(0, 100, intValue, "intValue");
+	}
+
+	/**
+	 * Benchmark for {@link Argument#isInRange(Comparable, Comparable, Comparable, String)}
+	 *
+	 * @return the value
+	 */
+	@Benchmark
+	public Integer argumentIsInRangeComparable()
+	{
+		return Argument.isInRange(Integer.valueOf(0), Integer.valueOf(100), integerValue,
+			"integerValue");
+	}
+
+	/**
+	 * Benchmark for {@link Argument#notEmpty(CharSequence, String)}
+	 *
+	 * @return the value
+	 */
+	@Benchmark
+	public String argumentNotEmpty()
+	{
+		return Argument.notEmpty(stringValue, "stringValue");
+	}
+
+	/**
+	 * Benchmark for {@link Argument#notNull(Object, String)}
+	 *
+	 * @return the value
+	 */
+	@Benchmark
+	public String argumentNotNull()
+	{
+		return Argument.notNull(stringValue, "stringValue");
+	}
+
+}
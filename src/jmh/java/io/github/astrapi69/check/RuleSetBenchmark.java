@@ -0,0 +1,156 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.check;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark class for the class {@link RuleSet} compared with a hand written chain of
+ * {@link Argument} checks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RuleSetBenchmark
+{
+
+	/** The rule set that is compiled over the lookup of this class */
+	private static final RuleSet<Person> RULES = RuleSet
+		.builder(MethodHandles.lookup(), Person.class).notEmpty("name").isInRange("age", 0, 150)
+		.notEmpty("tags").build();
+
+	/** The rule set that is compiled over the public lookup */
+	private static final RuleSet<Person> PUBLIC_RULES = RuleSet.builder(Person.class)
+		.notEmpty("name").isInRange("age", 0, 150).notEmpty("tags").build();
+
+	/** The valid bean to validate */
+	private final Person person = new Person("foo", 42, List.of("bar"));
+
+	/**
+	 * Benchmark for a hand written chain of {@link Argument} checks
+	 *
+	 * @return the bean
+	 */
+	@Benchmark
+	public Person argumentChain()
+	{
+		Argument.notEmpty(person.getName(), "name");
+		Argument.isInRange(0, 150, person.getAge(), "age");
+		Argument.notEmpty(person.getTags(), "tags");
+		return person;
+	}
+
+	/**
+	 * Benchmark for {@link RuleSet#requireValid(Object)} with accessors from the lambda metafactory
+	 *
+	 * @return the bean
+	 */
+	@Benchmark
+	public Person ruleSet()
+	{
+		return RULES.requireValid(person);
+	}
+
+	/**
+	 * Benchmark for {@link RuleSet#requireValid(Object)} with method handle accessors
+	 *
+	 * @return the bean
+	 */
+	@Benchmark
+	public Person ruleSetPublicLookup()
+	{
+		return PUBLIC_RULES.requireValid(person);
+	}
+
+	/**
+	 * The bean class for the benchmark
+	 */
+	public static class Person
+	{
+
+		/** The age */
+		private final int age;
+
+		/** The name */
+		private final String name;
+
+		/** The tags */
+		private final List<String> tags;
+
+		/**
+		 * Instantiates a new {@link Person} object
+		 *
+		 * @param name
+		 *            the name
+		 * @param age
+		 *            the age
+		 * @param tags
+		 *            the tags
+		 */
+		public Person(final String name, final int age, final List<String> tags)
+		{
+			this.name = name;
+			this.age = age;
+			this.tags = tags;
+		}
+
+		/**
+		 * Gets the age
+		 *
+		 * @return the age
+		 */
+		public int getAge()
+		{
+			return age;
+		}
+
+		/**
+		 * Gets the name
+		 *
+		 * @return the name
+		 */
+		public String getName()
+		{
+			return name;
+		}
+
+		/**
+		 * Gets the tags
+		 *
+		 * @return the tags
+		 */
+		public List<String> getTags()
+		{
+			return tags;
+		}
+
+	}
+
+}
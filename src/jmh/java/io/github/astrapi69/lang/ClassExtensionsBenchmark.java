@@ -0,0 +1,190 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark class for the class {@link ClassExtensions}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClassExtensionsBenchmark
+{
+
+	/** The class name of a class that does not exist */
+	private static final String MISSING_CLASS_NAME = "io.github.astrapi69.lang.NotExisting";
+
+	/** The class of a jdk proxy */
+	private Class<?> jdkProxyClass;
+
+	/** An object of a class that is defined in a child of the current class loader */
+	private Object childObject;
+
+	/**
+	 * Creates the jdk proxy class and the object of the child class loader for the benchmarks
+	 */
+	@Setup
+	public void setUp()
+	{
+		jdkProxyClass = Proxy.newProxyInstance(ClassExtensions.getClassLoader(),
+			new Class<?>[] { Runnable.class }, (proxy, method, arguments) -> null).getClass();
+		final ClassLoader childClassLoader = new ClassLoader(ClassExtensions.getClassLoader())
+		{
+		};
+		childObject = Proxy.newProxyInstance(childClassLoader, new Class<?>[] { Runnable.class },
+			(proxy, method, arguments) -> null);
+	}
+
+	/**
+	 * Benchmark for {@link ClassExtensions#getClassLoader()}
+	 *
+	 * @return the class loader
+	 */
+	@Benchmark
+	public ClassLoader getClassLoader()
+	{
+		return ClassExtensions.getClassLoader();
+	}
+
+	/**
+	 * Benchmark for {@link ClassExtensions#getClassLoader(Object)} with an object of a class of
+	 * the system class loader
+	 *
+	 * @return the class loader
+	 */
+	@Benchmark
+	public ClassLoader getClassLoaderOfObject()
+	{
+		return ClassExtensions.getClassLoader(this);
+	}
+
+	/**
+	 * Benchmark for {@link ClassExtensions#getClassLoader(Object)} with an object of a class of a
+	 * child class loader, so the parent chain of the child class loader is walked
+	 *
+	 * @return the class loader
+	 */
+	@Benchmark
+	public ClassLoader getClassLoaderOfChildObject()
+	{
+		return ClassExtensions.getClassLoader(childObject);
+	}
+
+	/**
+	 * Benchmark for {@link ClassExtensions#getClassType(Class)} with a collection class
+	 *
+	 * @return the class type
+	 */
+	@Benchmark
+	public ClassType getClassTypeCollection()
+	{
+		return ClassExtensions.getClassType(ArrayList.class);
+	}
+
+	/**
+	 * Benchmark for {@link ClassExtensions#getClassType(Class)} with a default class
+	 *
+	 * @return the class type
+	 */
+	@Benchmark
+	public ClassType getClassTypeDefault()
+	{
+		return ClassExtensions.getClassType(ClassExtensionsBenchmark.class);
+	}
+
+	/**
+	 * Benchmark for {@link ClassExtensions#forName(String)} with an existing class
+	 *
+	 * @return the class
+	 * @throws ClassNotFoundException
+	 *             is thrown if the class was not found
+	 */
+	@Benchmark
+	public Class<?> forNameHit() throws ClassNotFoundException
+	{
+		return ClassExtensions.forName("java.util.ArrayList");
+	}
+
+	/**
+	 * Benchmark for {@link ClassExtensions#forName(String)} with a missing class
+	 *
+	 * @return the thrown exception
+	 */
+	@Benchmark
+	public Object forNameMiss()
+	{
+		try
+		{
+			return ClassExtensions.forName(MISSING_CLASS_NAME);
+		}
+		catch (final ClassNotFoundException exception)
+		{
+			return exception;
+		}
+	}
+
+	/**
+	 * Benchmark for {@link ClassExtensions#tryForName(String)} with a missing class
+	 *
+	 * @return the empty optional
+	 */
+	@Benchmark
+	public Optional<Class<?>> tryForNameMiss()
+	{
+		return ClassExtensions.tryForName(MISSING_CLASS_NAME);
+	}
+
+	/**
+	 * Benchmark for {@link ClassExtensions#unwrapProxy(Class)} with a jdk proxy class
+	 *
+	 * @return the unwrapped classes
+	 */
+	@Benchmark
+	public Class<?>[] unwrapProxyJdk()
+	{
+		return ClassExtensions.unwrapProxy(jdkProxyClass);
+	}
+
+	/**
+	 * Benchmark for {@link ClassExtensions#unwrapProxy(Class)} with a class that is not a proxy
+	 *
+	 * @return the unwrapped classes
+	 */
+	@Benchmark
+	public Class<?>[] unwrapProxyNone()
+	{
+		return ClassExtensions.unwrapProxy(ArrayList.class);
+	}
+
+}
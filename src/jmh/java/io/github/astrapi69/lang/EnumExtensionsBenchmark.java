@@ -0,0 +1,150 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark class for the class {@link EnumExtensions}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnumExtensionsBenchmark
+{
+
+	/** The name to look up, the case differs from the enum name */
+	private String name = "seven";
+
+	/** The code to look up */
+	private Integer code = 7;
+
+	/** The display value to look up, the case differs from the display value */
+	private String displayValue = "SEVEN DAYS";
+
+	/**
+	 * Benchmark for {@link EnumExtensions#enumValueFromString(Class, String, Enum)}
+	 *
+	 * @return the found enum value
+	 */
+	@Benchmark
+	public Period enumValueFromString()
+	{
+		return EnumExtensions.enumValueFromString(Period.class, name, Period.UNKNOWN);
+	}
+
+	/**
+	 * Benchmark for {@link EnumExtensions#enumFieldValue(Class, Object, Function, Enum)}
+	 *
+	 * @return the found enum value
+	 */
+	@Benchmark
+	public Period enumFieldValue()
+	{
+		return EnumExtensions.enumFieldValue(Period.class, code, Period::getCode, Period.UNKNOWN);
+	}
+
+	/**
+	 * Benchmark for {@link EnumExtensions#enumFieldValueFromString(Class, String, Function, Enum)}
+	 *
+	 * @return the found enum value
+	 */
+	@Benchmark
+	public Period enumFieldValueFromString()
+	{
+		return EnumExtensions.enumFieldValueFromString(Period.class, displayValue,
+			Period::getDisplayValue, Period.UNKNOWN);
+	}
+
+	/**
+	 * Benchmark for {@link EnumExtensions#enumFieldValue(Class, String, Object, Function, Enum)}
+	 *
+	 * @return the found enum value
+	 */
+	@Benchmark
+	public Period enumFieldValueIndexed()
+	{
+		return EnumExtensions.enumFieldValue(Period.class, "code", code, Period::getCode,
+			Period.UNKNOWN);
+	}
+
+	/**
+	 * Benchmark for
+	 * {@link EnumExtensions#enumFieldValueFromString(Class, String, String, Function, Enum)}
+	 *
+	 * @return the found enum value
+	 */
+	@Benchmark
+	public Period enumFieldValueFromStringIndexed()
+	{
+		return EnumExtensions.enumFieldValueFromString(Period.class, "displayValue",
+			displayValue, Period::getDisplayValue, Period.UNKNOWN);
+	}
+
+	/**
+	 * The enum {@link Period} for the benchmarks
+	 */
+	public enum Period
+	{
+		ONE(1, "One day"), TWO(2, "Two days"), THREE(3, "Three days"), FOUR(4,
+			"Four days"), FIVE(5, "Five days"), SIX(6, "Six days"), SEVEN(7,
+				"Seven days"), UNKNOWN(0, "Unknown");
+
+		private final Integer code;
+
+		private final String displayValue;
+
+		Period(final Integer code, final String displayValue)
+		{
+			this.code = code;
+			this.displayValue = displayValue;
+		}
+
+		/**
+		 * Gets the code
+		 *
+		 * @return the code
+		 */
+		public Integer getCode()
+		{
+			return code;
+		}
+
+		/**
+		 * Gets the display value
+		 *
+		 * @return the display value
+		 */
+		public String getDisplayValue()
+		{
+			return displayValue;
+		}
+	}
+
+}
@@ -0,0 +1,92 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark class for the class {@link TypeArgumentsExtensions}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TypeArgumentsExtensionsBenchmark
+{
+
+	/**
+	 * Benchmark for {@link TypeArgumentsExtensions#getTypeArguments(Class, Class)}
+	 *
+	 * @return the type arguments
+	 */
+	@Benchmark
+	public List<Class<?>> getTypeArguments()
+	{
+		return TypeArgumentsExtensions.getTypeArguments(GenericDao.class, PersonDao.class);
+	}
+
+	/**
+	 * Benchmark for {@link TypeArgumentsExtensions#getFirstTypeArgument(Class)}
+	 *
+	 * @return the first type argument
+	 */
+	@Benchmark
+	public Class<?> getFirstTypeArgument()
+	{
+		return TypeArgumentsExtensions.getFirstTypeArgument(PersonDao.class);
+	}
+
+	/**
+	 * Benchmark for {@link TypeArgumentsExtensions#getTypeArgument(Class, Class, int)} with an
+	 * interface
+	 *
+	 * @return the type argument
+	 */
+	@Benchmark
+	public Class<?> getTypeArgumentFromInterface()
+	{
+		return TypeArgumentsExtensions.getTypeArgument(Dao.class, PersonDao.class, 1);
+	}
+
+	interface Dao<T, ID>
+	{
+	}
+
+	static abstract class GenericDao<T, ID> implements Dao<T, ID>
+	{
+	}
+
+	static abstract class AbstractDao<T> extends GenericDao<T, Long>
+	{
+	}
+
+	static class PersonDao extends AbstractDao<String>
+	{
+	}
+
+}
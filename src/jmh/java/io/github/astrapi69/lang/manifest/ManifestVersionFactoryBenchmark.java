@@ -0,0 +1,88 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.manifest;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark class for the class {@link ManifestVersionFactory}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ManifestVersionFactoryBenchmark
+{
+
+	/**
+	 * Benchmark for {@link ManifestVersionFactory#get(Class)} with a class from a jar file
+	 *
+	 * @return the manifest version
+	 */
+	@Benchmark
+	public ManifestVersion getFromJar()
+	{
+		return ManifestVersionFactory.get(Benchmark.class);
+	}
+
+	/**
+	 * Benchmark for {@link ManifestVersionFactory#get(Class)} that reads only the version of the
+	 * returned copy. The gc profiler reports the allocations per lookup, the manifest of the
+	 * cached version is not copied
+	 *
+	 * @return the version number
+	 */
+	@Benchmark
+	public String getVersionFromJar()
+	{
+		return ManifestVersionFactory.get(Benchmark.class).getVersion();
+	}
+
+	/**
+	 * Benchmark for reading the manifest of a jar file without the {@link ManifestVersionCache}
+	 *
+	 * @return the manifest version
+	 */
+	@Benchmark
+	public ManifestVersion readFromJar()
+	{
+		return ManifestVersionFactory.read(Benchmark.class);
+	}
+
+	/**
+	 * Benchmark for {@link ManifestVersionFactory#getManifestUrl(Class)} with a class from a jar
+	 * file
+	 *
+	 * @return the manifest url
+	 */
+	@Benchmark
+	public String getManifestUrl()
+	{
+		return ManifestVersionFactory.getManifestUrl(Benchmark.class);
+	}
+
+}
@@ -0,0 +1,157 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.memory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark class for the class {@link ObjectSizeEstimator} as weigher of cache values
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ObjectSizeEstimatorBenchmark
+{
+
+	/** The bean to estimate */
+	private final Entry entry = new Entry("foo", 42L, List.of("bar", "baz"));
+
+	/** The map to estimate */
+	private final Map<String, Entry> map = newMap();
+
+	private static Map<String, Entry> newMap()
+	{
+		final Map<String, Entry> map = new HashMap<>();
+		for (int i = 0; i < 100; i++)
+		{
+			map.put("key-" + i, new Entry("name-" + i, i, List.of("tag-" + i)));
+		}
+		return map;
+	}
+
+	/**
+	 * Benchmark for {@link ObjectSizeEstimator#shallowSizeOf(Object)}
+	 *
+	 * @return the size
+	 */
+	@Benchmark
+	public long shallowSizeOf()
+	{
+		return ObjectSizeEstimator.shallowSizeOf(entry);
+	}
+
+	/**
+	 * Benchmark for {@link ObjectSizeEstimator#deepSizeOf(Object)} of a small bean
+	 *
+	 * @return the size
+	 */
+	@Benchmark
+	public long deepSizeOf()
+	{
+		return ObjectSizeEstimator.deepSizeOf(entry);
+	}
+
+	/**
+	 * Benchmark for {@link ObjectSizeEstimator#deepSizeOf(Object)} of a map with 100 beans
+	 *
+	 * @return the size
+	 */
+	@Benchmark
+	public long deepSizeOfMap()
+	{
+		return ObjectSizeEstimator.deepSizeOf(map);
+	}
+
+	/**
+	 * The bean class for the benchmark
+	 */
+	public static class Entry
+	{
+
+		/** The id */
+		private final long id;
+
+		/** The name */
+		private final String name;
+
+		/** The tags */
+		private final List<String> tags;
+
+		/**
+		 * Instantiates a new {@link Entry} object
+		 *
+		 * @param name
+		 *            the name
+		 * @param id
+		 *            the id
+		 * @param tags
+		 *            the tags
+		 */
+		public Entry(final String name, final long id, final List<String> tags)
+		{
+			this.name = name;
+			this.id = id;
+			this.tags = tags;
+		}
+
+		/**
+		 * Gets the id
+		 *
+		 * @return the id
+		 */
+		public long getId()
+		{
+			return id;
+		}
+
+		/**
+		 * Gets the name
+		 *
+		 * @return the name
+		 */
+		public String getName()
+		{
+			return name;
+		}
+
+		/**
+		 * Gets the tags
+		 *
+		 * @return the tags
+		 */
+		public List<String> getTags()
+		{
+			return tags;
+		}
+
+	}
+
+}
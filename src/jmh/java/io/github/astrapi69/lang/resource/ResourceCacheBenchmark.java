@@ -0,0 +1,95 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.astrapi69.lang.ClassExtensions;
+
+/**
+ * The benchmark class for the class {@link ResourceCache} in comparison with
+ * {@link ClassExtensions#getResourceAsStream(String)}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResourceCacheBenchmark
+{
+
+	/** The name of the resource that is read */
+	private static final String RESOURCE_NAME = "io/github/astrapi69/lang/resource/"
+		+ "ResourceCache.class";
+
+	/** The cache of the resources */
+	private ResourceCache resourceCache;
+
+	/**
+	 * Creates the cache for the benchmarks
+	 */
+	@Setup
+	public void setUp()
+	{
+		resourceCache = new ResourceCache(ResourceCache.DEFAULT_MAXIMUM_WEIGHT);
+	}
+
+	/**
+	 * Benchmark for {@link ClassExtensions#getResourceAsStream(String)}
+	 *
+	 * @return the bytes of the resource
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Benchmark
+	public byte[] classLoaderGetResourceAsStream() throws IOException
+	{
+		try (InputStream inputStream = ClassExtensions.getResourceAsStream(RESOURCE_NAME))
+		{
+			return inputStream.readAllBytes();
+		}
+	}
+
+	/**
+	 * Benchmark for {@link ResourceCache#getResourceAsStream(String)}
+	 *
+	 * @return the bytes of the resource
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Benchmark
+	public byte[] cacheGetResourceAsStream() throws IOException
+	{
+		try (InputStream inputStream = resourceCache.getResourceAsStream(RESOURCE_NAME))
+		{
+			return inputStream.readAllBytes();
+		}
+	}
+
+}
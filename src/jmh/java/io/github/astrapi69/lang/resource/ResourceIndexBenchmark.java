@@ -0,0 +1,99 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.resource;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.astrapi69.lang.ClassExtensions;
+
+/**
+ * The benchmark class for the class {@link ResourceIndex} in comparison with the enumeration of
+ * the resources over the class loader
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResourceIndexBenchmark
+{
+
+	/** The name of the package that is looked up */
+	private static final String PACKAGE_NAME = "io/github/astrapi69/lang";
+
+	/** The index of the class path */
+	private ResourceIndex resourceIndex;
+
+	/**
+	 * Builds the index of the class path for the benchmarks
+	 */
+	@Setup
+	public void setUp()
+	{
+		resourceIndex = ResourceIndex.ofClasspath();
+	}
+
+	/**
+	 * Benchmark for {@link ClassExtensions#getResources(String, String...)}
+	 *
+	 * @return the urls of the package
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Benchmark
+	public List<URL> classLoaderGetResources() throws IOException
+	{
+		return ClassExtensions.getResources(PACKAGE_NAME);
+	}
+
+	/**
+	 * Benchmark for {@link ResourceIndex#getResources(String)}
+	 *
+	 * @return the urls of the package
+	 */
+	@Benchmark
+	public List<URL> indexGetResources()
+	{
+		return resourceIndex.getResources(PACKAGE_NAME);
+	}
+
+	/**
+	 * Benchmark for {@link ResourceIndex#findByPrefix(String)}
+	 *
+	 * @return the names of the resources of the package
+	 */
+	@Benchmark
+	public Set<String> indexFindByPrefix()
+	{
+		return resourceIndex.findByPrefix(PACKAGE_NAME + "/");
+	}
+
+}
@@ -60,13 +60,135 @@ public final class Argument
 		notNull(max, "max");
 		if ((value.compareTo(min) < 0) || (value.compareTo(max) > 0))
 		{
-			throw new IllegalArgumentException(String.format(
-				"Given argument '%s' should have a value between %s - %s, but given argument is currently:%s",
-				name, min, max, value));
+			throw newNotInRangeException(name, min, max, value);
 		}
 		return value;
 	}
 
+	/**
+	 * Checks if the given {@code value} argument is in the specified range. This method does not
+	 * box the given values and creates the exception message only if the check fails.
+	 *
+	 * @param min
+	 *            the minimum from the range to check
+	 * @param max
+	 *            the maximum from the range to check
+	 * @param value
+	 *            the value to check if it is in the specified range
+	 * @param name
+	 *            the name of the given argument
+	 * @return the {@code value} if it is in the specified range
+	 * @throws IllegalArgumentException
+	 *             if the given {@code value} is not in the specified range
+	 */
+	public static double isInRange(final double min, final double max, final double value,
+		final String name)
+	{
+		if (!((min <= value) && (value <= max)))
+		{
+			throw newNotInRangeException(name, min, max, value);
+		}
+		return value;
+	}
+
+	/**
+	 * Checks if the given {@code value} argument is in the specified range. This method does not
+	 * box the given values and creates the exception message only if the check fails.
+	 *
+	 * @param min
+	 *            the minimum from the range to check
+	 * @param max
+	 *            the maximum from the range to check
+	 * @param value
+	 *            the value to check if it is in the specified range
+	 * @param name
+	 *            the name of the given argument
+	 * @return the {@code value} if it is in the specified range
+	 * @throws IllegalArgumentException
+	 *             if the given {@code value} is not in the specified range
+	 */
+	public static float isInRange(final float min, final float max, final float value,
+		final String name)
+	{
+		if (!((min <= value) && (value <= max)))
+		{
+			throw newNotInRangeException(name, min, max, value);
+		}
+		return value;
+	}
+
+	/**
+	 * Checks if the given {@code value} argument is in the specified range. This method does not
+	 * box the given values and creates the exception message only if the check fails.
+	 *
+	 * @param min
+	 *            the minimum from the range to check
+	 * @param max
+	 *            the maximum from the range to check
+	 * @param value
+	 *            the value to check if it is in the specified range
+	 * @param name
+	 *            the name of the given argument
+	 * @return the {@code value} if it is in the specified range
+	 * @throws IllegalArgumentException
+	 *             if the given {@code value} is not in the specified range
+	 */
+	public static int isInRange(final int min, final int max, final int value, final String name)
+	{
+		if (!((min <= value) && (value <= max)))
+		{
+			throw newNotInRangeException(name, min, max, value);
+		}
+		return value;
+	}
+
+	/**
+	 * Checks if the given {@code value} argument is in the specified range. This method does not
+	 * box the given values and creates the exception message only if the check fails.
+	 *
+	 * @param min
+	 *            the minimum from the range to check
+	 * @param max
+	 *            the maximum from the range to check
+	 * @param value
+	 *            the value to check if it is in the specified range
+	 * @param name
+	 *            the name of the given argument
+	 * @return the {@code value} if it is in the specified range
+	 * @throws IllegalArgumentException
+	 *             if the given {@code value} is not in the specified range
+	 */
+	public static long isInRange(final long min, final long max, final long value,
+		final String name)
+	{
+		if (!((min <= value) && (value <= max)))
+		{
+			throw newNotInRangeException(name, min, max, value);
+		}
+		return value;
+	}
+
+	/**
+	 * Factory method for create the exception for a value that is not in the specified range
+	 *
+	 * @param name
+	 *            the name of the given argument
+	 * @param min
+	 *            the minimum from the range
+	 * @param max
+	 *            the maximum from the range
+	 * @param value
+	 *            the value that is not in the specified range
+	 * @return the new {@link IllegalArgumentException} object
+	 */
+	static IllegalArgumentException newNotInRangeException(final String name, final Object min,
+		final Object max, final Object value)
+	{
+		return new IllegalArgumentException(String.format(
+			"Given argument '%s' should have a value between %s - %s, but given argument is currently:%s",
+			name, min, max, value));
+	}
+
 	/**
 	 * Checks if the given {@code collection} is not null or empty
 	 *
@@ -48,7 +48,7 @@ public final class Check implements Serializable
 	 *
 	 * @return the single Check instance.
 	 */
-	public static synchronized Check get()
+	public static Check get()
 	{
 		return instance;
 	}
@@ -75,11 +75,32 @@ public final class Check implements Serializable
 		Argument.notNull(min, "min");
 		Argument.notNull(max, "max");
 		Argument.notNull(value, name);
+		return isInRange(min.doubleValue(), max.doubleValue(), value.doubleValue(), name);
+	}
+
+	/**
+	 * Checks if the given argument is in the given a range. This method does not box the given
+	 * values and creates the exception message only if the check fails.
+	 *
+	 * @param min
+	 *            The minimum from the range to check.
+	 * @param max
+	 *            The maximum from the range to check.
+	 * @param value
+	 *            The value to check if it is in the given range.
+	 * @param name
+	 *            the name of the given argument
+	 * @return if the check is successful a reference to this object. This case is if the given
+	 *         {@code argument} is in the given range.
+	 * @throws IllegalArgumentException
+	 *             when the given {@code argument} is not in the given range.
+	 */
+	public Check isInRange(final double min, final double max, final double value,
+		final String name)
+	{
 		if (!((min < value) && (value < max)))
 		{
-			throw new IllegalArgumentException(String.format(
-				"Given argument '%s' should have a value between %s - %s, but given argument is currently:%s",
-				name, min, max, value));
+			throw Argument.newNotInRangeException(name, min, max, value);
 		}
 		return this;
 	}
@@ -105,11 +126,31 @@ public final class Check implements Serializable
 		Argument.notNull(min, "min");
 		Argument.notNull(max, "max");
 		Argument.notNull(value, name);
+		return isInRange(min.floatValue(), max.floatValue(), value.floatValue(), name);
+	}
+
+	/**
+	 * Checks if the given argument is in the given a range. This method does not box the given
+	 * values and creates the exception message only if the check fails.
+	 *
+	 * @param min
+	 *            The minimum from the range to check.
+	 * @param max
+	 *            The maximum from the range to check.
+	 * @param value
+	 *            The value to check if it is in the given range.
+	 * @param name
+	 *            the name of the given argument
+	 * @return if the check is successful a reference to this object. This case is if the given
+	 *         {@code argument} is in the given range.
+	 * @throws IllegalArgumentException
+	 *             when the given {@code argument} is not in the given range.
+	 */
+	public Check isInRange(final float min, final float max, final float value, final String name)
+	{
 		if (!((min < value) && (value < max)))
 		{
-			throw new IllegalArgumentException(String.format(
-				"Given argument '%s' should have a value between %s - %s, but given argument is currently:%s",
-				name, min, max, value));
+			throw Argument.newNotInRangeException(name, min, max, value);
 		}
 		return this;
 	}
@@ -136,11 +177,31 @@ public final class Check implements Serializable
 		Argument.notNull(min, "min");
 		Argument.notNull(max, "max");
 		Argument.notNull(value, name);
+		return isInRange(min.intValue(), max.intValue(), value.intValue(), name);
+	}
+
+	/**
+	 * Checks if the given argument is in the given a range. This method does not box the given
+	 * values and creates the exception message only if the check fails.
+	 *
+	 * @param min
+	 *            The minimum from the range to check.
+	 * @param max
+	 *            The maximum from the range to check.
+	 * @param value
+	 *            The value to check if it is in the given range.
+	 * @param name
+	 *            the name of the given argument
+	 * @return if the check is successful a reference to this object. This case is if the given
+	 *         {@code argument} is in the given range.
+	 * @throws IllegalArgumentException
+	 *             when the given {@code argument} is not in the given range.
+	 */
+	public Check isInRange(final int min, final int max, final int value, final String name)
+	{
 		if (!((min < value) && (value < max)))
 		{
-			throw new IllegalArgumentException(String.format(
-				"Given argument '%s' should have a value between %s - %s, but given argument is currently:%s",
-				name, min, max, value));
+			throw Argument.newNotInRangeException(name, min, max, value);
 		}
 		return this;
 	}
@@ -166,11 +227,31 @@ public final class Check implements Serializable
 		Argument.notNull(min, "min");
 		Argument.notNull(max, "max");
 		Argument.notNull(value, name);
+		return isInRange(min.longValue(), max.longValue(), value.longValue(), name);
+	}
+
+	/**
+	 * Checks if the given argument is in the given a range. This method does not box the given
+	 * values and creates the exception message only if the check fails.
+	 *
+	 * @param min
+	 *            The minimum from the range to check.
+	 * @param max
+	 *            The maximum from the range to check.
+	 * @param value
+	 *            The value to check if it is in the given range.
+	 * @param name
+	 *            the name of the given argument
+	 * @return if the check is successful a reference to this object. This case is if the given
+	 *         {@code argument} is in the given range.
+	 * @throws IllegalArgumentException
+	 *             when the given {@code argument} is not in the given range.
+	 */
+	public Check isInRange(final long min, final long max, final long value, final String name)
+	{
 		if (!((min < value) && (value < max)))
 		{
-			throw new IllegalArgumentException(String.format(
-				"Given argument '%s' should have a value between %s - %s, but given argument is currently:%s",
-				name, min, max, value));
+			throw Argument.newNotInRangeException(name, min, max, value);
 		}
 		return this;
 	}
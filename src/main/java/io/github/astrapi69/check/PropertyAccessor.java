@@ -0,0 +1,326 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.check;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * The class {@link PropertyAccessor} resolves the getter method or the field of a bean property
+ * once and compiles it to a functional accessor. If the given lookup has full privilege access the
+ * getter method is compiled over the {@link LambdaMetafactory}, otherwise or for fields the
+ * accessor invokes the {@link MethodHandle} of the property. Primitive properties are read over
+ * the primitive functional interfaces, so they are not boxed
+ */
+final class PropertyAccessor
+{
+
+	/** The method handle that reads the property */
+	private final MethodHandle getter;
+
+	/** The lookup for create the accessors */
+	private final MethodHandles.Lookup lookup;
+
+	/** The name of the property */
+	private final String name;
+
+	/** The type of the property */
+	private final Class<?> type;
+
+	private PropertyAccessor(final MethodHandles.Lookup lookup, final String name,
+		final MethodHandle getter)
+	{
+		this.lookup = lookup;
+		this.name = name;
+		this.getter = getter;
+		this.type = getter.type().returnType();
+	}
+
+	/**
+	 * Resolves the accessor of the property with the given name. The getter method with the prefix
+	 * 'get' or 'is' is preferred, if no accessible getter method exists the field is used
+	 *
+	 * @param lookup
+	 *            the lookup for resolve the property
+	 * @param beanType
+	 *            the class of the bean
+	 * @param name
+	 *            the name of the property
+	 * @return the new {@link PropertyAccessor} object
+	 * @throws IllegalArgumentException
+	 *             if no accessible getter method or field exists for the given property
+	 */
+	static PropertyAccessor of(final MethodHandles.Lookup lookup, final Class<?> beanType,
+		final String name)
+	{
+		Argument.notEmpty(name, "name");
+		final String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+		for (final String getterName : new String[] { "get" + suffix, "is" + suffix })
+		{
+			final MethodHandle getter = findGetterMethod(lookup, beanType, getterName);
+			if (getter != null)
+			{
+				return new PropertyAccessor(lookup, name, getter);
+			}
+		}
+		final MethodHandle getter = findField(lookup, beanType, name);
+		if (getter != null)
+		{
+			return new PropertyAccessor(lookup, name, getter);
+		}
+		throw new IllegalArgumentException(
+			"No accessible getter method or field found for property '" + name + "' in class "
+				+ beanType.getName());
+	}
+
+	/**
+	 * Gets the name of the property
+	 *
+	 * @return the name of the property
+	 */
+	String getName()
+	{
+		return name;
+	}
+
+	/**
+	 * Gets the type of the property
+	 *
+	 * @return the type of the property
+	 */
+	Class<?> getType()
+	{
+		return type;
+	}
+
+	/**
+	 * Compiles this accessor to a {@link Function}. Primitive properties are boxed, so this method
+	 * should be used only for properties with a reference type
+	 *
+	 * @return the compiled {@link Function}
+	 */
+	@SuppressWarnings("unchecked")
+	Function<Object, Object> toFunction()
+	{
+		final Object function = metafactory(Function.class, "apply",
+			MethodType.methodType(Object.class, Object.class),
+			MethodType.methodType(type.isPrimitive() ? Object.class : type, getBeanType()));
+		if (function != null)
+		{
+			return (Function<Object, Object>)function;
+		}
+		final MethodHandle handle = getter
+			.asType(MethodType.methodType(Object.class, Object.class));
+		return object -> {
+			try
+			{
+				return (Object)handle.invokeExact(object);
+			}
+			catch (final Throwable throwable)
+			{
+				throw rethrow(throwable);
+			}
+		};
+	}
+
+	/**
+	 * Compiles this accessor to a {@link ToLongFunction}. The property has to be an integral
+	 * primitive type
+	 *
+	 * @return the compiled {@link ToLongFunction}
+	 */
+	@SuppressWarnings("unchecked")
+	ToLongFunction<Object> toLongFunction()
+	{
+		final Object function = metafactory(ToLongFunction.class, "applyAsLong",
+			MethodType.methodType(long.class, Object.class),
+			MethodType.methodType(long.class, getBeanType()));
+		if (function != null)
+		{
+			return (ToLongFunction<Object>)function;
+		}
+		final MethodHandle handle = getter.asType(MethodType.methodType(long.class, Object.class));
+		return object -> {
+			try
+			{
+				return (long)handle.invokeExact(object);
+			}
+			catch (final Throwable throwable)
+			{
+				throw rethrow(throwable);
+			}
+		};
+	}
+
+	/**
+	 * Compiles this accessor to a {@link ToDoubleFunction}. The property has to be a numeric
+	 * primitive type
+	 *
+	 * @return the compiled {@link ToDoubleFunction}
+	 */
+	@SuppressWarnings("unchecked")
+	ToDoubleFunction<Object> toDoubleFunction()
+	{
+		final Object function = metafactory(ToDoubleFunction.class, "applyAsDouble",
+			MethodType.methodType(double.class, Object.class),
+			MethodType.methodType(double.class, getBeanType()));
+		if (function != null)
+		{
+			return (ToDoubleFunction<Object>)function;
+		}
+		final MethodHandle handle = getter
+			.asType(MethodType.methodType(double.class, Object.class));
+		return object -> {
+			try
+			{
+				return (double)handle.invokeExact(object);
+			}
+			catch (final Throwable throwable)
+			{
+				throw rethrow(throwable);
+			}
+		};
+	}
+
+	private Class<?> getBeanType()
+	{
+		return getter.type().parameterType(0);
+	}
+
+	private Object metafactory(final Class<?> functionType, final String methodName,
+		final MethodType samMethodType, final MethodType instantiatedMethodType)
+	{
+		if (!lookup.hasFullPrivilegeAccess() || !isVisible(getBeanType()))
+		{
+			return null;
+		}
+		try
+		{
+			final CallSite callSite = LambdaMetafactory.metafactory(lookup, methodName,
+				MethodType.methodType(functionType), samMethodType, getter,
+				instantiatedMethodType);
+			return callSite.getTarget().invoke();
+		}
+		catch (final Throwable throwable)
+		{
+			// fields and getters that can not be linked fall back to the method handle
+			return null;
+		}
+	}
+
+	private boolean isVisible(final Class<?> beanType)
+	{
+		try
+		{
+			return Class.forName(beanType.getName(), false,
+				lookup.lookupClass().getClassLoader()) == beanType;
+		}
+		catch (final ClassNotFoundException | LinkageError e)
+		{
+			return false;
+		}
+	}
+
+	private static MethodHandle findGetterMethod(final MethodHandles.Lookup lookup,
+		final Class<?> beanType, final String getterName)
+	{
+		for (Class<?> current = beanType; current != null; current = current.getSuperclass())
+		{
+			final Method method;
+			try
+			{
+				method = current.getDeclaredMethod(getterName);
+			}
+			catch (final NoSuchMethodException e)
+			{
+				continue;
+			}
+			if (Modifier.isStatic(method.getModifiers()) || method.getReturnType() == void.class)
+			{
+				return null;
+			}
+			try
+			{
+				return lookup.findVirtual(beanType, getterName,
+					MethodType.methodType(method.getReturnType()));
+			}
+			catch (final NoSuchMethodException | IllegalAccessException e)
+			{
+				return null;
+			}
+		}
+		return null;
+	}
+
+	private static MethodHandle findField(final MethodHandles.Lookup lookup,
+		final Class<?> beanType, final String name)
+	{
+		for (Class<?> current = beanType; current != null; current = current.getSuperclass())
+		{
+			final Field field;
+			try
+			{
+				field = current.getDeclaredField(name);
+			}
+			catch (final NoSuchFieldException e)
+			{
+				continue;
+			}
+			if (Modifier.isStatic(field.getModifiers()))
+			{
+				return null;
+			}
+			try
+			{
+				return lookup.unreflectGetter(field)
+					.asType(MethodType.methodType(field.getType(), beanType));
+			}
+			catch (final IllegalAccessException e)
+			{
+				return null;
+			}
+		}
+		return null;
+	}
+
+	private static RuntimeException rethrow(final Throwable throwable)
+	{
+		if (throwable instanceof RuntimeException)
+		{
+			return (RuntimeException)throwable;
+		}
+		if (throwable instanceof Error)
+		{
+			throw (Error)throwable;
+		}
+		return new IllegalStateException(throwable);
+	}
+
+}
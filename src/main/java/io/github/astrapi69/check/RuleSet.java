@@ -0,0 +1,445 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.check;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * The class {@link RuleSet} holds the compiled validation rules for the properties of a bean
+ * class. A {@link RuleSet} is declared once for a bean class with the {@link Builder} and can be
+ * shared between threads. The properties are resolved on build time and read over compiled
+ * accessors, so a validation does not use reflection and primitive properties are not boxed.<br>
+ * <br>
+ * Example:
+ *
+ * <pre>
+ * private static final RuleSet&lt;Person&gt; RULES = RuleSet
+ * 	.builder(MethodHandles.lookup(), Person.class).notEmpty("name")
+ * 	.isInRange("age", 0, 150).build();
+ *
+ * RULES.requireValid(person);
+ * </pre>
+ *
+ * @param <T>
+ *            the generic type of the bean
+ */
+public final class RuleSet<T> implements Validator<T>
+{
+
+	/** The compiled rules */
+	private final Validator<? super T>[] rules;
+
+	/** The class of the bean */
+	private final Class<T> type;
+
+	@SuppressWarnings("unchecked")
+	private RuleSet(final Class<T> type, final List<Validator<? super T>> rules)
+	{
+		this.type = type;
+		this.rules = (Validator<? super T>[])rules.toArray(new Validator<?>[0]);
+	}
+
+	/**
+	 * Factory method for create a new {@link Builder} for the given bean class. The properties are
+	 * resolved over the public lookup, so only public getter methods and fields of public classes
+	 * can be used
+	 *
+	 * @param <T>
+	 *            the generic type of the bean
+	 * @param type
+	 *            the class of the bean
+	 * @return the new {@link Builder}
+	 */
+	public static <T> Builder<T> builder(final Class<T> type)
+	{
+		return builder(MethodHandles.publicLookup(), type);
+	}
+
+	/**
+	 * Factory method for create a new {@link Builder} for the given bean class. The properties are
+	 * resolved over the given lookup, if the lookup has full privilege access the getter methods
+	 * are compiled over the {@link java.lang.invoke.LambdaMetafactory}
+	 *
+	 * @param <T>
+	 *            the generic type of the bean
+	 * @param lookup
+	 *            the lookup of the caller, for instance {@code MethodHandles.lookup()}
+	 * @param type
+	 *            the class of the bean
+	 * @return the new {@link Builder}
+	 */
+	public static <T> Builder<T> builder(final MethodHandles.Lookup lookup, final Class<T> type)
+	{
+		return new Builder<>(Argument.notNull(lookup, "lookup"), Argument.notNull(type, "type"));
+	}
+
+	/**
+	 * Gets the class of the bean
+	 *
+	 * @return the class of the bean
+	 */
+	public Class<T> getType()
+	{
+		return type;
+	}
+
+	/**
+	 * Gets the number of the compiled rules
+	 *
+	 * @return the number of the compiled rules
+	 */
+	public int size()
+	{
+		return rules.length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void validate(final T object, final Validation validation)
+	{
+		if (object == null)
+		{
+			validation.notNull(null, type.getSimpleName());
+			return;
+		}
+		for (final Validator<? super T> rule : rules)
+		{
+			rule.validate(object, validation);
+		}
+	}
+
+	/**
+	 * The class {@link Builder} resolves the properties of the bean class and compiles the rules of
+	 * a {@link RuleSet}
+	 *
+	 * @param <T>
+	 *            the generic type of the bean
+	 */
+	public static final class Builder<T>
+	{
+
+		/** The lookup for resolve the properties */
+		private final MethodHandles.Lookup lookup;
+
+		/** The compiled rules */
+		private final List<Validator<? super T>> rules = new ArrayList<>();
+
+		/** The class of the bean */
+		private final Class<T> type;
+
+		private Builder(final MethodHandles.Lookup lookup, final Class<T> type)
+		{
+			this.lookup = lookup;
+			this.type = type;
+		}
+
+		/**
+		 * Adds a rule that checks if the given property is not null
+		 *
+		 * @param property
+		 *            the name of the property
+		 * @return this {@link Builder}
+		 * @throws IllegalArgumentException
+		 *             if the property can not be resolved or has a primitive type
+		 */
+		public Builder<T> notNull(final String property)
+		{
+			final PropertyAccessor accessor = resolve(property);
+			if (accessor.getType().isPrimitive())
+			{
+				throw newUnsupportedTypeException(accessor, "notNull");
+			}
+			final Function<Object, Object> function = accessor.toFunction();
+			return rule(
+				(object, validation) -> validation.notNull(function.apply(object), property));
+		}
+
+		/**
+		 * Adds a rule that checks if the given property is not null or empty. The property has to
+		 * be a {@link CharSequence}, a {@link Collection}, a {@link Map} or an array
+		 *
+		 * @param property
+		 *            the name of the property
+		 * @return this {@link Builder}
+		 * @throws IllegalArgumentException
+		 *             if the property can not be resolved or has an unsupported type
+		 */
+		public Builder<T> notEmpty(final String property)
+		{
+			final PropertyAccessor accessor = resolve(property);
+			final Class<?> propertyType = accessor.getType();
+			if (propertyType.isPrimitive())
+			{
+				throw newUnsupportedTypeException(accessor, "notEmpty");
+			}
+			final Function<Object, Object> function = accessor.toFunction();
+			if (CharSequence.class.isAssignableFrom(propertyType))
+			{
+				return rule((object, validation) -> validation
+					.notEmpty((CharSequence)function.apply(object), property));
+			}
+			if (Collection.class.isAssignableFrom(propertyType))
+			{
+				return rule((object, validation) -> validation
+					.notEmpty((Collection<?>)function.apply(object), property));
+			}
+			if (Map.class.isAssignableFrom(propertyType))
+			{
+				return rule((object, validation) -> validation
+					.notEmpty((Map<?, ?>)function.apply(object), property));
+			}
+			if (Object[].class.isAssignableFrom(propertyType))
+			{
+				return rule((object, validation) -> validation
+					.notEmpty((Object[])function.apply(object), property));
+			}
+			if (propertyType == boolean[].class)
+			{
+				return rule((object, validation) -> validation
+					.notEmpty((boolean[])function.apply(object), property));
+			}
+			if (propertyType == byte[].class)
+			{
+				return rule((object, validation) -> validation
+					.notEmpty((byte[])function.apply(object), property));
+			}
+			if (propertyType == char[].class)
+			{
+				return rule((object, validation) -> validation
+					.notEmpty((char[])function.apply(object), property));
+			}
+			if (propertyType == short[].class)
+			{
+				return rule((object, validation) -> validation
+					.notEmpty((short[])function.apply(object), property));
+			}
+			if (propertyType == int[].class)
+			{
+				return rule((object, validation) -> validation
+					.notEmpty((int[])function.apply(object), property));
+			}
+			if (propertyType == long[].class)
+			{
+				return rule((object, validation) -> validation
+					.notEmpty((long[])function.apply(object), property));
+			}
+			if (propertyType == float[].class)
+			{
+				return rule((object, validation) -> validation
+					.notEmpty((float[])function.apply(object), property));
+			}
+			if (propertyType == double[].class)
+			{
+				return rule((object, validation) -> validation
+					.notEmpty((double[])function.apply(object), property));
+			}
+			throw newUnsupportedTypeException(accessor, "notEmpty");
+		}
+
+		/**
+		 * Adds a rule that checks if the given integral property is in the specified range, the
+		 * bounds are inclusive. Primitive properties are read without boxing
+		 *
+		 * @param property
+		 *            the name of the property
+		 * @param min
+		 *            the minimum from the range to check
+		 * @param max
+		 *            the maximum from the range to check
+		 * @return this {@link Builder}
+		 * @throws IllegalArgumentException
+		 *             if the property can not be resolved or is not an integral number
+		 */
+		public Builder<T> isInRange(final String property, final long min, final long max)
+		{
+			final PropertyAccessor accessor = resolve(property);
+			final Class<?> propertyType = accessor.getType();
+			if (propertyType == byte.class || propertyType == short.class
+				|| propertyType == int.class || propertyType == long.class)
+			{
+				final ToLongFunction<Object> function = accessor.toLongFunction();
+				return rule((object, validation) -> validation
+					.isInRange(min, max, function.applyAsLong(object), property));
+			}
+			if (propertyType == Byte.class || propertyType == Short.class
+				|| propertyType == Integer.class || propertyType == Long.class)
+			{
+				final Function<Object, Object> function = accessor.toFunction();
+				return rule((object, validation) -> {
+					final Number value = (Number)function.apply(object);
+					if (value == null)
+					{
+						validation.notNull(null, property);
+					}
+					else
+					{
+						validation.isInRange(min, max, value.longValue(), property);
+					}
+				});
+			}
+			throw newUnsupportedTypeException(accessor, "isInRange(long, long)");
+		}
+
+		/**
+		 * Adds a rule that checks if the given numeric property is in the specified range, the
+		 * bounds are inclusive. Primitive properties are read without boxing
+		 *
+		 * @param property
+		 *            the name of the property
+		 * @param min
+		 *            the minimum from the range to check
+		 * @param max
+		 *            the maximum from the range to check
+		 * @return this {@link Builder}
+		 * @throws IllegalArgumentException
+		 *             if the property can not be resolved or is not a number
+		 */
+		public Builder<T> isInRange(final String property, final double min, final double max)
+		{
+			final PropertyAccessor accessor = resolve(property);
+			final Class<?> propertyType = accessor.getType();
+			if (propertyType.isPrimitive() && propertyType != boolean.class
+				&& propertyType != char.class && propertyType != void.class)
+			{
+				final ToDoubleFunction<Object> function = accessor.toDoubleFunction();
+				return rule((object, validation) -> validation
+					.isInRange(min, max, function.applyAsDouble(object), property));
+			}
+			if (Number.class.isAssignableFrom(propertyType))
+			{
+				final Function<Object, Object> function = accessor.toFunction();
+				return rule((object, validation) -> {
+					final Number value = (Number)function.apply(object);
+					if (value == null)
+					{
+						validation.notNull(null, property);
+					}
+					else
+					{
+						validation.isInRange(min, max, value.doubleValue(), property);
+					}
+				});
+			}
+			throw newUnsupportedTypeException(accessor, "isInRange(double, double)");
+		}
+
+		/**
+		 * Adds a rule that checks if the given comparable property is in the specified range, the
+		 * bounds are inclusive
+		 *
+		 * @param <C>
+		 *            the generic type of the property
+		 * @param property
+		 *            the name of the property
+		 * @param min
+		 *            the minimum from the range to check
+		 * @param max
+		 *            the maximum from the range to check
+		 * @return this {@link Builder}
+		 * @throws IllegalArgumentException
+		 *             if the property can not be resolved or is not assignable to the type of the
+		 *             given bounds
+		 */
+		@SuppressWarnings("unchecked")
+		public <C extends Comparable<? super C>> Builder<T> isInRange(final String property,
+			final C min, final C max)
+		{
+			Argument.notNull(min, "min");
+			Argument.notNull(max, "max");
+			final PropertyAccessor accessor = resolve(property);
+			if (!Comparable.class.isAssignableFrom(accessor.getType())
+				|| !accessor.getType().isAssignableFrom(min.getClass()))
+			{
+				throw newUnsupportedTypeException(accessor, "isInRange(Comparable, Comparable)");
+			}
+			final Function<Object, Object> function = accessor.toFunction();
+			return rule((object, validation) -> validation
+				.isInRange(min, max, (C)function.apply(object), property));
+		}
+
+		/**
+		 * Adds a rule that checks if the given condition is true for the bean
+		 *
+		 * @param condition
+		 *            the condition to check
+		 * @param name
+		 *            the name of the validated property
+		 * @param message
+		 *            the message that describes the violation if the condition is false
+		 * @return this {@link Builder}
+		 */
+		public Builder<T> isTrue(final Predicate<? super T> condition, final String name,
+			final String message)
+		{
+			Argument.notNull(condition, "condition");
+			return rule(
+				(object, validation) -> validation.isTrue(condition.test(object), name, message));
+		}
+
+		/**
+		 * Adds the given custom rule
+		 *
+		 * @param rule
+		 *            the rule to add
+		 * @return this {@link Builder}
+		 */
+		public Builder<T> rule(final Validator<? super T> rule)
+		{
+			rules.add(Argument.notNull(rule, "rule"));
+			return this;
+		}
+
+		/**
+		 * Builds the {@link RuleSet} with the added rules
+		 *
+		 * @return the new {@link RuleSet}
+		 */
+		public RuleSet<T> build()
+		{
+			return new RuleSet<>(type, rules);
+		}
+
+		private PropertyAccessor resolve(final String property)
+		{
+			return PropertyAccessor.of(lookup, type, property);
+		}
+
+		private IllegalArgumentException newUnsupportedTypeException(
+			final PropertyAccessor accessor, final String rule)
+		{
+			return new IllegalArgumentException("The rule " + rule
+				+ " is not supported for property '" + accessor.getName() + "' of type "
+				+ accessor.getType().getName() + " in class " + type.getName());
+		}
+
+	}
+
+}
@@ -0,0 +1,477 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.check;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The class {@link Validation} accumulates all violations of the validation rules instead of
+ * throwing an exception on the first failed rule like the class {@link Argument} does. No
+ * exception and no message is created while the rules are checked, the single result is created
+ * with the method {@link Validation#getResult()} or thrown as a {@link ValidationException} with
+ * the method {@link Validation#throwIfInvalid()} at the end. <br>
+ * <br>
+ * A {@link Validation} object is not thread safe and should be used for one validation only. For
+ * reusable validation rules that can be shared between threads see {@link Validator}
+ */
+public final class Validation
+{
+
+	/** The violations, created with the first violation */
+	private List<Violation> violations;
+
+	/**
+	 * Private constructor, use the factory method {@link Validation#start()}
+	 */
+	private Validation()
+	{
+	}
+
+	/**
+	 * Factory method for create a new {@link Validation} object
+	 *
+	 * @return the new {@link Validation} object
+	 */
+	public static Validation start()
+	{
+		return new Validation();
+	}
+
+	/**
+	 * Checks if the given {@code argument} is not null
+	 *
+	 * @param argument
+	 *            the argument to check
+	 * @param name
+	 *            the name of the given argument
+	 * @return this {@link Validation} object
+	 */
+	public Validation notNull(final Object argument, final String name)
+	{
+		if (argument == null)
+		{
+			add(Violation.ofNull(name));
+		}
+		return this;
+	}
+
+	/**
+	 * Checks if the given {@code argument} is not null or empty. An argument that contains only
+	 * whitespace characters is also empty
+	 *
+	 * @param argument
+	 *            the argument to check
+	 * @param name
+	 *            the name of the given argument
+	 * @return this {@link Validation} object
+	 */
+	public Validation notEmpty(final CharSequence argument, final String name)
+	{
+		if (argument == null)
+		{
+			add(Violation.ofNull(name));
+		}
+		else if (isBlank(argument))
+		{
+			add(Violation.ofEmpty(name));
+		}
+		return this;
+	}
+
+	/**
+	 * Checks if the given {@code collection} is not null or empty
+	 *
+	 * @param collection
+	 *            the collection to check
+	 * @param name
+	 *            the name of the given collection
+	 * @return this {@link Validation} object
+	 */
+	public Validation notEmpty(final Collection<?> collection, final String name)
+	{
+		return collection == null ? notNull(null, name) : notEmpty(collection.isEmpty(), name);
+	}
+
+	/**
+	 * Checks if the given {@code map} is not null or empty
+	 *
+	 * @param map
+	 *            the map to check
+	 * @param name
+	 *            the name of the given map
+	 * @return this {@link Validation} object
+	 */
+	public Validation notEmpty(final Map<?, ?> map, final String name)
+	{
+		return map == null ? notNull(null, name) : notEmpty(map.isEmpty(), name);
+	}
+
+	/**
+	 * Checks if the given {@code argument} is not null or empty
+	 *
+	 * @param argument
+	 *            the argument to check
+	 * @param name
+	 *            the name of the given argument
+	 * @return this {@link Validation} object
+	 */
+	public Validation notEmpty(final Object[] argument, final String name)
+	{
+		return argument == null ? notNull(null, name) : notEmpty(argument.length == 0, name);
+	}
+
+	/**
+	 * Checks if the given {@code argument} is not null or empty
+	 *
+	 * @param argument
+	 *            the argument to check
+	 * @param name
+	 *            the name of the given argument
+	 * @return this {@link Validation} object
+	 */
+	public Validation notEmpty(final boolean[] argument, final String name)
+	{
+		return argument == null ? notNull(null, name) : notEmpty(argument.length == 0, name);
+	}
+
+	/**
+	 * Checks if the given {@code argument} is not null or empty
+	 *
+	 * @param argument
+	 *            the argument to check
+	 * @param name
+	 *            the name of the given argument
+	 * @return this {@link Validation} object
+	 */
+	public Validation notEmpty(final byte[] argument, final String name)
+	{
+		return argument == null ? notNull(null, name) : notEmpty(argument.length == 0, name);
+	}
+
+	/**
+	 * Checks if the given {@code argument} is not null or empty
+	 *
+	 * @param argument
+	 *            the argument to check
+	 * @param name
+	 *            the name of the given argument
+	 * @return this {@link Validation} object
+	 */
+	public Validation notEmpty(final char[] argument, final String name)
+	{
+		return argument == null ? notNull(null, name) : notEmpty(argument.length == 0, name);
+	}
+
+	/**
+	 * Checks if the given {@code argument} is not null or empty
+	 *
+	 * @param argument
+	 *            the argument to check
+	 * @param name
+	 *            the name of the given argument
+	 * @return this {@link Validation} object
+	 */
+	public Validation notEmpty(final short[] argument, final String name)
+	{
+		return argument == null ? notNull(null, name) : notEmpty(argument.length == 0, name);
+	}
+
+	/**
+	 * Checks if the given {@code argument} is not null or empty
+	 *
+	 * @param argument
+	 *            the argument to check
+	 * @param name
+	 *            the name of the given argument
+	 * @return this {@link Validation} object
+	 */
+	public Validation notEmpty(final int[] argument, final String name)
+	{
+		return argument == null ? notNull(null, name) : notEmpty(argument.length == 0, name);
+	}
+
+	/**
+	 * Checks if the given {@code argument} is not null or empty
+	 *
+	 * @param argument
+	 *            the argument to check
+	 * @param name
+	 *            the name of the given argument
+	 * @return this {@link Validation} object
+	 */
+	public Validation notEmpty(final long[] argument, final String name)
+	{
+		return argument == null ? notNull(null, name) : notEmpty(argument.length == 0, name);
+	}
+
+	/**
+	 * Checks if the given {@code argument} is not null or empty
+	 *
+	 * @param argument
+	 *            the argument to check
+	 * @param name
+	 *            the name of the given argument
+	 * @return this {@link Validation} object
+	 */
+	public Validation notEmpty(final float[] argument, final String name)
+	{
+		return argument == null ? notNull(null, name) : notEmpty(argument.length == 0, name);
+	}
+
+	/**
+	 * Checks if the given {@code argument} is not null or empty
+	 *
+	 * @param argument
+	 *            the argument to check
+	 * @param name
+	 *            the name of the given argument
+	 * @return this {@link Validation} object
+	 */
+	public Validation notEmpty(final double[] argument, final String name)
+	{
+		return argument == null ? notNull(null, name) : notEmpty(argument.length == 0, name);
+	}
+
+	/**
+	 * Checks if the given {@code value} is in the specified range, the bounds are inclusive. The
+	 * given values are boxed only if the check fails
+	 *
+	 * @param min
+	 *            the minimum from the range to check
+	 * @param max
+	 *            the maximum from the range to check
+	 * @param value
+	 *            the value to check if it is in the specified range
+	 * @param name
+	 *            the name of the given argument
+	 * @return this {@link Validation} object
+	 */
+	public Validation isInRange(final double min, final double max, final double value,
+		final String name)
+	{
+		if (!((min <= value) && (value <= max)))
+		{
+			add(Violation.ofNotInRange(name, min, max, value));
+		}
+		return this;
+	}
+
+	/**
+	 * Checks if the given {@code value} is in the specified range, the bounds are inclusive. The
+	 * given values are boxed only if the check fails
+	 *
+	 * @param min
+	 *            the minimum from the range to check
+	 * @param max
+	 *            the maximum from the range to check
+	 * @param value
+	 *            the value to check if it is in the specified range
+	 * @param name
+	 *            the name of the given argument
+	 * @return this {@link Validation} object
+	 */
+	public Validation isInRange(final float min, final float max, final float value,
+		final String name)
+	{
+		if (!((min <= value) && (value <= max)))
+		{
+			add(Violation.ofNotInRange(name, min, max, value));
+		}
+		return this;
+	}
+
+	/**
+	 * Checks if the given {@code value} is in the specified range, the bounds are inclusive. The
+	 * given values are boxed only if the check fails
+	 *
+	 * @param min
+	 *            the minimum from the range to check
+	 * @param max
+	 *            the maximum from the range to check
+	 * @param value
+	 *            the value to check if it is in the specified range
+	 * @param name
+	 *            the name of the given argument
+	 * @return this {@link Validation} object
+	 */
+	public Validation isInRange(final int min, final int max, final int value, final String name)
+	{
+		if (!((min <= value) && (value <= max)))
+		{
+			add(Violation.ofNotInRange(name, min, max, value));
+		}
+		return this;
+	}
+
+	/**
+	 * Checks if the given {@code value} is in the specified range, the bounds are inclusive. The
+	 * given values are boxed only if the check fails
+	 *
+	 * @param min
+	 *            the minimum from the range to check
+	 * @param max
+	 *            the maximum from the range to check
+	 * @param value
+	 *            the value to check if it is in the specified range
+	 * @param name
+	 *            the name of the given argument
+	 * @return this {@link Validation} object
+	 */
+	public Validation isInRange(final long min, final long max, final long value, final String name)
+	{
+		if (!((min <= value) && (value <= max)))
+		{
+			add(Violation.ofNotInRange(name, min, max, value));
+		}
+		return this;
+	}
+
+	/**
+	 * Checks if the given {@code value} is in the specified range, the bounds are inclusive
+	 *
+	 * @param <T>
+	 *            the generic type of the arguments
+	 * @param min
+	 *            the minimum from the range to check
+	 * @param max
+	 *            the maximum from the range to check
+	 * @param value
+	 *            the value to check if it is in the specified range
+	 * @param name
+	 *            the name of the given argument
+	 * @return this {@link Validation} object
+	 * @throws IllegalArgumentException
+	 *             if the given {@code min} or {@code max} is null
+	 */
+	public <T extends Comparable<? super T>> Validation isInRange(final T min, final T max,
+		final T value, final String name)
+	{
+		Argument.notNull(min, "min");
+		Argument.notNull(max, "max");
+		if (value == null)
+		{
+			add(Violation.ofNull(name));
+		}
+		else if ((value.compareTo(min) < 0) || (value.compareTo(max) > 0))
+		{
+			add(Violation.ofNotInRange(name, min, max, value));
+		}
+		return this;
+	}
+
+	/**
+	 * Checks if the given {@code condition} is true
+	 *
+	 * @param condition
+	 *            the condition to check
+	 * @param name
+	 *            the name of the validated argument
+	 * @param message
+	 *            the message that describes the violation if the given {@code condition} is false
+	 * @return this {@link Validation} object
+	 */
+	public Validation isTrue(final boolean condition, final String name, final String message)
+	{
+		if (!condition)
+		{
+			add(Violation.ofInvalid(name, message));
+		}
+		return this;
+	}
+
+	/**
+	 * Adds the given violation to this validation
+	 *
+	 * @param violation
+	 *            the violation to add
+	 * @return this {@link Validation} object
+	 */
+	public Validation add(final Violation violation)
+	{
+		if (violations == null)
+		{
+			violations = new ArrayList<>();
+		}
+		violations.add(Argument.notNull(violation, "violation"));
+		return this;
+	}
+
+	/**
+	 * Checks if this validation has no violations yet
+	 *
+	 * @return true, if this validation has no violations otherwise false
+	 */
+	public boolean isValid()
+	{
+		return violations == null;
+	}
+
+	/**
+	 * Gets the result of this validation
+	 *
+	 * @return the result of this validation or {@link ValidationResult#VALID} if there are no
+	 *         violations
+	 */
+	public ValidationResult getResult()
+	{
+		return ValidationResult.of(violations);
+	}
+
+	/**
+	 * Throws a single {@link ValidationException} with all violations of this validation if there
+	 * are any
+	 *
+	 * @throws ValidationException
+	 *             if this validation has violations
+	 */
+	public void throwIfInvalid()
+	{
+		if (violations != null)
+		{
+			throw new ValidationException(getResult());
+		}
+	}
+
+	private Validation notEmpty(final boolean empty, final String name)
+	{
+		if (empty)
+		{
+			add(Violation.ofEmpty(name));
+		}
+		return this;
+	}
+
+	private static boolean isBlank(final CharSequence argument)
+	{
+		for (int i = 0; i < argument.length(); i++)
+		{
+			if (argument.charAt(i) > ' ')
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,116 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.check;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The class {@link ValidationResult} holds all violations of a validation
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class ValidationResult implements Serializable
+{
+
+	/** The result of a validation without violations */
+	public static final ValidationResult VALID = new ValidationResult(Collections.emptyList());
+
+	/** The serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** The violations as unmodifiable list */
+	private final List<Violation> violations;
+
+	private ValidationResult(final List<Violation> violations)
+	{
+		this.violations = violations;
+	}
+
+	/**
+	 * Factory method for create a new {@link ValidationResult} object from the given violations
+	 *
+	 * @param violations
+	 *            the violations
+	 * @return the new {@link ValidationResult} object or {@link ValidationResult#VALID} if the
+	 *         given list is null or empty
+	 */
+	public static ValidationResult of(final List<Violation> violations)
+	{
+		if (violations == null || violations.isEmpty())
+		{
+			return VALID;
+		}
+		return new ValidationResult(List.copyOf(violations));
+	}
+
+	/**
+	 * Checks if the validation has no violations
+	 *
+	 * @return true, if the validation has no violations otherwise false
+	 */
+	public boolean isValid()
+	{
+		return violations.isEmpty();
+	}
+
+	/**
+	 * Gets the messages of all violations, separated with a line separator
+	 *
+	 * @return the messages of all violations or an empty {@link String} if there is no violation
+	 */
+	public String getMessage()
+	{
+		final StringBuilder sb = new StringBuilder();
+		for (final Violation violation : violations)
+		{
+			if (0 < sb.length())
+			{
+				sb.append(System.lineSeparator());
+			}
+			sb.append(violation.getMessage());
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Throws a {@link ValidationException} that holds this result if there are violations
+	 *
+	 * @return this result if there are no violations
+	 * @throws ValidationException
+	 *             if there are violations
+	 */
+	public ValidationResult throwIfInvalid()
+	{
+		if (!isValid())
+		{
+			throw new ValidationException(this);
+		}
+		return this;
+	}
+
+}
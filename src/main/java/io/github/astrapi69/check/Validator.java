@@ -0,0 +1,78 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.check;
+
+/**
+ * The functional interface {@link Validator} defines reusable validation rules for objects of the
+ * generic type. A {@link Validator} should not hold any state so it can be shared between threads,
+ * the violations of every validation are accumulated in a new {@link Validation} object
+ *
+ * @param <T>
+ *            the generic type of the object to validate
+ */
+@FunctionalInterface
+public interface Validator<T>
+{
+
+	/**
+	 * Checks the rules of this validator on the given object and adds the violations to the given
+	 * {@link Validation} object
+	 *
+	 * @param object
+	 *            the object to validate
+	 * @param validation
+	 *            the validation that accumulates the violations
+	 */
+	void validate(T object, Validation validation);
+
+	/**
+	 * Validates the given object and returns the result with all violations
+	 *
+	 * @param object
+	 *            the object to validate
+	 * @return the result with all violations
+	 */
+	default ValidationResult validate(final T object)
+	{
+		final Validation validation = Validation.start();
+		validate(object, validation);
+		return validation.getResult();
+	}
+
+	/**
+	 * Validates the given object and throws a single {@link ValidationException} with all
+	 * violations if there are any
+	 *
+	 * @param object
+	 *            the object to validate
+	 * @return the given object if there are no violations
+	 * @throws ValidationException
+	 *             if there are violations
+	 */
+	default T requireValid(final T object)
+	{
+		final Validation validation = Validation.start();
+		validate(object, validation);
+		validation.throwIfInvalid();
+		return object;
+	}
+
+}
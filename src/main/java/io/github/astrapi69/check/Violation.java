@@ -0,0 +1,153 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.check;
+
+import java.io.Serializable;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The class {@link Violation} holds the information of a failed validation rule. The message of a
+ * violation is created only if it is requested
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class Violation implements Serializable
+{
+
+	/** The serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** The maximum of the range as {@link String} if the type is a range violation */
+	private final String max;
+
+	/** The custom message if the type is {@link ViolationType#INVALID} */
+	private final String message;
+
+	/** The minimum of the range as {@link String} if the type is a range violation */
+	private final String min;
+
+	/** The name of the validated argument */
+	private final String name;
+
+	/** The type of the violation */
+	private final ViolationType type;
+
+	/** The validated value as {@link String} if the type is a range violation */
+	private final String value;
+
+	private Violation(final ViolationType type, final String name, final String min,
+		final String max, final String value, final String message)
+	{
+		this.type = type;
+		this.name = name;
+		this.min = min;
+		this.max = max;
+		this.value = value;
+		this.message = message;
+	}
+
+	/**
+	 * Factory method for create a new {@link Violation} object for a value that is null
+	 *
+	 * @param name
+	 *            the name of the validated argument
+	 * @return the new {@link Violation} object
+	 */
+	public static Violation ofNull(final String name)
+	{
+		return new Violation(ViolationType.NULL, name, null, null, null, null);
+	}
+
+	/**
+	 * Factory method for create a new {@link Violation} object for a value that is empty
+	 *
+	 * @param name
+	 *            the name of the validated argument
+	 * @return the new {@link Violation} object
+	 */
+	public static Violation ofEmpty(final String name)
+	{
+		return new Violation(ViolationType.EMPTY, name, null, null, null, null);
+	}
+
+	/**
+	 * Factory method for create a new {@link Violation} object for a value that is not in the
+	 * specified range
+	 *
+	 * @param name
+	 *            the name of the validated argument
+	 * @param min
+	 *            the minimum of the range
+	 * @param max
+	 *            the maximum of the range
+	 * @param value
+	 *            the validated value
+	 * @return the new {@link Violation} object
+	 */
+	public static Violation ofNotInRange(final String name, final Object min, final Object max,
+		final Object value)
+	{
+		return new Violation(ViolationType.NOT_IN_RANGE, name, String.valueOf(min),
+			String.valueOf(max), String.valueOf(value), null);
+	}
+
+	/**
+	 * Factory method for create a new {@link Violation} object for a value that is invalid
+	 *
+	 * @param name
+	 *            the name of the validated argument
+	 * @param message
+	 *            the message that describes the violation
+	 * @return the new {@link Violation} object
+	 */
+	public static Violation ofInvalid(final String name, final String message)
+	{
+		return new Violation(ViolationType.INVALID, name, null, null, null, message);
+	}
+
+	/**
+	 * Gets the message of this violation. The message is the same as the message of the exception
+	 * that is thrown from the corresponding method of the class {@link Argument}
+	 *
+	 * @return the message of this violation
+	 */
+	public String getMessage()
+	{
+		switch (type)
+		{
+			case NULL :
+				return "Given argument '" + name + "' may not be null.";
+			case EMPTY :
+				return "Given argument '" + name + "' may not be empty.";
+			case NOT_IN_RANGE :
+				return String.format(
+					"Given argument '%s' should have a value between %s - %s, but given argument is currently:%s",
+					name, min, max, value);
+			default :
+				return "Given argument '" + name + "' is invalid: " + message;
+		}
+	}
+
+}
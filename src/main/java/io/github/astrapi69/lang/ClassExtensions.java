@@ -23,22 +23,20 @@ package io.github.astrapi69.lang;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Proxy;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import io.github.astrapi69.lang.resource.ResourceBuffers;
 import lombok.NonNull;
 
 /**
@@ -54,9 +52,6 @@ public final class ClassExtensions
 	{
 	}
 
-	/** The Constant CGLIB_TAG contains the tag of a cglib class name. */
-	private static final String CGLIB_TAG = "$$";
-
 	/**
 	 * Get the jar file from where the given class is running
 	 *
@@ -73,7 +68,9 @@ public final class ClassExtensions
 	}
 
 	/**
-	 * Look up the class in the "current" ClassLoader.
+	 * Look up the class in the "current" ClassLoader. Misses are not remembered, so a class that
+	 * becomes available later is found. For repeated lookups of optional classes use
+	 * {@link #tryForName(String)} or a {@link ClassLookupCache}
 	 *
 	 * @param className
 	 *            The class name to load
@@ -102,6 +99,22 @@ public final class ClassExtensions
 		return clazz;
 	}
 
+	/**
+	 * Look up the class in the "current" ClassLoader without throwing an exception if the class
+	 * could not be found. Found classes and misses are remembered in the default
+	 * {@link ClassLookupCache}, so a class that becomes available later is only found after the
+	 * time to live of the remembered miss
+	 *
+	 * @param className
+	 *            The class name to load
+	 * @return an {@link Optional} with the class or an empty {@link Optional} if the class was not
+	 *         found or could not be located
+	 */
+	public static Optional<Class<?>> tryForName(final @NonNull String className)
+	{
+		return ClassLookupCache.getDefault().tryForName(className);
+	}
+
 	/**
 	 * Gets the parent base class from the given child class.
 	 *
@@ -216,7 +229,11 @@ public final class ClassExtensions
 	}
 
 	/**
-	 * Gets the ClassLoader from the given object.
+	 * Gets the ClassLoader from the given object. The class loader of the object is returned if
+	 * it is the context class loader of the current thread or one of its children, otherwise the
+	 * context class loader. If the found class loader is the system class loader or one of its
+	 * parents, the system class loader is returned. Only the parent chain of the class loader of
+	 * the object is walked, the parents of the system class loader are resolved once
 	 *
 	 * @param obj
 	 *            The object.
@@ -224,36 +241,19 @@ public final class ClassExtensions
 	 */
 	public static ClassLoader getClassLoader(final Object obj)
 	{
-		ClassLoader classLoader;
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		ClassLoader classLoader = contextClassLoader;
 		if (null != obj)
 		{
-			if (isDerivate(Thread.currentThread().getContextClassLoader(),
-				obj.getClass().getClassLoader()))
-			{
-				classLoader = obj.getClass().getClassLoader();
-			}
-			else
+			final ClassLoader objectClassLoader = obj.getClass().getClassLoader();
+			if (isDerivate(contextClassLoader, objectClassLoader))
 			{
-				classLoader = Thread.currentThread().getContextClassLoader();
-			}
-			if (isDerivate(classLoader, ClassLoader.getSystemClassLoader()))
-			{
-				classLoader = ClassLoader.getSystemClassLoader();
+				classLoader = objectClassLoader;
 			}
 		}
-		else
-		{
-			if (isDerivate(Thread.currentThread().getContextClassLoader(),
-				ClassLoader.getSystemClassLoader()))
-			{
-				classLoader = ClassLoader.getSystemClassLoader();
-			}
-			else
-			{
-				classLoader = Thread.currentThread().getContextClassLoader();
-			}
-		}
-		return classLoader;
+		return SystemClassLoaders.contains(classLoader)
+			? ClassLoader.getSystemClassLoader()
+			: classLoader;
 	}
 
 	/**
@@ -315,51 +315,7 @@ public final class ClassExtensions
 	 */
 	public static ClassType getClassType(final @NonNull Class<?> clazz)
 	{
-		if (clazz.isArray())
-		{
-			return ClassType.ARRAY;
-		}
-		if (isCollection(clazz))
-		{
-			return ClassType.COLLECTION;
-		}
-		if (isMap(clazz))
-		{
-			return ClassType.MAP;
-		}
-		if (clazz.isLocalClass())
-		{
-			return ClassType.LOCAL;
-		}
-		if (clazz.isMemberClass())
-		{
-			return ClassType.MEMBER;
-		}
-		if (clazz.isPrimitive())
-		{
-			return ClassType.PRIMITIVE;
-		}
-		if (clazz.isAnnotation())
-		{
-			return ClassType.ANNOTATION;
-		}
-		if (clazz.isEnum())
-		{
-			return ClassType.ENUM;
-		}
-		if (clazz.isInterface())
-		{
-			return ClassType.INTERFACE;
-		}
-		if (clazz.isSynthetic())
-		{
-			return ClassType.SYNTHETIC;
-		}
-		if (clazz.isAnonymousClass())
-		{
-			return ClassType.ANONYMOUS;
-		}
-		return ClassType.DEFAULT;
+		return ClassMetadata.of(clazz).getClassType();
 	}
 
 	/**
@@ -626,7 +582,11 @@ public final class ClassExtensions
 	}
 
 	/**
-	 * Gives the resource as a file Object.
+	 * Gives the resource as a file Object. A resource in a jar file is extracted once into the
+	 * extraction directory of the default {@link ResourceBuffers}, the returned file should not be
+	 * modified. A resource in a nested or a remote jar file is read from its url and stored into a
+	 * file named after the hash of the content. For reading the content without a file use
+	 * {@link ResourceBuffers}.
 	 *
 	 * @param name
 	 *            The name from the file.
@@ -655,10 +615,8 @@ public final class ClassExtensions
 		{
 			if (url.getProtocol().equals("jar"))
 			{
-				InputStream resourceAsStream = ClassExtensions.getResourceAsStream(name, obj);
-				file = new File(System.getProperty("java.io.tmpdir"),
-					obj.getClass().getSimpleName());
-				Files.copy(resourceAsStream, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				// stored into a file that is named after the hash of the content
+				file = ResourceBuffers.getDefault().getFile(url).toFile();
 			}
 			if (url.getProtocol().equals("file"))
 			{
@@ -692,6 +650,8 @@ public final class ClassExtensions
 
 	/**
 	 * Gives the Inputstream from the resource. Wrapes the Class.getResourceAsStream(String)-method.
+	 * For small resources that are read often use the
+	 * {@link io.github.astrapi69.lang.resource.ResourceCache}.
 	 *
 	 * @param name
 	 *            The name from the resource.
@@ -724,7 +684,9 @@ public final class ClassExtensions
 	}
 
 	/**
-	 * Gets a list with urls from the given path for all resources.
+	 * Gets a list with urls from the given path for all resources. Every call enumerates the
+	 * resources over the class loader, for repeated lookups use the
+	 * {@link io.github.astrapi69.lang.resource.ResourceIndex}.
 	 *
 	 * @param path
 	 *            The base path.
@@ -738,11 +700,13 @@ public final class ClassExtensions
 		throws IOException
 	{
 		ArrayList<URL> urls = Collections.list(ClassExtensions.getClassLoader().getResources(path));
-		return 0 < excludeUrlProtocols.length
-			? urls.stream()
-				.filter(url -> !Arrays.asList(excludeUrlProtocols).contains(url.getProtocol()))
-				.collect(Collectors.toList())
-			: urls;
+		if (0 == excludeUrlProtocols.length)
+		{
+			return urls;
+		}
+		final List<String> excludedProtocols = Arrays.asList(excludeUrlProtocols);
+		return urls.stream().filter(url -> !excludedProtocols.contains(url.getProtocol()))
+			.collect(Collectors.toList());
 	}
 
 	/**
@@ -810,7 +774,7 @@ public final class ClassExtensions
 	 */
 	public static <T> boolean isCglib(final Class<T> clazz)
 	{
-		return clazz != null && clazz.getName().contains(CGLIB_TAG);
+		return clazz != null && ClassMetadata.of(clazz).isCglib();
 	}
 
 	/**
@@ -822,7 +786,7 @@ public final class ClassExtensions
 	 */
 	public static boolean isCollection(final @NonNull Class<?> clazz)
 	{
-		return Collection.class.isAssignableFrom(clazz);
+		return ClassMetadata.of(clazz).isCollection();
 	}
 
 	/**
@@ -872,21 +836,7 @@ public final class ClassExtensions
 	 */
 	public static <T> boolean isInstantiable(final Class<T> clazz)
 	{
-		try
-		{
-			ClassType classType = ClassExtensions.getClassType(clazz);
-			if (classType.equals(ClassType.ARRAY) || classType.equals(ClassType.MAP)
-				|| classType.equals(ClassType.COLLECTION))
-			{
-				return true;
-			}
-			final Constructor<T> declaredConstructor = clazz.getDeclaredConstructor();
-			return declaredConstructor != null;
-		}
-		catch (NoSuchMethodException throwable)
-		{
-			return false;
-		}
+		return ClassMetadata.of(clazz).isInstantiable();
 	}
 
 	/**
@@ -900,7 +850,7 @@ public final class ClassExtensions
 	 */
 	public static <T> boolean isJdkProxy(final Class<T> clazz)
 	{
-		return clazz != null && Proxy.isProxyClass(clazz);
+		return clazz != null && ClassMetadata.of(clazz).isJdkProxy();
 	}
 
 	/**
@@ -912,7 +862,7 @@ public final class ClassExtensions
 	 */
 	public static boolean isMap(final @NonNull Class<?> clazz)
 	{
-		return Map.class.isAssignableFrom(clazz);
+		return ClassMetadata.of(clazz).isMap();
 	}
 
 	/**
@@ -924,7 +874,7 @@ public final class ClassExtensions
 	 */
 	public static boolean isPrimitiveArray(final @NonNull Class<?> clazz)
 	{
-		return clazz.isArray() && clazz.getComponentType().isPrimitive();
+		return ClassMetadata.of(clazz).isPrimitiveArray();
 	}
 
 	/**
@@ -938,7 +888,7 @@ public final class ClassExtensions
 	 */
 	public static <T> boolean isProxy(final Class<T> clazz)
 	{
-		return isJdkProxy(clazz) || isCglib(clazz);
+		return clazz != null && ClassMetadata.of(clazz).isProxy();
 	}
 
 	/**
@@ -980,4 +930,45 @@ public final class ClassExtensions
 		return new Class<?>[] { found };
 	}
 
+	/**
+	 * The class {@link SystemClassLoaders} holds the system class loader and its parents, that
+	 * never change, so they are resolved on the first use and not on every call of
+	 * {@link ClassExtensions#getClassLoader(Object)}
+	 */
+	private static final class SystemClassLoaders
+	{
+
+		/** The system class loader and its parents */
+		private static final ClassLoader[] CLASS_LOADERS = getSystemClassLoaders();
+
+		private static boolean contains(final ClassLoader classLoader)
+		{
+			if (classLoader == null)
+			{
+				return true;
+			}
+			for (final ClassLoader systemClassLoader : CLASS_LOADERS)
+			{
+				if (systemClassLoader == classLoader)
+				{
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private static ClassLoader[] getSystemClassLoaders()
+		{
+			final List<ClassLoader> classLoaders = new ArrayList<>();
+			ClassLoader classLoader = ClassLoader.getSystemClassLoader();
+			while (null != classLoader)
+			{
+				classLoaders.add(classLoader);
+				classLoader = classLoader.getParent();
+			}
+			return classLoaders.toArray(new ClassLoader[0]);
+		}
+
+	}
+
 }
@@ -0,0 +1,340 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * The class {@link ClassLookupCache} caches the result of class lookups by name for each
+ * {@link ClassLoader}. Found classes and classes that could not be found are both remembered, so a
+ * repeated lookup of a missing class costs a map lookup instead of thrown exceptions. <br>
+ * <br>
+ * The class loaders are held weakly and the found classes are referenced weakly, so the cache does
+ * not prevent a class loader from being garbage collected. Each class loader keeps at most
+ * {@code maximumSize} entries in least recently used order, and a remembered miss expires after
+ * the configured time to live so that classes that become available later can be found. Only a
+ * class that is not found is remembered as a miss, a class that is found but fails to link with a
+ * {@link LinkageError} is looked up again on the next call. <br>
+ * <br>
+ * The cache is opt-in: {@link ClassExtensions#forName(String)} looks up every class again, only
+ * {@link ClassExtensions#tryForName(String)} and code that probes optional classes over this cache
+ * remember misses.
+ */
+public final class ClassLookupCache
+{
+
+	/** The default maximum number of entries for each class loader */
+	public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+	/** The default time to live of a remembered miss */
+	public static final Duration DEFAULT_MISS_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+	/** The default instance that is used from {@link ClassExtensions#tryForName(String)} */
+	private static volatile ClassLookupCache defaultInstance = new ClassLookupCache(
+		DEFAULT_MAXIMUM_SIZE, DEFAULT_MISS_TIME_TO_LIVE);
+
+	/** The entries for each class loader, the class loaders are weak keys */
+	private final Map<ClassLoader, Map<String, Entry>> loaderEntries = Collections
+		.synchronizedMap(new WeakHashMap<>());
+
+	/** The maximum number of entries for each class loader */
+	private final int maximumSize;
+
+	/** The time to live of a remembered miss in nanoseconds */
+	private final long missTimeToLiveNanos;
+
+	/**
+	 * Instantiates a new {@link ClassLookupCache} object
+	 *
+	 * @param maximumSize
+	 *            the maximum number of entries for each class loader
+	 * @param missTimeToLive
+	 *            the time to live of a remembered miss
+	 * @throws IllegalArgumentException
+	 *             if the given maximum size is not positive or the given time to live is negative
+	 */
+	public ClassLookupCache(final int maximumSize, final Duration missTimeToLive)
+	{
+		Objects.requireNonNull(missTimeToLive);
+		if (maximumSize < 1)
+		{
+			throw new IllegalArgumentException(
+				"Given argument 'maximumSize' should be positive, but is " + maximumSize);
+		}
+		if (missTimeToLive.isNegative())
+		{
+			throw new IllegalArgumentException(
+				"Given argument 'missTimeToLive' may not be negative, but is " + missTimeToLive);
+		}
+		this.maximumSize = maximumSize;
+		this.missTimeToLiveNanos = missTimeToLive.toNanos();
+	}
+
+	/**
+	 * Gets the default {@link ClassLookupCache} instance
+	 *
+	 * @return the default {@link ClassLookupCache} instance
+	 */
+	public static ClassLookupCache getDefault()
+	{
+		return defaultInstance;
+	}
+
+	/**
+	 * Sets the given {@link ClassLookupCache} as the default instance
+	 *
+	 * @param classLookupCache
+	 *            the new default {@link ClassLookupCache} instance
+	 */
+	public static void setDefault(final ClassLookupCache classLookupCache)
+	{
+		defaultInstance = Objects.requireNonNull(classLookupCache);
+	}
+
+	/**
+	 * Look up the class in the "current" ClassLoader
+	 *
+	 * @param className
+	 *            The class name to load
+	 * @return the class
+	 * @throws ClassNotFoundException
+	 *             is thrown if the Class was not found or could not be located. The cause is the
+	 *             {@link ClassNotFoundException} of the remembered miss or the
+	 *             {@link LinkageError} of a class that could not be linked
+	 */
+	public Class<?> forName(final String className) throws ClassNotFoundException
+	{
+		return find(className, ClassExtensions.getClassLoader());
+	}
+
+	/**
+	 * Look up the class in the "current" ClassLoader without throwing an exception if the class
+	 * could not be found
+	 *
+	 * @param className
+	 *            The class name to load
+	 * @return an {@link Optional} with the class or an empty {@link Optional} if the class was not
+	 *         found or could not be located
+	 */
+	public Optional<Class<?>> tryForName(final String className)
+	{
+		return tryForName(className, ClassExtensions.getClassLoader());
+	}
+
+	/**
+	 * Look up the class in the given ClassLoader without throwing an exception if the class could
+	 * not be found
+	 *
+	 * @param className
+	 *            The class name to load
+	 * @param classLoader
+	 *            the class loader
+	 * @return an {@link Optional} with the class or an empty {@link Optional} if the class was not
+	 *         found or could not be located
+	 */
+	public Optional<Class<?>> tryForName(final String className, final ClassLoader classLoader)
+	{
+		try
+		{
+			return Optional.of(find(className, classLoader));
+		}
+		catch (final ClassNotFoundException exception)
+		{
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Removes all entries of the given class loader
+	 *
+	 * @param classLoader
+	 *            the class loader
+	 */
+	public void invalidate(final ClassLoader classLoader)
+	{
+		loaderEntries.remove(classLoader);
+	}
+
+	/**
+	 * Removes all entries from this cache
+	 */
+	public void clear()
+	{
+		loaderEntries.clear();
+	}
+
+	private Class<?> find(final String className, final ClassLoader classLoader)
+		throws ClassNotFoundException
+	{
+		Objects.requireNonNull(className);
+		final Map<String, Entry> entries = getEntries(classLoader);
+		Entry entry;
+		synchronized (entries)
+		{
+			entry = entries.get(className);
+		}
+		if (entry != null)
+		{
+			if (entry.isMiss())
+			{
+				if (!isExpired(entry))
+				{
+					throw new ClassNotFoundException(className, entry.miss);
+				}
+			}
+			else
+			{
+				final Class<?> clazz = entry.classReference.get();
+				if (clazz != null)
+				{
+					return clazz;
+				}
+			}
+		}
+		final Class<?> clazz;
+		try
+		{
+			clazz = load(className, classLoader);
+		}
+		catch (final ClassNotFoundException exception)
+		{
+			synchronized (entries)
+			{
+				entries.put(className, new Entry(null, exception, System.nanoTime()));
+			}
+			throw new ClassNotFoundException(className, exception);
+		}
+		catch (final LinkageError error)
+		{
+			// a class that fails to link is not remembered, it may link after a later change
+			synchronized (entries)
+			{
+				entries.remove(className);
+			}
+			throw new ClassNotFoundException(className, error);
+		}
+		synchronized (entries)
+		{
+			entries.put(className, new Entry(new WeakReference<>(clazz), null, 0L));
+		}
+		return clazz;
+	}
+
+	private Map<String, Entry> getEntries(final ClassLoader classLoader)
+	{
+		return loaderEntries.computeIfAbsent(classLoader,
+			key -> new LinkedHashMap<>(16, 0.75f, true)
+			{
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest)
+				{
+					return maximumSize < size();
+				}
+			});
+	}
+
+	private boolean isExpired(final Entry entry)
+	{
+		return missTimeToLiveNanos <= System.nanoTime() - entry.missTimestamp;
+	}
+
+	private static Class<?> load(final String className, final ClassLoader classLoader)
+		throws ClassNotFoundException
+	{
+		LinkageError linkageError = null;
+		try
+		{
+			return Class.forName(className);
+		}
+		catch (final ClassNotFoundException exception)
+		{
+			// looked up in the given class loader
+		}
+		catch (final LinkageError error)
+		{
+			linkageError = error;
+		}
+		try
+		{
+			return Class.forName(className, true, classLoader);
+		}
+		catch (final ClassNotFoundException exception)
+		{
+			// looked up without initialization
+		}
+		catch (final LinkageError error)
+		{
+			linkageError = error;
+		}
+		try
+		{
+			return Class.forName(className, false, classLoader);
+		}
+		catch (final ClassNotFoundException exception)
+		{
+			if (linkageError != null)
+			{
+				// the class exists but could not be linked
+				throw linkageError;
+			}
+			throw exception;
+		}
+	}
+
+	/**
+	 * The class {@link Entry} holds a found class or a remembered miss
+	 */
+	private static final class Entry
+	{
+
+		/** The weak reference to the found class or null if the class was not found */
+		final WeakReference<Class<?>> classReference;
+
+		/** The exception of the remembered miss or null if the class was found */
+		final ClassNotFoundException miss;
+
+		/** The timestamp in nanoseconds of the remembered miss */
+		final long missTimestamp;
+
+		Entry(final WeakReference<Class<?>> classReference, final ClassNotFoundException miss,
+			final long missTimestamp)
+		{
+			this.classReference = classReference;
+			this.miss = miss;
+			this.missTimestamp = missTimestamp;
+		}
+
+		boolean isMiss()
+		{
+			return classReference == null;
+		}
+	}
+
+}
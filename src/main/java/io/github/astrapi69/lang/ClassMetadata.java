@@ -0,0 +1,249 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * The class {@link ClassMetadata} holds the reflective information of a {@link Class} that is
+ * resolved once and cached per class in a {@link ClassValue}. <br>
+ * <br>
+ * The cached values are stored on the {@link Class} object itself, so an entry is released
+ * together with its class and does not keep the {@link ClassLoader} of a redeployed application
+ * reachable.
+ */
+public final class ClassMetadata
+{
+
+	/** The Constant CGLIB_TAG contains the tag of a cglib class name. */
+	private static final String CGLIB_TAG = "$$";
+
+	/** The cache that holds the {@link ClassMetadata} for each class */
+	private static final ClassValue<ClassMetadata> CACHE = new ClassValue<>()
+	{
+		@Override
+		protected ClassMetadata computeValue(final Class<?> type)
+		{
+			return new ClassMetadata(type);
+		}
+	};
+
+	/** The flag if the class is a cglib proxy class */
+	private final boolean cglib;
+
+	/** The {@link ClassType} of the class */
+	private final ClassType classType;
+
+	/** The flag if the class is assignable from {@link Collection} */
+	private final boolean collection;
+
+	/** The flag if the class is instantiable */
+	private final boolean instantiable;
+
+	/** The flag if the class is a JDK proxy class */
+	private final boolean jdkProxy;
+
+	/** The flag if the class is assignable from {@link Map} */
+	private final boolean map;
+
+	/** The flag if the class is an array of primitive type */
+	private final boolean primitiveArray;
+
+	/**
+	 * Private constructor that resolves all information from the given class
+	 *
+	 * @param clazz
+	 *            the class
+	 */
+	private ClassMetadata(final Class<?> clazz)
+	{
+		this.collection = Collection.class.isAssignableFrom(clazz);
+		this.map = Map.class.isAssignableFrom(clazz);
+		this.primitiveArray = clazz.isArray() && clazz.getComponentType().isPrimitive();
+		this.jdkProxy = Proxy.isProxyClass(clazz);
+		this.cglib = clazz.getName().contains(CGLIB_TAG);
+		this.classType = resolveClassType(clazz, this.collection, this.map);
+		this.instantiable = resolveInstantiable(clazz, this.classType);
+	}
+
+	/**
+	 * Gets the cached {@link ClassMetadata} of the given class. The information is resolved only
+	 * on the first call for a class
+	 *
+	 * @param clazz
+	 *            the class
+	 * @return the cached {@link ClassMetadata} of the given class
+	 */
+	public static ClassMetadata of(final Class<?> clazz)
+	{
+		return CACHE.get(clazz);
+	}
+
+	private static ClassType resolveClassType(final Class<?> clazz, final boolean collection,
+		final boolean map)
+	{
+		if (clazz.isArray())
+		{
+			return ClassType.ARRAY;
+		}
+		if (collection)
+		{
+			return ClassType.COLLECTION;
+		}
+		if (map)
+		{
+			return ClassType.MAP;
+		}
+		if (clazz.isLocalClass())
+		{
+			return ClassType.LOCAL;
+		}
+		if (clazz.isMemberClass())
+		{
+			return ClassType.MEMBER;
+		}
+		if (clazz.isPrimitive())
+		{
+			return ClassType.PRIMITIVE;
+		}
+		if (clazz.isAnnotation())
+		{
+			return ClassType.ANNOTATION;
+		}
+		if (clazz.isEnum())
+		{
+			return ClassType.ENUM;
+		}
+		if (clazz.isInterface())
+		{
+			return ClassType.INTERFACE;
+		}
+		if (clazz.isSynthetic())
+		{
+			return ClassType.SYNTHETIC;
+		}
+		if (clazz.isAnonymousClass())
+		{
+			return ClassType.ANONYMOUS;
+		}
+		return ClassType.DEFAULT;
+	}
+
+	private static boolean resolveInstantiable(final Class<?> clazz, final ClassType classType)
+	{
+		if (classType.equals(ClassType.ARRAY) || classType.equals(ClassType.MAP)
+			|| classType.equals(ClassType.COLLECTION))
+		{
+			return true;
+		}
+		try
+		{
+			return clazz.getDeclaredConstructor() != null;
+		}
+		catch (final NoSuchMethodException exception)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * Gets the {@link ClassType} of the class
+	 *
+	 * @return the {@link ClassType} of the class
+	 */
+	public ClassType getClassType()
+	{
+		return classType;
+	}
+
+	/**
+	 * Checks if the class is a cglib proxy class
+	 *
+	 * @return true, if the class is a cglib proxy class otherwise false
+	 */
+	public boolean isCglib()
+	{
+		return cglib;
+	}
+
+	/**
+	 * Checks if the class is assignable from {@link Collection}
+	 *
+	 * @return true, if the class is assignable from {@link Collection} otherwise false
+	 */
+	public boolean isCollection()
+	{
+		return collection;
+	}
+
+	/**
+	 * Checks if the class is instantiable
+	 *
+	 * @return true, if the class is instantiable otherwise false
+	 */
+	public boolean isInstantiable()
+	{
+		return instantiable;
+	}
+
+	/**
+	 * Checks if the class is a JDK proxy class
+	 *
+	 * @return true, if the class is a JDK proxy class otherwise false
+	 */
+	public boolean isJdkProxy()
+	{
+		return jdkProxy;
+	}
+
+	/**
+	 * Checks if the class is assignable from {@link Map}
+	 *
+	 * @return true, if the class is assignable from {@link Map} otherwise false
+	 */
+	public boolean isMap()
+	{
+		return map;
+	}
+
+	/**
+	 * Checks if the class is an array of primitive type
+	 *
+	 * @return true, if the class is an array of primitive type otherwise false
+	 */
+	public boolean isPrimitiveArray()
+	{
+		return primitiveArray;
+	}
+
+	/**
+	 * Checks if the class is a JDK proxy or a cglib proxy class
+	 *
+	 * @return true, if the class is a proxy class otherwise false
+	 */
+	public boolean isProxy()
+	{
+		return jdkProxy || cglib;
+	}
+
+}
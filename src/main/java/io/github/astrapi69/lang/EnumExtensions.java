@@ -20,12 +20,14 @@
  */
 package io.github.astrapi69.lang;
 
-import java.util.Arrays;
 import java.util.function.Function;
 
 
 /**
- * The class {@link EnumExtensions} provides generic utility methods for java enums
+ * The class {@link EnumExtensions} provides generic utility methods for java enums. The lookups
+ * are delegated to the cached {@link EnumIndex} of the enum class. The field lookups with an index
+ * name build the index once with the given function and reuse it for every call with the same
+ * index name, so their function must be pure and may not depend on state like the default locale
  */
 public final class EnumExtensions
 {
@@ -56,9 +58,7 @@ public final class EnumExtensions
 	{
 		if (enumerationClass != null && name != null)
 		{
-			return Arrays.stream(enumerationClass.getEnumConstants())
-				.filter(enumValue -> enumValue.name().equalsIgnoreCase(name)).findFirst()
-				.orElse(defaultReturnEnumValue);
+			return EnumIndex.of(enumerationClass).valueOf(name, defaultReturnEnumValue);
 		}
 		return defaultReturnEnumValue;
 	}
@@ -85,9 +85,40 @@ public final class EnumExtensions
 	{
 		if (enumerationClass != null && enumField != null)
 		{
-			return Arrays.stream(enumerationClass.getEnumConstants())
-				.filter(enumValue -> function.apply(enumValue).equalsIgnoreCase(enumField))
-				.findFirst().orElse(defaultReturnEnumValue);
+			return EnumIndex.of(enumerationClass).fieldValueIgnoreCase(function, enumField,
+				defaultReturnEnumValue);
+		}
+		return defaultReturnEnumValue;
+	}
+
+	/**
+	 * This method gets the enum value from the given enum {@link Class} object and the given
+	 * {@link String} object that represents an enum field as string over the index with the given
+	 * name. The index is built once with the given function, so the function must be pure
+	 *
+	 * @param <E>
+	 *            the generic type of the enum
+	 * @param enumerationClass
+	 *            the class of the enumeration
+	 * @param indexName
+	 *            the name of the index that identifies the given function
+	 * @param enumField
+	 *            the enum field of the enum value as {@link String} object.<br/>
+	 *            Here is not necessarily be the name, it can be an instance field of the enum
+	 * @param function
+	 *            the pure function that returns the value of the enum field
+	 * @param defaultReturnEnumValue
+	 *            the default enum value to return if no enum value has been found
+	 * @return the corresponding enum value, or the given default enum value
+	 */
+	public static <E extends Enum<E>> E enumFieldValueFromString(final Class<E> enumerationClass,
+		final String indexName, final String enumField, final Function<E, String> function,
+		final E defaultReturnEnumValue)
+	{
+		if (enumerationClass != null && enumField != null)
+		{
+			return EnumIndex.of(enumerationClass).fieldValueIgnoreCase(indexName, function,
+				enumField, defaultReturnEnumValue);
 		}
 		return defaultReturnEnumValue;
 	}
@@ -116,9 +147,42 @@ public final class EnumExtensions
 	{
 		if (enumerationClass != null && enumField != null)
 		{
-			return Arrays.stream(enumerationClass.getEnumConstants())
-				.filter(enumValue -> function.apply(enumValue).equals(enumField)).findFirst()
-				.orElse(defaultReturnEnumValue);
+			return EnumIndex.of(enumerationClass).fieldValue(function, enumField,
+				defaultReturnEnumValue);
+		}
+		return defaultReturnEnumValue;
+	}
+
+	/**
+	 * This method gets the enum value from the given enum {@link Class} object and the given
+	 * generic type object that represents an enum field over the index with the given name. The
+	 * index is built once with the given function, so the function must be pure
+	 *
+	 * @param <E>
+	 *            the generic type of the enum
+	 * @param <R>
+	 *            the generic type of the enum from the enum field
+	 * @param enumerationClass
+	 *            the class of the enumeration
+	 * @param indexName
+	 *            the name of the index that identifies the given function
+	 * @param enumField
+	 *            the enum field of the enum value.<br/>
+	 *            This field is not the name of the enum
+	 * @param function
+	 *            the pure function that returns the value of the enum field
+	 * @param defaultReturnEnumValue
+	 *            the default enum value to return if no enum value has been found
+	 * @return the corresponding enum value, or the given default enum value
+	 */
+	public static <E extends Enum<E>, R> E enumFieldValue(final Class<E> enumerationClass,
+		final String indexName, final R enumField, final Function<E, R> function,
+		final E defaultReturnEnumValue)
+	{
+		if (enumerationClass != null && enumField != null)
+		{
+			return EnumIndex.of(enumerationClass).fieldValue(indexName, function, enumField,
+				defaultReturnEnumValue);
 		}
 		return defaultReturnEnumValue;
 	}
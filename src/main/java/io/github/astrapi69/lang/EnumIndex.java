@@ -0,0 +1,357 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The class {@link EnumIndex} holds prebuilt lookup maps of the values of an enum class. The index
+ * of an enum class is built once and cached in a {@link ClassValue}. <br>
+ * <br>
+ * Lookups over a field of the enum values scan the cached enum values and call the field function
+ * on every call. A field lookup is only indexed if the caller names the index, the index is then
+ * built once with the field function and reused for every call with the same index name. So the
+ * field function of a named index must be pure, it must always return the same value for an enum
+ * value and may not depend on state like the default locale.
+ *
+ * @param <E>
+ *            the generic type of the enum
+ */
+public final class EnumIndex<E extends Enum<E>>
+{
+
+	/** The cache that holds the {@link EnumIndex} for each enum class */
+	private static final ClassValue<EnumIndex<?>> CACHE = new ClassValue<>()
+	{
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		@Override
+		protected EnumIndex<?> computeValue(final Class<?> type)
+		{
+			return new EnumIndex(type);
+		}
+	};
+
+	/** The enum values in the order of the declaration */
+	private final E[] enumValues;
+
+	/** The case insensitive index of the enum names with the case folded names as keys */
+	private final Map<String, E> ignoreCaseNames;
+
+	/** The index of the enum names */
+	private final Map<String, E> names;
+
+	/** The enum values as unmodifiable list */
+	private final List<E> values;
+
+	/** The field indexes with the index names as keys */
+	private final Map<String, Map<Object, E>> fieldIndexes = new ConcurrentHashMap<>();
+
+	/** The case insensitive field indexes with the index names as keys */
+	private final Map<String, Map<String, E>> ignoreCaseFieldIndexes = new ConcurrentHashMap<>();
+
+	/**
+	 * Private constructor that builds the index of the given enum class
+	 *
+	 * @param enumClass
+	 *            the enum class
+	 */
+	private EnumIndex(final Class<E> enumClass)
+	{
+		if (!enumClass.isEnum())
+		{
+			throw new IllegalArgumentException(
+				"Given class '" + enumClass.getName() + "' is not an enum class.");
+		}
+		this.enumValues = enumClass.getEnumConstants();
+		this.values = Collections.unmodifiableList(Arrays.asList(enumValues));
+		final Map<String, E> nameIndex = new HashMap<>();
+		final Map<String, E> ignoreCaseNameIndex = new HashMap<>();
+		for (final E enumValue : enumValues)
+		{
+			nameIndex.put(enumValue.name(), enumValue);
+			ignoreCaseNameIndex.putIfAbsent(foldCase(enumValue.name()), enumValue);
+		}
+		this.names = nameIndex;
+		this.ignoreCaseNames = ignoreCaseNameIndex;
+	}
+
+	/**
+	 * Gets the cached {@link EnumIndex} of the given enum class. The index is built only on the
+	 * first call for an enum class
+	 *
+	 * @param <E>
+	 *            the generic type of the enum
+	 * @param enumClass
+	 *            the enum class
+	 * @return the cached {@link EnumIndex} of the given enum class
+	 * @throws IllegalArgumentException
+	 *             if the given class is not an enum class
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E extends Enum<E>> EnumIndex<E> of(final Class<E> enumClass)
+	{
+		return (EnumIndex<E>)CACHE.get(enumClass);
+	}
+
+	/**
+	 * Gets the enum value with the given name, the name is compared case insensitive
+	 *
+	 * @param name
+	 *            the name of the enum value
+	 * @param defaultValue
+	 *            the default enum value to return if no enum value has been found
+	 * @return the corresponding enum value, or the given default enum value
+	 */
+	public E valueOf(final String name, final E defaultValue)
+	{
+		if (name == null)
+		{
+			return defaultValue;
+		}
+		final E enumValue = names.get(name);
+		if (enumValue != null)
+		{
+			return enumValue;
+		}
+		return ignoreCaseNames.getOrDefault(foldCase(name), defaultValue);
+	}
+
+	/**
+	 * Gets the first enum value that returns the given field value from the given field function.
+	 * The field function is called for the enum values on every call
+	 *
+	 * @param <R>
+	 *            the generic type of the enum field
+	 * @param function
+	 *            the function that returns the value of the enum field
+	 * @param fieldValue
+	 *            the value of the enum field
+	 * @param defaultValue
+	 *            the default enum value to return if no enum value has been found
+	 * @return the corresponding enum value, or the given default enum value
+	 */
+	public <R> E fieldValue(final Function<E, R> function, final R fieldValue,
+		final E defaultValue)
+	{
+		Objects.requireNonNull(function);
+		if (fieldValue == null)
+		{
+			return defaultValue;
+		}
+		for (final E enumValue : enumValues)
+		{
+			if (fieldValue.equals(function.apply(enumValue)))
+			{
+				return enumValue;
+			}
+		}
+		return defaultValue;
+	}
+
+	/**
+	 * Gets the first enum value that returns the given field value from the given field function
+	 * over the index with the given name. The index is built with the field function on the first
+	 * call with the index name and reused for every later call with the same index name, so the
+	 * field function must be pure and the index name must identify the field function
+	 *
+	 * @param <R>
+	 *            the generic type of the enum field
+	 * @param indexName
+	 *            the name of the index
+	 * @param function
+	 *            the pure function that returns the value of the enum field
+	 * @param fieldValue
+	 *            the value of the enum field
+	 * @param defaultValue
+	 *            the default enum value to return if no enum value has been found
+	 * @return the corresponding enum value, or the given default enum value
+	 */
+	public <R> E fieldValue(final String indexName, final Function<E, R> function,
+		final R fieldValue, final E defaultValue)
+	{
+		Objects.requireNonNull(indexName);
+		Objects.requireNonNull(function);
+		if (fieldValue == null)
+		{
+			return defaultValue;
+		}
+		Map<Object, E> index = fieldIndexes.get(indexName);
+		if (index == null)
+		{
+			index = fieldIndexes.computeIfAbsent(indexName, key -> newFieldIndex(function));
+		}
+		return index.getOrDefault(fieldValue, defaultValue);
+	}
+
+	/**
+	 * Gets the first enum value that returns the given field value from the given field function,
+	 * the field value is compared case insensitive. The field function is called for the enum
+	 * values on every call
+	 *
+	 * @param function
+	 *            the function that returns the value of the enum field
+	 * @param fieldValue
+	 *            the value of the enum field
+	 * @param defaultValue
+	 *            the default enum value to return if no enum value has been found
+	 * @return the corresponding enum value, or the given default enum value
+	 */
+	public E fieldValueIgnoreCase(final Function<E, String> function, final String fieldValue,
+		final E defaultValue)
+	{
+		Objects.requireNonNull(function);
+		if (fieldValue == null)
+		{
+			return defaultValue;
+		}
+		for (final E enumValue : enumValues)
+		{
+			if (fieldValue.equalsIgnoreCase(function.apply(enumValue)))
+			{
+				return enumValue;
+			}
+		}
+		return defaultValue;
+	}
+
+	/**
+	 * Gets the first enum value that returns the given field value from the given field function
+	 * over the index with the given name, the field value is compared case insensitive. The index
+	 * is built with the field function on the first call with the index name and reused for every
+	 * later call with the same index name, so the field function must be pure and the index name
+	 * must identify the field function
+	 *
+	 * @param indexName
+	 *            the name of the index
+	 * @param function
+	 *            the pure function that returns the value of the enum field
+	 * @param fieldValue
+	 *            the value of the enum field
+	 * @param defaultValue
+	 *            the default enum value to return if no enum value has been found
+	 * @return the corresponding enum value, or the given default enum value
+	 */
+	public E fieldValueIgnoreCase(final String indexName, final Function<E, String> function,
+		final String fieldValue, final E defaultValue)
+	{
+		Objects.requireNonNull(indexName);
+		Objects.requireNonNull(function);
+		if (fieldValue == null)
+		{
+			return defaultValue;
+		}
+		Map<String, E> index = ignoreCaseFieldIndexes.get(indexName);
+		if (index == null)
+		{
+			index = ignoreCaseFieldIndexes.computeIfAbsent(indexName,
+				key -> newIgnoreCaseFieldIndex(function));
+		}
+		return index.getOrDefault(foldCase(fieldValue), defaultValue);
+	}
+
+	/**
+	 * Gets the enum values in the order of the declaration
+	 *
+	 * @return an unmodifiable list of the enum values
+	 */
+	public List<E> values()
+	{
+		return values;
+	}
+
+	private Map<Object, E> newFieldIndex(final Function<E, ?> function)
+	{
+		final Map<Object, E> index = new HashMap<>();
+		for (final E enumValue : enumValues)
+		{
+			final Object fieldValue = function.apply(enumValue);
+			if (fieldValue != null)
+			{
+				index.putIfAbsent(fieldValue, enumValue);
+			}
+		}
+		return index;
+	}
+
+	private Map<String, E> newIgnoreCaseFieldIndex(final Function<E, String> function)
+	{
+		final Map<String, E> index = new HashMap<>();
+		for (final E enumValue : enumValues)
+		{
+			final String fieldValue = function.apply(enumValue);
+			if (fieldValue != null)
+			{
+				index.putIfAbsent(foldCase(fieldValue), enumValue);
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Folds the case of the given value, so two values are equal after the folding if and only if
+	 * they are equal with {@link String#equalsIgnoreCase(String)}. Every character is converted to
+	 * upper case and then to lower case, a value that is already folded is returned as is
+	 *
+	 * @param value
+	 *            the value
+	 * @return the case folded value
+	 */
+	static String foldCase(final String value)
+	{
+		final int length = value.length();
+		int index = 0;
+		while (index < length)
+		{
+			final int codePoint = value.codePointAt(index);
+			if (foldCase(codePoint) != codePoint)
+			{
+				break;
+			}
+			index += Character.charCount(codePoint);
+		}
+		if (index == length)
+		{
+			return value;
+		}
+		final StringBuilder folded = new StringBuilder(length);
+		folded.append(value, 0, index);
+		while (index < length)
+		{
+			final int codePoint = value.codePointAt(index);
+			folded.appendCodePoint(foldCase(codePoint));
+			index += Character.charCount(codePoint);
+		}
+		return folded.toString();
+	}
+
+	private static int foldCase(final int codePoint)
+	{
+		return Character.toLowerCase(Character.toUpperCase(codePoint));
+	}
+
+}
@@ -20,6 +20,9 @@
  */
 package io.github.astrapi69.lang;
 
+import io.github.astrapi69.lang.memory.MemoryTelemetry;
+import io.github.astrapi69.lang.memory.MemoryThresholdMonitor;
+
 /**
  * Utility class for getting the Memory status.
  *
@@ -38,6 +41,9 @@ public final class MemoryExtensions
 
 	/**
 	 * Freeing memory that is available for the application by running the garbage collector.
+	 * <p>
+	 * Note: this triggers a full garbage collection. For react on high memory occupancy use a
+	 * {@link MemoryThresholdMonitor} that is notified from the virtual machine instead
 	 */
 	public static void disposeUnusedMemory()
 	{
@@ -45,11 +51,25 @@ public final class MemoryExtensions
 	}
 
 	/**
-	 * Gets the free memory in kilobytes is available for the application.
+	 * Gets the used memory in kilobytes of the application.
 	 *
-	 * @return Returns the free memory in kilobytes is available for the application.
+	 * @return Returns the used memory in kilobytes of the application.
+	 * @deprecated the name is misleading, because the used memory and not the free memory is
+	 *             returned. Use instead {@link #getUsedMemoryInKB()}
 	 */
+	@Deprecated
 	public static long getFreeMemoryForAppInKB()
+	{
+		return getUsedMemoryInKB();
+	}
+
+	/**
+	 * Gets the used memory in kilobytes of the application, that is the total memory minus the
+	 * free memory. For the usage of the single memory pools see {@link MemoryTelemetry}
+	 *
+	 * @return Returns the used memory in kilobytes of the application.
+	 */
+	public static long getUsedMemoryInKB()
 	{
 		return (Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory()) / 1024;
 	}
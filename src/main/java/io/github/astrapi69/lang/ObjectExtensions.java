@@ -91,7 +91,7 @@ public final class ObjectExtensions
 		{
 			return null;
 		}
-		return ClassExtensions.getClassType(clazz);
+		return ClassMetadata.of(clazz).getClassType();
 	}
 
 }
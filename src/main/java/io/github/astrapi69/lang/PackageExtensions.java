@@ -20,6 +20,11 @@
  */
 package io.github.astrapi69.lang;
 
+import java.util.List;
+
+import io.github.astrapi69.lang.model.ClassModel;
+import io.github.astrapi69.lang.resource.ClassScanner;
+import io.github.astrapi69.lang.resource.ResourceIndex;
 import lombok.NonNull;
 
 /**
@@ -173,4 +178,24 @@ public final class PackageExtensions
 		return getPackagePathWithSlash(object.getClass());
 	}
 
+	/**
+	 * Gets the models of the classes in the given package from the class files of the class path
+	 * without loading the classes. The class files are looked up in the default
+	 * {@link ResourceIndex} that is built on the first call and is not refreshed, so a class file
+	 * that is added after the first call is not found until {@link ResourceIndex#refresh()} is
+	 * called on the default instance or it watches its class directories
+	 *
+	 * @param packageName
+	 *            the name of the package, for instance 'io.github.astrapi69.lang'
+	 * @param recursive
+	 *            the flag if the classes of the sub packages are returned too
+	 * @return the models of the found classes sorted by the qualified class name
+	 * @see ClassScanner
+	 */
+	public static List<ClassModel> getClassModels(final @NonNull String packageName,
+		final boolean recursive)
+	{
+		return new ClassScanner(ResourceIndex.getDefault()).scan(packageName, recursive);
+	}
+
 }
@@ -0,0 +1,473 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The class {@link ResolvedTypeGraph} holds the resolved type arguments of all generic super
+ * classes and interfaces of a class. The graph is built once for each class and cached in a
+ * {@link ClassValue}, the graph of a class is built from the already resolved graphs of its direct
+ * super class and interfaces. <br>
+ * <br>
+ * Type arguments are resolved through abstract middle classes, nested {@link ParameterizedType}
+ * and {@link GenericArrayType} objects and wildcards. For instance, the type argument of
+ * {@code Handler<T>} can be resolved from a class that extends an abstract class which implements
+ * {@code Handler<T>} with its own type variable.
+ */
+public final class ResolvedTypeGraph
+{
+
+	/** The cache that holds the {@link ResolvedTypeGraph} for each class */
+	private static final ClassValue<ResolvedTypeGraph> CACHE = new ClassValue<>()
+	{
+		@Override
+		protected ResolvedTypeGraph computeValue(final Class<?> type)
+		{
+			return new ResolvedTypeGraph(type);
+		}
+	};
+
+	/** The base class of the class from {@link ClassExtensions#getBaseClass(Class)} */
+	private final Class<?> baseClass;
+
+	/** The resolved raw classes of the type arguments for each super type */
+	private final Map<Class<?>, List<Class<?>>> typeArguments;
+
+	/** The resolved type arguments for each super type */
+	private final Map<Class<?>, Type[]> types;
+
+	/**
+	 * Private constructor that builds the graph of the given class
+	 *
+	 * @param clazz
+	 *            the class
+	 */
+	private ResolvedTypeGraph(final Class<?> clazz)
+	{
+		final Map<Class<?>, Type[]> resolvedTypes = new HashMap<>();
+		resolvedTypes.put(clazz, clazz.getTypeParameters());
+		final Type genericSuperclass = clazz.getGenericSuperclass();
+		if (genericSuperclass != null)
+		{
+			addSupertype(resolvedTypes, genericSuperclass);
+		}
+		for (final Type genericInterface : clazz.getGenericInterfaces())
+		{
+			addSupertype(resolvedTypes, genericInterface);
+		}
+		final Map<Class<?>, List<Class<?>>> resolvedClasses = new HashMap<>();
+		for (final Map.Entry<Class<?>, Type[]> entry : resolvedTypes.entrySet())
+		{
+			final Type[] arguments = entry.getValue();
+			final Class<?>[] classes = new Class<?>[arguments.length];
+			for (int i = 0; i < arguments.length; i++)
+			{
+				classes[i] = TypeArgumentsExtensions.getClass(arguments[i]);
+			}
+			resolvedClasses.put(entry.getKey(),
+				Collections.unmodifiableList(Arrays.asList(classes)));
+		}
+		this.baseClass = ClassExtensions.getBaseClass(clazz);
+		this.types = resolvedTypes;
+		this.typeArguments = resolvedClasses;
+	}
+
+	/**
+	 * Gets the cached {@link ResolvedTypeGraph} of the given class. The graph is built only on the
+	 * first call for a class
+	 *
+	 * @param clazz
+	 *            the class
+	 * @return the cached {@link ResolvedTypeGraph} of the given class
+	 */
+	public static ResolvedTypeGraph of(final Class<?> clazz)
+	{
+		return CACHE.get(clazz);
+	}
+
+	private static void addSupertype(final Map<Class<?>, Type[]> resolvedTypes,
+		final Type supertype)
+	{
+		final Class<?> rawType = TypeArgumentsExtensions.getClass(supertype);
+		if (rawType == null)
+		{
+			return;
+		}
+		final Map<TypeVariable<?>, Type> bindings = new HashMap<>();
+		if (supertype instanceof ParameterizedType)
+		{
+			final Type[] actualTypeArguments = ((ParameterizedType)supertype)
+				.getActualTypeArguments();
+			final TypeVariable<?>[] typeParameters = rawType.getTypeParameters();
+			for (int i = 0; i < actualTypeArguments.length && i < typeParameters.length; i++)
+			{
+				bindings.put(typeParameters[i], actualTypeArguments[i]);
+			}
+		}
+		for (final Map.Entry<Class<?>, Type[]> entry : of(rawType).types.entrySet())
+		{
+			if (!resolvedTypes.containsKey(entry.getKey()))
+			{
+				resolvedTypes.put(entry.getKey(), substitute(entry.getValue(), bindings));
+			}
+		}
+	}
+
+	private static Type[] substitute(final Type[] types, final Map<TypeVariable<?>, Type> bindings)
+	{
+		if (bindings.isEmpty() || types.length == 0)
+		{
+			return types;
+		}
+		final Type[] substituted = new Type[types.length];
+		for (int i = 0; i < types.length; i++)
+		{
+			substituted[i] = substitute(types[i], bindings);
+		}
+		return substituted;
+	}
+
+	private static Type substitute(final Type type, final Map<TypeVariable<?>, Type> bindings)
+	{
+		if (type instanceof TypeVariable)
+		{
+			final Type bound = bindings.get(type);
+			return bound != null ? bound : type;
+		}
+		if (type instanceof ParameterizedType)
+		{
+			final ParameterizedType parameterizedType = (ParameterizedType)type;
+			final Type[] arguments = parameterizedType.getActualTypeArguments();
+			final Type[] substitutedArguments = substitute(arguments, bindings);
+			final Type ownerType = parameterizedType.getOwnerType();
+			final Type substitutedOwnerType = ownerType != null
+				? substitute(ownerType, bindings)
+				: null;
+			if (Arrays.equals(arguments, substitutedArguments) && ownerType == substitutedOwnerType)
+			{
+				return type;
+			}
+			return new ResolvedParameterizedType((Class<?>)parameterizedType.getRawType(),
+				substitutedArguments, substitutedOwnerType);
+		}
+		if (type instanceof GenericArrayType)
+		{
+			final Type componentType = ((GenericArrayType)type).getGenericComponentType();
+			final Type substitutedComponentType = substitute(componentType, bindings);
+			if (substitutedComponentType instanceof Class)
+			{
+				return Array.newInstance((Class<?>)substitutedComponentType, 0).getClass();
+			}
+			if (substitutedComponentType == componentType)
+			{
+				return type;
+			}
+			return new ResolvedGenericArrayType(substitutedComponentType);
+		}
+		if (type instanceof WildcardType)
+		{
+			final WildcardType wildcardType = (WildcardType)type;
+			final Type[] upperBounds = wildcardType.getUpperBounds();
+			final Type[] lowerBounds = wildcardType.getLowerBounds();
+			final Type[] substitutedUpperBounds = substitute(upperBounds, bindings);
+			final Type[] substitutedLowerBounds = substitute(lowerBounds, bindings);
+			if (Arrays.equals(upperBounds, substitutedUpperBounds)
+				&& Arrays.equals(lowerBounds, substitutedLowerBounds))
+			{
+				return type;
+			}
+			return new ResolvedWildcardType(substitutedUpperBounds, substitutedLowerBounds);
+		}
+		return type;
+	}
+
+	/**
+	 * Gets the base class of the class of this graph, that is the class that directly extends
+	 * {@link Object}. The base class is resolved once when the graph is built
+	 *
+	 * @return the base class of the class of this graph
+	 */
+	public Class<?> getBaseClass()
+	{
+		return baseClass;
+	}
+
+	/**
+	 * Gets all classes and interfaces of the graph, this includes the class itself
+	 *
+	 * @return an unmodifiable {@link Set} with all classes and interfaces of the graph
+	 */
+	public Set<Class<?>> getSupertypes()
+	{
+		return Collections.unmodifiableSet(types.keySet());
+	}
+
+	/**
+	 * Checks if the given class or interface is contained in the graph
+	 *
+	 * @param baseClass
+	 *            the base class or interface
+	 * @return true, if the given class or interface is contained in the graph otherwise false
+	 */
+	public boolean contains(final Class<?> baseClass)
+	{
+		return types.containsKey(baseClass);
+	}
+
+	/**
+	 * Gets the resolved type arguments of the given base class or interface. Type arguments that
+	 * could not be resolved are returned as {@link TypeVariable} objects
+	 *
+	 * @param baseClass
+	 *            the base class or interface
+	 * @return a copy of the resolved type arguments or an empty array if the given base class is
+	 *         not contained in the graph
+	 */
+	public Type[] getResolvedTypes(final Class<?> baseClass)
+	{
+		final Type[] resolved = types.get(baseClass);
+		return resolved != null ? resolved.clone() : new Type[0];
+	}
+
+	/**
+	 * Gets the raw classes of the resolved type arguments of the given base class or interface
+	 *
+	 * @param baseClass
+	 *            the base class or interface
+	 * @return an unmodifiable list of the raw classes of the resolved type arguments or an empty
+	 *         list if the given base class is not contained in the graph
+	 */
+	public List<Class<?>> getTypeArguments(final Class<?> baseClass)
+	{
+		final List<Class<?>> classes = typeArguments.get(baseClass);
+		return classes != null ? classes : Collections.emptyList();
+	}
+
+	/**
+	 * Gets the raw class of the resolved type argument of the given base class or interface at the
+	 * given index
+	 *
+	 * @param baseClass
+	 *            the base class or interface
+	 * @param index
+	 *            the index of the type argument
+	 * @return the raw class of the resolved type argument or null if it does not exist
+	 */
+	public Class<?> getTypeArgument(final Class<?> baseClass, final int index)
+	{
+		final List<Class<?>> classes = getTypeArguments(baseClass);
+		if (0 <= index && index < classes.size())
+		{
+			return classes.get(index);
+		}
+		return null;
+	}
+
+	/**
+	 * The class {@link ResolvedParameterizedType} is a {@link ParameterizedType} with substituted
+	 * type arguments
+	 */
+	private static final class ResolvedParameterizedType implements ParameterizedType
+	{
+
+		private final Type[] actualTypeArguments;
+
+		private final Type ownerType;
+
+		private final Class<?> rawType;
+
+		ResolvedParameterizedType(final Class<?> rawType, final Type[] actualTypeArguments,
+			final Type ownerType)
+		{
+			this.rawType = rawType;
+			this.actualTypeArguments = actualTypeArguments;
+			this.ownerType = ownerType;
+		}
+
+		@Override
+		public Type[] getActualTypeArguments()
+		{
+			return actualTypeArguments.clone();
+		}
+
+		@Override
+		public Type getRawType()
+		{
+			return rawType;
+		}
+
+		@Override
+		public Type getOwnerType()
+		{
+			return ownerType;
+		}
+
+		@Override
+		public boolean equals(final Object object)
+		{
+			if (!(object instanceof ParameterizedType))
+			{
+				return false;
+			}
+			final ParameterizedType other = (ParameterizedType)object;
+			return rawType.equals(other.getRawType())
+				&& Objects.equals(ownerType, other.getOwnerType())
+				&& Arrays.equals(actualTypeArguments, other.getActualTypeArguments());
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return Arrays.hashCode(actualTypeArguments) ^ Objects.hashCode(ownerType)
+				^ rawType.hashCode();
+		}
+
+		@Override
+		public String toString()
+		{
+			final StringBuilder sb = new StringBuilder(rawType.getTypeName()).append('<');
+			for (int i = 0; i < actualTypeArguments.length; i++)
+			{
+				if (0 < i)
+				{
+					sb.append(", ");
+				}
+				sb.append(actualTypeArguments[i].getTypeName());
+			}
+			return sb.append('>').toString();
+		}
+	}
+
+	/**
+	 * The class {@link ResolvedGenericArrayType} is a {@link GenericArrayType} with a substituted
+	 * component type
+	 */
+	private static final class ResolvedGenericArrayType implements GenericArrayType
+	{
+
+		private final Type genericComponentType;
+
+		ResolvedGenericArrayType(final Type genericComponentType)
+		{
+			this.genericComponentType = genericComponentType;
+		}
+
+		@Override
+		public Type getGenericComponentType()
+		{
+			return genericComponentType;
+		}
+
+		@Override
+		public boolean equals(final Object object)
+		{
+			return object instanceof GenericArrayType && genericComponentType
+				.equals(((GenericArrayType)object).getGenericComponentType());
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return genericComponentType.hashCode();
+		}
+
+		@Override
+		public String toString()
+		{
+			return genericComponentType.getTypeName() + "[]";
+		}
+	}
+
+	/**
+	 * The class {@link ResolvedWildcardType} is a {@link WildcardType} with substituted bounds
+	 */
+	private static final class ResolvedWildcardType implements WildcardType
+	{
+
+		private final Type[] lowerBounds;
+
+		private final Type[] upperBounds;
+
+		ResolvedWildcardType(final Type[] upperBounds, final Type[] lowerBounds)
+		{
+			this.upperBounds = upperBounds;
+			this.lowerBounds = lowerBounds;
+		}
+
+		@Override
+		public Type[] getUpperBounds()
+		{
+			return upperBounds.clone();
+		}
+
+		@Override
+		public Type[] getLowerBounds()
+		{
+			return lowerBounds.clone();
+		}
+
+		@Override
+		public boolean equals(final Object object)
+		{
+			if (!(object instanceof WildcardType))
+			{
+				return false;
+			}
+			final WildcardType other = (WildcardType)object;
+			return Arrays.equals(upperBounds, other.getUpperBounds())
+				&& Arrays.equals(lowerBounds, other.getLowerBounds());
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return Arrays.hashCode(upperBounds) ^ Arrays.hashCode(lowerBounds);
+		}
+
+		@Override
+		public String toString()
+		{
+			if (0 < lowerBounds.length)
+			{
+				return "? super " + lowerBounds[0].getTypeName();
+			}
+			if (0 < upperBounds.length && !Object.class.equals(upperBounds[0]))
+			{
+				return "? extends " + upperBounds[0].getTypeName();
+			}
+			return "?";
+		}
+	}
+
+}
@@ -25,7 +25,7 @@ import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
-import java.util.ArrayList;
+import java.lang.reflect.WildcardType;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -125,9 +125,18 @@ public final class TypeArgumentsExtensions
 				return null;
 			}
 		}
+		else if (type instanceof WildcardType)
+		{
+			Type[] upperBounds = ((WildcardType)type).getUpperBounds();
+			if (0 < upperBounds.length)
+			{
+				return getClass(upperBounds[0]);
+			}
+			return Object.class;
+		}
 		else if (type instanceof TypeVariable)
 		{
-			TypeVariable typeVariable = (TypeVariable)type;
+			TypeVariable<?> typeVariable = (TypeVariable<?>)type;
 			Type[] bounds = typeVariable.getBounds();
 			if (bounds.length == 1)
 			{
@@ -176,7 +185,8 @@ public final class TypeArgumentsExtensions
 
 	/**
 	 * Gets the type argument from the childClass at the given index or null if it does not exist
-	 * The base class will be resolved.
+	 * The base class will be resolved once and is cached in the {@link ResolvedTypeGraph} of the
+	 * child class.
 	 *
 	 * @param <T>
 	 *            the generic type of the baseClass
@@ -186,11 +196,11 @@ public final class TypeArgumentsExtensions
 	 *            the index of the type argument
 	 * @return the type argument from the childClass at the given index or null if it does not exist
 	 */
+	@SuppressWarnings("unchecked")
 	public static <T> Class<?> getTypeArgument(final @NonNull Class<? extends T> childClass,
 		final int index)
 	{
-		@SuppressWarnings("unchecked")
-		Class<T> baseClass = (Class<T>)ClassExtensions.getBaseClass(childClass);
+		Class<T> baseClass = (Class<T>)ResolvedTypeGraph.of(childClass).getBaseClass();
 		return getTypeArgument(baseClass, childClass, index);
 	}
 
@@ -230,79 +240,29 @@ public final class TypeArgumentsExtensions
 	@SuppressWarnings("unchecked")
 	public static <T> List<Class<?>> getTypeArguments(final @NonNull Class<? extends T> childClass)
 	{
-		Class<T> baseClass = (Class<T>)ClassExtensions.getBaseClass(childClass);
+		Class<T> baseClass = (Class<T>)ResolvedTypeGraph.of(childClass).getBaseClass();
 		return getTypeArguments(baseClass, childClass);
 	}
 
 	/**
-	 * Get the actual type arguments a child class has used to extend a generic base class.
+	 * Get the actual type arguments a child class has used to extend a generic base class or to
+	 * implement a generic interface. The type arguments are read from the cached
+	 * {@link ResolvedTypeGraph} of the child class, so repeated calls return the same unmodifiable
+	 * list.
 	 *
 	 * @param <T>
 	 *            the generic type of the baseClass
 	 * @param baseClass
-	 *            the base class
+	 *            the base class or interface
 	 * @param childClass
 	 *            the child class
-	 * @return a list of the raw classes for the actual type arguments.
+	 * @return an unmodifiable list of the raw classes for the actual type arguments or an empty
+	 *         list if the child class does not extend or implement the given base class
 	 */
-	@SuppressWarnings("unchecked")
 	public static <T> List<Class<?>> getTypeArguments(final @NonNull Class<T> baseClass,
 		final @NonNull Class<? extends T> childClass)
 	{
-		Class<T> realBaseClass = baseClass;
-		// handle interface case
-		if (realBaseClass.isInterface())
-		{
-			realBaseClass = (Class<T>)ClassExtensions.getBaseClass(childClass);
-		}
-		final Map<Type, Type> resolvedTypes = new HashMap<>();
-		Type type = childClass;
-		// start walking up the inheritance hierarchy until we hit baseClass
-		while (!getClass(type).equals(realBaseClass))
-		{
-			if (type instanceof Class)
-			{
-				// there is no useful information for us in raw types, so just
-				// keep going.
-				type = ((Class<?>)type).getGenericSuperclass();
-			}
-			else
-			{
-				final ParameterizedType parameterizedType = (ParameterizedType)type;
-				final Class<?> rawType = (Class<?>)parameterizedType.getRawType();
-
-				resolvedTypes.putAll(getTypeArgumentsAndParameters(parameterizedType));
-
-				if (!rawType.equals(realBaseClass))
-				{
-					type = rawType.getGenericSuperclass();
-				}
-			}
-		}
-
-		// finally, for each actual type argument provided to baseClass,
-		// determine (if possible)
-		// the raw class for that type argument.
-		Type[] actualTypeArguments;
-		if (type instanceof Class)
-		{
-			actualTypeArguments = ((Class<?>)type).getTypeParameters();
-		}
-		else
-		{
-			actualTypeArguments = ((ParameterizedType)type).getActualTypeArguments();
-		}
-		final List<Class<?>> typeArgumentsAsClasses = new ArrayList<>();
-		// resolve types by chasing down type variables.
-		for (Type baseType : actualTypeArguments)
-		{
-			while (resolvedTypes.containsKey(baseType))
-			{
-				baseType = resolvedTypes.get(baseType);
-			}
-			typeArgumentsAsClasses.add(getClass(baseType));
-		}
-		return typeArgumentsAsClasses;
+		return ResolvedTypeGraph.of(childClass).getTypeArguments(baseClass);
 	}
 
 	/**
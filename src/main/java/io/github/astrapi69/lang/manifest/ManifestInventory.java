@@ -0,0 +1,148 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.manifest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The class {@link ManifestInventory} holds the {@link ManifestVersion} objects of a set of JAR,
+ * WAR or EAR files and class directories. The versions are indexed by their location and by the
+ * value of the attribute {@code Implementation-Title}. A title can occur several times if the same
+ * library is found in several locations. An inventory is created from the scan methods of
+ * {@link ManifestVersionFactory}
+ */
+public final class ManifestInventory
+{
+
+	/** The versions with the location as key in the order of the scan */
+	private final Map<String, ManifestVersion> locations;
+
+	/** The versions with the title as key */
+	private final Map<String, List<ManifestVersion>> titles;
+
+	/** The error messages with the location as key of the locations that could not be read */
+	private final Map<String, String> failures;
+
+	/**
+	 * Instantiates a new {@link ManifestInventory} object
+	 *
+	 * @param locations
+	 *            the versions with the location as key
+	 * @param failures
+	 *            the error messages with the location as key of the locations that could not be
+	 *            read
+	 */
+	ManifestInventory(final Map<String, ManifestVersion> locations,
+		final Map<String, String> failures)
+	{
+		final Map<String, List<ManifestVersion>> titleIndex = new LinkedHashMap<>();
+		for (final ManifestVersion version : locations.values())
+		{
+			final String title = version.getTitle();
+			if (title != null && !title.isEmpty())
+			{
+				titleIndex.computeIfAbsent(title, key -> new ArrayList<>(1)).add(version);
+			}
+		}
+		titleIndex.replaceAll((title, versions) -> List.copyOf(versions));
+		this.locations = Collections.unmodifiableMap(new LinkedHashMap<>(locations));
+		this.titles = Collections.unmodifiableMap(titleIndex);
+		this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+	}
+
+	/**
+	 * Gets the first found version with the given title
+	 *
+	 * @param title
+	 *            the value of the attribute {@code Implementation-Title}
+	 * @return the first found version with the given title or null if not found
+	 */
+	public ManifestVersion get(final String title)
+	{
+		final List<ManifestVersion> versions = titles.get(title);
+		return versions != null ? versions.get(0) : null;
+	}
+
+	/**
+	 * Gets all found versions with the given title
+	 *
+	 * @param title
+	 *            the value of the attribute {@code Implementation-Title}
+	 * @return all found versions with the given title or an empty list if not found
+	 */
+	public List<ManifestVersion> getAll(final String title)
+	{
+		return titles.getOrDefault(title, List.of());
+	}
+
+	/**
+	 * Gets all found titles
+	 *
+	 * @return all found titles in the order of the scan
+	 */
+	public Set<String> getTitles()
+	{
+		return titles.keySet();
+	}
+
+	/**
+	 * Gets the versions of all scanned locations
+	 *
+	 * @return an unmodifiable map with the versions and the location as key
+	 */
+	public Map<String, ManifestVersion> getLocations()
+	{
+		return locations;
+	}
+
+	/**
+	 * Gets the error messages of the locations that could not be read
+	 *
+	 * @return an unmodifiable map with the error messages and the location as key
+	 */
+	public Map<String, String> getFailures()
+	{
+		return failures;
+	}
+
+	/**
+	 * Gets the number of scanned locations that could be read
+	 *
+	 * @return the number of scanned locations that could be read
+	 */
+	public int size()
+	{
+		return locations.size();
+	}
+
+	@Override
+	public String toString()
+	{
+		return "ManifestInventory(locations=" + locations.size() + ", titles=" + titles.keySet()
+			+ ", failures=" + failures.keySet() + ")";
+	}
+
+}
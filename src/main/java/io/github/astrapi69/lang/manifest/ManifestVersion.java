@@ -59,12 +59,42 @@ public class ManifestVersion implements Serializable
 	/** The manifest. */
 	Manifest manifest;
 
-	/** The title. */
+	/** The title, resolved lazily from the manifest if not set. */
 	String title;
 
-	/** The version number. */
+	/** The version number, resolved lazily from the manifest if not set. */
 	String version;
 
+	/**
+	 * Gets the title. If no title is set, the title is resolved once from the attribute
+	 * {@code Implementation-Title} of the manifest.
+	 *
+	 * @return the title
+	 */
+	public String getTitle()
+	{
+		if (title == null && manifest != null)
+		{
+			title = getManifestAttribute(Attributes.Name.IMPLEMENTATION_TITLE);
+		}
+		return title;
+	}
+
+	/**
+	 * Gets the version number. If no version number is set, the version number is resolved once
+	 * from the attribute {@code Implementation-Version} of the manifest.
+	 *
+	 * @return the version number
+	 */
+	public String getVersion()
+	{
+		if (version == null && manifest != null)
+		{
+			version = getManifestAttribute(Attributes.Name.IMPLEMENTATION_VERSION);
+		}
+		return version;
+	}
+
 	/**
 	 * Gets the manifest attribute value from the given {@code Attributes.Name} object.
 	 *
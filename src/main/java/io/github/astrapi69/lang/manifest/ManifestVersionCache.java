@@ -0,0 +1,317 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.manifest;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Manifest;
+
+/**
+ * The class {@link ManifestVersionCache} caches the {@link ManifestVersion} of each code source
+ * location, so the manifest file of a JAR, WAR or EAR file or of a class directory is parsed only
+ * once. <br>
+ * <br>
+ * For code sources in the file system the last modified time of the archive or of the manifest
+ * file of the class directory is checked on every lookup and a changed file is parsed again. Code
+ * sources with other protocols are cached until they are invalidated. <br>
+ * <br>
+ * The title and the version of a cached {@link ManifestVersion} are resolved when it is cached and
+ * every lookup returns an own copy of it. The {@link Manifest} of the copy is copied only on the
+ * first call of {@link ManifestVersion#getManifest()}, so a lookup that only reads the title or
+ * the version does not copy the manifest and a caller that modifies the returned object does not
+ * change the result of other callers.
+ */
+public final class ManifestVersionCache
+{
+
+	/** The value of the last modified time if the file does not exist or has no file system */
+	private static final long UNKNOWN = -1L;
+
+	/** The default instance that is used from {@link ManifestVersionFactory#get(Class)} */
+	private static volatile ManifestVersionCache defaultInstance = new ManifestVersionCache();
+
+	/** The cached entries with the code source location as key */
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Gets the default {@link ManifestVersionCache} instance
+	 *
+	 * @return the default {@link ManifestVersionCache} instance
+	 */
+	public static ManifestVersionCache getDefault()
+	{
+		return defaultInstance;
+	}
+
+	/**
+	 * Sets the given {@link ManifestVersionCache} as the default instance
+	 *
+	 * @param manifestVersionCache
+	 *            the new default {@link ManifestVersionCache} instance
+	 */
+	public static void setDefault(final ManifestVersionCache manifestVersionCache)
+	{
+		defaultInstance = Objects.requireNonNull(manifestVersionCache);
+	}
+
+	/**
+	 * Gets the {@link ManifestVersion} of the code source that contains the given class
+	 *
+	 * @param clazz
+	 *            the class
+	 * @return a copy of the cached manifest version
+	 */
+	public ManifestVersion get(final Class<?> clazz)
+	{
+		Objects.requireNonNull(clazz);
+		final URL location = getCodeSourceLocation(clazz);
+		if (location == null)
+		{
+			// no code source, fall back to the resource of the class itself
+			final String manifestUrl = ManifestVersionFactory.getManifestUrl(clazz);
+			final String key = manifestUrl != null ? manifestUrl : clazz.getName();
+			return entries
+				.computeIfAbsent(key, k -> new Entry(UNKNOWN, ManifestVersionFactory.read(clazz)))
+				.getVersion();
+		}
+		return get(location);
+	}
+
+	/**
+	 * Gets the {@link ManifestVersion} of the given code source location
+	 *
+	 * @param location
+	 *            the location of the JAR, WAR or EAR file or of the class directory
+	 * @return a copy of the cached manifest version
+	 */
+	public ManifestVersion get(final URL location)
+	{
+		Objects.requireNonNull(location);
+		final String key = location.toString();
+		final Path path = toPath(location);
+		if (path == null)
+		{
+			return entries.computeIfAbsent(key, k -> new Entry(UNKNOWN, readNonFile(location)))
+				.getVersion();
+		}
+		final long lastModified = getLastModified(path);
+		final Entry entry = entries.get(key);
+		if (entry != null && entry.getLastModified() == lastModified)
+		{
+			return entry.getVersion();
+		}
+		final Entry newEntry = new Entry(lastModified, ManifestVersionFactory.ofPath(path));
+		entries.put(key, newEntry);
+		return newEntry.getVersion();
+	}
+
+	/**
+	 * Removes the cached {@link ManifestVersion} of the given code source location
+	 *
+	 * @param location
+	 *            the location of the JAR, WAR or EAR file or of the class directory
+	 */
+	public void invalidate(final URL location)
+	{
+		entries.remove(Objects.requireNonNull(location).toString());
+	}
+
+	/**
+	 * Removes all cached entries
+	 */
+	public void clear()
+	{
+		entries.clear();
+	}
+
+	/**
+	 * Gets the number of cached entries
+	 *
+	 * @return the number of cached entries
+	 */
+	public int size()
+	{
+		return entries.size();
+	}
+
+	private static URL getCodeSourceLocation(final Class<?> clazz)
+	{
+		try
+		{
+			final CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+			return codeSource != null ? codeSource.getLocation() : null;
+		}
+		catch (final SecurityException e)
+		{
+			return null;
+		}
+	}
+
+	private static Path toPath(final URL location)
+	{
+		if (!"file".equals(location.getProtocol()))
+		{
+			return null;
+		}
+		try
+		{
+			return Path.of(location.toURI());
+		}
+		catch (final URISyntaxException | IllegalArgumentException e)
+		{
+			return null;
+		}
+	}
+
+	private static long getLastModified(final Path path)
+	{
+		try
+		{
+			final Path file = Files.isDirectory(path)
+				? path.resolve(ManifestVersionFactory.MANIFEST_PATH)
+				: path;
+			return Files.getLastModifiedTime(file).toMillis();
+		}
+		catch (final IOException e)
+		{
+			return UNKNOWN;
+		}
+	}
+
+	private static ManifestVersion readNonFile(final URL location)
+	{
+		final String locationString = location.toString();
+		try
+		{
+			if (locationString.endsWith("!/"))
+			{
+				// a nested archive like jar:file:/app.jar!/lib/library.jar!/
+				return ManifestVersionFactory
+					.of(new URL(locationString + ManifestVersionFactory.MANIFEST_PATH));
+			}
+			if (locationString.endsWith(".jar") || locationString.endsWith(".war")
+				|| locationString.endsWith(".ear"))
+			{
+				return ManifestVersionFactory.of(
+					new URL("jar:" + locationString + "!/" + ManifestVersionFactory.MANIFEST_PATH));
+			}
+		}
+		catch (final MalformedURLException e)
+		{
+			// no manifest url for the location
+		}
+		return ManifestVersionFactory.of(null);
+	}
+
+	/**
+	 * The class {@link Entry} holds a cached {@link ManifestVersion} with the last modified time
+	 * of its file
+	 */
+	private static final class Entry
+	{
+
+		/** The last modified time of the file in milliseconds */
+		private final long lastModified;
+
+		/** The manifest version with the resolved title and version, it is never handed out */
+		private final ManifestVersion version;
+
+		private Entry(final long lastModified, final ManifestVersion version)
+		{
+			this.lastModified = lastModified;
+			// the lazy attributes are resolved before the entry is published
+			version.getTitle();
+			version.getVersion();
+			this.version = version;
+		}
+
+		private long getLastModified()
+		{
+			return lastModified;
+		}
+
+		private ManifestVersion getVersion()
+		{
+			return new CachedManifestVersion(version);
+		}
+
+	}
+
+	/**
+	 * The class {@link CachedManifestVersion} is the copy of a cached {@link ManifestVersion} that
+	 * is handed out from a lookup. The shared {@link Manifest} of the cached entry is copied on the
+	 * first call of {@link #getManifest()}
+	 */
+	private static final class CachedManifestVersion extends ManifestVersion
+	{
+
+		/** The serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** The shared manifest of the cached entry or null if it is already copied or replaced */
+		private transient Manifest shared;
+
+		private CachedManifestVersion(final ManifestVersion version)
+		{
+			super(version.getLastModified(), null, version.getTitle(), version.getVersion());
+			this.shared = version.getManifest();
+		}
+
+		@Override
+		public Manifest getManifest()
+		{
+			if (shared != null)
+			{
+				super.setManifest(new Manifest(shared));
+				shared = null;
+			}
+			return super.getManifest();
+		}
+
+		@Override
+		public void setManifest(final Manifest manifest)
+		{
+			shared = null;
+			super.setManifest(manifest);
+		}
+
+		@Override
+		public ManifestVersionBuilder toBuilder()
+		{
+			return super.toBuilder().manifest(getManifest());
+		}
+
+		private Object writeReplace()
+		{
+			return toBuilder().build();
+		}
+
+	}
+
+}
@@ -21,16 +21,29 @@
 package io.github.astrapi69.lang.manifest;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.jar.Attributes;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.jar.JarFile;
 import java.util.jar.Manifest;
+import java.util.stream.Collectors;
 
 import io.github.astrapi69.lang.ClassExtensions;
+import io.github.astrapi69.lang.resource.ClasspathLocations;
+import io.github.astrapi69.lang.thread.ThreadExtensions;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 
@@ -42,15 +55,33 @@ import lombok.experimental.UtilityClass;
 public class ManifestVersionFactory
 {
 
+	/** The path of the manifest file in a JAR, WAR or EAR file or in a class directory */
+	public static final String MANIFEST_PATH = "META-INF/MANIFEST.MF";
+
 	/**
 	 * Returns a ManifestVersion object by reading the manifest file from the JAR, WAR or EAR file
-	 * that contains the given class.
+	 * that contains the given class. The manifest is parsed once for each code source and cached in
+	 * the default {@link ManifestVersionCache}. The returned object is an own copy of the cached
+	 * manifest version, so it can be modified without changing the result of other callers.
 	 *
 	 * @param clazz
 	 *            the clazz
 	 * @return the manifest version
 	 */
 	public static ManifestVersion get(final Class<?> clazz)
+	{
+		return ManifestVersionCache.getDefault().get(clazz);
+	}
+
+	/**
+	 * Returns a ManifestVersion object by reading the manifest file from the JAR, WAR or EAR file
+	 * that contains the given class without the cache.
+	 *
+	 * @param clazz
+	 *            the clazz
+	 * @return the manifest version
+	 */
+	static ManifestVersion read(final Class<?> clazz)
 	{
 		final String manifestUrl = ManifestVersionFactory.getManifestUrl(clazz);
 		try
@@ -63,6 +94,131 @@ public class ManifestVersionFactory
 		}
 	}
 
+	/**
+	 * Creates a new {@code ManifestVersion} object from the given JAR, WAR or EAR file or from the
+	 * given class directory. The manifest of a class directory is read over NIO and the manifest of
+	 * an archive is read from its central directory without reading the other entries.
+	 *
+	 * @param location
+	 *            the path of the archive or of the class directory
+	 * @return the manifest version, without manifest if the location has no manifest file
+	 */
+	public static ManifestVersion ofPath(final Path location)
+	{
+		final ManifestVersion version = new ManifestVersion();
+		try
+		{
+			if (Files.isDirectory(location))
+			{
+				final Path manifestFile = location.resolve(MANIFEST_PATH);
+				if (Files.isRegularFile(manifestFile))
+				{
+					version.setLastModified(
+						toLocalDateTime(Files.getLastModifiedTime(manifestFile)));
+					try (InputStream inputStream = Files.newInputStream(manifestFile))
+					{
+						version.setManifest(new Manifest(inputStream));
+					}
+				}
+			}
+			else if (Files.isRegularFile(location))
+			{
+				version.setLastModified(toLocalDateTime(Files.getLastModifiedTime(location)));
+				try (JarFile jarFile = new JarFile(location.toFile(), false))
+				{
+					version.setManifest(jarFile.getManifest());
+				}
+			}
+		}
+		catch (final IOException e)
+		{
+			throw new RuntimeException("Error while try to load manifest file from " + location,
+				e);
+		}
+		return version;
+	}
+
+	/**
+	 * Scans all JAR, WAR and EAR files and class directories of the class path and of the module
+	 * path in parallel and creates an inventory of their manifest versions.
+	 *
+	 * @return the inventory of the manifest versions
+	 */
+	public static ManifestInventory scanClasspath()
+	{
+		return scan(ClasspathLocations.get());
+	}
+
+	/**
+	 * Scans all JAR, WAR and EAR files in the given directory in parallel and creates an inventory
+	 * of their manifest versions.
+	 *
+	 * @param directory
+	 *            the directory with the archives
+	 * @return the inventory of the manifest versions
+	 */
+	public static ManifestInventory scanDirectory(final Path directory)
+	{
+		return scan(ClasspathLocations.getArchives(directory));
+	}
+
+	/**
+	 * Scans the given JAR, WAR and EAR files and class directories in parallel and creates an
+	 * inventory of their manifest versions. A location that could not be read is reported in
+	 * {@link ManifestInventory#getFailures()} and does not fail the scan.
+	 *
+	 * @param locations
+	 *            the paths of the archives and class directories
+	 * @return the inventory of the manifest versions
+	 */
+	public static ManifestInventory scan(final Collection<Path> locations)
+	{
+		final List<Path> paths = locations.stream().distinct().collect(Collectors.toList());
+		final Map<Path, ManifestVersion> versions = new ConcurrentHashMap<>();
+		final Map<Path, String> errors = new ConcurrentHashMap<>();
+		try
+		{
+			// the parallel stream runs in the fork join pool of the callable
+			ThreadExtensions.runCallableWithCpuCores(() -> {
+				paths.parallelStream().forEach(path -> {
+					try
+					{
+						versions.put(path, ofPath(path));
+					}
+					catch (final RuntimeException e)
+					{
+						errors.put(path, String.valueOf(
+							e.getCause() != null ? e.getCause().getMessage() : e.getMessage()));
+					}
+				});
+				return null;
+			}, Math.max(2, ThreadExtensions.getAvailableProcessors()));
+		}
+		catch (final ExecutionException e)
+		{
+			throw new RuntimeException("Error while try to scan the manifest files", e.getCause());
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while try to scan the manifest files", e);
+		}
+		final Map<String, ManifestVersion> inventory = new LinkedHashMap<>();
+		final Map<String, String> failures = new LinkedHashMap<>();
+		for (final Path path : paths)
+		{
+			if (versions.containsKey(path))
+			{
+				inventory.put(path.toString(), versions.get(path));
+			}
+			else if (errors.containsKey(path))
+			{
+				failures.put(path.toString(), errors.get(path));
+			}
+		}
+		return new ManifestInventory(inventory, failures);
+	}
+
 	/**
 	 * Creates a new {@code ManifestVersion} object of the given url.
 	 *
@@ -81,11 +237,10 @@ public class ManifestVersionFactory
 				urlConnection = url.openConnection();
 				version.setLastModified(LocalDateTime.ofInstant(
 					Instant.ofEpochMilli(urlConnection.getLastModified()), ZoneId.systemDefault()));
-				version.setManifest(new Manifest(urlConnection.getInputStream()));
-				version
-					.setTitle(version.getManifestAttribute(Attributes.Name.IMPLEMENTATION_TITLE));
-				version.setVersion(
-					version.getManifestAttribute(Attributes.Name.IMPLEMENTATION_VERSION));
+				try (InputStream inputStream = urlConnection.getInputStream())
+				{
+					version.setManifest(new Manifest(inputStream));
+				}
 			}
 			catch (final IOException e)
 			{
@@ -121,4 +276,9 @@ public class ManifestVersionFactory
 		return manifestUrl;
 	}
 
+	private static LocalDateTime toLocalDateTime(final FileTime fileTime)
+	{
+		return LocalDateTime.ofInstant(fileTime.toInstant(), ZoneId.systemDefault());
+	}
+
 }
@@ -0,0 +1,91 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.memory;
+
+import io.github.astrapi69.check.Argument;
+import io.github.astrapi69.lang.thread.ThreadMetrics;
+
+/**
+ * The class {@link AllocationProfiler} measures how many bytes a code block allocates on the
+ * current thread and how much cpu and wall clock time it uses. The allocated bytes are read from
+ * the extended {@code com.sun.management.ThreadMXBean} if the module 'jdk.management' is present,
+ * otherwise the allocated bytes of the measurement are -1. So a test can check an allocation budget
+ * like
+ *
+ * <pre>
+ * AllocationMeasurement measurement = AllocationProfiler.measureAllocations(handler::handle);
+ * assertTrue(measurement.getAllocatedBytes() &lt; 64 * 1024);
+ * </pre>
+ */
+public final class AllocationProfiler
+{
+
+	/**
+	 * Private constructor for prevent instantiation
+	 */
+	private AllocationProfiler()
+	{
+	}
+
+	/**
+	 * Checks if the allocated bytes can be measured
+	 *
+	 * @return true if the allocated bytes can be measured otherwise false
+	 */
+	public static boolean isSupported()
+	{
+		return ThreadMetrics.isAllocatedBytesSupported();
+	}
+
+	/**
+	 * Opens a new scope that measures the current thread until it is closed
+	 *
+	 * @return the new scope
+	 */
+	public static AllocationScope open()
+	{
+		return new AllocationScope();
+	}
+
+	/**
+	 * Runs the given task on the current thread and measures the allocated bytes, the cpu time and
+	 * the wall clock time
+	 *
+	 * @param task
+	 *            the task to measure
+	 * @return the measurement
+	 */
+	public static AllocationMeasurement measureAllocations(final Runnable task)
+	{
+		Argument.notNull(task, "task");
+		final AllocationScope scope = open();
+		try
+		{
+			task.run();
+		}
+		finally
+		{
+			scope.stop();
+		}
+		return scope.getMeasurement();
+	}
+
+}
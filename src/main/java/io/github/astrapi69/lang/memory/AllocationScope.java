@@ -0,0 +1,119 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.memory;
+
+import io.github.astrapi69.lang.thread.ThreadMetrics;
+
+/**
+ * The class {@link AllocationScope} measures the allocated bytes, the cpu time and the wall clock
+ * time of the current thread from its creation until it is stopped or closed. A scope is created
+ * with {@link AllocationProfiler#open()} and is intended for a try-with-resources statement:
+ *
+ * <pre>
+ * AllocationScope scope = AllocationProfiler.open();
+ * try (scope)
+ * {
+ * 	ClassExtensions.getResources("io/github/astrapi69");
+ * }
+ * long allocatedBytes = scope.getMeasurement().getAllocatedBytes();
+ * </pre>
+ *
+ * Allocations of other threads are not counted
+ */
+public final class AllocationScope implements AutoCloseable
+{
+
+	/** The thread that is measured */
+	private final Thread thread;
+
+	/** The allocated bytes of the thread at the start */
+	private final long startAllocatedBytes;
+
+	/** The cpu time of the thread at the start */
+	private final long startCpuTime;
+
+	/** The value of {@link System#nanoTime()} at the start */
+	private final long startNanoTime;
+
+	/** The measurement, null if the scope is not stopped */
+	private AllocationMeasurement measurement;
+
+	AllocationScope()
+	{
+		this.thread = Thread.currentThread();
+		this.startCpuTime = ThreadMetrics.getCurrentThreadCpuTime();
+		this.startNanoTime = System.nanoTime();
+		// read as last value, so the reads of the other values are not counted
+		this.startAllocatedBytes = ThreadMetrics.getCurrentThreadAllocatedBytes();
+	}
+
+	/**
+	 * Stops the measurement. Further calls return the first measurement
+	 *
+	 * @return the measurement
+	 * @throws IllegalStateException
+	 *             if the scope is stopped from another thread than the thread that created it
+	 */
+	public AllocationMeasurement stop()
+	{
+		if (measurement == null)
+		{
+			// read as first value, so the reads of the other values are not counted
+			final long allocatedBytes = ThreadMetrics.getCurrentThreadAllocatedBytes();
+			final long nanoTime = System.nanoTime();
+			final long cpuTime = ThreadMetrics.getCurrentThreadCpuTime();
+			if (thread != Thread.currentThread())
+			{
+				throw new IllegalStateException(
+					"Allocation scope must be stopped from the thread '" + thread.getName() + "'");
+			}
+			measurement = AllocationMeasurement.builder()
+				.allocatedBytes(delta(startAllocatedBytes, allocatedBytes))
+				.cpuTime(delta(startCpuTime, cpuTime)).wallTime(nanoTime - startNanoTime).build();
+		}
+		return measurement;
+	}
+
+	/**
+	 * Gets the measurement
+	 *
+	 * @return the measurement or null if the scope is not stopped
+	 */
+	public AllocationMeasurement getMeasurement()
+	{
+		return measurement;
+	}
+
+	/**
+	 * Stops the measurement
+	 */
+	@Override
+	public void close()
+	{
+		stop();
+	}
+
+	private static long delta(final long start, final long end)
+	{
+		return start < 0 || end < 0 ? ThreadMetrics.UNSUPPORTED : end - start;
+	}
+
+}
@@ -0,0 +1,71 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.memory;
+
+import java.lang.management.MemoryType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The class {@link MemoryPoolUsage} holds the usage of one memory pool of the virtual machine like
+ * the eden space or the old generation. The values that are not defined are -1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class MemoryPoolUsage
+{
+
+	/** The used bytes after the last garbage collection, -1 if not supported from the pool */
+	private long collectionUsed;
+
+	/** The committed bytes of the pool */
+	private long committed;
+
+	/** The maximum bytes of the pool, -1 if not defined */
+	private long max;
+
+	/** The name of the pool */
+	private String name;
+
+	/** The type of the pool */
+	private MemoryType type;
+
+	/** The used bytes of the pool */
+	private long used;
+
+	/**
+	 * Gets the occupancy of the pool from the used and the maximum bytes. If the maximum is not
+	 * defined the committed bytes are taken
+	 *
+	 * @return the occupancy of the pool between 0.0 and 1.0
+	 */
+	public double getOccupancy()
+	{
+		final long limit = 0 < max ? max : committed;
+		return 0 < limit ? (double)used / limit : 0.0;
+	}
+
+}
@@ -0,0 +1,118 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.memory;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The class {@link MemorySnapshot} holds the usage of the heap, the memory pools, the buffer pools
+ * and the garbage collectors at one point in time
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class MemorySnapshot
+{
+
+	/** The bytes that are allocated from all live threads, -1 if not supported */
+	private long allocatedBytes;
+
+	/** The usage of the buffer pools */
+	private List<BufferPoolUsage> bufferPools;
+
+	/** The usage of the garbage collectors */
+	private List<GarbageCollectorUsage> garbageCollectors;
+
+	/** The committed bytes of the heap */
+	private long heapCommitted;
+
+	/** The maximum bytes of the heap, -1 if not defined */
+	private long heapMax;
+
+	/** The used bytes of the heap */
+	private long heapUsed;
+
+	/** The value of {@link System#nanoTime()} when the snapshot was taken, for compute durations */
+	private long nanoTime;
+
+	/** The committed bytes of the non heap memory */
+	private long nonHeapCommitted;
+
+	/** The used bytes of the non heap memory */
+	private long nonHeapUsed;
+
+	/** The usage of the memory pools */
+	private List<MemoryPoolUsage> pools;
+
+	/** The time in milliseconds since the epoch when the snapshot was taken */
+	private long timestamp;
+
+	/**
+	 * Finds the usage of the buffer pool with the given name like 'direct' or 'mapped'
+	 *
+	 * @param name
+	 *            the name of the buffer pool
+	 * @return the usage of the buffer pool or null if not found
+	 */
+	public BufferPoolUsage findBufferPool(final String name)
+	{
+		if (bufferPools != null)
+		{
+			for (final BufferPoolUsage bufferPool : bufferPools)
+			{
+				if (bufferPool.getName().equals(name))
+				{
+					return bufferPool;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Finds the usage of the memory pool with the given name
+	 *
+	 * @param name
+	 *            the name of the memory pool
+	 * @return the usage of the memory pool or null if not found
+	 */
+	public MemoryPoolUsage findPool(final String name)
+	{
+		if (pools != null)
+		{
+			for (final MemoryPoolUsage pool : pools)
+			{
+				if (pool.getName().equals(name))
+				{
+					return pool;
+				}
+			}
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,255 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.memory;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.astrapi69.check.Argument;
+import io.github.astrapi69.lang.thread.ThreadMetrics;
+
+/**
+ * The class {@link MemoryTelemetry} reads the usage of the heap, the memory pools, the buffer pools
+ * and the garbage collectors over the platform beans of the virtual machine. In difference to
+ * {@link io.github.astrapi69.lang.MemoryExtensions} no garbage collection is triggered. For be
+ * notified on high occupancy of the heap use a {@link MemoryThresholdMonitor}
+ */
+public final class MemoryTelemetry
+{
+
+	/** The memory bean of the virtual machine */
+	private static final MemoryMXBean MEMORY_MX_BEAN = ManagementFactory.getMemoryMXBean();
+
+	/**
+	 * Private constructor for prevent instantiation
+	 */
+	private MemoryTelemetry()
+	{
+	}
+
+	/**
+	 * Takes a snapshot of the usage of the heap, the memory pools, the buffer pools and the garbage
+	 * collectors
+	 *
+	 * @return the new snapshot
+	 */
+	public static MemorySnapshot snapshot()
+	{
+		final MemoryUsage heapUsage = MEMORY_MX_BEAN.getHeapMemoryUsage();
+		final MemoryUsage nonHeapUsage = MEMORY_MX_BEAN.getNonHeapMemoryUsage();
+		return MemorySnapshot.builder().timestamp(System.currentTimeMillis())
+			.nanoTime(System.nanoTime()).heapUsed(heapUsage.getUsed())
+			.heapCommitted(heapUsage.getCommitted()).heapMax(heapUsage.getMax())
+			.nonHeapUsed(nonHeapUsage.getUsed()).nonHeapCommitted(nonHeapUsage.getCommitted())
+			.allocatedBytes(getAllocatedBytes()).pools(getMemoryPools())
+			.bufferPools(getBufferPools()).garbageCollectors(getGarbageCollectors()).build();
+	}
+
+	/**
+	 * Gets the usage of all memory pools
+	 *
+	 * @return the usage of all memory pools
+	 */
+	public static List<MemoryPoolUsage> getMemoryPools()
+	{
+		final List<MemoryPoolMXBean> memoryPoolMXBeans = ManagementFactory.getMemoryPoolMXBeans();
+		final List<MemoryPoolUsage> pools = new ArrayList<>(memoryPoolMXBeans.size());
+		for (final MemoryPoolMXBean memoryPoolMXBean : memoryPoolMXBeans)
+		{
+			if (memoryPoolMXBean.isValid())
+			{
+				pools.add(toMemoryPoolUsage(memoryPoolMXBean));
+			}
+		}
+		return pools;
+	}
+
+	/**
+	 * Gets the usage of all buffer pools like the pools of the direct and the mapped buffers
+	 *
+	 * @return the usage of all buffer pools
+	 */
+	public static List<BufferPoolUsage> getBufferPools()
+	{
+		final List<BufferPoolMXBean> bufferPoolMXBeans = ManagementFactory
+			.getPlatformMXBeans(BufferPoolMXBean.class);
+		final List<BufferPoolUsage> bufferPools = new ArrayList<>(bufferPoolMXBeans.size());
+		for (final BufferPoolMXBean bufferPoolMXBean : bufferPoolMXBeans)
+		{
+			bufferPools.add(BufferPoolUsage.builder().name(bufferPoolMXBean.getName())
+				.count(bufferPoolMXBean.getCount()).memoryUsed(bufferPoolMXBean.getMemoryUsed())
+				.totalCapacity(bufferPoolMXBean.getTotalCapacity()).build());
+		}
+		return bufferPools;
+	}
+
+	/**
+	 * Gets the usage of all garbage collectors
+	 *
+	 * @return the usage of all garbage collectors
+	 */
+	public static List<GarbageCollectorUsage> getGarbageCollectors()
+	{
+		final List<GarbageCollectorMXBean> garbageCollectorMXBeans = ManagementFactory
+			.getGarbageCollectorMXBeans();
+		final List<GarbageCollectorUsage> garbageCollectors = new ArrayList<>(
+			garbageCollectorMXBeans.size());
+		for (final GarbageCollectorMXBean garbageCollectorMXBean : garbageCollectorMXBeans)
+		{
+			garbageCollectors.add(GarbageCollectorUsage.builder()
+				.name(garbageCollectorMXBean.getName())
+				.collectionCount(garbageCollectorMXBean.getCollectionCount())
+				.collectionTime(garbageCollectorMXBean.getCollectionTime())
+				.memoryPoolNames(List.of(garbageCollectorMXBean.getMemoryPoolNames())).build());
+		}
+		return garbageCollectors;
+	}
+
+	/**
+	 * Gets the sum of the bytes that are allocated from all live threads
+	 *
+	 * @return the sum of the allocated bytes or -1 if the allocated bytes can not be measured
+	 */
+	public static long getAllocatedBytes()
+	{
+		if (!ThreadMetrics.isAllocatedBytesSupported())
+		{
+			return ThreadMetrics.UNSUPPORTED;
+		}
+		long allocatedBytes = 0;
+		for (final long threadAllocatedBytes : ThreadMetrics.getThreadAllocatedBytes(
+			ThreadMetrics.getThreadMXBean().getAllThreadIds()))
+		{
+			allocatedBytes += Math.max(0, threadAllocatedBytes);
+		}
+		return allocatedBytes;
+	}
+
+	/**
+	 * Computes the allocation rate between the two given snapshots. The allocations of threads
+	 * that are terminated between the two snapshots are not counted, so the rate is a lower bound
+	 *
+	 * @param before
+	 *            the earlier snapshot
+	 * @param after
+	 *            the later snapshot
+	 * @return the allocated bytes per second or -1 if the allocated bytes can not be measured
+	 */
+	public static double getAllocationRate(final MemorySnapshot before, final MemorySnapshot after)
+	{
+		Argument.notNull(before, "before");
+		Argument.notNull(after, "after");
+		if (before.getAllocatedBytes() < 0 || after.getAllocatedBytes() < 0)
+		{
+			return ThreadMetrics.UNSUPPORTED;
+		}
+		final long elapsedTime = after.getNanoTime() - before.getNanoTime();
+		if (elapsedTime <= 0)
+		{
+			return 0.0;
+		}
+		return Math.max(0, after.getAllocatedBytes() - before.getAllocatedBytes()) * 1e9
+			/ elapsedTime;
+	}
+
+	/**
+	 * Computes the number of garbage collections of all garbage collectors between the two given
+	 * snapshots
+	 *
+	 * @param before
+	 *            the earlier snapshot
+	 * @param after
+	 *            the later snapshot
+	 * @return the number of garbage collections between the two snapshots
+	 */
+	public static long getCollectionCount(final MemorySnapshot before, final MemorySnapshot after)
+	{
+		Argument.notNull(before, "before");
+		Argument.notNull(after, "after");
+		long collectionCount = 0;
+		for (final GarbageCollectorUsage garbageCollector : after.getGarbageCollectors())
+		{
+			final GarbageCollectorUsage previous = findGarbageCollector(before,
+				garbageCollector.getName());
+			collectionCount += Math.max(0, garbageCollector.getCollectionCount())
+				- (previous != null ? Math.max(0, previous.getCollectionCount()) : 0);
+		}
+		return collectionCount;
+	}
+
+	/**
+	 * Computes the accumulated collection time of all garbage collectors between the two given
+	 * snapshots. For collectors that stop the application this is the pause time
+	 *
+	 * @param before
+	 *            the earlier snapshot
+	 * @param after
+	 *            the later snapshot
+	 * @return the collection time in milliseconds between the two snapshots
+	 */
+	public static long getCollectionTime(final MemorySnapshot before, final MemorySnapshot after)
+	{
+		Argument.notNull(before, "before");
+		Argument.notNull(after, "after");
+		long collectionTime = 0;
+		for (final GarbageCollectorUsage garbageCollector : after.getGarbageCollectors())
+		{
+			final GarbageCollectorUsage previous = findGarbageCollector(before,
+				garbageCollector.getName());
+			collectionTime += Math.max(0, garbageCollector.getCollectionTime())
+				- (previous != null ? Math.max(0, previous.getCollectionTime()) : 0);
+		}
+		return collectionTime;
+	}
+
+	static MemoryPoolUsage toMemoryPoolUsage(final MemoryPoolMXBean memoryPoolMXBean)
+	{
+		final MemoryUsage usage = memoryPoolMXBean.getUsage();
+		final MemoryUsage collectionUsage = memoryPoolMXBean.getCollectionUsage();
+		return MemoryPoolUsage.builder().name(memoryPoolMXBean.getName())
+			.type(memoryPoolMXBean.getType()).used(usage.getUsed()).committed(usage.getCommitted())
+			.max(usage.getMax())
+			.collectionUsed(collectionUsage != null ? collectionUsage.getUsed() : -1).build();
+	}
+
+	private static GarbageCollectorUsage findGarbageCollector(final MemorySnapshot snapshot,
+		final String name)
+	{
+		if (snapshot.getGarbageCollectors() != null)
+		{
+			for (final GarbageCollectorUsage garbageCollector : snapshot.getGarbageCollectors())
+			{
+				if (garbageCollector.getName().equals(name))
+				{
+					return garbageCollector;
+				}
+			}
+		}
+		return null;
+	}
+
+}
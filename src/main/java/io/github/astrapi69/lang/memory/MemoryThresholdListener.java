@@ -0,0 +1,43 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.memory;
+
+/**
+ * The functional interface {@link MemoryThresholdListener} is notified from a
+ * {@link MemoryThresholdMonitor} if the occupancy of a memory pool exceeds the threshold
+ */
+@FunctionalInterface
+public interface MemoryThresholdListener
+{
+
+	/**
+	 * Is called if the occupancy of the given memory pool exceeds the threshold
+	 *
+	 * @param usage
+	 *            the usage of the memory pool at the time of the notification
+	 * @param afterCollection
+	 *            true if the threshold is exceeded after a garbage collection, which means that the
+	 *            live objects occupy the pool, false if the threshold is exceeded by the current
+	 *            usage that can contain garbage
+	 */
+	void thresholdExceeded(MemoryPoolUsage usage, boolean afterCollection);
+
+}
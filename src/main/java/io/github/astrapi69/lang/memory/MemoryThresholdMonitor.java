@@ -0,0 +1,214 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.memory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationFilter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import io.github.astrapi69.check.Argument;
+import lombok.extern.java.Log;
+
+/**
+ * The class {@link MemoryThresholdMonitor} sets a threshold for the occupancy on all heap pools
+ * with a defined maximum and notifies a {@link MemoryThresholdListener} if a threshold is exceeded.
+ * The collection usage threshold is preferred, because it is checked after a garbage collection
+ * and so only exceeded from live objects. For pools without support of the collection usage
+ * threshold the usage threshold is set. The notifications come from the virtual machine, so no
+ * polling and no explicit garbage collection is needed
+ * <p>
+ * Note: the thresholds of the memory pools are global in the virtual machine, so only one monitor
+ * should be started at the same time
+ */
+@Log
+public final class MemoryThresholdMonitor implements AutoCloseable
+{
+
+	/** The occupancy that triggers a notification */
+	private final double occupancy;
+
+	/** The listener that is notified */
+	private final MemoryThresholdListener listener;
+
+	/** The pools with a threshold from this monitor */
+	private final List<MemoryPoolMXBean> monitoredPools = new ArrayList<>();
+
+	/** The listener for the notifications of the memory bean, null if not started */
+	private NotificationListener notificationListener;
+
+	/**
+	 * Instantiates a new {@link MemoryThresholdMonitor} object
+	 *
+	 * @param occupancy
+	 *            the occupancy of a memory pool between 0.0 exclusive and 1.0 that triggers a
+	 *            notification
+	 * @param listener
+	 *            the listener that is notified
+	 */
+	public MemoryThresholdMonitor(final double occupancy, final MemoryThresholdListener listener)
+	{
+		Argument.isInRange(Double.MIN_VALUE, 1.0, occupancy, "occupancy");
+		Argument.notNull(listener, "listener");
+		this.occupancy = occupancy;
+		this.listener = listener;
+	}
+
+	/**
+	 * Sets the thresholds on the heap pools and starts to listen for the notifications
+	 *
+	 * @return this monitor for chaining
+	 * @throws IllegalStateException
+	 *             if the monitor is already started
+	 */
+	public synchronized MemoryThresholdMonitor start()
+	{
+		if (notificationListener != null)
+		{
+			throw new IllegalStateException("Memory threshold monitor is already started");
+		}
+		for (final MemoryPoolMXBean memoryPoolMXBean : ManagementFactory.getMemoryPoolMXBeans())
+		{
+			final long max = memoryPoolMXBean.getUsage().getMax();
+			if (memoryPoolMXBean.getType() != MemoryType.HEAP || max <= 0)
+			{
+				continue;
+			}
+			final long threshold = Math.max(1, (long)(max * occupancy));
+			if (memoryPoolMXBean.isCollectionUsageThresholdSupported())
+			{
+				memoryPoolMXBean.setCollectionUsageThreshold(threshold);
+				monitoredPools.add(memoryPoolMXBean);
+			}
+			else if (memoryPoolMXBean.isUsageThresholdSupported())
+			{
+				memoryPoolMXBean.setUsageThreshold(threshold);
+				monitoredPools.add(memoryPoolMXBean);
+			}
+		}
+		notificationListener = this::handleNotification;
+		final NotificationFilter filter = MemoryThresholdMonitor::isThresholdNotification;
+		((NotificationEmitter)ManagementFactory.getMemoryMXBean())
+			.addNotificationListener(notificationListener, filter, null);
+		return this;
+	}
+
+	/**
+	 * Gets the names of the memory pools with a threshold from this monitor
+	 *
+	 * @return the names of the monitored memory pools
+	 */
+	public synchronized List<String> getMonitoredPools()
+	{
+		final List<String> names = new ArrayList<>(monitoredPools.size());
+		for (final MemoryPoolMXBean memoryPoolMXBean : monitoredPools)
+		{
+			names.add(memoryPoolMXBean.getName());
+		}
+		return names;
+	}
+
+	/**
+	 * Checks if the monitor is started
+	 *
+	 * @return true if the monitor is started otherwise false
+	 */
+	public synchronized boolean isRunning()
+	{
+		return notificationListener != null;
+	}
+
+	/**
+	 * Stops to listen for the notifications and removes the thresholds from the heap pools
+	 */
+	@Override
+	public synchronized void close()
+	{
+		if (notificationListener == null)
+		{
+			return;
+		}
+		try
+		{
+			((NotificationEmitter)ManagementFactory.getMemoryMXBean())
+				.removeNotificationListener(notificationListener);
+		}
+		catch (final ListenerNotFoundException e)
+		{
+			// already removed
+		}
+		for (final MemoryPoolMXBean memoryPoolMXBean : monitoredPools)
+		{
+			if (memoryPoolMXBean.isCollectionUsageThresholdSupported())
+			{
+				memoryPoolMXBean.setCollectionUsageThreshold(0);
+			}
+			else
+			{
+				memoryPoolMXBean.setUsageThreshold(0);
+			}
+		}
+		monitoredPools.clear();
+		notificationListener = null;
+	}
+
+	private void handleNotification(final Notification notification, final Object handback)
+	{
+		final MemoryNotificationInfo info = MemoryNotificationInfo
+			.from((CompositeData)notification.getUserData());
+		final boolean afterCollection = MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED
+			.equals(notification.getType());
+		for (final MemoryPoolMXBean memoryPoolMXBean : ManagementFactory.getMemoryPoolMXBeans())
+		{
+			if (memoryPoolMXBean.getName().equals(info.getPoolName()))
+			{
+				try
+				{
+					listener.thresholdExceeded(
+						MemoryTelemetry.toMemoryPoolUsage(memoryPoolMXBean), afterCollection);
+				}
+				catch (final RuntimeException e)
+				{
+					log.log(Level.WARNING, "Memory threshold listener failed", e);
+				}
+				return;
+			}
+		}
+	}
+
+	private static boolean isThresholdNotification(final Notification notification)
+	{
+		return MemoryNotificationInfo.MEMORY_THRESHOLD_EXCEEDED.equals(notification.getType())
+			|| MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED
+				.equals(notification.getType());
+	}
+
+}
@@ -0,0 +1,493 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.memory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.github.astrapi69.check.Argument;
+
+/**
+ * The class {@link ObjectSizeEstimator} estimates the shallow and the deep size of objects in the
+ * heap, for instance as weigher of a size bounded cache. The layout of a class is resolved once
+ * over reflection and cached per class in a {@link ClassValue}. The header and reference sizes are
+ * taken from the options 'UseCompressedOops', 'UseCompressedClassPointers' and
+ * 'ObjectAlignmentInBytes' of the virtual machine if the module 'jdk.management' is present,
+ * otherwise from the defaults of a 64 bit HotSpot virtual machine with a heap below 32 GB
+ * <p>
+ * Note: the sizes are estimates. The field packing of the virtual machine is not reproduced
+ * exactly, and the internal fields of classes of the JDK that are not open for reflection are
+ * estimated from the public state of the object, for instance the elements of a {@link Collection}
+ * or the entries of a {@link Map}. The fields that can be read, like the own fields of a subclass
+ * of a class of the JDK, are followed in any case
+ */
+public final class ObjectSizeEstimator
+{
+
+	/** The default maximum number of objects that are visited from the deep size methods */
+	public static final int DEFAULT_MAX_OBJECTS = Integer.MAX_VALUE;
+
+	/** The flag if the virtual machine is a 64 bit virtual machine */
+	private static final boolean IS_64_BIT = !"32"
+		.equals(System.getProperty("sun.arch.data.model"));
+
+	/** The flag if the references are compressed */
+	private static final boolean COMPRESSED_OOPS = resolveBooleanVMOption("UseCompressedOops",
+		IS_64_BIT && Runtime.getRuntime().maxMemory() < 32L * 1024 * 1024 * 1024);
+
+	/** The flag if the class pointers in the object headers are compressed */
+	private static final boolean COMPRESSED_CLASS_POINTERS = resolveBooleanVMOption(
+		"UseCompressedClassPointers", COMPRESSED_OOPS);
+
+	/** The alignment of the objects in bytes */
+	private static final int OBJECT_ALIGNMENT = resolveIntVMOption("ObjectAlignmentInBytes", 8);
+
+	/** The size of a reference in bytes */
+	private static final int REFERENCE_SIZE = IS_64_BIT && !COMPRESSED_OOPS ? 8 : 4;
+
+	/** The size of the header of an object in bytes */
+	private static final int OBJECT_HEADER_SIZE = IS_64_BIT
+		? COMPRESSED_CLASS_POINTERS ? 12 : 16
+		: 8;
+
+	/** The size of the header of an array in bytes including the length */
+	private static final int ARRAY_HEADER_SIZE = align(OBJECT_HEADER_SIZE + 4, 8);
+
+	/** The cache that holds the {@link ClassLayout} for each class */
+	private static final ClassValue<ClassLayout> LAYOUTS = new ClassValue<>()
+	{
+		@Override
+		protected ClassLayout computeValue(final Class<?> type)
+		{
+			return new ClassLayout(type);
+		}
+	};
+
+	/**
+	 * Private constructor for prevent instantiation
+	 */
+	private ObjectSizeEstimator()
+	{
+	}
+
+	/**
+	 * Checks if the references are compressed
+	 *
+	 * @return true if the references are compressed otherwise false
+	 */
+	public static boolean isCompressedOops()
+	{
+		return COMPRESSED_OOPS;
+	}
+
+	/**
+	 * Gets the size of the header of an object in bytes
+	 *
+	 * @return the size of the header of an object in bytes
+	 */
+	public static int getObjectHeaderSize()
+	{
+		return OBJECT_HEADER_SIZE;
+	}
+
+	/**
+	 * Gets the size of the header of an array in bytes including the length field
+	 *
+	 * @return the size of the header of an array in bytes
+	 */
+	public static int getArrayHeaderSize()
+	{
+		return ARRAY_HEADER_SIZE;
+	}
+
+	/**
+	 * Gets the size of a reference in bytes
+	 *
+	 * @return the size of a reference in bytes
+	 */
+	public static int getReferenceSize()
+	{
+		return REFERENCE_SIZE;
+	}
+
+	/**
+	 * Estimates the size of an instance of the given class without the referenced objects
+	 *
+	 * @param clazz
+	 *            the class, must not be an array class
+	 * @return the estimated size of an instance in bytes
+	 */
+	public static long shallowSizeOf(final Class<?> clazz)
+	{
+		Argument.notNull(clazz, "clazz");
+		if (clazz.isArray())
+		{
+			throw new IllegalArgumentException(
+				"The size of an array depends on its length, use shallowSizeOf(Object) instead");
+		}
+		return LAYOUTS.get(clazz).shallowSize;
+	}
+
+	/**
+	 * Estimates the size of the given object without the referenced objects
+	 *
+	 * @param object
+	 *            the object
+	 * @return the estimated size of the given object in bytes or 0 if the given object is null
+	 */
+	public static long shallowSizeOf(final Object object)
+	{
+		if (object == null)
+		{
+			return 0;
+		}
+		final Class<?> clazz = object.getClass();
+		if (clazz.isArray())
+		{
+			return arraySizeOf(clazz.getComponentType(), Array.getLength(object));
+		}
+		return LAYOUTS.get(clazz).shallowSize;
+	}
+
+	/**
+	 * Estimates the size of the given object and all objects that are reachable from it. Every
+	 * object is counted once, so cycles and shared objects are handled. {@link Class} objects, enum
+	 * constants and threads are not counted, because they are not owned from the given object
+	 *
+	 * @param object
+	 *            the object
+	 * @return the estimated size of the object graph in bytes or 0 if the given object is null
+	 */
+	public static long deepSizeOf(final Object object)
+	{
+		return deepSizeOf(object, DEFAULT_MAX_OBJECTS);
+	}
+
+	/**
+	 * Estimates the size of the given object and the objects that are reachable from it until the
+	 * given maximum number of objects is visited
+	 *
+	 * @param object
+	 *            the object
+	 * @param maxObjects
+	 *            the maximum number of objects that are visited
+	 * @return the estimated size of the visited objects in bytes or 0 if the given object is null
+	 */
+	public static long deepSizeOf(final Object object, final int maxObjects)
+	{
+		Argument.isInRange(1, Integer.MAX_VALUE, maxObjects, "maxObjects");
+		if (object == null)
+		{
+			return 0;
+		}
+		final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		final Deque<Object> stack = new ArrayDeque<>();
+		stack.push(object);
+		long size = 0;
+		while (!stack.isEmpty() && visited.size() < maxObjects)
+		{
+			final Object current = stack.pop();
+			if (isShared(current) || !visited.add(current))
+			{
+				continue;
+			}
+			final Class<?> clazz = current.getClass();
+			if (clazz.isArray())
+			{
+				size += arraySizeOf(clazz.getComponentType(), Array.getLength(current));
+				if (!clazz.getComponentType().isPrimitive())
+				{
+					for (final Object element : (Object[])current)
+					{
+						pushIfNotNull(stack, element);
+					}
+				}
+				continue;
+			}
+			final ClassLayout layout = LAYOUTS.get(clazz);
+			size += layout.shallowSize;
+			for (final MethodHandle getter : layout.referenceGetters)
+			{
+				pushIfNotNull(stack, get(getter, current));
+			}
+			if (!layout.accessible)
+			{
+				// the fields that can not be read are estimated from the known jdk types
+				size += estimateInternalSize(current, stack);
+			}
+		}
+		return size;
+	}
+
+	private static long estimateInternalSize(final Object object, final Deque<Object> stack)
+	{
+		if (object instanceof String)
+		{
+			final String string = (String)object;
+			final int length = isLatin1(string) ? string.length() : string.length() * 2;
+			return arraySizeOf(byte.class, length);
+		}
+		if (object instanceof Collection)
+		{
+			// the backing array or the nodes of the collection
+			final Collection<?> collection = (Collection<?>)object;
+			for (final Object element : collection)
+			{
+				pushIfNotNull(stack, element);
+			}
+			return arraySizeOf(Object.class, collection.size());
+		}
+		if (object instanceof Map)
+		{
+			// the table and one node with hash, key, value and next for each entry
+			final Map<?, ?> map = (Map<?, ?>)object;
+			for (final Map.Entry<?, ?> entry : map.entrySet())
+			{
+				pushIfNotNull(stack, entry.getKey());
+				pushIfNotNull(stack, entry.getValue());
+			}
+			final long nodeSize = align(OBJECT_HEADER_SIZE + 4 + 3L * REFERENCE_SIZE,
+				OBJECT_ALIGNMENT);
+			return arraySizeOf(Object.class, tableSize(map.size())) + map.size() * nodeSize;
+		}
+		return 0;
+	}
+
+	private static boolean isShared(final Object object)
+	{
+		return object instanceof Class || object instanceof Enum || object instanceof Thread
+			|| object instanceof ClassLoader;
+	}
+
+	private static void pushIfNotNull(final Deque<Object> stack, final Object object)
+	{
+		if (object != null)
+		{
+			stack.push(object);
+		}
+	}
+
+	private static Object get(final MethodHandle getter, final Object object)
+	{
+		try
+		{
+			return (Object)getter.invokeExact(object);
+		}
+		catch (final RuntimeException | Error e)
+		{
+			throw e;
+		}
+		catch (final Throwable throwable)
+		{
+			throw new IllegalStateException(throwable);
+		}
+	}
+
+	private static boolean isLatin1(final String string)
+	{
+		for (int i = 0; i < string.length(); i++)
+		{
+			if (0xFF < string.charAt(i))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int tableSize(final int size)
+	{
+		final int capacity = (int)Math.ceil(size / 0.75);
+		return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+	}
+
+	private static long arraySizeOf(final Class<?> componentType, final int length)
+	{
+		return align(ARRAY_HEADER_SIZE + (long)sizeOf(componentType) * length, OBJECT_ALIGNMENT);
+	}
+
+	private static int sizeOf(final Class<?> type)
+	{
+		if (!type.isPrimitive())
+		{
+			return REFERENCE_SIZE;
+		}
+		if (type == long.class || type == double.class)
+		{
+			return 8;
+		}
+		if (type == int.class || type == float.class)
+		{
+			return 4;
+		}
+		if (type == short.class || type == char.class)
+		{
+			return 2;
+		}
+		return 1;
+	}
+
+	private static long align(final long size, final int alignment)
+	{
+		return (size + alignment - 1) / alignment * alignment;
+	}
+
+	private static int align(final int size, final int alignment)
+	{
+		return (size + alignment - 1) / alignment * alignment;
+	}
+
+	private static boolean resolveBooleanVMOption(final String name, final boolean defaultValue)
+	{
+		final String value = getVMOption(name);
+		return value != null ? Boolean.parseBoolean(value) : defaultValue;
+	}
+
+	private static int resolveIntVMOption(final String name, final int defaultValue)
+	{
+		final String value = getVMOption(name);
+		try
+		{
+			return value != null ? Integer.parseInt(value) : defaultValue;
+		}
+		catch (final NumberFormatException e)
+		{
+			return defaultValue;
+		}
+	}
+
+	private static String getVMOption(final String name)
+	{
+		try
+		{
+			return ModuleLayer.boot().findModule("jdk.management").isPresent()
+				? HotSpot.getVMOption(name)
+				: null;
+		}
+		catch (final LinkageError | RuntimeException e)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * The class {@link ClassLayout} holds the estimated shallow size and the getters of the
+	 * reference fields of a class
+	 */
+	private static final class ClassLayout
+	{
+
+		/** The estimated shallow size of an instance */
+		private final long shallowSize;
+
+		/**
+		 * The getters of all reference fields that can be read including the fields of the super
+		 * classes
+		 */
+		private final MethodHandle[] referenceGetters;
+
+		/** The flag if all reference fields can be read */
+		private final boolean accessible;
+
+		private ClassLayout(final Class<?> clazz)
+		{
+			final MethodHandles.Lookup lookup = MethodHandles.lookup();
+			final List<MethodHandle> getters = new ArrayList<>();
+			long fieldsSize = 0;
+			boolean allAccessible = true;
+			for (Class<?> current = clazz; current != null; current = current.getSuperclass())
+			{
+				for (final Field field : current.getDeclaredFields())
+				{
+					if (Modifier.isStatic(field.getModifiers()))
+					{
+						continue;
+					}
+					fieldsSize += sizeOf(field.getType());
+					if (field.getType().isPrimitive())
+					{
+						continue;
+					}
+					// the accessibility is checked for each field, so the fields of a subclass
+					// are followed even if the fields of a jdk super class can not be read
+					if (!addGetter(lookup, field, getters))
+					{
+						allAccessible = false;
+					}
+				}
+			}
+			this.shallowSize = align(OBJECT_HEADER_SIZE + fieldsSize, OBJECT_ALIGNMENT);
+			this.accessible = allAccessible;
+			this.referenceGetters = getters.toArray(new MethodHandle[0]);
+		}
+
+		private static boolean addGetter(final MethodHandles.Lookup lookup, final Field field,
+			final List<MethodHandle> getters)
+		{
+			try
+			{
+				if (!field.trySetAccessible())
+				{
+					return false;
+				}
+				getters.add(lookup.unreflectGetter(field)
+					.asType(MethodType.methodType(Object.class, Object.class)));
+				return true;
+			}
+			catch (final IllegalAccessException | SecurityException e)
+			{
+				return false;
+			}
+		}
+
+	}
+
+	/**
+	 * The class {@link HotSpot} holds all references to the diagnostic bean of the HotSpot virtual
+	 * machine, so it is only loaded if the module 'jdk.management' is present
+	 */
+	private static final class HotSpot
+	{
+
+		private static String getVMOption(final String name)
+		{
+			return ManagementFactory
+				.getPlatformMXBean(com.sun.management.HotSpotDiagnosticMXBean.class)
+				.getVMOption(name).getValue();
+		}
+
+	}
+
+}
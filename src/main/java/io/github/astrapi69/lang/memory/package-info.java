@@ -0,0 +1,4 @@
+/**
+ * This package provides utility and bean classes for the memory telemetry
+ */
+package io.github.astrapi69.lang.memory;
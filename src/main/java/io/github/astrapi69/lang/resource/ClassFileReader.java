@@ -0,0 +1,506 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+
+import io.github.astrapi69.lang.model.ClassModel;
+
+/**
+ * The class {@link ClassFileReader} reads a {@link ClassModel} from the bytes of a class file
+ * without loading the class. Only the header of the class file is parsed, that is the constant
+ * pool, the access flags, the super class, the interfaces and the class attributes. The fields and
+ * methods are skipped, so the methods, the imports and the generic types of the created
+ * {@link ClassModel} are not set. <br>
+ * <br>
+ * The class name of the created {@link ClassModel} is the binary name without the package, so the
+ * name of a nested class contains a '$'. The names of the super class and of the interfaces are
+ * fully qualified and the class annotations are {@link ClassModel} objects of the kind
+ * {@link ElementKind#ANNOTATION_TYPE}
+ */
+public final class ClassFileReader
+{
+
+	/** The magic number of a class file */
+	private static final int MAGIC = 0xCAFEBABE;
+
+	/** The access flag public */
+	private static final int ACC_PUBLIC = 0x0001;
+
+	/** The access flag private of a nested class */
+	private static final int ACC_PRIVATE = 0x0002;
+
+	/** The access flag protected of a nested class */
+	private static final int ACC_PROTECTED = 0x0004;
+
+	/** The access flag static of a nested class */
+	private static final int ACC_STATIC = 0x0008;
+
+	/** The access flag final */
+	private static final int ACC_FINAL = 0x0010;
+
+	/** The access flag interface */
+	private static final int ACC_INTERFACE = 0x0200;
+
+	/** The access flag abstract */
+	private static final int ACC_ABSTRACT = 0x0400;
+
+	/** The access flag annotation */
+	private static final int ACC_ANNOTATION = 0x2000;
+
+	/** The access flag enum */
+	private static final int ACC_ENUM = 0x4000;
+
+	/** The constant pool tag of an utf8 entry */
+	private static final int CONSTANT_UTF8 = 1;
+
+	/** The constant pool tag of an integer entry */
+	private static final int CONSTANT_INTEGER = 3;
+
+	/** The constant pool tag of a float entry */
+	private static final int CONSTANT_FLOAT = 4;
+
+	/** The constant pool tag of a long entry that uses two slots */
+	private static final int CONSTANT_LONG = 5;
+
+	/** The constant pool tag of a double entry that uses two slots */
+	private static final int CONSTANT_DOUBLE = 6;
+
+	/** The constant pool tag of a class entry */
+	private static final int CONSTANT_CLASS = 7;
+
+	/** The constant pool tag of a string entry */
+	private static final int CONSTANT_STRING = 8;
+
+	/** The constant pool tag of a field reference entry */
+	private static final int CONSTANT_FIELDREF = 9;
+
+	/** The constant pool tag of a method reference entry */
+	private static final int CONSTANT_METHODREF = 10;
+
+	/** The constant pool tag of an interface method reference entry */
+	private static final int CONSTANT_INTERFACE_METHODREF = 11;
+
+	/** The constant pool tag of a name and type entry */
+	private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+	/** The constant pool tag of a method handle entry */
+	private static final int CONSTANT_METHOD_HANDLE = 15;
+
+	/** The constant pool tag of a method type entry */
+	private static final int CONSTANT_METHOD_TYPE = 16;
+
+	/** The constant pool tag of a dynamic entry */
+	private static final int CONSTANT_DYNAMIC = 17;
+
+	/** The constant pool tag of an invoke dynamic entry */
+	private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+
+	/** The constant pool tag of a module entry */
+	private static final int CONSTANT_MODULE = 19;
+
+	/** The constant pool tag of a package entry */
+	private static final int CONSTANT_PACKAGE = 20;
+
+	/**
+	 * Private constructor for prevent instantiation
+	 */
+	private ClassFileReader()
+	{
+	}
+
+	/**
+	 * Reads the {@link ClassModel} from the given input stream of a class file. The given stream is
+	 * not closed
+	 *
+	 * @param inputStream
+	 *            the input stream of the class file
+	 * @return the read {@link ClassModel}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 * @throws IllegalArgumentException
+	 *             if the given stream does not contain a valid class file
+	 */
+	public static ClassModel read(final InputStream inputStream) throws IOException
+	{
+		return read(inputStream.readAllBytes());
+	}
+
+	/**
+	 * Reads the {@link ClassModel} from the given bytes of a class file
+	 *
+	 * @param bytes
+	 *            the bytes of the class file
+	 * @return the read {@link ClassModel}
+	 * @throws IllegalArgumentException
+	 *             if the given bytes are not a valid class file
+	 */
+	public static ClassModel read(final byte[] bytes)
+	{
+		return read(ByteBuffer.wrap(bytes));
+	}
+
+	/**
+	 * Reads the {@link ClassModel} from the remaining bytes of the given buffer. The position of
+	 * the given buffer is not changed
+	 *
+	 * @param buffer
+	 *            the buffer with the class file
+	 * @return the read {@link ClassModel}
+	 * @throws IllegalArgumentException
+	 *             if the given bytes are not a valid class file
+	 */
+	public static ClassModel read(final ByteBuffer buffer)
+	{
+		try
+		{
+			return new Parser(buffer.slice()).parse();
+		}
+		catch (final BufferUnderflowException | IndexOutOfBoundsException e)
+		{
+			throw new IllegalArgumentException("Given bytes are not a valid class file", e);
+		}
+	}
+
+	/**
+	 * The class {@link Parser} holds the state of the parsing of one class file
+	 */
+	private static final class Parser
+	{
+
+		/** The buffer with the class file */
+		final ByteBuffer buffer;
+
+		/** The offsets of the constant pool entries with the index as position */
+		int[] offsets;
+
+		Parser(final ByteBuffer buffer)
+		{
+			this.buffer = buffer;
+		}
+
+		ClassModel parse()
+		{
+			if (buffer.getInt() != MAGIC)
+			{
+				throw new IllegalArgumentException("Given bytes are not a class file");
+			}
+			// minor and major version
+			skip(4);
+			readConstantPool();
+			int accessFlags = u2();
+			final String binaryName = getClassName(u2());
+			final int superClassIndex = u2();
+			final String superClassName = superClassIndex != 0
+				? getClassName(superClassIndex).replace('/', '.')
+				: null;
+			final int interfacesCount = u2();
+			final List<String> interfaces = new ArrayList<>(interfacesCount);
+			for (int i = 0; i < interfacesCount; i++)
+			{
+				interfaces.add(getClassName(u2()).replace('/', '.'));
+			}
+			// fields and methods
+			skipMembers();
+			skipMembers();
+			final List<ClassModel> annotations = new ArrayList<>();
+			boolean record = false;
+			final int attributesCount = u2();
+			for (int i = 0; i < attributesCount; i++)
+			{
+				final String attributeName = getUtf8(u2());
+				final int length = buffer.getInt();
+				final int end = buffer.position() + length;
+				switch (attributeName)
+				{
+					case "RuntimeVisibleAnnotations" :
+					case "RuntimeInvisibleAnnotations" :
+						readAnnotations(annotations);
+						break;
+					case "InnerClasses" :
+						accessFlags = getInnerClassFlags(binaryName, accessFlags);
+						break;
+					case "Record" :
+						record = true;
+						break;
+					default :
+						break;
+				}
+				buffer.position(end);
+			}
+			return ClassModel.builder().className(getSimpleName(binaryName))
+				.packageName(getPackageName(binaryName)).extendedClassName(superClassName)
+				.interfaceImplementations(interfaces)
+				.modifiers(toModifiers(accessFlags)).kind(toKind(accessFlags, record))
+				.classAnnotations(annotations).build();
+		}
+
+		void readConstantPool()
+		{
+			final int count = u2();
+			offsets = new int[count];
+			for (int index = 1; index < count; index++)
+			{
+				final int tag = buffer.get() & 0xFF;
+				offsets[index] = buffer.position();
+				switch (tag)
+				{
+					case CONSTANT_UTF8 :
+						skip(u2());
+						break;
+					case CONSTANT_LONG :
+					case CONSTANT_DOUBLE :
+						skip(8);
+						// long and double entries use two slots
+						index++;
+						break;
+					case CONSTANT_CLASS :
+					case CONSTANT_STRING :
+					case CONSTANT_METHOD_TYPE :
+					case CONSTANT_MODULE :
+					case CONSTANT_PACKAGE :
+						skip(2);
+						break;
+					case CONSTANT_METHOD_HANDLE :
+						skip(3);
+						break;
+					case CONSTANT_INTEGER :
+					case CONSTANT_FLOAT :
+					case CONSTANT_FIELDREF :
+					case CONSTANT_METHODREF :
+					case CONSTANT_INTERFACE_METHODREF :
+					case CONSTANT_NAME_AND_TYPE :
+					case CONSTANT_DYNAMIC :
+					case CONSTANT_INVOKE_DYNAMIC :
+						skip(4);
+						break;
+					default :
+						throw new IllegalArgumentException(
+							"Unknown constant pool tag " + tag + " at index " + index);
+				}
+			}
+		}
+
+		void skipMembers()
+		{
+			final int count = u2();
+			for (int i = 0; i < count; i++)
+			{
+				// access flags, name and descriptor
+				skip(6);
+				skipAttributes();
+			}
+		}
+
+		void skipAttributes()
+		{
+			final int count = u2();
+			for (int i = 0; i < count; i++)
+			{
+				skip(2);
+				skip(buffer.getInt());
+			}
+		}
+
+		void readAnnotations(final List<ClassModel> annotations)
+		{
+			final int count = u2();
+			for (int i = 0; i < count; i++)
+			{
+				final String descriptor = getUtf8(u2());
+				// the descriptor has the form Lpackage/Name;
+				final String name = descriptor.substring(1, descriptor.length() - 1);
+				annotations.add(ClassModel.builder().className(getSimpleName(name))
+					.packageName(getPackageName(name)).kind(ElementKind.ANNOTATION_TYPE).build());
+				skipElementValuePairs();
+			}
+		}
+
+		void skipElementValuePairs()
+		{
+			final int count = u2();
+			for (int i = 0; i < count; i++)
+			{
+				skip(2);
+				skipElementValue();
+			}
+		}
+
+		void skipElementValue()
+		{
+			final char tag = (char)(buffer.get() & 0xFF);
+			switch (tag)
+			{
+				case 'e' :
+					skip(4);
+					break;
+				case '@' :
+					skip(2);
+					skipElementValuePairs();
+					break;
+				case '[' :
+					for (int count = u2(); 0 < count; count--)
+					{
+						skipElementValue();
+					}
+					break;
+				default :
+					// constant values and classes are an index in the constant pool
+					skip(2);
+					break;
+			}
+		}
+
+		int getInnerClassFlags(final String binaryName, final int accessFlags)
+		{
+			final int count = u2();
+			for (int i = 0; i < count; i++)
+			{
+				final int innerClassIndex = u2();
+				// outer class and inner name
+				skip(4);
+				final int innerAccessFlags = u2();
+				if (innerClassIndex != 0 && binaryName.equals(getClassName(innerClassIndex)))
+				{
+					return innerAccessFlags;
+				}
+			}
+			return accessFlags;
+		}
+
+		String getClassName(final int classIndex)
+		{
+			return getUtf8(buffer.getShort(offsets[classIndex]) & 0xFFFF);
+		}
+
+		String getUtf8(final int utf8Index)
+		{
+			final int offset = offsets[utf8Index];
+			final int length = buffer.getShort(offset) & 0xFFFF;
+			final byte[] bytes = new byte[length];
+			buffer.get(offset + 2, bytes);
+			for (final byte value : bytes)
+			{
+				if (value < 0)
+				{
+					return decodeModifiedUtf8(offset, length);
+				}
+			}
+			return new String(bytes, StandardCharsets.ISO_8859_1);
+		}
+
+		String decodeModifiedUtf8(final int offset, final int length)
+		{
+			final byte[] bytes = new byte[length + 2];
+			buffer.get(offset, bytes);
+			try
+			{
+				return new DataInputStream(new ByteArrayInputStream(bytes)).readUTF();
+			}
+			catch (final IOException e)
+			{
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		int u2()
+		{
+			return buffer.getShort() & 0xFFFF;
+		}
+
+		void skip(final int length)
+		{
+			buffer.position(buffer.position() + length);
+		}
+
+	}
+
+	private static String getSimpleName(final String internalName)
+	{
+		return internalName.substring(internalName.lastIndexOf('/') + 1);
+	}
+
+	private static String getPackageName(final String internalName)
+	{
+		final int packageEnd = internalName.lastIndexOf('/');
+		return 0 < packageEnd ? internalName.substring(0, packageEnd).replace('/', '.') : "";
+	}
+
+	private static List<Modifier> toModifiers(final int accessFlags)
+	{
+		final List<Modifier> modifiers = new ArrayList<>(4);
+		if ((accessFlags & ACC_PUBLIC) != 0)
+		{
+			modifiers.add(Modifier.PUBLIC);
+		}
+		if ((accessFlags & ACC_PROTECTED) != 0)
+		{
+			modifiers.add(Modifier.PROTECTED);
+		}
+		if ((accessFlags & ACC_PRIVATE) != 0)
+		{
+			modifiers.add(Modifier.PRIVATE);
+		}
+		if ((accessFlags & ACC_ABSTRACT) != 0)
+		{
+			modifiers.add(Modifier.ABSTRACT);
+		}
+		if ((accessFlags & ACC_STATIC) != 0)
+		{
+			modifiers.add(Modifier.STATIC);
+		}
+		if ((accessFlags & ACC_FINAL) != 0)
+		{
+			modifiers.add(Modifier.FINAL);
+		}
+		return modifiers;
+	}
+
+	private static ElementKind toKind(final int accessFlags, final boolean record)
+	{
+		if ((accessFlags & ACC_ANNOTATION) != 0)
+		{
+			return ElementKind.ANNOTATION_TYPE;
+		}
+		if ((accessFlags & ACC_INTERFACE) != 0)
+		{
+			return ElementKind.INTERFACE;
+		}
+		if ((accessFlags & ACC_ENUM) != 0)
+		{
+			return ElementKind.ENUM;
+		}
+		return record ? ElementKind.RECORD : ElementKind.CLASS;
+	}
+
+}
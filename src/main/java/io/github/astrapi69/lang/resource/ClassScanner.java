@@ -0,0 +1,194 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+import io.github.astrapi69.lang.model.ClassModel;
+import io.github.astrapi69.lang.thread.ThreadExtensions;
+import lombok.extern.java.Log;
+
+/**
+ * The class {@link ClassScanner} lists the classes of a package from the class files of the
+ * archives and class directories of a {@link ResourceIndex}. The class files are read in parallel
+ * with the {@link ClassFileReader}, so no class is loaded or initialized. If a class file exists
+ * in several locations only the first one is read like a class loader would do. A class file that
+ * can not be read, for instance a corrupt file, a newer class file format or a class file that was
+ * removed after it was indexed, is logged and skipped, so it does not abort the whole scan
+ */
+@Log
+public final class ClassScanner
+{
+
+	/** The index with the names of the class files */
+	private final ResourceIndex resourceIndex;
+
+	/**
+	 * Instantiates a new {@link ClassScanner} object
+	 *
+	 * @param resourceIndex
+	 *            the index with the names of the class files
+	 */
+	public ClassScanner(final ResourceIndex resourceIndex)
+	{
+		this.resourceIndex = Objects.requireNonNull(resourceIndex);
+	}
+
+	/**
+	 * Scans the classes of the given package
+	 *
+	 * @param packageName
+	 *            the name of the package, for instance 'io.github.astrapi69.lang'
+	 * @param recursive
+	 *            the flag if the classes of the sub packages are scanned too
+	 * @return the models of the readable classes sorted by the qualified class name
+	 */
+	public List<ClassModel> scan(final String packageName, final boolean recursive)
+	{
+		final String prefix = Objects.requireNonNull(packageName).isEmpty()
+			? ""
+			: packageName.replace('.', '/') + "/";
+		final List<String> names = resourceIndex.findByPrefix(prefix).stream()
+			.filter(name -> isClassFile(name, prefix, recursive)).collect(Collectors.toList());
+		final Map<Path, JarFile> archives = new ConcurrentHashMap<>();
+		try
+		{
+			// the parallel stream runs in the fork join pool of the callable
+			return ThreadExtensions.runCallableWithCpuCores(
+				() -> names.parallelStream().map(name -> read(name, archives))
+					.filter(Objects::nonNull)
+					.sorted(Comparator.comparing(ClassScanner::getQualifiedName))
+					.collect(Collectors.toList()),
+				Math.max(2, ThreadExtensions.getAvailableProcessors()));
+		}
+		catch (final ExecutionException e)
+		{
+			throw new RuntimeException("Error while try to scan the classes of " + packageName,
+				e.getCause());
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(
+				"Interrupted while try to scan the classes of " + packageName, e);
+		}
+		finally
+		{
+			for (final JarFile jarFile : archives.values())
+			{
+				try
+				{
+					jarFile.close();
+				}
+				catch (final IOException e)
+				{
+					// the archive was only read
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the qualified name of the class of the given {@link ClassModel}
+	 *
+	 * @param classModel
+	 *            the model of the class
+	 * @return the qualified name of the class
+	 */
+	public static String getQualifiedName(final ClassModel classModel)
+	{
+		return classModel.getPackageName() == null || classModel.getPackageName().isEmpty()
+			? classModel.getClassName()
+			: classModel.getPackageName() + "." + classModel.getClassName();
+	}
+
+	private ClassModel read(final String name, final Map<Path, JarFile> archives)
+	{
+		final List<Path> locations = resourceIndex.getLocations(name);
+		if (locations.isEmpty())
+		{
+			log.log(Level.WARNING, "The class file " + name + " was removed from the index");
+			return null;
+		}
+		final Path root = locations.get(0);
+		try
+		{
+			if (Files.isDirectory(root))
+			{
+				return ClassFileReader.read(Files.readAllBytes(root.resolve(name)));
+			}
+			final JarFile jarFile = archives.computeIfAbsent(root, ClassScanner::open);
+			final JarEntry jarEntry = jarFile.getJarEntry(name);
+			if (jarEntry == null)
+			{
+				throw new IOException("The entry " + name + " does not exist");
+			}
+			try (InputStream inputStream = jarFile.getInputStream(jarEntry))
+			{
+				return ClassFileReader.read(inputStream);
+			}
+		}
+		catch (final IOException | RuntimeException e)
+		{
+			log.log(Level.WARNING,
+				"Error while try to read the class file " + name + " of " + root, e);
+			return null;
+		}
+	}
+
+	private static JarFile open(final Path archive)
+	{
+		try
+		{
+			return new JarFile(archive.toFile(), false);
+		}
+		catch (final IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static boolean isClassFile(final String name, final String prefix,
+		final boolean recursive)
+	{
+		if (!name.endsWith(".class") || name.endsWith("module-info.class")
+			|| name.endsWith("package-info.class") || name.startsWith("META-INF/"))
+		{
+			return false;
+		}
+		return recursive || name.indexOf('/', prefix.length()) < 0;
+	}
+
+}
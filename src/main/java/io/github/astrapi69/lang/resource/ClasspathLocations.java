@@ -0,0 +1,128 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.resource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * The class {@link ClasspathLocations} resolves the JAR, WAR and EAR files and the class
+ * directories of the class path and of the module path of the running virtual machine. The
+ * entries of the attribute {@code Class-Path} of the manifest files are not followed.
+ */
+public final class ClasspathLocations
+{
+
+	/**
+	 * Private constructor for prevent instantiation
+	 */
+	private ClasspathLocations()
+	{
+	}
+
+	/**
+	 * Gets the archives and class directories of the class path and of the module path in the
+	 * order of the paths
+	 *
+	 * @return the archives and class directories
+	 */
+	public static List<Path> get()
+	{
+		final List<Path> locations = new ArrayList<>();
+		addLocations(System.getProperty("java.class.path"), false, locations);
+		addLocations(System.getProperty("jdk.module.path"), true, locations);
+		return locations;
+	}
+
+	/**
+	 * Gets the JAR, WAR and EAR files in the given directory sorted by name
+	 *
+	 * @param directory
+	 *            the directory with the archives
+	 * @return the archives in the given directory
+	 */
+	public static List<Path> getArchives(final Path directory)
+	{
+		final List<Path> archives = new ArrayList<>();
+		try (Stream<Path> files = Files.list(directory))
+		{
+			files.filter(ClasspathLocations::isArchive).sorted().forEach(archives::add);
+		}
+		catch (final IOException e)
+		{
+			throw new RuntimeException("Error while try to list the archives of " + directory, e);
+		}
+		return archives;
+	}
+
+	/**
+	 * Checks if the given path is a regular file with the extension jar, war or ear
+	 *
+	 * @param path
+	 *            the path
+	 * @return true if the given path is an archive otherwise false
+	 */
+	public static boolean isArchive(final Path path)
+	{
+		final String fileName = path.getFileName() != null
+			? path.getFileName().toString().toLowerCase(Locale.ROOT)
+			: "";
+		return (fileName.endsWith(".jar") || fileName.endsWith(".war")
+			|| fileName.endsWith(".ear")) && Files.isRegularFile(path);
+	}
+
+	private static void addLocations(final String paths, final boolean modulePath,
+		final List<Path> locations)
+	{
+		if (paths == null || paths.isEmpty())
+		{
+			return;
+		}
+		for (final String entry : paths.split(File.pathSeparator))
+		{
+			if (entry.isEmpty())
+			{
+				continue;
+			}
+			final Path path = Path.of(entry);
+			if (isArchive(path))
+			{
+				locations.add(path);
+			}
+			else if (Files.isDirectory(path))
+			{
+				locations.add(path);
+				if (modulePath)
+				{
+					// a directory of the module path can contain modular archives
+					locations.addAll(getArchives(path));
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,618 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import io.github.astrapi69.lang.ClassExtensions;
+
+/**
+ * The class {@link ResourceBuffers} provides the content of resources as read-only
+ * {@link ByteBuffer} objects. A resource in a directory is mapped into memory with
+ * {@link FileChannel#map(FileChannel.MapMode, long, long)}, so it is not copied. A resource in a
+ * JAR file is extracted once into the extraction directory and then mapped. The extracted file is
+ * named after the SHA-256 hash of its content, so concurrent callers and processes never overwrite
+ * a file with another content and equal resources share one file. <br>
+ * <br>
+ * The extraction directory is only used if it is owned by the current user, it is created with
+ * permissions for the owner only. If it is owned by another user the entries are extracted into a
+ * new private temporary directory instead. An extracted file always replaces an existing file with
+ * the same name, so the content of a file that was not written from this instance is never
+ * trusted. <br>
+ * <br>
+ * The mapped buffers of the extracted entries are cached until the archive is modified or
+ * {@link #clear()} is called. Every call returns a new duplicate of the cached buffer with its own
+ * position and limit. Resources of other protocols are read into a heap buffer.
+ */
+public final class ResourceBuffers
+{
+
+	/**
+	 * The name prefix of the default extraction directory in the temporary directory, the name of
+	 * the current user is appended
+	 */
+	public static final String DEFAULT_DIRECTORY_NAME = "jobj-resources";
+
+	/** The permissions of the extraction directory on a POSIX file system */
+	private static final Set<PosixFilePermission> OWNER_ONLY = EnumSet.of(
+		PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE,
+		PosixFilePermission.OWNER_EXECUTE);
+
+	/** The default instance that extracts into a directory of the current user */
+	private static volatile ResourceBuffers defaultInstance = new ResourceBuffers(
+		Path.of(System.getProperty("java.io.tmpdir"), DEFAULT_DIRECTORY_NAME + "-"
+			+ System.getProperty("user.name", "").replaceAll("[^A-Za-z0-9._-]", "_")));
+
+	/** The current user that owns the extraction directory */
+	private static volatile UserPrincipal currentUser;
+
+	/**
+	 * The directory of the extracted archive entries, it is replaced with a private temporary
+	 * directory if it is owned by another user
+	 */
+	private volatile Path extractionDirectory;
+
+	/**
+	 * The extractions of the archive entries, the extraction of an entry runs outside of the map
+	 * from the first caller and concurrent callers of the same entry wait for its result
+	 */
+	private final Map<EntryKey, FutureTask<Extraction>> extractions = new ConcurrentHashMap<>();
+
+	/**
+	 * Instantiates a new {@link ResourceBuffers} object
+	 *
+	 * @param extractionDirectory
+	 *            the directory of the extracted archive entries, it is created on the first
+	 *            extraction
+	 */
+	public ResourceBuffers(final Path extractionDirectory)
+	{
+		this.extractionDirectory = Objects.requireNonNull(extractionDirectory).toAbsolutePath();
+	}
+
+	/**
+	 * Gets the default {@link ResourceBuffers} instance
+	 *
+	 * @return the default {@link ResourceBuffers} instance
+	 */
+	public static ResourceBuffers getDefault()
+	{
+		return defaultInstance;
+	}
+
+	/**
+	 * Sets the given {@link ResourceBuffers} as the default instance
+	 *
+	 * @param resourceBuffers
+	 *            the new default {@link ResourceBuffers} instance
+	 */
+	public static void setDefault(final ResourceBuffers resourceBuffers)
+	{
+		defaultInstance = Objects.requireNonNull(resourceBuffers);
+	}
+
+	/**
+	 * Gets the directory of the extracted archive entries. This is the directory of the
+	 * constructor or the private temporary directory that replaced it if it is owned by another
+	 * user
+	 *
+	 * @return the directory of the extracted archive entries
+	 */
+	public Path getExtractionDirectory()
+	{
+		return extractionDirectory;
+	}
+
+	/**
+	 * Gets the content of the resource with the given name from the class loader of
+	 * {@link ClassExtensions#getClassLoader()}
+	 *
+	 * @param name
+	 *            the name of the resource
+	 * @return the read-only buffer with the content or null if the resource does not exist
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public ByteBuffer getBuffer(final String name) throws IOException
+	{
+		final URL url = ClassExtensions.getResource(name);
+		return url != null ? getBuffer(url) : null;
+	}
+
+	/**
+	 * Gets the content of the resource with the given name relative to the class of the given
+	 * object
+	 *
+	 * @param name
+	 *            the name of the resource
+	 * @param obj
+	 *            the object
+	 * @return the read-only buffer with the content or null if the resource does not exist
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public ByteBuffer getBuffer(final String name, final Object obj) throws IOException
+	{
+		final URL url = ClassExtensions.getResource(name, obj);
+		return url != null ? getBuffer(url) : null;
+	}
+
+	/**
+	 * Gets the content of the resource with the given url. A file is mapped, an entry of a JAR
+	 * file is extracted once and mapped and the content of other urls is read into a heap buffer
+	 *
+	 * @param url
+	 *            the url of the resource
+	 * @return the read-only buffer with the content
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public ByteBuffer getBuffer(final URL url) throws IOException
+	{
+		final Path file = toFile(url);
+		if (file != null)
+		{
+			return map(file);
+		}
+		final EntryKey key = toEntryKey(url);
+		if (key != null)
+		{
+			return getExtraction(key).buffer.duplicate();
+		}
+		try (InputStream inputStream = url.openStream())
+		{
+			return ByteBuffer.wrap(inputStream.readAllBytes()).asReadOnlyBuffer();
+		}
+	}
+
+	/**
+	 * Gets the file of the resource with the given url. The file of an entry of a JAR file is the
+	 * extracted file that should not be modified. The content of other urls, like an entry of a
+	 * nested or a remote JAR file, is read on every call and stored into a file named after the
+	 * hash of the content
+	 *
+	 * @param url
+	 *            the url of the resource
+	 * @return the file of the resource
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public Path getFile(final URL url) throws IOException
+	{
+		final Path file = toFile(url);
+		if (file != null)
+		{
+			return file;
+		}
+		final EntryKey key = toEntryKey(url);
+		if (key != null)
+		{
+			return getExtraction(key).file;
+		}
+		try (InputStream inputStream = url.openStream())
+		{
+			return store(inputStream);
+		}
+	}
+
+	/**
+	 * Maps the content of the given file into memory
+	 *
+	 * @param file
+	 *            the file
+	 * @return the read-only mapped buffer with the content of the given file
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static ByteBuffer map(final Path file) throws IOException
+	{
+		try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ))
+		{
+			return fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+		}
+	}
+
+	/**
+	 * Gets the number of the cached extracted archive entries
+	 *
+	 * @return the number of the cached extracted archive entries
+	 */
+	public int size()
+	{
+		return extractions.size();
+	}
+
+	/**
+	 * Removes all cached mappings of the extracted archive entries. The extracted files are not
+	 * deleted
+	 */
+	public void clear()
+	{
+		extractions.clear();
+	}
+
+	private Extraction getExtraction(final EntryKey key) throws IOException
+	{
+		while (true)
+		{
+			FutureTask<Extraction> future = extractions.get(key);
+			if (future == null)
+			{
+				future = extractions.computeIfAbsent(key,
+					entryKey -> new FutureTask<>(() -> extract(entryKey)));
+			}
+			// the entry is extracted once, the run of a started or done task returns immediately
+			future.run();
+			final Extraction extraction = getResult(key, future);
+			if (Files.exists(extraction.file))
+			{
+				// remove the extractions of older versions of the archive
+				extractions.keySet().removeIf(other -> other.archive.equals(key.archive)
+					&& other.entryName.equals(key.entryName)
+					&& other.lastModified != key.lastModified);
+				return extraction;
+			}
+			// the extracted file was deleted, so the entry is extracted again
+			extractions.remove(key, future);
+		}
+	}
+
+	private Extraction getResult(final EntryKey key, final FutureTask<Extraction> future)
+		throws IOException
+	{
+		try
+		{
+			return future.get();
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(
+				"Interrupted while waiting for the extraction of " + key.entryName);
+		}
+		catch (final ExecutionException e)
+		{
+			// a failed extraction is not cached, so the next call tries again
+			extractions.remove(key, future);
+			final Throwable cause = e.getCause();
+			if (cause instanceof IOException)
+			{
+				throw (IOException)cause;
+			}
+			if (cause instanceof RuntimeException)
+			{
+				throw (RuntimeException)cause;
+			}
+			if (cause instanceof Error)
+			{
+				throw (Error)cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	private Extraction extract(final EntryKey key) throws IOException
+	{
+		try (JarFile jarFile = new JarFile(key.archive.toFile(), false))
+		{
+			final JarEntry jarEntry = jarFile.getJarEntry(key.entryName);
+			if (jarEntry == null)
+			{
+				throw new IOException(
+					"Entry '" + key.entryName + "' does not exist in " + key.archive);
+			}
+			try (InputStream inputStream = jarFile.getInputStream(jarEntry))
+			{
+				final Path file = store(inputStream);
+				return new Extraction(file, map(file));
+			}
+		}
+	}
+
+	private Path store(final InputStream content) throws IOException
+	{
+		final Path directory = getPrivateDirectory();
+		final Path temporaryFile = Files.createTempFile(directory, "extract", ".tmp");
+		final MessageDigest messageDigest;
+		try
+		{
+			messageDigest = MessageDigest.getInstance("SHA-256");
+		}
+		catch (final NoSuchAlgorithmException e)
+		{
+			throw new IllegalStateException("SHA-256 is not supported", e);
+		}
+		try (InputStream inputStream = new DigestInputStream(content, messageDigest))
+		{
+			Files.copy(inputStream, temporaryFile, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (final IOException e)
+		{
+			Files.deleteIfExists(temporaryFile);
+			throw e;
+		}
+		final String hash = HexFormat.of().formatHex(messageDigest.digest());
+		final Path file = directory.resolve(hash);
+		replace(temporaryFile, file, hash);
+		return file;
+	}
+
+	private synchronized Path getPrivateDirectory() throws IOException
+	{
+		if (!isPrivateDirectory(extractionDirectory))
+		{
+			// another user owns the directory and could plant files with a predictable name
+			extractionDirectory = Files.createTempDirectory(DEFAULT_DIRECTORY_NAME);
+		}
+		return extractionDirectory;
+	}
+
+	private static boolean isPrivateDirectory(final Path directory) throws IOException
+	{
+		final boolean posix = directory.getFileSystem().supportedFileAttributeViews()
+			.contains("posix");
+		final Path parent = directory.getParent();
+		if (parent != null)
+		{
+			Files.createDirectories(parent);
+		}
+		try
+		{
+			if (posix)
+			{
+				Files.createDirectory(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+			}
+			else
+			{
+				Files.createDirectory(directory);
+			}
+			return true;
+		}
+		catch (final FileAlreadyExistsException e)
+		{
+			// the existing directory is checked
+		}
+		if (!Files.isDirectory(directory, LinkOption.NOFOLLOW_LINKS))
+		{
+			return false;
+		}
+		try
+		{
+			if (!Files.getOwner(directory, LinkOption.NOFOLLOW_LINKS).equals(getCurrentUser()))
+			{
+				return false;
+			}
+		}
+		catch (final UnsupportedOperationException e)
+		{
+			// the file system has no owners
+			return true;
+		}
+		if (posix)
+		{
+			// restrict a directory that was created with the default permissions
+			Files.setPosixFilePermissions(directory, OWNER_ONLY);
+		}
+		return true;
+	}
+
+	private static UserPrincipal getCurrentUser() throws IOException
+	{
+		UserPrincipal user = currentUser;
+		if (user == null)
+		{
+			// the owner of a new file is the current user
+			final Path file = Files.createTempFile(DEFAULT_DIRECTORY_NAME, ".owner");
+			try
+			{
+				user = Files.getOwner(file);
+			}
+			finally
+			{
+				Files.deleteIfExists(file);
+			}
+			currentUser = user;
+		}
+		return user;
+	}
+
+	private static void replace(final Path temporaryFile, final Path file, final String hash)
+		throws IOException
+	{
+		try
+		{
+			// an existing file is replaced and never trusted
+			try
+			{
+				Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (final AtomicMoveNotSupportedException | FileAlreadyExistsException e)
+			{
+				Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (final IOException e)
+		{
+			// a file that is in use can not be replaced on some platforms, it is only reused if
+			// its content has the expected hash
+			if (!Files.exists(file) || !hash.equals(hash(file)))
+			{
+				Files.deleteIfExists(temporaryFile);
+				throw e;
+			}
+			Files.delete(temporaryFile);
+		}
+	}
+
+	private static String hash(final Path file) throws IOException
+	{
+		try (InputStream inputStream = new DigestInputStream(Files.newInputStream(file),
+			MessageDigest.getInstance("SHA-256")))
+		{
+			inputStream.transferTo(OutputStream.nullOutputStream());
+			return HexFormat.of()
+				.formatHex(((DigestInputStream)inputStream).getMessageDigest().digest());
+		}
+		catch (final NoSuchAlgorithmException e)
+		{
+			throw new IllegalStateException("SHA-256 is not supported", e);
+		}
+	}
+
+	private static Path toFile(final URL url)
+	{
+		if (!"file".equals(url.getProtocol()))
+		{
+			return null;
+		}
+		try
+		{
+			return Path.of(url.toURI());
+		}
+		catch (final URISyntaxException e)
+		{
+			throw new IllegalArgumentException("Given url '" + url + "' is not a valid uri", e);
+		}
+	}
+
+	private static EntryKey toEntryKey(final URL url) throws IOException
+	{
+		if (!"jar".equals(url.getProtocol()))
+		{
+			return null;
+		}
+		// the connection is not connected, so the archive is not opened
+		final URLConnection urlConnection = url.openConnection();
+		if (!(urlConnection instanceof JarURLConnection))
+		{
+			return null;
+		}
+		final JarURLConnection connection = (JarURLConnection)urlConnection;
+		final Path archive = toFile(connection.getJarFileURL());
+		final String entryName = connection.getEntryName();
+		// an entry of a nested archive is not an entry of the local archive
+		if (archive == null || entryName == null || entryName.contains("!/"))
+		{
+			return null;
+		}
+		return new EntryKey(archive, entryName,
+			Files.getLastModifiedTime(archive).toMillis());
+	}
+
+	/**
+	 * The class {@link EntryKey} identifies an entry of a version of an archive
+	 */
+	private static final class EntryKey
+	{
+
+		/** The archive */
+		final Path archive;
+
+		/** The name of the entry */
+		final String entryName;
+
+		/** The time of the last modification of the archive */
+		final long lastModified;
+
+		EntryKey(final Path archive, final String entryName, final long lastModified)
+		{
+			this.archive = archive;
+			this.entryName = entryName;
+			this.lastModified = lastModified;
+		}
+
+		@Override
+		public boolean equals(final Object obj)
+		{
+			if (this == obj)
+			{
+				return true;
+			}
+			if (!(obj instanceof EntryKey))
+			{
+				return false;
+			}
+			final EntryKey other = (EntryKey)obj;
+			return lastModified == other.lastModified && archive.equals(other.archive)
+				&& entryName.equals(other.entryName);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return Objects.hash(archive, entryName, lastModified);
+		}
+
+	}
+
+	/**
+	 * The class {@link Extraction} holds an extracted file and its mapped content
+	 */
+	private static final class Extraction
+	{
+
+		/** The extracted file */
+		final Path file;
+
+		/** The mapped content of the extracted file */
+		final ByteBuffer buffer;
+
+		Extraction(final Path file, final ByteBuffer buffer)
+		{
+			this.file = file;
+			this.buffer = buffer;
+		}
+
+	}
+
+}
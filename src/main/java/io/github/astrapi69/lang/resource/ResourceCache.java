@@ -0,0 +1,356 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import io.github.astrapi69.lang.ClassExtensions;
+
+/**
+ * The class {@link ResourceCache} caches the bytes of small resources for each {@link ClassLoader}
+ * and name, so a repeated read of the same resource does not resolve the class loader and open a
+ * stream again. The sum of the bytes of the cached resources is bounded by the maximum weight, if
+ * it is exceeded the least recently used resources are evicted. A resource that is bigger than the
+ * maximum weight is not cached. <br>
+ * <br>
+ * The class loaders are referenced weakly, so the cache does not prevent a class loader from being
+ * garbage collected. The returned streams and buffers are views over the cached bytes and are not
+ * copied. The cache is opt-in, {@link ClassExtensions#getResourceAsStream(String)} does not use it
+ */
+public final class ResourceCache
+{
+
+	/** The default maximum sum of the bytes of the cached resources */
+	public static final long DEFAULT_MAXIMUM_WEIGHT = 16L * 1024 * 1024;
+
+	/** The default instance */
+	private static volatile ResourceCache defaultInstance = new ResourceCache(
+		DEFAULT_MAXIMUM_WEIGHT);
+
+	/** The cached bytes in least recently used order */
+	private final LinkedHashMap<Key, byte[]> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+	/** The maximum sum of the bytes of the cached resources */
+	private final long maximumWeight;
+
+	/** The sum of the bytes of the cached resources */
+	private long weightedSize;
+
+	/** The number of the lookups that were answered from the cache */
+	private long hitCount;
+
+	/** The number of the lookups that had to read the resource */
+	private long missCount;
+
+	/** The number of the evicted resources */
+	private long evictionCount;
+
+	/**
+	 * Instantiates a new {@link ResourceCache} object
+	 *
+	 * @param maximumWeight
+	 *            the maximum sum of the bytes of the cached resources
+	 * @throws IllegalArgumentException
+	 *             if the given maximum weight is not positive
+	 */
+	public ResourceCache(final long maximumWeight)
+	{
+		if (maximumWeight < 1)
+		{
+			throw new IllegalArgumentException(
+				"Given argument 'maximumWeight' should be positive, but is " + maximumWeight);
+		}
+		this.maximumWeight = maximumWeight;
+	}
+
+	/**
+	 * Gets the default {@link ResourceCache} instance
+	 *
+	 * @return the default {@link ResourceCache} instance
+	 */
+	public static ResourceCache getDefault()
+	{
+		return defaultInstance;
+	}
+
+	/**
+	 * Sets the given {@link ResourceCache} as the default instance
+	 *
+	 * @param resourceCache
+	 *            the new default {@link ResourceCache} instance
+	 */
+	public static void setDefault(final ResourceCache resourceCache)
+	{
+		defaultInstance = Objects.requireNonNull(resourceCache);
+	}
+
+	/**
+	 * Gets a stream over the cached bytes of the resource with the given name from the class
+	 * loader of {@link ClassExtensions#getClassLoader()}
+	 *
+	 * @param name
+	 *            the name of the resource
+	 * @return the stream over the bytes or null if the resource does not exist
+	 */
+	public InputStream getResourceAsStream(final String name)
+	{
+		return getResourceAsStream(name, ClassExtensions.getClassLoader());
+	}
+
+	/**
+	 * Gets a stream over the cached bytes of the resource with the given name from the given class
+	 * loader
+	 *
+	 * @param name
+	 *            the name of the resource
+	 * @param classLoader
+	 *            the class loader
+	 * @return the stream over the bytes or null if the resource does not exist
+	 */
+	public InputStream getResourceAsStream(final String name, final ClassLoader classLoader)
+	{
+		final byte[] bytes = get(name, classLoader);
+		return bytes != null ? new ByteArrayInputStream(bytes) : null;
+	}
+
+	/**
+	 * Gets a read-only buffer over the cached bytes of the resource with the given name from the
+	 * given class loader
+	 *
+	 * @param name
+	 *            the name of the resource
+	 * @param classLoader
+	 *            the class loader
+	 * @return the read-only buffer over the bytes or null if the resource does not exist
+	 */
+	public ByteBuffer getBuffer(final String name, final ClassLoader classLoader)
+	{
+		final byte[] bytes = get(name, classLoader);
+		return bytes != null ? ByteBuffer.wrap(bytes).asReadOnlyBuffer() : null;
+	}
+
+	/**
+	 * Removes all cached resources of the given class loader
+	 *
+	 * @param classLoader
+	 *            the class loader
+	 */
+	public synchronized void invalidate(final ClassLoader classLoader)
+	{
+		removeIf(key -> key.classLoaderReference.get() == classLoader);
+	}
+
+	/**
+	 * Removes the cached resource with the given name of the given class loader
+	 *
+	 * @param name
+	 *            the name of the resource
+	 * @param classLoader
+	 *            the class loader
+	 */
+	public synchronized void invalidate(final String name, final ClassLoader classLoader)
+	{
+		final byte[] removed = entries.remove(new Key(classLoader, normalize(name)));
+		if (removed != null)
+		{
+			weightedSize -= removed.length;
+		}
+	}
+
+	/**
+	 * Removes all cached resources. The statistics are not reset
+	 */
+	public synchronized void invalidateAll()
+	{
+		entries.clear();
+		weightedSize = 0;
+	}
+
+	/**
+	 * Gets the number of the cached resources
+	 *
+	 * @return the number of the cached resources
+	 */
+	public synchronized int size()
+	{
+		return entries.size();
+	}
+
+	/**
+	 * Gets the maximum sum of the bytes of the cached resources
+	 *
+	 * @return the maximum sum of the bytes of the cached resources
+	 */
+	public long getMaximumWeight()
+	{
+		return maximumWeight;
+	}
+
+	/**
+	 * Gets the current statistics of this cache
+	 *
+	 * @return the current statistics of this cache
+	 */
+	public synchronized ResourceCacheStatistics getStatistics()
+	{
+		return ResourceCacheStatistics.builder().evictionCount(evictionCount).hitCount(hitCount)
+			.maximumWeight(maximumWeight).missCount(missCount).size(entries.size())
+			.weightedSize(weightedSize).build();
+	}
+
+	private byte[] get(final String name, final ClassLoader classLoader)
+	{
+		Objects.requireNonNull(classLoader);
+		final Key key = new Key(classLoader, normalize(name));
+		synchronized (this)
+		{
+			final byte[] bytes = entries.get(key);
+			if (bytes != null)
+			{
+				hitCount++;
+				return bytes;
+			}
+			missCount++;
+		}
+		// the resource is read outside of the lock, concurrent misses can read it twice
+		final byte[] bytes = read(key.name, classLoader);
+		if (bytes != null && bytes.length <= maximumWeight)
+		{
+			put(key, bytes);
+		}
+		return bytes;
+	}
+
+	private synchronized void put(final Key key, final byte[] bytes)
+	{
+		final byte[] previous = entries.put(key, bytes);
+		weightedSize += bytes.length - (previous != null ? previous.length : 0);
+		// entries of garbage collected class loaders can never be hit again
+		removeIf(Key::isCleared);
+		final Iterator<Map.Entry<Key, byte[]>> iterator = entries.entrySet().iterator();
+		while (maximumWeight < weightedSize && iterator.hasNext())
+		{
+			final Map.Entry<Key, byte[]> eldest = iterator.next();
+			if (eldest.getKey().equals(key))
+			{
+				continue;
+			}
+			weightedSize -= eldest.getValue().length;
+			iterator.remove();
+			evictionCount++;
+		}
+	}
+
+	private void removeIf(final Predicate<Key> predicate)
+	{
+		final Iterator<Map.Entry<Key, byte[]>> iterator = entries.entrySet().iterator();
+		while (iterator.hasNext())
+		{
+			final Map.Entry<Key, byte[]> entry = iterator.next();
+			if (predicate.test(entry.getKey()))
+			{
+				weightedSize -= entry.getValue().length;
+				iterator.remove();
+			}
+		}
+	}
+
+	private static byte[] read(final String name, final ClassLoader classLoader)
+	{
+		try (InputStream inputStream = classLoader.getResourceAsStream(name))
+		{
+			return inputStream != null ? inputStream.readAllBytes() : null;
+		}
+		catch (final IOException e)
+		{
+			throw new UncheckedIOException("Error while try to read the resource " + name, e);
+		}
+	}
+
+	private static String normalize(final String name)
+	{
+		Objects.requireNonNull(name);
+		return name.startsWith("/") ? name.substring(1) : name;
+	}
+
+	/**
+	 * The class {@link Key} identifies a resource of a class loader that is referenced weakly
+	 */
+	private static final class Key
+	{
+
+		/** The weak reference to the class loader */
+		final WeakReference<ClassLoader> classLoaderReference;
+
+		/** The identity hash code of the class loader */
+		final int classLoaderHash;
+
+		/** The name of the resource */
+		final String name;
+
+		Key(final ClassLoader classLoader, final String name)
+		{
+			this.classLoaderReference = new WeakReference<>(classLoader);
+			this.classLoaderHash = System.identityHashCode(classLoader);
+			this.name = name;
+		}
+
+		boolean isCleared()
+		{
+			return classLoaderReference.get() == null;
+		}
+
+		@Override
+		public boolean equals(final Object obj)
+		{
+			if (this == obj)
+			{
+				return true;
+			}
+			if (!(obj instanceof Key))
+			{
+				return false;
+			}
+			final Key other = (Key)obj;
+			final ClassLoader classLoader = classLoaderReference.get();
+			return classLoader != null && classLoader == other.classLoaderReference.get()
+				&& name.equals(other.name);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return 31 * classLoaderHash + name.hashCode();
+		}
+
+	}
+
+}
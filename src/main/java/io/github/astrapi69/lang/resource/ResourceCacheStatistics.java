@@ -0,0 +1,68 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.resource;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The class {@link ResourceCacheStatistics} holds the counters and the size of a
+ * {@link ResourceCache} at the time it was created
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ResourceCacheStatistics
+{
+
+	/** The number of the resources that were evicted because the maximum weight was exceeded */
+	private long evictionCount;
+
+	/** The number of the lookups that were answered from the cache */
+	private long hitCount;
+
+	/** The maximum sum of the bytes of the cached resources */
+	private long maximumWeight;
+
+	/** The number of the lookups that had to read the resource from the class loader */
+	private long missCount;
+
+	/** The number of the cached resources */
+	private int size;
+
+	/** The sum of the bytes of the cached resources */
+	private long weightedSize;
+
+	/**
+	 * Gets the ratio of the hits to all lookups
+	 *
+	 * @return the ratio of the hits to all lookups or 1.0 if there was no lookup
+	 */
+	public double getHitRate()
+	{
+		final long requestCount = hitCount + missCount;
+		return requestCount == 0 ? 1.0 : (double)hitCount / requestCount;
+	}
+
+}
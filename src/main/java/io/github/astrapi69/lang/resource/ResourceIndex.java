@@ -0,0 +1,785 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.resource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.logging.Level;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.github.astrapi69.lang.thread.ManagedExecutors;
+import io.github.astrapi69.lang.thread.NamedThreadFactory;
+import io.github.astrapi69.lang.thread.ThreadExtensions;
+import lombok.extern.java.Log;
+
+/**
+ * The class {@link ResourceIndex} holds the names of all resources of a list of JAR, WAR and EAR
+ * files and class directories. The index is built once and in parallel, so the lookup of a
+ * resource name, of all resources with a common prefix or of all resources that match a glob
+ * pattern costs a lookup in a sorted map instead of an enumeration over the class loader. <br>
+ * <br>
+ * Directories are indexed with a trailing slash and the parent directories of archive entries are
+ * added, so a package can be found even if the archive contains no directory entries. The index
+ * can be rebuilt with {@link #refresh()} and the class directories can be watched with
+ * {@link #watch()}, then created and deleted files are added and removed incrementally. A watched
+ * index should be closed if it is not used anymore.
+ */
+@Log
+public final class ResourceIndex implements AutoCloseable
+{
+
+	/** The default instance that is built lazily over the class path */
+	private static volatile ResourceIndex defaultInstance;
+
+	/** The indexed archives and class directories in the order of the lookup */
+	private final List<Path> roots;
+
+	/** The position of each root in the order of the lookup */
+	private final Map<Path, Integer> rootPositions;
+
+	/** The roots with the resource name as key */
+	private volatile NavigableMap<String, List<Path>> entries = new ConcurrentSkipListMap<>();
+
+	/** The watched directories with the watch key as key */
+	private final Map<WatchKey, WatchedDirectory> watchedDirectories = new ConcurrentHashMap<>();
+
+	/** The watch service or null if the index is not watched */
+	private WatchService watchService;
+
+	/**
+	 * Instantiates a new {@link ResourceIndex} object
+	 *
+	 * @param roots
+	 *            the archives and class directories in the order of the lookup
+	 */
+	private ResourceIndex(final List<Path> roots)
+	{
+		this.roots = List.copyOf(roots);
+		final Map<Path, Integer> positions = new HashMap<>();
+		for (int i = 0; i < this.roots.size(); i++)
+		{
+			positions.putIfAbsent(this.roots.get(i), i);
+		}
+		this.rootPositions = Collections.unmodifiableMap(positions);
+	}
+
+	/**
+	 * Creates a new {@link ResourceIndex} object from the archives and class directories of the
+	 * class path and of the module path
+	 *
+	 * @return the new {@link ResourceIndex} object
+	 */
+	public static ResourceIndex ofClasspath()
+	{
+		return of(ClasspathLocations.get());
+	}
+
+	/**
+	 * Creates a new {@link ResourceIndex} object from the given archives and class directories
+	 *
+	 * @param roots
+	 *            the archives and class directories in the order of the lookup
+	 * @return the new {@link ResourceIndex} object
+	 */
+	public static ResourceIndex of(final Collection<Path> roots)
+	{
+		Objects.requireNonNull(roots);
+		final ResourceIndex resourceIndex = new ResourceIndex(
+			roots.stream().map(Path::toAbsolutePath).distinct().collect(Collectors.toList()));
+		resourceIndex.refresh();
+		return resourceIndex;
+	}
+
+	/**
+	 * Gets the default {@link ResourceIndex} instance that is built on the first call over the
+	 * class path
+	 *
+	 * @return the default {@link ResourceIndex} instance
+	 */
+	public static ResourceIndex getDefault()
+	{
+		ResourceIndex resourceIndex = defaultInstance;
+		if (resourceIndex == null)
+		{
+			synchronized (ResourceIndex.class)
+			{
+				resourceIndex = defaultInstance;
+				if (resourceIndex == null)
+				{
+					resourceIndex = ofClasspath();
+					defaultInstance = resourceIndex;
+				}
+			}
+		}
+		return resourceIndex;
+	}
+
+	/**
+	 * Sets the given {@link ResourceIndex} as the default instance
+	 *
+	 * @param resourceIndex
+	 *            the new default {@link ResourceIndex} instance
+	 */
+	public static void setDefault(final ResourceIndex resourceIndex)
+	{
+		defaultInstance = Objects.requireNonNull(resourceIndex);
+	}
+
+	/**
+	 * Gets the indexed archives and class directories
+	 *
+	 * @return the indexed archives and class directories in the order of the lookup
+	 */
+	public List<Path> getRoots()
+	{
+		return roots;
+	}
+
+	/**
+	 * Checks if a resource or directory with the given name exists
+	 *
+	 * @param name
+	 *            the name of the resource, for instance 'io/github/astrapi69/lang'
+	 * @return true if a resource or directory with the given name exists otherwise false
+	 */
+	public boolean contains(final String name)
+	{
+		return !getLocations(name).isEmpty();
+	}
+
+	/**
+	 * Gets the archives and class directories that contain a resource or directory with the given
+	 * name
+	 *
+	 * @param name
+	 *            the name of the resource, for instance 'io/github/astrapi69/lang'
+	 * @return the archives and class directories that contain the given name in the order of the
+	 *         lookup
+	 */
+	public List<Path> getLocations(final String name)
+	{
+		final String normalized = normalize(name);
+		final NavigableMap<String, List<Path>> current = entries;
+		final List<Path> locations = current.get(normalized);
+		if (normalized.endsWith("/"))
+		{
+			return locations != null ? locations : List.of();
+		}
+		final List<Path> directoryLocations = current.get(normalized + "/");
+		if (locations == null)
+		{
+			return directoryLocations != null ? directoryLocations : List.of();
+		}
+		if (directoryLocations == null)
+		{
+			return locations;
+		}
+		final Set<Path> merged = new LinkedHashSet<>(locations);
+		merged.addAll(directoryLocations);
+		return List.copyOf(merged);
+	}
+
+	/**
+	 * Gets the urls of all resources and directories with the given name like
+	 * {@link ClassLoader#getResources(String)}
+	 *
+	 * @param name
+	 *            the name of the resource, for instance 'io/github/astrapi69/lang'
+	 * @return the urls in the order of the lookup
+	 */
+	public List<URL> getResources(final String name)
+	{
+		final String normalized = normalize(name);
+		final List<URL> urls = new ArrayList<>();
+		for (final Path root : getLocations(normalized))
+		{
+			urls.add(toURL(root, normalized));
+		}
+		return urls;
+	}
+
+	/**
+	 * Gets the directories with the given name in the indexed class directories like
+	 * {@link io.github.astrapi69.lang.ClassExtensions#getDirectoriesFromResources(String, boolean)}
+	 *
+	 * @param name
+	 *            the name of the directory, for instance 'io/github/astrapi69/lang'
+	 * @return the directories in the order of the lookup
+	 */
+	public List<Path> getDirectories(final String name)
+	{
+		final String normalized = normalize(name);
+		final String directoryName = normalized.endsWith("/") ? normalized : normalized + "/";
+		final List<Path> directories = new ArrayList<>();
+		for (final Path root : entries.getOrDefault(directoryName, List.of()))
+		{
+			if (Files.isDirectory(root))
+			{
+				directories.add(root.resolve(directoryName));
+			}
+		}
+		return directories;
+	}
+
+	/**
+	 * Finds the names of all resources that starts with the given prefix. Directories are not
+	 * contained
+	 *
+	 * @param prefix
+	 *            the prefix, for instance 'io/github/astrapi69/' for all resources in a package
+	 *            and its sub packages
+	 * @return the sorted names of the found resources
+	 */
+	public Set<String> findByPrefix(final String prefix)
+	{
+		final Set<String> names = new TreeSet<>();
+		for (final String name : subMap(normalize(prefix)).keySet())
+		{
+			if (!name.endsWith("/"))
+			{
+				names.add(name);
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * Finds the names of all resources that match the given glob pattern. The wildcard '*' matches
+	 * any characters except a slash, the wildcard '**' matches any characters over directories and
+	 * the wildcard '?' matches one character except a slash. Directories are not contained
+	 *
+	 * @param glob
+	 *            the glob pattern, for instance 'META-INF/services/*' or '**&#47;*.properties'
+	 * @return the sorted names of the found resources
+	 */
+	public Set<String> findByGlob(final String glob)
+	{
+		final String normalized = normalize(glob);
+		final Pattern pattern = toPattern(normalized);
+		final Set<String> names = new TreeSet<>();
+		for (final String name : subMap(getLiteralPrefix(normalized)).keySet())
+		{
+			if (!name.endsWith("/") && pattern.matcher(name).matches())
+			{
+				names.add(name);
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * Scans all archives and class directories again in parallel and replaces the index
+	 */
+	public void refresh()
+	{
+		final List<Set<String>> scanned = scanAll(roots);
+		final NavigableMap<String, List<Path>> refreshed = new ConcurrentSkipListMap<>();
+		for (int i = 0; i < roots.size(); i++)
+		{
+			final Path root = roots.get(i);
+			for (final String name : scanned.get(i))
+			{
+				refreshed.merge(name, List.of(root), ResourceIndex::concat);
+			}
+		}
+		synchronized (this)
+		{
+			entries = refreshed;
+		}
+	}
+
+	/**
+	 * Scans the given archive or class directory again and updates the index
+	 *
+	 * @param root
+	 *            the indexed archive or class directory
+	 * @throws IllegalArgumentException
+	 *             if the given root is not indexed
+	 */
+	public void refresh(final Path root)
+	{
+		final Path absoluteRoot = getRoot(root);
+		final Set<String> names = scan(absoluteRoot);
+		synchronized (this)
+		{
+			for (final String name : new ArrayList<>(entries.keySet()))
+			{
+				if (!names.contains(name))
+				{
+					remove(name, absoluteRoot);
+				}
+			}
+			for (final String name : names)
+			{
+				add(name, absoluteRoot);
+			}
+		}
+	}
+
+	/**
+	 * Watches all indexed class directories and updates the index if files or directories are
+	 * created or deleted. The events are processed from a daemon thread until this index is closed
+	 *
+	 * @return this {@link ResourceIndex} object
+	 */
+	public synchronized ResourceIndex watch()
+	{
+		if (watchService != null)
+		{
+			return this;
+		}
+		try
+		{
+			watchService = FileSystems.getDefault().newWatchService();
+			for (final Path root : roots)
+			{
+				if (Files.isDirectory(root))
+				{
+					registerAll(root, root);
+				}
+			}
+		}
+		catch (final IOException e)
+		{
+			close();
+			throw new UncheckedIOException("Error while try to watch the class directories", e);
+		}
+		final WatchService service = watchService;
+		new NamedThreadFactory(ManagedExecutors.THREAD_NAME_PREFIX + "-resource-index", true)
+			.newThread(() -> processEvents(service)).start();
+		return this;
+	}
+
+	/**
+	 * Checks if the class directories of this index are watched
+	 *
+	 * @return true if the class directories of this index are watched otherwise false
+	 */
+	public synchronized boolean isWatching()
+	{
+		return watchService != null;
+	}
+
+	/**
+	 * Stops watching the class directories. The index can still be queried and refreshed
+	 */
+	@Override
+	public synchronized void close()
+	{
+		if (watchService != null)
+		{
+			try
+			{
+				watchService.close();
+			}
+			catch (final IOException e)
+			{
+				log.log(Level.WARNING, "Error while try to close the watch service", e);
+			}
+			watchService = null;
+			watchedDirectories.clear();
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return "ResourceIndex(roots=" + roots.size() + ", entries=" + entries.size()
+			+ ", watching=" + isWatching() + ")";
+	}
+
+	private void processEvents(final WatchService service)
+	{
+		try
+		{
+			while (true)
+			{
+				final WatchKey key = service.take();
+				final WatchedDirectory watched = watchedDirectories.get(key);
+				if (watched != null)
+				{
+					for (final WatchEvent<?> event : key.pollEvents())
+					{
+						try
+						{
+							processEvent(watched, event);
+						}
+						catch (final RuntimeException e)
+						{
+							log.log(Level.WARNING, "Error while try to update the resource index",
+								e);
+						}
+					}
+				}
+				if (!key.reset())
+				{
+					watchedDirectories.remove(key);
+				}
+			}
+		}
+		catch (final ClosedWatchServiceException e)
+		{
+			// the index was closed
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void processEvent(final WatchedDirectory watched, final WatchEvent<?> event)
+	{
+		if (event.kind() == StandardWatchEventKinds.OVERFLOW)
+		{
+			refresh(watched.root);
+			return;
+		}
+		final Path child = watched.directory.resolve((Path)event.context());
+		final String name = toName(watched.root, child);
+		synchronized (this)
+		{
+			if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE)
+			{
+				if (Files.isDirectory(child))
+				{
+					try
+					{
+						registerAll(watched.root, child);
+					}
+					catch (final IOException e)
+					{
+						throw new UncheckedIOException(
+							"Error while try to watch the directory " + child, e);
+					}
+					// files can be created before the directory is registered
+					scanDirectory(watched.root, child).forEach(created -> add(created,
+						watched.root));
+				}
+				else
+				{
+					add(name, watched.root);
+				}
+			}
+			else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE)
+			{
+				remove(name, watched.root);
+				for (final String deleted : new ArrayList<>(subMap(name + "/").keySet()))
+				{
+					remove(deleted, watched.root);
+				}
+			}
+		}
+	}
+
+	private void registerAll(final Path root, final Path directory) throws IOException
+	{
+		final WatchService service = watchService;
+		if (service == null)
+		{
+			return;
+		}
+		try (Stream<Path> paths = Files.walk(directory))
+		{
+			for (final Path path : (Iterable<Path>)paths.filter(Files::isDirectory)::iterator)
+			{
+				final WatchKey key = path.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_DELETE);
+				watchedDirectories.put(key, new WatchedDirectory(root, path));
+			}
+		}
+	}
+
+	private void add(final String name, final Path root)
+	{
+		entries.merge(name, List.of(root), (current, added) -> {
+			if (current.contains(root))
+			{
+				return current;
+			}
+			final List<Path> merged = new ArrayList<>(current);
+			int index = 0;
+			while (index < merged.size()
+				&& rootPositions.get(merged.get(index)) < rootPositions.get(root))
+			{
+				index++;
+			}
+			merged.add(index, root);
+			return List.copyOf(merged);
+		});
+	}
+
+	private void remove(final String name, final Path root)
+	{
+		entries.computeIfPresent(name, (key, current) -> {
+			if (!current.contains(root))
+			{
+				return current;
+			}
+			final List<Path> remaining = new ArrayList<>(current);
+			remaining.remove(root);
+			return remaining.isEmpty() ? null : List.copyOf(remaining);
+		});
+	}
+
+	private Path getRoot(final Path root)
+	{
+		final Path absoluteRoot = Objects.requireNonNull(root).toAbsolutePath();
+		if (!rootPositions.containsKey(absoluteRoot))
+		{
+			throw new IllegalArgumentException("Given root '" + root + "' is not indexed");
+		}
+		return absoluteRoot;
+	}
+
+	private NavigableMap<String, List<Path>> subMap(final String prefix)
+	{
+		final NavigableMap<String, List<Path>> current = entries;
+		return prefix.isEmpty()
+			? current
+			: current.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+	}
+
+	private static List<Set<String>> scanAll(final List<Path> roots)
+	{
+		try
+		{
+			// the parallel stream runs in the fork join pool of the callable
+			return ThreadExtensions.runCallableWithCpuCores(
+				() -> roots.parallelStream().map(ResourceIndex::scan)
+					.collect(Collectors.toList()),
+				Math.max(2, ThreadExtensions.getAvailableProcessors()));
+		}
+		catch (final ExecutionException e)
+		{
+			throw new RuntimeException("Error while try to scan the resources", e.getCause());
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while try to scan the resources", e);
+		}
+	}
+
+	private static Set<String> scan(final Path root)
+	{
+		try
+		{
+			if (Files.isDirectory(root))
+			{
+				return scanDirectory(root, root);
+			}
+			if (Files.isRegularFile(root))
+			{
+				return scanArchive(root);
+			}
+		}
+		catch (final RuntimeException e)
+		{
+			log.log(Level.WARNING, "Error while try to scan the resources of " + root, e);
+		}
+		return Set.of();
+	}
+
+	private static Set<String> scanDirectory(final Path root, final Path directory)
+	{
+		final Set<String> names = new LinkedHashSet<>();
+		try (Stream<Path> paths = Files.walk(directory))
+		{
+			paths.filter(path -> !path.equals(root)).forEach(path -> names.add(
+				Files.isDirectory(path) ? toName(root, path) + "/" : toName(root, path)));
+		}
+		catch (final IOException | UncheckedIOException e)
+		{
+			throw new RuntimeException("Error while try to scan the directory " + directory, e);
+		}
+		return names;
+	}
+
+	private static Set<String> scanArchive(final Path archive)
+	{
+		final Set<String> names = new LinkedHashSet<>();
+		try (JarFile jarFile = new JarFile(archive.toFile(), false))
+		{
+			final Enumeration<JarEntry> jarEntries = jarFile.entries();
+			while (jarEntries.hasMoreElements())
+			{
+				final String name = jarEntries.nextElement().getName();
+				names.add(name);
+				// add the parent directories, an archive does not need to contain them
+				int slash = name.lastIndexOf('/', name.length() - 2);
+				while (0 < slash && names.add(name.substring(0, slash + 1)))
+				{
+					slash = name.lastIndexOf('/', slash - 1);
+				}
+			}
+		}
+		catch (final IOException e)
+		{
+			throw new RuntimeException("Error while try to scan the archive " + archive, e);
+		}
+		return names;
+	}
+
+	private static String toName(final Path root, final Path path)
+	{
+		final String name = root.relativize(path).toString();
+		return path.getFileSystem().getSeparator().equals("/")
+			? name
+			: name.replace(path.getFileSystem().getSeparator(), "/");
+	}
+
+	private static URL toURL(final Path root, final String name)
+	{
+		try
+		{
+			if (Files.isDirectory(root))
+			{
+				return root.resolve(name).toUri().toURL();
+			}
+			return new URL("jar:" + root.toUri() + "!/" + name);
+		}
+		catch (final MalformedURLException e)
+		{
+			throw new RuntimeException("Error while try to create the url of " + name, e);
+		}
+	}
+
+	private static String normalize(final String name)
+	{
+		Objects.requireNonNull(name);
+		return name.startsWith("/") ? name.substring(1) : name;
+	}
+
+	private static String getLiteralPrefix(final String glob)
+	{
+		int index = 0;
+		while (index < glob.length() && glob.charAt(index) != '*' && glob.charAt(index) != '?')
+		{
+			index++;
+		}
+		return glob.substring(0, index);
+	}
+
+	static Pattern toPattern(final String glob)
+	{
+		final StringBuilder regex = new StringBuilder();
+		final StringBuilder literal = new StringBuilder();
+		int index = 0;
+		while (index < glob.length())
+		{
+			final char character = glob.charAt(index);
+			if (character != '*' && character != '?')
+			{
+				literal.append(character);
+				index++;
+				continue;
+			}
+			if (0 < literal.length())
+			{
+				regex.append(Pattern.quote(literal.toString()));
+				literal.setLength(0);
+			}
+			if (character == '?')
+			{
+				regex.append("[^/]");
+				index++;
+			}
+			else if (glob.startsWith("**/", index))
+			{
+				regex.append("(?:.*/)?");
+				index += 3;
+			}
+			else if (glob.startsWith("**", index))
+			{
+				regex.append(".*");
+				index += 2;
+			}
+			else
+			{
+				regex.append("[^/]*");
+				index++;
+			}
+		}
+		if (0 < literal.length())
+		{
+			regex.append(Pattern.quote(literal.toString()));
+		}
+		return Pattern.compile(regex.toString());
+	}
+
+	private static List<Path> concat(final List<Path> current, final List<Path> added)
+	{
+		final List<Path> merged = new ArrayList<>(current.size() + added.size());
+		merged.addAll(current);
+		merged.addAll(added);
+		return List.copyOf(merged);
+	}
+
+	/**
+	 * The class {@link WatchedDirectory} holds a watched directory and its class directory
+	 */
+	private static final class WatchedDirectory
+	{
+
+		/** The class directory */
+		final Path root;
+
+		/** The watched directory */
+		final Path directory;
+
+		WatchedDirectory(final Path root, final Path directory)
+		{
+			this.root = root;
+			this.directory = directory;
+		}
+
+	}
+
+}
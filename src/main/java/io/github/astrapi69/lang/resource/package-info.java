@@ -0,0 +1,4 @@
+/**
+ * This package provides classes for the indexed and cached access to class path resources
+ */
+package io.github.astrapi69.lang.resource;
@@ -0,0 +1,249 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import io.github.astrapi69.check.Argument;
+
+/**
+ * The class {@link IdleStrategies} provides factory methods for {@link IdleStrategy} objects
+ */
+public final class IdleStrategies
+{
+
+	/**
+	 * Private constructor for prevent instantiation
+	 */
+	private IdleStrategies()
+	{
+	}
+
+	/**
+	 * Factory method for create an {@link IdleStrategy} that spins with
+	 * {@link Thread#onSpinWait()}. This strategy has the lowest latency but occupies a full core
+	 *
+	 * @return the new {@link IdleStrategy}
+	 */
+	public static IdleStrategy busySpin()
+	{
+		return workCount -> {
+			if (workCount <= 0)
+			{
+				Thread.onSpinWait();
+			}
+		};
+	}
+
+	/**
+	 * Factory method for create an {@link IdleStrategy} that yields the processor with
+	 * {@link Thread#yield()}
+	 *
+	 * @return the new {@link IdleStrategy}
+	 */
+	public static IdleStrategy yielding()
+	{
+		return workCount -> {
+			if (workCount <= 0)
+			{
+				Thread.yield();
+			}
+		};
+	}
+
+	/**
+	 * Factory method for create an {@link IdleStrategy} that spins first, then yields and then
+	 * parks the thread with an exponential backoff from the given minimum to the given maximum
+	 * park time. The backoff is reset if work is done
+	 *
+	 * @param maxSpins
+	 *            the number of iterations to spin before yielding
+	 * @param maxYields
+	 *            the number of iterations to yield before parking
+	 * @param minParkTime
+	 *            the minimum park time
+	 * @param maxParkTime
+	 *            the maximum park time
+	 * @param timeUnit
+	 *            the time unit of the park times
+	 * @return the new {@link IdleStrategy}
+	 */
+	public static IdleStrategy backoff(final int maxSpins, final int maxYields,
+		final long minParkTime, final long maxParkTime, final TimeUnit timeUnit)
+	{
+		Argument.isInRange(0, Integer.MAX_VALUE, maxSpins, "maxSpins");
+		Argument.isInRange(0, Integer.MAX_VALUE, maxYields, "maxYields");
+		Argument.isInRange(1L, Long.MAX_VALUE, minParkTime, "minParkTime");
+		Argument.isInRange(minParkTime, Long.MAX_VALUE, maxParkTime, "maxParkTime");
+		return new BackoffIdleStrategy(maxSpins, maxYields, timeUnit.toNanos(minParkTime),
+			timeUnit.toNanos(maxParkTime));
+	}
+
+	/**
+	 * Factory method for create an {@link IdleStrategy} that spins 10 times, yields 5 times and
+	 * then parks the thread with an exponential backoff from 1 microsecond to 1 millisecond
+	 *
+	 * @return the new {@link IdleStrategy}
+	 */
+	public static IdleStrategy backoff()
+	{
+		return backoff(10, 5, 1, 1000, TimeUnit.MICROSECONDS);
+	}
+
+	/**
+	 * Factory method for create an {@link IdleStrategy} that blocks the thread until
+	 * {@link IdleStrategy#signal()} is called or the given maximum wait time is elapsed
+	 *
+	 * @param maxWaitTime
+	 *            the maximum time to block
+	 * @param timeUnit
+	 *            the time unit of the maximum wait time
+	 * @return the new {@link IdleStrategy}
+	 */
+	public static IdleStrategy blocking(final long maxWaitTime, final TimeUnit timeUnit)
+	{
+		Argument.isInRange(1L, Long.MAX_VALUE, maxWaitTime, "maxWaitTime");
+		return new BlockingIdleStrategy(timeUnit.toNanos(maxWaitTime));
+	}
+
+	/**
+	 * The class {@link BackoffIdleStrategy} spins, yields and parks with an exponential backoff
+	 */
+	private static final class BackoffIdleStrategy implements IdleStrategy
+	{
+
+		/** The number of iterations to spin */
+		private final int maxSpins;
+
+		/** The number of iterations to yield */
+		private final int maxYields;
+
+		/** The minimum park time in nanoseconds */
+		private final long minParkNanos;
+
+		/** The maximum park time in nanoseconds */
+		private final long maxParkNanos;
+
+		/** The current park time in nanoseconds */
+		private long parkNanos;
+
+		/** The number of spins since the last reset */
+		private int spins;
+
+		/** The number of yields since the last reset */
+		private int yields;
+
+		BackoffIdleStrategy(final int maxSpins, final int maxYields, final long minParkNanos,
+			final long maxParkNanos)
+		{
+			this.maxSpins = maxSpins;
+			this.maxYields = maxYields;
+			this.minParkNanos = minParkNanos;
+			this.maxParkNanos = maxParkNanos;
+			this.parkNanos = minParkNanos;
+		}
+
+		@Override
+		public void idle(final int workCount)
+		{
+			if (workCount > 0)
+			{
+				reset();
+			}
+			else if (spins < maxSpins)
+			{
+				spins++;
+				Thread.onSpinWait();
+			}
+			else if (yields < maxYields)
+			{
+				yields++;
+				Thread.yield();
+			}
+			else
+			{
+				LockSupport.parkNanos(this, parkNanos);
+				parkNanos = Math.min(parkNanos << 1, maxParkNanos);
+			}
+		}
+
+		@Override
+		public void reset()
+		{
+			spins = 0;
+			yields = 0;
+			parkNanos = minParkNanos;
+		}
+
+	}
+
+	/**
+	 * The class {@link BlockingIdleStrategy} parks the thread until it is signaled
+	 */
+	private static final class BlockingIdleStrategy implements IdleStrategy
+	{
+
+		/** The maximum time to block in nanoseconds */
+		private final long maxWaitNanos;
+
+		/** The flag if a signal was sent since the last idle */
+		private final AtomicBoolean signaled = new AtomicBoolean();
+
+		/** The thread that is blocked */
+		private volatile Thread waiter;
+
+		BlockingIdleStrategy(final long maxWaitNanos)
+		{
+			this.maxWaitNanos = maxWaitNanos;
+		}
+
+		@Override
+		public void idle(final int workCount)
+		{
+			if (workCount > 0)
+			{
+				return;
+			}
+			waiter = Thread.currentThread();
+			if (!signaled.getAndSet(false))
+			{
+				LockSupport.parkNanos(this, maxWaitNanos);
+				signaled.set(false);
+			}
+			waiter = null;
+		}
+
+		@Override
+		public void signal()
+		{
+			signaled.set(true);
+			final Thread thread = waiter;
+			if (thread != null)
+			{
+				LockSupport.unpark(thread);
+			}
+		}
+
+	}
+
+}
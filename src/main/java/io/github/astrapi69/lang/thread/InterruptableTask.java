@@ -0,0 +1,115 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+/**
+ * The abstract class {@link InterruptableTask} is the counterpart of {@link InterruptableThread}
+ * that runs on a thread from {@link VirtualThreads#startThread(Runnable)}. On java 21 and later the
+ * task runs on a virtual thread, on java 17 on a platform daemon thread
+ */
+public abstract class InterruptableTask implements Runnable
+{
+
+	/** A flag that indicates whether the task is interrupted */
+	private volatile boolean interrupted;
+
+	/** The thread that runs this task */
+	private volatile Thread thread;
+
+	/**
+	 * Starts this task on a new thread from {@link VirtualThreads#startThread(Runnable)}
+	 *
+	 * @return the thread that runs this task
+	 * @throws IllegalStateException
+	 *             if this task is already started
+	 */
+	public synchronized Thread start()
+	{
+		if (thread != null)
+		{
+			throw new IllegalStateException("Task is already started");
+		}
+		thread = VirtualThreads.startThread(this);
+		return thread;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void run()
+	{
+		while (!interrupted && !Thread.currentThread().isInterrupted())
+		{
+			process();
+		}
+	}
+
+	/**
+	 * Interrupts this task and the thread that runs this task
+	 */
+	public void interrupt()
+	{
+		interrupted = true;
+		final Thread current = thread;
+		if (current != null)
+		{
+			current.interrupt();
+		}
+	}
+
+	/**
+	 * Checks if this task is interrupted
+	 *
+	 * @return true if this task is interrupted otherwise false
+	 */
+	public boolean isInterrupted()
+	{
+		return interrupted;
+	}
+
+	/**
+	 * Waits at most the given milliseconds for the thread of this task to terminate
+	 *
+	 * @param millis
+	 *            the time to wait in milliseconds
+	 * @return true if the thread of this task is terminated or was never started otherwise false
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while waiting
+	 */
+	public boolean join(final long millis) throws InterruptedException
+	{
+		final Thread current = thread;
+		if (current == null)
+		{
+			return true;
+		}
+		current.join(millis);
+		return !current.isAlive();
+	}
+
+	/**
+	 * Abstract method to be implemented by subclasses that defines the processing logic of the
+	 * task
+	 */
+	protected abstract void process();
+
+}
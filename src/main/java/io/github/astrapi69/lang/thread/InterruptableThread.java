@@ -22,12 +22,14 @@ package io.github.astrapi69.lang.thread;
 
 /**
  * The abstract class {@link InterruptableThread} provides a template for threads that can be
- * interrupted gracefully during execution.
+ * interrupted gracefully during execution. The method {@link InterruptableThread#process()} is
+ * called in a loop without idling, for a worker loop with idle strategies, pause and resume see
+ * {@link Worker}
  */
 public abstract class InterruptableThread extends Thread
 {
 	/** A flag that indicates whether the thread is interrupted */
-	private boolean interrupted = false;
+	private volatile boolean interrupted = false;
 
 	/**
 	 * {@inheritDoc}
@@ -0,0 +1,314 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.github.astrapi69.check.Argument;
+
+/**
+ * The class {@link ManagedExecutors} provides shared and reusable executors for the methods of the
+ * class {@link ThreadExtensions}. The {@link ForkJoinPool} objects are shared for each
+ * parallelism and the shared executor has a bounded queue, so a high call rate does not create
+ * new threads for every call. The task executor starts a thread for each task that is not served
+ * from an idle thread, so blocking tasks do not starve each other. All executors use daemon
+ * threads and are shut down from a shutdown hook that is registered with the first created
+ * executor. The shutdown hook does not wait for running tasks, so it does not delay the exit of
+ * the virtual machine
+ */
+public final class ManagedExecutors
+{
+
+	/** The default capacity of the queue from the shared executor */
+	public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	/** The default timeout in seconds for the termination of each executor on shutdown */
+	public static final long DEFAULT_SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+	/** The name prefix of the threads from the managed executors */
+	public static final String THREAD_NAME_PREFIX = "jobj";
+
+	/** The shared fork join pools with the parallelism as key */
+	private static final ConcurrentMap<Integer, ForkJoinPool> FORK_JOIN_POOLS =
+		new ConcurrentHashMap<>();
+
+	/** The lock for create the shared executor */
+	private static final Object LOCK = new Object();
+
+	/** The flag if the shutdown hook is registered */
+	private static final AtomicBoolean SHUTDOWN_HOOK_REGISTERED = new AtomicBoolean();
+
+	/** The shared executor with a bounded queue */
+	private static volatile ExecutorService sharedExecutor;
+
+	/** The shared executor that runs each task on an own thread */
+	private static volatile ExecutorService taskExecutor;
+
+	/** The shared scheduler for timeouts and delayed tasks */
+	private static volatile ScheduledExecutorService scheduler;
+
+	/**
+	 * Private constructor for prevent instantiation
+	 */
+	private ManagedExecutors()
+	{
+	}
+
+	/**
+	 * Gets the shared {@link ForkJoinPool} for the given parallelism. The pool is created on the
+	 * first call and reused for all further calls with the same parallelism
+	 *
+	 * @param parallelism
+	 *            the parallelism of the pool
+	 * @return the shared {@link ForkJoinPool} for the given parallelism
+	 * @throws IllegalArgumentException
+	 *             if the given parallelism is less than one or greater than the maximum of a
+	 *             {@link ForkJoinPool}
+	 */
+	public static ForkJoinPool getForkJoinPool(final int parallelism)
+	{
+		Argument.isInRange(1, 0x7fff, parallelism, "parallelism");
+		ForkJoinPool pool = FORK_JOIN_POOLS.get(parallelism);
+		while (pool == null || pool.isShutdown())
+		{
+			if (pool != null)
+			{
+				FORK_JOIN_POOLS.remove(parallelism, pool);
+			}
+			pool = FORK_JOIN_POOLS.computeIfAbsent(parallelism, ManagedExecutors::newForkJoinPool);
+		}
+		return pool;
+	}
+
+	/**
+	 * Gets the shared executor. The shared executor has as many threads as processors are
+	 * available and a queue with the capacity {@link ManagedExecutors#DEFAULT_QUEUE_CAPACITY}. If
+	 * the queue is full a {@link RejectedExecutionException} is thrown on submit
+	 *
+	 * @return the shared executor
+	 */
+	public static ExecutorService getSharedExecutor()
+	{
+		ExecutorService executor = sharedExecutor;
+		if (executor == null || executor.isShutdown())
+		{
+			synchronized (LOCK)
+			{
+				executor = sharedExecutor;
+				if (executor == null || executor.isShutdown())
+				{
+					registerShutdownHook();
+					executor = newBoundedExecutor(THREAD_NAME_PREFIX + "-shared",
+						Math.max(2, ThreadExtensions.getAvailableProcessors()),
+						DEFAULT_QUEUE_CAPACITY);
+					sharedExecutor = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
+	/**
+	 * Gets the shared task executor. The task executor runs each task on an own thread, so it
+	 * never rejects a task and blocking or nested tasks do not wait for each other. On java 17 the
+	 * threads are cached platform daemon threads and on java 21 virtual threads, see
+	 * {@link VirtualThreads#newThreadPerTaskExecutor()}
+	 *
+	 * @return the shared task executor
+	 */
+	public static ExecutorService getTaskExecutor()
+	{
+		ExecutorService executor = taskExecutor;
+		if (executor == null || executor.isShutdown())
+		{
+			synchronized (LOCK)
+			{
+				executor = taskExecutor;
+				if (executor == null || executor.isShutdown())
+				{
+					registerShutdownHook();
+					executor = VirtualThreads.newThreadPerTaskExecutor();
+					taskExecutor = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
+	/**
+	 * Gets the shared scheduler for timeouts and delayed tasks. The scheduler has one daemon thread
+	 * and removes cancelled tasks from its queue, so the scheduled tasks should only complete or
+	 * cancel other tasks and not block
+	 *
+	 * @return the shared scheduler
+	 */
+	public static ScheduledExecutorService getScheduler()
+	{
+		ScheduledExecutorService executor = scheduler;
+		if (executor == null || executor.isShutdown())
+		{
+			synchronized (LOCK)
+			{
+				executor = scheduler;
+				if (executor == null || executor.isShutdown())
+				{
+					registerShutdownHook();
+					final ScheduledThreadPoolExecutor scheduledExecutor =
+						new ScheduledThreadPoolExecutor(1,
+							new NamedThreadFactory(THREAD_NAME_PREFIX + "-scheduler", true));
+					scheduledExecutor.setRemoveOnCancelPolicy(true);
+					executor = scheduledExecutor;
+					scheduler = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
+	/**
+	 * Factory method for create a new {@link ThreadPoolExecutor} with a fixed number of daemon
+	 * threads and a bounded queue. Idle threads are terminated after one minute. If the queue is
+	 * full a {@link RejectedExecutionException} is thrown on submit. The returned executor is not
+	 * managed from this class, so the caller is responsible for the shutdown
+	 *
+	 * @param namePrefix
+	 *            the name prefix of the threads
+	 * @param threads
+	 *            the maximum number of threads
+	 * @param queueCapacity
+	 *            the capacity of the queue
+	 * @return the new {@link ThreadPoolExecutor}
+	 */
+	public static ThreadPoolExecutor newBoundedExecutor(final String namePrefix, final int threads,
+		final int queueCapacity)
+	{
+		Argument.isInRange(1, Integer.MAX_VALUE, threads, "threads");
+		Argument.isInRange(1, Integer.MAX_VALUE, queueCapacity, "queueCapacity");
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L,
+			TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+			new NamedThreadFactory(namePrefix, true), new ThreadPoolExecutor.AbortPolicy());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Shuts down all managed executors and waits the given timeout for the termination of each
+	 * executor. Executors that are requested after this call are created again
+	 *
+	 * @param timeoutSeconds
+	 *            the timeout in seconds to wait for the termination of each executor
+	 */
+	public static void shutdown(final long timeoutSeconds)
+	{
+		final List<ExecutorService> executors = removeExecutors();
+		for (final ExecutorService executor : executors)
+		{
+			executor.shutdown();
+		}
+		for (final ExecutorService executor : executors)
+		{
+			ThreadExtensions.shutdownExecutorService(executor, timeoutSeconds, 1);
+		}
+	}
+
+	/**
+	 * Shuts down all managed executors without waiting for the termination. Running tasks are
+	 * interrupted and queued tasks are discarded. Executors that are requested after this call are
+	 * created again
+	 */
+	public static void shutdownNow()
+	{
+		for (final ExecutorService executor : removeExecutors())
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	private static List<ExecutorService> removeExecutors()
+	{
+		final List<ExecutorService> executors = new ArrayList<>();
+		synchronized (LOCK)
+		{
+			if (sharedExecutor != null)
+			{
+				executors.add(sharedExecutor);
+				sharedExecutor = null;
+			}
+			if (taskExecutor != null)
+			{
+				executors.add(taskExecutor);
+				taskExecutor = null;
+			}
+			if (scheduler != null)
+			{
+				executors.add(scheduler);
+				scheduler = null;
+			}
+		}
+		for (final Integer parallelism : FORK_JOIN_POOLS.keySet())
+		{
+			final ForkJoinPool pool = FORK_JOIN_POOLS.remove(parallelism);
+			if (pool != null)
+			{
+				executors.add(pool);
+			}
+		}
+		return executors;
+	}
+
+	private static ForkJoinPool newForkJoinPool(final int parallelism)
+	{
+		registerShutdownHook();
+		final NamedThreadFactory names = new NamedThreadFactory(
+			THREAD_NAME_PREFIX + "-fork-join-" + parallelism, true);
+		return new ForkJoinPool(parallelism, pool -> {
+			final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory
+				.newThread(pool);
+			thread.setName(names.nextThreadName());
+			thread.setDaemon(true);
+			return thread;
+		}, null, false);
+	}
+
+	private static void registerShutdownHook()
+	{
+		if (SHUTDOWN_HOOK_REGISTERED.compareAndSet(false, true))
+		{
+			// all threads are daemon threads, so waiting for them would only delay the exit
+			Runtime.getRuntime().addShutdownHook(new Thread(ManagedExecutors::shutdownNow,
+				THREAD_NAME_PREFIX + "-executors-shutdown"));
+		}
+	}
+
+}
@@ -0,0 +1,90 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.astrapi69.check.Argument;
+
+/**
+ * The class {@link NamedThreadFactory} creates threads with a common name prefix and a sequence
+ * number, for instance 'jobj-worker-1'. This makes the threads of a pool identifiable in thread
+ * dumps and thread monitoring
+ */
+public final class NamedThreadFactory implements ThreadFactory
+{
+
+	/** The flag if the created threads are daemon threads */
+	private final boolean daemon;
+
+	/** The name prefix of the created threads */
+	private final String namePrefix;
+
+	/** The sequence number of the next created thread */
+	private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+	/**
+	 * Instantiates a new {@link NamedThreadFactory} object
+	 *
+	 * @param namePrefix
+	 *            the name prefix of the created threads
+	 * @param daemon
+	 *            the flag if the created threads are daemon threads
+	 */
+	public NamedThreadFactory(final String namePrefix, final boolean daemon)
+	{
+		this.namePrefix = Argument.notEmpty(namePrefix, "namePrefix");
+		this.daemon = daemon;
+	}
+
+	/**
+	 * Gets the name prefix of the created threads
+	 *
+	 * @return the name prefix of the created threads
+	 */
+	public String getNamePrefix()
+	{
+		return namePrefix;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Thread newThread(final Runnable runnable)
+	{
+		final Thread thread = new Thread(runnable, nextThreadName());
+		thread.setDaemon(daemon);
+		return thread;
+	}
+
+	/**
+	 * Gets the name for the next created thread
+	 *
+	 * @return the name for the next created thread
+	 */
+	String nextThreadName()
+	{
+		return namePrefix + "-" + threadNumber.getAndIncrement();
+	}
+
+}
@@ -0,0 +1,154 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import io.github.astrapi69.check.Argument;
+
+/**
+ * The class {@link StructuredTasks} runs a group of tasks on an {@link ExecutorService} that is
+ * owned from the caller and cancels the remaining tasks if the group is complete. It is used from
+ * the java 17 and the java 21 variant of the class {@link VirtualThreads}
+ */
+final class StructuredTasks
+{
+
+	/**
+	 * Private constructor for prevent instantiation
+	 */
+	private StructuredTasks()
+	{
+	}
+
+	/**
+	 * Runs all the given tasks on the given executor and waits until all tasks are completed. If a
+	 * task fails, the remaining tasks are cancelled and the failure is thrown
+	 *
+	 * @param <T>
+	 *            the generic type of the results
+	 * @param executor
+	 *            the executor that runs the tasks
+	 * @param tasks
+	 *            the tasks to run
+	 * @return the results of the tasks in the order of the given tasks
+	 * @throws ExecutionException
+	 *             if a task failed
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while waiting
+	 */
+	static <T> List<T> runAll(final ExecutorService executor,
+		final Collection<? extends Callable<T>> tasks)
+		throws ExecutionException, InterruptedException
+	{
+		Argument.notNull(tasks, "tasks");
+		final CompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+		final List<Future<T>> futures = new ArrayList<>(tasks.size());
+		try
+		{
+			for (final Callable<T> task : tasks)
+			{
+				futures.add(completionService.submit(task));
+			}
+			for (int i = 0; i < futures.size(); i++)
+			{
+				// fails fast with the first failed task
+				completionService.take().get();
+			}
+			final List<T> results = new ArrayList<>(futures.size());
+			for (final Future<T> future : futures)
+			{
+				results.add(future.get());
+			}
+			return results;
+		}
+		finally
+		{
+			cancelAll(futures);
+		}
+	}
+
+	/**
+	 * Runs all the given tasks on the given executor and returns the result of the first task
+	 * that completes successfully. The remaining tasks are cancelled
+	 *
+	 * @param <T>
+	 *            the generic type of the results
+	 * @param executor
+	 *            the executor that runs the tasks
+	 * @param tasks
+	 *            the tasks to run
+	 * @return the result of the first task that completes successfully
+	 * @throws ExecutionException
+	 *             if all tasks failed, the failure of the last failed task is the cause
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while waiting
+	 */
+	static <T> T runFirstSuccess(final ExecutorService executor,
+		final Collection<? extends Callable<T>> tasks)
+		throws ExecutionException, InterruptedException
+	{
+		Argument.notEmpty(tasks, "tasks");
+		final CompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+		final List<Future<T>> futures = new ArrayList<>(tasks.size());
+		try
+		{
+			for (final Callable<T> task : tasks)
+			{
+				futures.add(completionService.submit(task));
+			}
+			ExecutionException lastFailure = null;
+			for (int i = 0; i < futures.size(); i++)
+			{
+				try
+				{
+					return completionService.take().get();
+				}
+				catch (final ExecutionException e)
+				{
+					lastFailure = e;
+				}
+			}
+			throw lastFailure;
+		}
+		finally
+		{
+			cancelAll(futures);
+		}
+	}
+
+	private static void cancelAll(final List<? extends Future<?>> futures)
+	{
+		for (final Future<?> future : futures)
+		{
+			future.cancel(true);
+		}
+	}
+
+}
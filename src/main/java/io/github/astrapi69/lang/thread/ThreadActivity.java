@@ -0,0 +1,70 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The class {@link ThreadActivity} holds the difference of the metrics of one thread between two
+ * {@link ThreadSnapshot} objects. The values of metrics that are not supported or not enabled in
+ * the virtual machine are -1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ThreadActivity
+{
+
+	/** The bytes that are allocated from the thread between the two snapshots */
+	private long allocatedBytes;
+
+	/** The number of times the thread was blocked between the two snapshots */
+	private long blockedCount;
+
+	/** The time in milliseconds the thread was blocked between the two snapshots */
+	private long blockedTime;
+
+	/** The cpu time in nanoseconds the thread used between the two snapshots */
+	private long cpuTime;
+
+	/** The share of one cpu the thread used between the two snapshots, from 0.0 to 1.0 */
+	private double cpuUsage;
+
+	/** The name of the thread */
+	private String name;
+
+	/** The name of the pool the thread belongs to */
+	private String poolName;
+
+	/** The state of the thread in the later snapshot */
+	private Thread.State state;
+
+	/** The id of the thread */
+	private long threadId;
+
+	/** The number of times the thread waited for notification between the two snapshots */
+	private long waitedCount;
+
+}
@@ -0,0 +1,364 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.github.astrapi69.check.Argument;
+
+/**
+ * The class {@link ThreadAnalyzer} compares two {@link ThreadSnapshot} objects and creates a
+ * {@link ThreadReport} with the threads ranked by the used cpu time, the locks other threads are
+ * waiting on, the deadlocks and the summaries of the thread pools. The deadlocks are detected from
+ * the lock owners of the later snapshot, so monitors and ownable synchronizers are both covered
+ */
+public final class ThreadAnalyzer
+{
+
+	/** The default number of threads that are rendered in the text of a report */
+	public static final int DEFAULT_MAX_THREADS = 10;
+
+	/**
+	 * Private constructor for prevent instantiation
+	 */
+	private ThreadAnalyzer()
+	{
+	}
+
+	/**
+	 * Takes two snapshots of all threads with the given interval in between and analyzes them
+	 *
+	 * @param interval
+	 *            the interval between the two snapshots
+	 * @param timeUnit
+	 *            the time unit of the interval
+	 * @return the report of the analysis
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting for the second snapshot
+	 */
+	public static ThreadReport analyze(final long interval, final TimeUnit timeUnit)
+		throws InterruptedException
+	{
+		Argument.isInRange(0L, Long.MAX_VALUE, interval, "interval");
+		final ThreadSampler sampler = new ThreadSampler(2, 0);
+		final ThreadSnapshot before = sampler.sample();
+		timeUnit.sleep(interval);
+		return analyze(before, sampler.sample());
+	}
+
+	/**
+	 * Analyzes the difference between the two given snapshots
+	 *
+	 * @param before
+	 *            the earlier snapshot
+	 * @param after
+	 *            the later snapshot
+	 * @return the report of the analysis
+	 */
+	public static ThreadReport analyze(final ThreadSnapshot before, final ThreadSnapshot after)
+	{
+		Argument.notNull(before, "before");
+		Argument.notNull(after, "after");
+		final List<ThreadSample> samples = after.getThreads() != null
+			? after.getThreads()
+			: List.of();
+		final long elapsedTime = after.getNanoTime() - before.getNanoTime();
+		final Map<Long, ThreadSample> previousSamples = toMap(before.getThreads());
+		final List<ThreadActivity> hotThreads = new ArrayList<>(samples.size());
+		for (final ThreadSample sample : samples)
+		{
+			hotThreads.add(
+				newThreadActivity(previousSamples.get(sample.getThreadId()), sample, elapsedTime));
+		}
+		hotThreads.sort(Comparator.comparingLong(ThreadActivity::getCpuTime)
+			.thenComparingLong(ThreadActivity::getAllocatedBytes).reversed());
+		return ThreadReport.builder().elapsedTime(elapsedTime).hotThreads(hotThreads)
+			.lockHotSpots(findLockHotSpots(previousSamples, samples))
+			.deadlocks(findDeadlocks(samples)).pools(summarizePools(hotThreads)).build();
+	}
+
+	/**
+	 * Gets the pool name of the given thread name. The pool name is the thread name without the
+	 * trailing thread number and separators, so the thread name 'pool-1-thread-2' has the pool name
+	 * 'pool-1-thread'. A thread name without a trailing number is its own pool name
+	 *
+	 * @param threadName
+	 *            the name of the thread
+	 * @return the pool name
+	 */
+	public static String getPoolName(final String threadName)
+	{
+		if (threadName == null)
+		{
+			return "";
+		}
+		int end = threadName.length();
+		while (0 < end && Character.isDigit(threadName.charAt(end - 1)))
+		{
+			end--;
+		}
+		if (end == threadName.length())
+		{
+			return threadName;
+		}
+		while (0 < end && isSeparator(threadName.charAt(end - 1)))
+		{
+			end--;
+		}
+		return end == 0 ? threadName : threadName.substring(0, end);
+	}
+
+	/**
+	 * Renders the given report as plain text with the default number of threads
+	 *
+	 * @param report
+	 *            the report
+	 * @return the plain text of the report
+	 */
+	public static String toText(final ThreadReport report)
+	{
+		return toText(report, DEFAULT_MAX_THREADS);
+	}
+
+	/**
+	 * Renders the given report as plain text
+	 *
+	 * @param report
+	 *            the report
+	 * @param maxThreads
+	 *            the maximum number of hot threads that are rendered
+	 * @return the plain text of the report
+	 */
+	public static String toText(final ThreadReport report, final int maxThreads)
+	{
+		Argument.notNull(report, "report");
+		final String lineSeparator = System.lineSeparator();
+		final StringBuilder sb = new StringBuilder();
+		sb.append("Thread report over ")
+			.append(TimeUnit.NANOSECONDS.toMillis(report.getElapsedTime())).append(" ms")
+			.append(lineSeparator);
+		final List<ThreadActivity> hotThreads = orEmpty(report.getHotThreads());
+		sb.append("Hot threads (").append(Math.min(maxThreads, hotThreads.size())).append(" of ")
+			.append(hotThreads.size()).append("):").append(lineSeparator);
+		for (final ThreadActivity activity : hotThreads.subList(0,
+			Math.min(maxThreads, hotThreads.size())))
+		{
+			sb.append(String.format(Locale.ROOT, "  %5.1f%% cpu %8d ms %10d KB %-13s \"%s\" #%d",
+				activity.getCpuUsage() * 100, TimeUnit.NANOSECONDS.toMillis(activity.getCpuTime()),
+				activity.getAllocatedBytes() / 1024, activity.getState(), activity.getName(),
+				activity.getThreadId())).append(lineSeparator);
+		}
+		final List<LockHotSpot> lockHotSpots = orEmpty(report.getLockHotSpots());
+		if (!lockHotSpots.isEmpty())
+		{
+			sb.append("Lock hot spots:").append(lineSeparator);
+			for (final LockHotSpot lockHotSpot : lockHotSpots)
+			{
+				sb.append("  ").append(lockHotSpot.getLockName()).append(" owned by \"")
+					.append(lockHotSpot.getOwnerName()).append("\" #")
+					.append(lockHotSpot.getOwnerId()).append(", ")
+					.append(lockHotSpot.getWaitingThreads().size()).append(" waiting ")
+					.append(lockHotSpot.getWaitingThreads()).append(lineSeparator);
+			}
+		}
+		for (final List<String> deadlock : orEmpty(report.getDeadlocks()))
+		{
+			sb.append("Deadlock: ");
+			for (final String threadName : deadlock)
+			{
+				sb.append('"').append(threadName).append("\" -> ");
+			}
+			sb.append('"').append(deadlock.get(0)).append('"').append(lineSeparator);
+		}
+		final List<ThreadPoolSummary> pools = orEmpty(report.getPools());
+		sb.append("Pools:").append(lineSeparator);
+		for (final ThreadPoolSummary pool : pools)
+		{
+			sb.append(String.format(Locale.ROOT, "  %-30s %4d threads %8d ms %10d KB %s",
+				"\"" + pool.getPoolName() + "\"", pool.getThreadCount(),
+				TimeUnit.NANOSECONDS.toMillis(pool.getCpuTime()), pool.getAllocatedBytes() / 1024,
+				pool.getStates())).append(lineSeparator);
+		}
+		return sb.toString();
+	}
+
+	private static ThreadActivity newThreadActivity(final ThreadSample previous,
+		final ThreadSample sample, final long elapsedTime)
+	{
+		final long cpuTime = previous != null
+			? delta(previous.getCpuTime(), sample.getCpuTime())
+			: sample.getCpuTime();
+		return ThreadActivity.builder().threadId(sample.getThreadId()).name(sample.getName())
+			.poolName(getPoolName(sample.getName())).state(sample.getState()).cpuTime(cpuTime)
+			.cpuUsage(0 < cpuTime && 0 < elapsedTime
+				? Math.min(1.0, (double)cpuTime / elapsedTime)
+				: 0.0)
+			.allocatedBytes(previous != null
+				? delta(previous.getAllocatedBytes(), sample.getAllocatedBytes())
+				: sample.getAllocatedBytes())
+			.blockedCount(previous != null
+				? delta(previous.getBlockedCount(), sample.getBlockedCount())
+				: sample.getBlockedCount())
+			.blockedTime(previous != null
+				? delta(previous.getBlockedTime(), sample.getBlockedTime())
+				: sample.getBlockedTime())
+			.waitedCount(previous != null
+				? delta(previous.getWaitedCount(), sample.getWaitedCount())
+				: sample.getWaitedCount())
+			.build();
+	}
+
+	private static List<LockHotSpot> findLockHotSpots(final Map<Long, ThreadSample> previousSamples,
+		final List<ThreadSample> samples)
+	{
+		final Map<String, LockHotSpot> lockHotSpots = new LinkedHashMap<>();
+		for (final ThreadSample sample : samples)
+		{
+			// idle threads that wait on a condition without owner are no contention
+			if (sample.getLockName() == null || sample.getLockOwnerId() < 0
+				|| !isWaiting(sample.getState()))
+			{
+				continue;
+			}
+			final LockHotSpot lockHotSpot = lockHotSpots.computeIfAbsent(sample.getLockName(),
+				lockName -> LockHotSpot.builder().lockName(lockName)
+					.ownerId(sample.getLockOwnerId()).ownerName(sample.getLockOwnerName())
+					.waitingThreads(new ArrayList<>()).build());
+			lockHotSpot.getWaitingThreads().add(sample.getName());
+			final ThreadSample previous = previousSamples.get(sample.getThreadId());
+			final long blockedCount = previous != null
+				? delta(previous.getBlockedCount(), sample.getBlockedCount())
+				: sample.getBlockedCount();
+			lockHotSpot.setBlockedCount(lockHotSpot.getBlockedCount() + Math.max(0, blockedCount));
+		}
+		final List<LockHotSpot> result = new ArrayList<>(lockHotSpots.values());
+		result.sort(Comparator
+			.comparingInt((final LockHotSpot lockHotSpot) -> lockHotSpot.getWaitingThreads().size())
+			.thenComparingLong(LockHotSpot::getBlockedCount).reversed());
+		return result;
+	}
+
+	private static List<List<String>> findDeadlocks(final List<ThreadSample> samples)
+	{
+		final Map<Long, ThreadSample> threads = toMap(samples);
+		final Set<Long> visited = new HashSet<>();
+		final List<List<String>> deadlocks = new ArrayList<>();
+		for (final ThreadSample sample : samples)
+		{
+			// follow the chain of the lock owners until a thread is not waiting or already visited
+			final Set<Long> path = new LinkedHashSet<>();
+			ThreadSample current = sample;
+			while (current != null && !visited.contains(current.getThreadId())
+				&& path.add(current.getThreadId()))
+			{
+				current = isWaiting(current.getState()) && 0 <= current.getLockOwnerId()
+					? threads.get(current.getLockOwnerId())
+					: null;
+			}
+			if (current != null && path.contains(current.getThreadId()))
+			{
+				final List<String> deadlock = new ArrayList<>();
+				boolean inCycle = false;
+				for (final Long threadId : path)
+				{
+					inCycle = inCycle || threadId == current.getThreadId();
+					if (inCycle)
+					{
+						deadlock.add(threads.get(threadId).getName());
+					}
+				}
+				deadlocks.add(deadlock);
+			}
+			visited.addAll(path);
+		}
+		return deadlocks;
+	}
+
+	private static List<ThreadPoolSummary> summarizePools(final List<ThreadActivity> activities)
+	{
+		final Map<String, ThreadPoolSummary> pools = new LinkedHashMap<>();
+		for (final ThreadActivity activity : activities)
+		{
+			final ThreadPoolSummary pool = pools.computeIfAbsent(activity.getPoolName(),
+				poolName -> ThreadPoolSummary.builder().poolName(poolName)
+					.states(new EnumMap<>(Thread.State.class)).build());
+			pool.setThreadCount(pool.getThreadCount() + 1);
+			pool.setCpuTime(pool.getCpuTime() + Math.max(0, activity.getCpuTime()));
+			pool.setAllocatedBytes(
+				pool.getAllocatedBytes() + Math.max(0, activity.getAllocatedBytes()));
+			if (activity.getState() != null)
+			{
+				pool.getStates().merge(activity.getState(), 1, Integer::sum);
+			}
+		}
+		final List<ThreadPoolSummary> result = new ArrayList<>(pools.values());
+		result.sort(Comparator.comparingLong(ThreadPoolSummary::getCpuTime)
+			.thenComparingInt(ThreadPoolSummary::getThreadCount).reversed());
+		return result;
+	}
+
+	private static Map<Long, ThreadSample> toMap(final List<ThreadSample> samples)
+	{
+		final Map<Long, ThreadSample> map = new HashMap<>();
+		if (samples != null)
+		{
+			for (final ThreadSample sample : samples)
+			{
+				map.put(sample.getThreadId(), sample);
+			}
+		}
+		return map;
+	}
+
+	private static long delta(final long before, final long after)
+	{
+		return before < 0 || after < 0 ? ThreadMetrics.UNSUPPORTED : after - before;
+	}
+
+	private static boolean isWaiting(final Thread.State state)
+	{
+		return state == Thread.State.BLOCKED || state == Thread.State.WAITING
+			|| state == Thread.State.TIMED_WAITING;
+	}
+
+	private static boolean isSeparator(final char character)
+	{
+		return character == '-' || character == '_' || character == '#' || character == '.'
+			|| character == ' ';
+	}
+
+	private static <T> List<T> orEmpty(final List<T> list)
+	{
+		return list != null ? list : List.of();
+	}
+
+}
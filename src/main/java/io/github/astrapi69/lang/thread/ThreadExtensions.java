@@ -27,9 +27,12 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
@@ -54,8 +57,11 @@ public final class ThreadExtensions
 	}
 
 	/**
-	 * Executes the given {@link Runnable} task and attempts to stop it if it exceeds the specified
-	 * timeout
+	 * Executes the given {@link Runnable} task on an own thread of the task executor of
+	 * {@link ManagedExecutors} and attempts to stop it if it exceeds the specified timeout. The
+	 * task does not wait for other tasks and is never rejected, for running it on a bounded pool
+	 * use {@link ThreadExtensions#runWithTimeout(Runnable, long, TimeUnit, ExecutorService)} with
+	 * {@link ManagedExecutors#getSharedExecutor()}
 	 *
 	 * @param task
 	 *            the {@link Runnable} task to be executed
@@ -69,7 +75,28 @@ public final class ThreadExtensions
 	public static void runWithTimeout(Runnable task, long timeout, TimeUnit timeUnit)
 		throws TimeoutException
 	{
-		ExecutorService executor = Executors.newSingleThreadExecutor();
+		runWithTimeout(task, timeout, timeUnit, ManagedExecutors.getTaskExecutor());
+	}
+
+	/**
+	 * Executes the given {@link Runnable} task on the given {@link ExecutorService} and attempts to
+	 * stop it if it exceeds the specified timeout. The given {@link ExecutorService} is not shut
+	 * down
+	 *
+	 * @param task
+	 *            the {@link Runnable} task to be executed
+	 * @param timeout
+	 *            the maximum time to wait for the task to complete
+	 * @param timeUnit
+	 *            the time unit of the timeout parameter
+	 * @param executor
+	 *            the {@link ExecutorService} that executes the given task
+	 * @throws TimeoutException
+	 *             if the task execution exceeds the specified timeout
+	 */
+	public static void runWithTimeout(Runnable task, long timeout, TimeUnit timeUnit,
+		ExecutorService executor) throws TimeoutException
+	{
 		Future<?> future = executor.submit(task);
 		try
 		{
@@ -83,19 +110,165 @@ public final class ThreadExtensions
 			throw new TimeoutException("Task exceeded the timeout of " + timeout + " "
 				+ timeUnit.toString().toLowerCase());
 		}
-		catch (InterruptedException | ExecutionException e)
+		catch (InterruptedException e)
 		{
+			future.cancel(true);
+			Thread.currentThread().interrupt();
 			log.log(Level.WARNING, "Runnable Interrupted ", e);
 		}
-		finally
+		catch (ExecutionException e)
 		{
-			executor.shutdownNow();
+			log.log(Level.WARNING, "Runnable Interrupted ", e);
 		}
 	}
 
 	/**
-	 * Creates a custom thread pool that executes tasks in parallel processes with the given number
-	 * of CPU cores
+	 * Executes the given {@link Runnable} task asynchronous on an own thread of the task executor
+	 * of {@link ManagedExecutors} without blocking the caller. The task does not wait for other
+	 * tasks and is never rejected. The timeout is enforced from the shared scheduler of
+	 * {@link ManagedExecutors}
+	 *
+	 * @param task
+	 *            the {@link Runnable} task to be executed
+	 * @param timeout
+	 *            the maximum time to wait for the task to complete
+	 * @param timeUnit
+	 *            the time unit of the timeout parameter
+	 * @return the {@link CompletableFuture} that completes with the task
+	 * @see ThreadExtensions#supplyAsyncWithTimeout(Supplier, long, TimeUnit, Executor)
+	 */
+	public static CompletableFuture<Void> runAsyncWithTimeout(Runnable task, long timeout,
+		TimeUnit timeUnit)
+	{
+		return runAsyncWithTimeout(task, timeout, timeUnit, ManagedExecutors.getTaskExecutor());
+	}
+
+	/**
+	 * Executes the given {@link Runnable} task asynchronous on the given {@link Executor} without
+	 * blocking the caller. The timeout is enforced from the shared scheduler of
+	 * {@link ManagedExecutors}. A bounded executor like
+	 * {@link ManagedExecutors#getSharedExecutor()} limits the number of threads, but tasks wait
+	 * for each other and the returned {@link CompletableFuture} completes exceptionally with a
+	 * {@link RejectedExecutionException} if its queue is full
+	 *
+	 * @param task
+	 *            the {@link Runnable} task to be executed
+	 * @param timeout
+	 *            the maximum time to wait for the task to complete
+	 * @param timeUnit
+	 *            the time unit of the timeout parameter
+	 * @param executor
+	 *            the {@link Executor} that executes the given task
+	 * @return the {@link CompletableFuture} that completes with the task
+	 * @see ThreadExtensions#supplyAsyncWithTimeout(Supplier, long, TimeUnit, Executor)
+	 */
+	public static CompletableFuture<Void> runAsyncWithTimeout(Runnable task, long timeout,
+		TimeUnit timeUnit, Executor executor)
+	{
+		return supplyAsyncWithTimeout(() -> {
+			task.run();
+			return null;
+		}, timeout, timeUnit, executor);
+	}
+
+	/**
+	 * Executes the given {@link Supplier} task asynchronous on an own thread of the task executor
+	 * of {@link ManagedExecutors} without blocking the caller. The task does not wait for other
+	 * tasks and is never rejected. The timeout is enforced from the shared scheduler of
+	 * {@link ManagedExecutors}
+	 *
+	 * @param supplier
+	 *            the {@link Supplier} task to execute
+	 * @param timeout
+	 *            the maximum time to wait for the task to complete
+	 * @param timeUnit
+	 *            the time unit of the timeout parameter
+	 * @param <T>
+	 *            the generic type of the result
+	 * @return the {@link CompletableFuture} that completes with the result of the task
+	 * @see ThreadExtensions#supplyAsyncWithTimeout(Supplier, long, TimeUnit, Executor)
+	 */
+	public static <T> CompletableFuture<T> supplyAsyncWithTimeout(Supplier<T> supplier,
+		long timeout, TimeUnit timeUnit)
+	{
+		return supplyAsyncWithTimeout(supplier, timeout, timeUnit,
+			ManagedExecutors.getTaskExecutor());
+	}
+
+	/**
+	 * Executes the given {@link Supplier} task asynchronous on the given {@link Executor} without
+	 * blocking the caller. No thread is blocked for waiting on the timeout, the timeout is
+	 * enforced from the shared scheduler of {@link ManagedExecutors}. A bounded executor like
+	 * {@link ManagedExecutors#getSharedExecutor()} limits the number of threads, but tasks wait
+	 * for each other and are rejected if its queue is full. <br>
+	 * <br>
+	 * The returned {@link CompletableFuture}
+	 * <ul>
+	 * <li>completes with the result of the task if the task completes within the timeout</li>
+	 * <li>completes exceptionally with the exception of the task if the task fails</li>
+	 * <li>completes exceptionally with a {@link TimeoutException} if the task exceeds the timeout,
+	 * in this case the task is cancelled and its thread is interrupted</li>
+	 * <li>interrupts the thread of the task if it is cancelled</li>
+	 * <li>completes exceptionally with a {@link RejectedExecutionException} if the given
+	 * {@link Executor} rejects the task</li>
+	 * </ul>
+	 *
+	 * @param supplier
+	 *            the {@link Supplier} task to execute
+	 * @param timeout
+	 *            the maximum time to wait for the task to complete
+	 * @param timeUnit
+	 *            the time unit of the timeout parameter
+	 * @param executor
+	 *            the {@link Executor} that executes the given task
+	 * @param <T>
+	 *            the generic type of the result
+	 * @return the {@link CompletableFuture} that completes with the result of the task
+	 */
+	public static <T> CompletableFuture<T> supplyAsyncWithTimeout(Supplier<T> supplier,
+		long timeout, TimeUnit timeUnit, Executor executor)
+	{
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		final FutureTask<Void> futureTask = new FutureTask<>(() -> {
+			try
+			{
+				result.complete(supplier.get());
+			}
+			catch (Throwable throwable)
+			{
+				result.completeExceptionally(throwable);
+			}
+		}, null);
+		try
+		{
+			executor.execute(futureTask);
+		}
+		catch (RejectedExecutionException e)
+		{
+			result.completeExceptionally(e);
+			return result;
+		}
+		final ScheduledFuture<?> timer = ManagedExecutors.getScheduler().schedule(() -> {
+			if (result.completeExceptionally(new TimeoutException("Task exceeded the timeout of "
+				+ timeout + " " + timeUnit.toString().toLowerCase())))
+			{
+				futureTask.cancel(true);
+			}
+		}, timeout, timeUnit);
+		result.whenComplete((value, throwable) -> {
+			timer.cancel(false);
+			if (result.isCancelled())
+			{
+				futureTask.cancel(true);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Executes the given task in the shared {@link ForkJoinPool} of {@link ManagedExecutors} with
+	 * the given number of CPU cores as parallelism, so parallel streams of the task run in this
+	 * pool
 	 *
 	 * @param task
 	 *            the {@link Callable} task to execute
@@ -113,13 +286,37 @@ public final class ThreadExtensions
 	public static <T> T runCallableWithCpuCores(Callable<T> task, int cpuCores)
 		throws ExecutionException, InterruptedException
 	{
-		ForkJoinPool forkJoinPool = new ForkJoinPool(cpuCores);
-		return forkJoinPool.submit(task).get();
+		return ManagedExecutors.getForkJoinPool(cpuCores).submit(task).get();
+	}
+
+	/**
+	 * Executes the given {@link Callable} task on the given {@link Executor} and waits for the
+	 * result
+	 *
+	 * @param task
+	 *            the {@link Callable} task to execute
+	 * @param executor
+	 *            the {@link Executor} that executes the given task
+	 * @param <T>
+	 *            the generic type of the result
+	 * @return the result of the given task
+	 * @throws ExecutionException
+	 *             if the computation threw an exception
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while waiting
+	 */
+	public static <T> T runCallable(Callable<T> task, Executor executor)
+		throws ExecutionException, InterruptedException
+	{
+		final FutureTask<T> futureTask = new FutureTask<>(task);
+		executor.execute(futureTask);
+		return futureTask.get();
 	}
 
 	/**
-	 * Creates a custom thread pool that executes tasks in parallel processes with the given number
-	 * of CPU cores
+	 * Executes the given task in the shared {@link ForkJoinPool} of {@link ManagedExecutors} with
+	 * the given number of CPU cores as parallelism, so parallel streams of the task run in this
+	 * pool
 	 *
 	 * @param supplier
 	 *            the {@link Supplier} task to execute
@@ -137,8 +334,29 @@ public final class ThreadExtensions
 	public static <T> T runAsyncSupplierWithCpuCores(Supplier<T> supplier, int cpuCores)
 		throws ExecutionException, InterruptedException
 	{
-		ForkJoinPool forkJoinPool = new ForkJoinPool(cpuCores);
-		CompletableFuture<T> future = CompletableFuture.supplyAsync(supplier, forkJoinPool);
+		return runAsyncSupplier(supplier, ManagedExecutors.getForkJoinPool(cpuCores));
+	}
+
+	/**
+	 * Executes the given {@link Supplier} task asynchronous on the given {@link Executor} and waits
+	 * for the result
+	 *
+	 * @param supplier
+	 *            the {@link Supplier} task to execute
+	 * @param executor
+	 *            the {@link Executor} that executes the given task
+	 * @param <T>
+	 *            the generic type of the result
+	 * @return the result of the given task
+	 * @throws ExecutionException
+	 *             if the computation threw an exception
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while waiting
+	 */
+	public static <T> T runAsyncSupplier(Supplier<T> supplier, Executor executor)
+		throws ExecutionException, InterruptedException
+	{
+		CompletableFuture<T> future = CompletableFuture.supplyAsync(supplier, executor);
 		return future.get();
 	}
 
@@ -0,0 +1,239 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+
+/**
+ * The class {@link ThreadMetrics} reads the cpu time and the allocated bytes of threads over the
+ * {@link ThreadMXBean}. The allocated bytes are only available if the module 'jdk.management' with
+ * the extended {@code com.sun.management.ThreadMXBean} is present, otherwise the methods for the
+ * allocated bytes return -1. The same applies for the cpu time if it is not supported from the
+ * virtual machine
+ */
+public final class ThreadMetrics
+{
+
+	/** The value that is returned if a metric is not supported */
+	public static final long UNSUPPORTED = -1L;
+
+	/** The thread bean of the virtual machine */
+	private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+	/** The flag if the extended thread bean is available */
+	private static final boolean EXTENDED = isExtendedThreadMXBeanAvailable();
+
+	/**
+	 * Private constructor for prevent instantiation
+	 */
+	private ThreadMetrics()
+	{
+	}
+
+	/**
+	 * Gets the thread bean of the virtual machine
+	 *
+	 * @return the thread bean of the virtual machine
+	 */
+	public static ThreadMXBean getThreadMXBean()
+	{
+		return THREAD_MX_BEAN;
+	}
+
+	/**
+	 * Checks if the allocated bytes of threads can be measured
+	 *
+	 * @return true if the allocated bytes of threads can be measured otherwise false
+	 */
+	public static boolean isAllocatedBytesSupported()
+	{
+		return EXTENDED && Extended.isAllocatedBytesEnabled();
+	}
+
+	/**
+	 * Checks if the cpu time of threads can be measured
+	 *
+	 * @return true if the cpu time of threads can be measured otherwise false
+	 */
+	public static boolean isCpuTimeSupported()
+	{
+		return THREAD_MX_BEAN.isThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+	}
+
+	/**
+	 * Gets the bytes that are allocated from the current thread since it was started
+	 *
+	 * @return the allocated bytes or {@link ThreadMetrics#UNSUPPORTED} if not supported
+	 */
+	public static long getCurrentThreadAllocatedBytes()
+	{
+		return isAllocatedBytesSupported()
+			? Extended.getCurrentThreadAllocatedBytes()
+			: UNSUPPORTED;
+	}
+
+	/**
+	 * Gets the cpu time of the current thread in nanoseconds
+	 *
+	 * @return the cpu time or {@link ThreadMetrics#UNSUPPORTED} if not supported
+	 */
+	public static long getCurrentThreadCpuTime()
+	{
+		return isCpuTimeSupported() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : UNSUPPORTED;
+	}
+
+	/**
+	 * Gets the allocated bytes of the threads with the given ids
+	 *
+	 * @param threadIds
+	 *            the ids of the threads
+	 * @return an array with the allocated bytes in the order of the given ids, the value is -1 if
+	 *         the thread is not alive or the metric is not supported
+	 */
+	public static long[] getThreadAllocatedBytes(final long[] threadIds)
+	{
+		if (isAllocatedBytesSupported())
+		{
+			return Extended.getThreadAllocatedBytes(threadIds);
+		}
+		return newUnsupportedArray(threadIds.length);
+	}
+
+	/**
+	 * Gets the cpu time in nanoseconds of the threads with the given ids
+	 *
+	 * @param threadIds
+	 *            the ids of the threads
+	 * @return an array with the cpu times in the order of the given ids, the value is -1 if the
+	 *         thread is not alive or the metric is not supported
+	 */
+	public static long[] getThreadCpuTime(final long[] threadIds)
+	{
+		if (!isCpuTimeSupported())
+		{
+			return newUnsupportedArray(threadIds.length);
+		}
+		if (EXTENDED)
+		{
+			return Extended.getThreadCpuTime(threadIds);
+		}
+		final long[] cpuTimes = new long[threadIds.length];
+		for (int i = 0; i < threadIds.length; i++)
+		{
+			cpuTimes[i] = THREAD_MX_BEAN.getThreadCpuTime(threadIds[i]);
+		}
+		return cpuTimes;
+	}
+
+	/**
+	 * Gets the user time in nanoseconds of the threads with the given ids
+	 *
+	 * @param threadIds
+	 *            the ids of the threads
+	 * @return an array with the user times in the order of the given ids, the value is -1 if the
+	 *         thread is not alive or the metric is not supported
+	 */
+	public static long[] getThreadUserTime(final long[] threadIds)
+	{
+		if (!isCpuTimeSupported())
+		{
+			return newUnsupportedArray(threadIds.length);
+		}
+		if (EXTENDED)
+		{
+			return Extended.getThreadUserTime(threadIds);
+		}
+		final long[] userTimes = new long[threadIds.length];
+		for (int i = 0; i < threadIds.length; i++)
+		{
+			userTimes[i] = THREAD_MX_BEAN.getThreadUserTime(threadIds[i]);
+		}
+		return userTimes;
+	}
+
+	private static long[] newUnsupportedArray(final int length)
+	{
+		final long[] values = new long[length];
+		Arrays.fill(values, UNSUPPORTED);
+		return values;
+	}
+
+	private static boolean isExtendedThreadMXBeanAvailable()
+	{
+		try
+		{
+			return ModuleLayer.boot().findModule("jdk.management").isPresent()
+				&& Extended.isInstance(THREAD_MX_BEAN);
+		}
+		catch (final LinkageError e)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * The class {@link Extended} holds all references to the extended thread bean, so it is only
+	 * loaded if the module 'jdk.management' is present
+	 */
+	private static final class Extended
+	{
+
+		private static boolean isInstance(final ThreadMXBean threadMXBean)
+		{
+			return threadMXBean instanceof com.sun.management.ThreadMXBean;
+		}
+
+		private static com.sun.management.ThreadMXBean get()
+		{
+			return (com.sun.management.ThreadMXBean)THREAD_MX_BEAN;
+		}
+
+		private static boolean isAllocatedBytesEnabled()
+		{
+			return get().isThreadAllocatedMemorySupported()
+				&& get().isThreadAllocatedMemoryEnabled();
+		}
+
+		private static long getCurrentThreadAllocatedBytes()
+		{
+			return get().getCurrentThreadAllocatedBytes();
+		}
+
+		private static long[] getThreadAllocatedBytes(final long[] threadIds)
+		{
+			return get().getThreadAllocatedBytes(threadIds);
+		}
+
+		private static long[] getThreadCpuTime(final long[] threadIds)
+		{
+			return get().getThreadCpuTime(threadIds);
+		}
+
+		private static long[] getThreadUserTime(final long[] threadIds)
+		{
+			return get().getThreadUserTime(threadIds);
+		}
+
+	}
+
+}
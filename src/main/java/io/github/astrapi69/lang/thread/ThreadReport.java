@@ -0,0 +1,66 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The class {@link ThreadReport} holds the result of the analysis of two {@link ThreadSnapshot}
+ * objects from the {@link ThreadAnalyzer}
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ThreadReport
+{
+
+	/** The names of the threads in a deadlock, every list is one cycle of threads */
+	private List<List<String>> deadlocks;
+
+	/** The nanoseconds between the two snapshots */
+	private long elapsedTime;
+
+	/** The activity of the threads sorted by the cpu time in descending order */
+	private List<ThreadActivity> hotThreads;
+
+	/** The locks with waiting threads sorted by the number of waiting threads */
+	private List<LockHotSpot> lockHotSpots;
+
+	/** The summaries of the thread pools sorted by the cpu time in descending order */
+	private List<ThreadPoolSummary> pools;
+
+	/**
+	 * Checks if the report contains a deadlock
+	 *
+	 * @return true if the report contains a deadlock otherwise false
+	 */
+	public boolean hasDeadlock()
+	{
+		return deadlocks != null && !deadlocks.isEmpty();
+	}
+
+}
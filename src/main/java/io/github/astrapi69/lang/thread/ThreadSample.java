@@ -0,0 +1,99 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The class {@link ThreadSample} holds the data of one thread from a {@link ThreadSnapshot}. The
+ * values of metrics that are not supported or not enabled in the virtual machine are -1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ThreadSample
+{
+
+	/** The bytes that are allocated from the thread since it was started */
+	private long allocatedBytes;
+
+	/** The number of times the thread was blocked to enter or reenter a monitor */
+	private long blockedCount;
+
+	/** The time in milliseconds the thread was blocked, -1 if contention monitoring is disabled */
+	private long blockedTime;
+
+	/** The cpu time of the thread in nanoseconds */
+	private long cpuTime;
+
+	/** The flag if the thread is a daemon thread */
+	private boolean daemon;
+
+	/** The flag if the thread executes native code */
+	private boolean inNative;
+
+	/** The name of the lock the thread is blocked or waiting on */
+	private String lockName;
+
+	/** The id of the thread that owns the lock the thread is blocked on, otherwise -1 */
+	private long lockOwnerId;
+
+	/** The name of the thread that owns the lock the thread is blocked on */
+	private String lockOwnerName;
+
+	/** The name of the thread */
+	private String name;
+
+	/** The state of the thread in the previous snapshot, null if the thread is new */
+	private Thread.State previousState;
+
+	/** The priority of the thread */
+	private int priority;
+
+	/** The stack trace of the thread, empty if no stack depth was requested */
+	private StackTraceElement[] stackTrace;
+
+	/** The state of the thread */
+	private Thread.State state;
+
+	/** The number of state changes of the thread that are observed from the sampler */
+	private long stateTransitions;
+
+	/** The flag if the thread is suspended */
+	private boolean suspended;
+
+	/** The id of the thread */
+	private long threadId;
+
+	/** The user time of the thread in nanoseconds */
+	private long userTime;
+
+	/** The number of times the thread waited for notification */
+	private long waitedCount;
+
+	/** The time in milliseconds the thread waited, -1 if contention monitoring is disabled */
+	private long waitedTime;
+
+}
@@ -0,0 +1,277 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import io.github.astrapi69.check.Argument;
+import lombok.extern.java.Log;
+
+/**
+ * The class {@link ThreadSampler} takes snapshots of all threads over the {@link ThreadMXBean}
+ * and keeps the latest snapshots in a bounded ring buffer. In difference to
+ * {@link ThreadExtensions#newThreadData()} no stack traces are captured unless a stack depth is
+ * given, so the sampler can run periodically in production. Every sample holds the cpu time, the
+ * allocated bytes, the blocked and waited counts and the state transitions of a thread. A failed
+ * periodic sample is logged and does not stop the periodic sampling
+ */
+@Log
+public final class ThreadSampler implements AutoCloseable
+{
+
+	/** The default number of snapshots that are kept */
+	public static final int DEFAULT_CAPACITY = 60;
+
+	/** The ring buffer with the snapshots */
+	private final ThreadSnapshot[] buffer;
+
+	/** The maximum depth of the captured stack traces */
+	private final int maxStackDepth;
+
+	/** The samples of the previous snapshot with the thread id as key */
+	private Map<Long, ThreadSample> previousSamples = new HashMap<>();
+
+	/** The scheduler for the periodic sampling, null if not started */
+	private ScheduledExecutorService scheduler;
+
+	/** The number of snapshots in the ring buffer */
+	private int size;
+
+	/** The index for the next snapshot in the ring buffer */
+	private int next;
+
+	/**
+	 * Instantiates a new {@link ThreadSampler} object that keeps the default number of snapshots
+	 * and captures no stack traces
+	 */
+	public ThreadSampler()
+	{
+		this(DEFAULT_CAPACITY, 0);
+	}
+
+	/**
+	 * Instantiates a new {@link ThreadSampler} object
+	 *
+	 * @param capacity
+	 *            the maximum number of snapshots that are kept
+	 * @param maxStackDepth
+	 *            the maximum depth of the captured stack traces, zero for capture no stack traces
+	 */
+	public ThreadSampler(final int capacity, final int maxStackDepth)
+	{
+		Argument.isInRange(1, Integer.MAX_VALUE, capacity, "capacity");
+		Argument.isInRange(0, Integer.MAX_VALUE, maxStackDepth, "maxStackDepth");
+		this.buffer = new ThreadSnapshot[capacity];
+		this.maxStackDepth = maxStackDepth;
+	}
+
+	/**
+	 * Takes a new snapshot of all threads and adds it to the ring buffer. If the ring buffer is
+	 * full the oldest snapshot is removed
+	 *
+	 * @return the new snapshot
+	 */
+	public synchronized ThreadSnapshot sample()
+	{
+		final ThreadMXBean threadMXBean = ThreadMetrics.getThreadMXBean();
+		final long[] threadIds = threadMXBean.getAllThreadIds();
+		final ThreadInfo[] threadInfos = threadMXBean.getThreadInfo(threadIds, maxStackDepth);
+		final long[] cpuTimes = ThreadMetrics.getThreadCpuTime(threadIds);
+		final long[] userTimes = ThreadMetrics.getThreadUserTime(threadIds);
+		final long[] allocatedBytes = ThreadMetrics.getThreadAllocatedBytes(threadIds);
+		final List<ThreadSample> samples = new ArrayList<>(threadIds.length);
+		final Map<Long, ThreadSample> currentSamples = new HashMap<>();
+		for (int i = 0; i < threadInfos.length; i++)
+		{
+			final ThreadInfo threadInfo = threadInfos[i];
+			if (threadInfo == null)
+			{
+				// the thread is terminated since the ids were read
+				continue;
+			}
+			final ThreadSample previous = previousSamples.get(threadInfo.getThreadId());
+			final Thread.State previousState = previous != null ? previous.getState() : null;
+			long stateTransitions = previous != null ? previous.getStateTransitions() : 0;
+			if (previousState != null && previousState != threadInfo.getThreadState())
+			{
+				stateTransitions++;
+			}
+			final ThreadSample sample = ThreadSample.builder()
+				.threadId(threadInfo.getThreadId()).name(threadInfo.getThreadName())
+				.state(threadInfo.getThreadState()).previousState(previousState)
+				.stateTransitions(stateTransitions).daemon(threadInfo.isDaemon())
+				.priority(threadInfo.getPriority()).cpuTime(cpuTimes[i]).userTime(userTimes[i])
+				.allocatedBytes(allocatedBytes[i]).blockedCount(threadInfo.getBlockedCount())
+				.blockedTime(threadInfo.getBlockedTime()).waitedCount(threadInfo.getWaitedCount())
+				.waitedTime(threadInfo.getWaitedTime()).lockName(threadInfo.getLockName())
+				.lockOwnerId(threadInfo.getLockOwnerId())
+				.lockOwnerName(threadInfo.getLockOwnerName()).inNative(threadInfo.isInNative())
+				.suspended(threadInfo.isSuspended()).stackTrace(threadInfo.getStackTrace())
+				.build();
+			samples.add(sample);
+			currentSamples.put(sample.getThreadId(), sample);
+		}
+		previousSamples = currentSamples;
+		final ThreadSnapshot snapshot = ThreadSnapshot.builder()
+			.timestamp(System.currentTimeMillis()).nanoTime(System.nanoTime()).threads(samples)
+			.build();
+		buffer[next] = snapshot;
+		next = (next + 1) % buffer.length;
+		size = Math.min(size + 1, buffer.length);
+		return snapshot;
+	}
+
+	/**
+	 * Starts the periodic sampling with the given interval on an own daemon thread
+	 *
+	 * @param interval
+	 *            the interval between two snapshots
+	 * @param timeUnit
+	 *            the time unit of the interval
+	 * @throws IllegalStateException
+	 *             if the sampler is already started
+	 */
+	public synchronized void start(final long interval, final TimeUnit timeUnit)
+	{
+		Argument.isInRange(1L, Long.MAX_VALUE, interval, "interval");
+		if (scheduler != null)
+		{
+			throw new IllegalStateException("Thread sampler is already started");
+		}
+		scheduler = Executors.newSingleThreadScheduledExecutor(
+			new NamedThreadFactory(ManagedExecutors.THREAD_NAME_PREFIX + "-thread-sampler", true));
+		scheduler.scheduleAtFixedRate(this::samplePeriodically, 0, interval, timeUnit);
+	}
+
+	private void samplePeriodically()
+	{
+		try
+		{
+			sample();
+		}
+		catch (final RuntimeException e)
+		{
+			// a thrown exception would cancel all further runs of the scheduler
+			log.log(Level.WARNING, "Thread sampling failed", e);
+		}
+	}
+
+	/**
+	 * Stops the periodic sampling. The snapshots in the ring buffer are kept
+	 */
+	public synchronized void stop()
+	{
+		if (scheduler != null)
+		{
+			scheduler.shutdownNow();
+			scheduler = null;
+		}
+	}
+
+	/**
+	 * Checks if the periodic sampling is started
+	 *
+	 * @return true if the periodic sampling is started otherwise false
+	 */
+	public synchronized boolean isRunning()
+	{
+		return scheduler != null;
+	}
+
+	/**
+	 * Gets the snapshots of the ring buffer
+	 *
+	 * @return a new list with the snapshots from the oldest to the latest
+	 */
+	public synchronized List<ThreadSnapshot> getSnapshots()
+	{
+		final List<ThreadSnapshot> snapshots = new ArrayList<>(size);
+		final int first = (next - size + buffer.length) % buffer.length;
+		for (int i = 0; i < size; i++)
+		{
+			snapshots.add(buffer[(first + i) % buffer.length]);
+		}
+		return snapshots;
+	}
+
+	/**
+	 * Gets the latest snapshot
+	 *
+	 * @return the latest snapshot or null if no snapshot was taken
+	 */
+	public synchronized ThreadSnapshot getLatest()
+	{
+		return size == 0 ? null : buffer[(next - 1 + buffer.length) % buffer.length];
+	}
+
+	/**
+	 * Gets the maximum number of snapshots that are kept
+	 *
+	 * @return the maximum number of snapshots that are kept
+	 */
+	public int getCapacity()
+	{
+		return buffer.length;
+	}
+
+	/**
+	 * Gets the number of snapshots in the ring buffer
+	 *
+	 * @return the number of snapshots in the ring buffer
+	 */
+	public synchronized int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Removes all snapshots from the ring buffer and resets the state transitions
+	 */
+	public synchronized void clear()
+	{
+		for (int i = 0; i < buffer.length; i++)
+		{
+			buffer[i] = null;
+		}
+		size = 0;
+		next = 0;
+		previousSamples = new HashMap<>();
+	}
+
+	/**
+	 * Stops the periodic sampling
+	 */
+	@Override
+	public void close()
+	{
+		stop();
+	}
+
+}
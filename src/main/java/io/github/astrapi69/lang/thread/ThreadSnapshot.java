@@ -0,0 +1,71 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The class {@link ThreadSnapshot} holds the samples of all threads at one point in time
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ThreadSnapshot
+{
+
+	/** The value of {@link System#nanoTime()} when the snapshot was taken, for compute durations */
+	private long nanoTime;
+
+	/** The samples of the threads */
+	private List<ThreadSample> threads;
+
+	/** The time in milliseconds since the epoch when the snapshot was taken */
+	private long timestamp;
+
+	/**
+	 * Finds the sample of the thread with the given id
+	 *
+	 * @param threadId
+	 *            the id of the thread
+	 * @return the sample of the thread with the given id or null if not found
+	 */
+	public ThreadSample findThread(final long threadId)
+	{
+		if (threads != null)
+		{
+			for (final ThreadSample sample : threads)
+			{
+				if (sample.getThreadId() == threadId)
+				{
+					return sample;
+				}
+			}
+		}
+		return null;
+	}
+
+}
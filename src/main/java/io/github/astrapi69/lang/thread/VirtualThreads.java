@@ -0,0 +1,168 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The class {@link VirtualThreads} provides methods for run tasks on virtual threads. This is the
+ * java 17 variant that runs the tasks on platform daemon threads. On java 21 and later the class
+ * from the directory 'META-INF/versions/21' of the multi-release jar is loaded instead, that runs
+ * the tasks on virtual threads
+ */
+public final class VirtualThreads
+{
+
+	/** The name prefix of the threads that are created from this class */
+	public static final String THREAD_NAME_PREFIX = ManagedExecutors.THREAD_NAME_PREFIX + "-task";
+
+	/** The thread factory for the threads that are created from this class */
+	private static final ThreadFactory THREAD_FACTORY = new NamedThreadFactory(THREAD_NAME_PREFIX,
+		true);
+
+	/**
+	 * Private constructor for prevent instantiation
+	 */
+	private VirtualThreads()
+	{
+	}
+
+	/**
+	 * Checks if the tasks of this class run on virtual threads
+	 *
+	 * @return true if the tasks of this class run on virtual threads otherwise false
+	 */
+	public static boolean isSupported()
+	{
+		return false;
+	}
+
+	/**
+	 * Factory method for create a new {@link ThreadFactory} with the given name prefix. On java 17
+	 * the factory creates platform daemon threads
+	 *
+	 * @param namePrefix
+	 *            the name prefix of the created threads
+	 * @return the new {@link ThreadFactory}
+	 */
+	public static ThreadFactory newThreadFactory(final String namePrefix)
+	{
+		return new NamedThreadFactory(namePrefix, true);
+	}
+
+	/**
+	 * Factory method for create a new {@link ExecutorService} that starts a new thread for each
+	 * task. On java 17 the threads are cached platform daemon threads. The caller is responsible
+	 * for the shutdown of the returned executor
+	 *
+	 * @return the new {@link ExecutorService}
+	 */
+	public static ExecutorService newThreadPerTaskExecutor()
+	{
+		return Executors.newCachedThreadPool(THREAD_FACTORY);
+	}
+
+	/**
+	 * Starts a new thread that runs the given task
+	 *
+	 * @param task
+	 *            the task to run
+	 * @return the started thread
+	 */
+	public static Thread startThread(final Runnable task)
+	{
+		final Thread thread = THREAD_FACTORY.newThread(task);
+		thread.start();
+		return thread;
+	}
+
+	/**
+	 * Executes the given {@link Runnable} task and attempts to stop it if it exceeds the specified
+	 * timeout. On java 17 the task runs on a cached platform thread of the task executor of
+	 * {@link ManagedExecutors}
+	 *
+	 * @param task
+	 *            the {@link Runnable} task to be executed
+	 * @param timeout
+	 *            the maximum time to wait for the task to complete
+	 * @param timeUnit
+	 *            the time unit of the timeout parameter
+	 * @throws TimeoutException
+	 *             if the task execution exceeds the specified timeout
+	 * @see ThreadExtensions#runWithTimeout(Runnable, long, TimeUnit, ExecutorService)
+	 */
+	public static void runWithTimeout(final Runnable task, final long timeout,
+		final TimeUnit timeUnit) throws TimeoutException
+	{
+		ThreadExtensions.runWithTimeout(task, timeout, timeUnit);
+	}
+
+	/**
+	 * Runs all the given tasks on an own thread of the task executor of {@link ManagedExecutors}
+	 * and waits until all tasks are completed. If a task fails, the remaining tasks are cancelled
+	 * and interrupted and the failure is thrown without waiting for their termination
+	 *
+	 * @param <T>
+	 *            the generic type of the results
+	 * @param tasks
+	 *            the tasks to run
+	 * @return the results of the tasks in the order of the given tasks
+	 * @throws ExecutionException
+	 *             if a task failed
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while waiting
+	 */
+	public static <T> List<T> runAll(final Collection<? extends Callable<T>> tasks)
+		throws ExecutionException, InterruptedException
+	{
+		return StructuredTasks.runAll(ManagedExecutors.getTaskExecutor(), tasks);
+	}
+
+	/**
+	 * Runs all the given tasks on an own thread of the task executor of {@link ManagedExecutors}
+	 * and returns the result of the first task that completes successfully. The remaining tasks
+	 * are cancelled and interrupted without waiting for their termination
+	 *
+	 * @param <T>
+	 *            the generic type of the results
+	 * @param tasks
+	 *            the tasks to run
+	 * @return the result of the first task that completes successfully
+	 * @throws ExecutionException
+	 *             if all tasks failed
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while waiting
+	 */
+	public static <T> T runFirstSuccess(final Collection<? extends Callable<T>> tasks)
+		throws ExecutionException, InterruptedException
+	{
+		return StructuredTasks.runFirstSuccess(ManagedExecutors.getTaskExecutor(), tasks);
+	}
+
+}
@@ -0,0 +1,340 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+
+import io.github.astrapi69.check.Argument;
+import lombok.extern.java.Log;
+
+/**
+ * The class {@link Worker} runs a {@link WorkerTask} in a loop on its own thread. If an iteration
+ * did no work the worker idles with its {@link IdleStrategy}, so an idle worker does not occupy a
+ * full core like the busy loop of {@link InterruptableThread}. The worker can be paused, resumed
+ * and shut down and reports counters of its loop that can be used for sizing worker pools. An
+ * interrupt of the thread of the worker shuts down the worker
+ */
+@Log
+public final class Worker
+{
+
+	/** The maximum time in nanoseconds a paused worker is parked before it checks its state */
+	private static final long PAUSE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	/** The idle strategy */
+	private final IdleStrategy idleStrategy;
+
+	/** The name of the worker and its thread */
+	private final String name;
+
+	/** The task that is run in the loop */
+	private final WorkerTask task;
+
+	/** The latch that is released if the loop is terminated */
+	private final CountDownLatch terminated = new CountDownLatch(1);
+
+	/** The number of the failed iterations */
+	private volatile long errorCount;
+
+	/** The number of the iterations without work */
+	private volatile long idleCount;
+
+	/** The time in nanoseconds spent in the idle strategy */
+	private volatile long idleNanos;
+
+	/** The number of the iterations */
+	private volatile long iterationCount;
+
+	/** The flag if the worker is paused */
+	private volatile boolean paused;
+
+	/** The flag if the worker is running, false after shutdown */
+	private volatile boolean running = true;
+
+	/** The thread of the worker */
+	private volatile Thread thread;
+
+	/** The sum of the work counts */
+	private volatile long workCount;
+
+	/**
+	 * Instantiates a new {@link Worker} object
+	 *
+	 * @param name
+	 *            the name of the worker and its thread
+	 * @param task
+	 *            the task that is run in the loop
+	 * @param idleStrategy
+	 *            the idle strategy for iterations without work
+	 */
+	public Worker(final String name, final WorkerTask task, final IdleStrategy idleStrategy)
+	{
+		this.name = Argument.notEmpty(name, "name");
+		this.task = Argument.notNull(task, "task");
+		this.idleStrategy = Argument.notNull(idleStrategy, "idleStrategy");
+	}
+
+	/**
+	 * Starts the loop of this worker on a new platform daemon thread
+	 *
+	 * @return this worker
+	 * @throws IllegalStateException
+	 *             if this worker is already started
+	 */
+	public Worker start()
+	{
+		return start(runnable -> {
+			final Thread workerThread = new Thread(runnable, name);
+			workerThread.setDaemon(true);
+			return workerThread;
+		});
+	}
+
+	/**
+	 * Starts the loop of this worker on a new thread from the given thread factory, for instance
+	 * from {@link VirtualThreads#newThreadFactory(String)}
+	 *
+	 * @param threadFactory
+	 *            the thread factory that creates the thread of this worker
+	 * @return this worker
+	 * @throws IllegalStateException
+	 *             if this worker is already started
+	 */
+	public synchronized Worker start(final ThreadFactory threadFactory)
+	{
+		if (thread != null)
+		{
+			throw new IllegalStateException("Worker '" + name + "' is already started");
+		}
+		thread = threadFactory.newThread(this::runLoop);
+		thread.start();
+		return this;
+	}
+
+	/**
+	 * Pauses this worker after the current iteration
+	 */
+	public void pause()
+	{
+		paused = true;
+	}
+
+	/**
+	 * Resumes this worker if it is paused
+	 */
+	public void resume()
+	{
+		paused = false;
+		wakeUp();
+	}
+
+	/**
+	 * Wakes up this worker if it idles with a blocking {@link IdleStrategy}, for instance if new
+	 * work is available
+	 */
+	public void signal()
+	{
+		idleStrategy.signal();
+	}
+
+	/**
+	 * Shuts down this worker after the current iteration. The thread of the worker is not
+	 * interrupted
+	 */
+	public void shutdown()
+	{
+		running = false;
+		wakeUp();
+	}
+
+	/**
+	 * Waits until the loop of this worker is terminated or the given timeout is elapsed
+	 *
+	 * @param timeout
+	 *            the maximum time to wait
+	 * @param timeUnit
+	 *            the time unit of the timeout
+	 * @return true if the loop is terminated otherwise false
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting
+	 */
+	public boolean awaitTermination(final long timeout, final TimeUnit timeUnit)
+		throws InterruptedException
+	{
+		return terminated.await(timeout, timeUnit);
+	}
+
+	/**
+	 * Gets the name of this worker
+	 *
+	 * @return the name of this worker
+	 */
+	public String getName()
+	{
+		return name;
+	}
+
+	/**
+	 * Gets the current state of this worker
+	 *
+	 * @return the current state of this worker
+	 */
+	public WorkerState getState()
+	{
+		if (terminated.getCount() == 0)
+		{
+			return WorkerState.TERMINATED;
+		}
+		if (!running)
+		{
+			return WorkerState.STOPPING;
+		}
+		if (thread == null)
+		{
+			return WorkerState.NEW;
+		}
+		return paused ? WorkerState.PAUSED : WorkerState.RUNNING;
+	}
+
+	/**
+	 * Gets the number of the iterations of the loop
+	 *
+	 * @return the number of the iterations of the loop
+	 */
+	public long getIterationCount()
+	{
+		return iterationCount;
+	}
+
+	/**
+	 * Gets the sum of the work counts that are returned from the task
+	 *
+	 * @return the sum of the work counts
+	 */
+	public long getWorkCount()
+	{
+		return workCount;
+	}
+
+	/**
+	 * Gets the number of the iterations without work
+	 *
+	 * @return the number of the iterations without work
+	 */
+	public long getIdleCount()
+	{
+		return idleCount;
+	}
+
+	/**
+	 * Gets the time spent in the {@link IdleStrategy}
+	 *
+	 * @param timeUnit
+	 *            the time unit of the result
+	 * @return the time spent in the {@link IdleStrategy}
+	 */
+	public long getIdleTime(final TimeUnit timeUnit)
+	{
+		return timeUnit.convert(idleNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Gets the number of the iterations in which the task threw an exception
+	 *
+	 * @return the number of the failed iterations
+	 */
+	public long getErrorCount()
+	{
+		return errorCount;
+	}
+
+	private void runLoop()
+	{
+		try
+		{
+			// an interrupted thread returns immediately from every park, so the interrupt is
+			// treated as shutdown instead of spinning in the pause or in the idle strategy
+			while (running && !Thread.currentThread().isInterrupted())
+			{
+				if (paused)
+				{
+					LockSupport.parkNanos(this, PAUSE_PARK_NANOS);
+					continue;
+				}
+				final int count = doWork();
+				// the counters are only written from the worker thread
+				iterationCount++;
+				if (count > 0)
+				{
+					workCount += count;
+					idleStrategy.idle(count);
+				}
+				else
+				{
+					idleCount++;
+					final long start = System.nanoTime();
+					idleStrategy.idle(0);
+					idleNanos += System.nanoTime() - start;
+				}
+			}
+		}
+		finally
+		{
+			running = false;
+			terminated.countDown();
+		}
+	}
+
+	private int doWork()
+	{
+		try
+		{
+			return task.doWork();
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			running = false;
+			return 0;
+		}
+		catch (final Exception e)
+		{
+			errorCount++;
+			log.log(Level.WARNING, "Task of worker '" + name + "' failed", e);
+			return 0;
+		}
+	}
+
+	private void wakeUp()
+	{
+		idleStrategy.signal();
+		final Thread current = thread;
+		if (current != null)
+		{
+			LockSupport.unpark(current);
+		}
+	}
+
+}
@@ -23,10 +23,14 @@ module io.github.astrapisixtynine.jobj.core
 	requires static lombok;
 	requires java.logging;
 	requires java.compiler;
+	requires java.management;
+	requires static jdk.management;
 
 	exports io.github.astrapi69.check;
 	exports io.github.astrapi69.lang;
 	exports io.github.astrapi69.lang.manifest;
+	exports io.github.astrapi69.lang.memory;
 	exports io.github.astrapi69.lang.model;
+	exports io.github.astrapi69.lang.resource;
 	exports io.github.astrapi69.lang.thread;
 }
@@ -84,6 +84,30 @@ public class ArgumentTest
 		assertEquals(expected, actual);
 	}
 
+	/**
+	 * Test method for {@link Argument#isInRange(int, int, int, String)},
+	 * {@link Argument#isInRange(long, long, long, String)},
+	 * {@link Argument#isInRange(float, float, float, String)} and
+	 * {@link Argument#isInRange(double, double, double, String)}
+	 */
+	@Test
+	public void testIsInRangePrimitive()
+	{
+		assertEquals(5, Argument.isInRange(0, 5, 5, "intValue"));
+		assertEquals(0L, Argument.isInRange(0L, 5L, 0L, "longValue"));
+		assertEquals(2.5f, Argument.isInRange(0f, 5f, 2.5f, "floatValue"));
+		assertEquals(2.5d, Argument.isInRange(0d, 5d, 2.5d, "doubleValue"));
+
+		Assertions.assertThrows(IllegalArgumentException.class,
+			() -> Argument.isInRange(0, 5, 6, "intValue"));
+		Assertions.assertThrows(IllegalArgumentException.class,
+			() -> Argument.isInRange(0L, 5L, -1L, "longValue"));
+		Assertions.assertThrows(IllegalArgumentException.class,
+			() -> Argument.isInRange(0f, 5f, 5.5f, "floatValue"));
+		Assertions.assertThrows(IllegalArgumentException.class,
+			() -> Argument.isInRange(0d, 5d, Double.NaN, "doubleValue"));
+	}
+
 	/**
 	 * Test method for {@link Argument#notEmpty(java.util.Collection, String)}
 	 */
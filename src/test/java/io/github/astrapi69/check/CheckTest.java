@@ -21,6 +21,7 @@
 package io.github.astrapi69.check;
 
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.util.ArrayList;
@@ -206,6 +207,34 @@ public class CheckTest
 		assertNotNull(check);
 	}
 
+	/**
+	 * Test method for {@link Check#isInRange(int, int, int, String)},
+	 * {@link Check#isInRange(long, long, long, String)},
+	 * {@link Check#isInRange(float, float, float, String)} and
+	 * {@link Check#isInRange(double, double, double, String)}
+	 */
+	@Test
+	public void testIsInRangePrimitive()
+	{
+		Check check;
+
+		check = Check.get().isInRange(0, 5, 2, "intValue").isInRange(0L, 5L, 2L, "longValue")
+			.isInRange(0f, 5f, 2f, "floatValue").isInRange(0d, 5d, 2d, "doubleValue");
+		assertNotNull(check);
+
+		IllegalArgumentException exception = Assertions.assertThrows(
+			IllegalArgumentException.class, () -> Check.get().isInRange(0, 5, 5, "intValue"));
+		assertEquals(
+			"Given argument 'intValue' should have a value between 0 - 5, but given argument is currently:5",
+			exception.getMessage());
+		Assertions.assertThrows(IllegalArgumentException.class,
+			() -> Check.get().isInRange(0L, 5L, 6L, "longValue"));
+		Assertions.assertThrows(IllegalArgumentException.class,
+			() -> Check.get().isInRange(0f, 5f, 0f, "floatValue"));
+		Assertions.assertThrows(IllegalArgumentException.class,
+			() -> Check.get().isInRange(0d, 5d, Double.NaN, "doubleValue"));
+	}
+
 	/**
 	 * Test method for {@link Check#notEmpty(java.util.Collection, String)}
 	 */
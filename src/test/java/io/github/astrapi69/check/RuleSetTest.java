@@ -0,0 +1,177 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.check;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link RuleSet}
+ */
+public class RuleSetTest
+{
+
+	/** The rule set that is compiled over the lookup of this class */
+	private static final RuleSet<Person> RULES = RuleSet
+		.builder(MethodHandles.lookup(), Person.class).notEmpty("name").isInRange("age", 0, 150)
+		.isInRange("score", 0, 100).isInRange("weight", 0.0d, 300.0d).notEmpty("tags")
+		.notNull("nickname").isInRange("name", "a", "x")
+		.isTrue(person -> person.getAge() < 100 || person.getScore() != null, "score",
+			"is required for persons older than 100")
+		.build();
+
+	/** The rule set that is compiled over the public lookup */
+	private static final RuleSet<Person> PUBLIC_RULES = RuleSet.builder(Person.class)
+		.notEmpty("name").isInRange("age", 0, 150).isInRange("score", 0, 100).notEmpty("tags")
+		.build();
+
+	/**
+	 * Test method for {@link RuleSet#validate(Object)} with a valid bean
+	 */
+	@Test
+	public void testValidateValid()
+	{
+		Person person = new Person("foo", 42, 80, 70.5d, List.of("bar"), "f");
+		assertSame(ValidationResult.VALID, RULES.validate(person));
+		assertSame(ValidationResult.VALID, PUBLIC_RULES.validate(person));
+		assertSame(person, RULES.requireValid(person));
+		assertEquals(8, RULES.size());
+		assertEquals(Person.class, RULES.getType());
+	}
+
+	/**
+	 * Test method for {@link RuleSet#validate(Object)} with an invalid bean
+	 */
+	@Test
+	public void testValidateInvalid()
+	{
+		ValidationResult actual;
+		Person person = new Person(" ", 200, null, 400.0d, List.of(), null);
+
+		actual = RULES.validate(person);
+		assertEquals(8, actual.getViolations().size());
+		assertEquals(Violation.ofEmpty("name"), actual.getViolations().get(0));
+		assertEquals(Violation.ofNotInRange("age", 0L, 150L, 200L), actual.getViolations().get(1));
+		assertEquals(Violation.ofNull("score"), actual.getViolations().get(2));
+		assertEquals(Violation.ofNotInRange("weight", 0.0d, 300.0d, 400.0d),
+			actual.getViolations().get(3));
+		assertEquals(Violation.ofEmpty("tags"), actual.getViolations().get(4));
+		assertEquals(Violation.ofNull("nickname"), actual.getViolations().get(5));
+		assertEquals(ViolationType.NOT_IN_RANGE, actual.getViolations().get(6).getType());
+		assertEquals(Violation.ofInvalid("score", "is required for persons older than 100"),
+			actual.getViolations().get(7));
+
+		assertEquals(4, PUBLIC_RULES.validate(person).getViolations().size());
+		assertThrows(ValidationException.class, () -> RULES.requireValid(person));
+		assertEquals(Violation.ofNull("Person"), RULES.validate(null).getViolations().get(0));
+	}
+
+	/**
+	 * Test method for {@link RuleSet.Builder} with unsupported properties
+	 */
+	@Test
+	public void testBuilderWithUnsupportedProperty()
+	{
+		assertThrows(IllegalArgumentException.class,
+			() -> RuleSet.builder(Person.class).notNull("age"));
+		assertThrows(IllegalArgumentException.class,
+			() -> RuleSet.builder(Person.class).notEmpty("age"));
+		assertThrows(IllegalArgumentException.class,
+			() -> RuleSet.builder(Person.class).isInRange("name", 0, 10));
+		assertThrows(IllegalArgumentException.class,
+			() -> RuleSet.builder(Person.class).notNull("unknown"));
+		// private fields can only be read with the lookup of the caller
+		assertThrows(IllegalArgumentException.class,
+			() -> RuleSet.builder(Person.class).notNull("nickname"));
+		assertTrue(RuleSet.builder(MethodHandles.lookup(), Person.class).notNull("nickname").build()
+			.validate(new Person("foo", 1, 1, 1.0d, List.of(), "f")).isValid());
+	}
+
+	/**
+	 * The bean class for the tests
+	 */
+	public static class Person
+	{
+
+		/** The age */
+		private final int age;
+
+		/** The name */
+		private final String name;
+
+		/** The nickname without getter method */
+		private final String nickname;
+
+		/** The score */
+		private final Integer score;
+
+		/** The tags */
+		private final List<String> tags;
+
+		/** The weight */
+		private final double weight;
+
+		Person(final String name, final int age, final Integer score, final double weight,
+			final List<String> tags, final String nickname)
+		{
+			this.name = name;
+			this.age = age;
+			this.score = score;
+			this.weight = weight;
+			this.tags = tags;
+			this.nickname = nickname;
+		}
+
+		public int getAge()
+		{
+			return age;
+		}
+
+		public String getName()
+		{
+			return name;
+		}
+
+		public Integer getScore()
+		{
+			return score;
+		}
+
+		public List<String> getTags()
+		{
+			return tags;
+		}
+
+		public double getWeight()
+		{
+			return weight;
+		}
+
+	}
+
+}
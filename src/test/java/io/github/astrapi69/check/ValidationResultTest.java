@@ -0,0 +1,86 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.check;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * The unit test class for the class {@link ValidationResult}
+ */
+public class ValidationResultTest
+{
+
+	/**
+	 * Test method for {@link ValidationResult#of(List)}
+	 */
+	@Test
+	public void testOf()
+	{
+		ValidationResult actual;
+		List<Violation> violations;
+
+		assertSame(ValidationResult.VALID, ValidationResult.of(null));
+		assertSame(ValidationResult.VALID, ValidationResult.of(new ArrayList<>()));
+		violations = new ArrayList<>();
+		violations.add(Violation.ofNull("foo"));
+		actual = ValidationResult.of(violations);
+		violations.add(Violation.ofNull("bar"));
+		assertFalse(actual.isValid());
+		assertEquals(1, actual.getViolations().size());
+		assertThrows(UnsupportedOperationException.class,
+			() -> actual.getViolations().add(Violation.ofNull("baz")));
+		assertEquals(ValidationResult.of(List.of(Violation.ofNull("foo"))), actual);
+	}
+
+	/**
+	 * Test method for {@link ValidationResult#throwIfInvalid()}
+	 */
+	@Test
+	public void testThrowIfInvalid()
+	{
+		ValidationResult result;
+
+		assertSame(ValidationResult.VALID, ValidationResult.VALID.throwIfInvalid());
+		result = ValidationResult.of(List.of(Violation.ofEmpty("foo")));
+		assertSame(result,
+			assertThrows(ValidationException.class, result::throwIfInvalid).getResult());
+	}
+
+	/**
+	 * Test method for {@link ValidationResult#equals(Object)} , {@link ValidationResult#hashCode()}
+	 */
+	@Test
+	public void equalsContract()
+	{
+		EqualsVerifier.simple().forClass(ValidationResult.class).verify();
+	}
+
+}
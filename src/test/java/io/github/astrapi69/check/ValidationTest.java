@@ -0,0 +1,115 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.check;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link Validation}
+ */
+public class ValidationTest
+{
+
+	/**
+	 * Test method for {@link Validation#getResult()} if all rules are passed
+	 */
+	@Test
+	public void testGetResultValid()
+	{
+		ValidationResult actual;
+
+		actual = Validation.start().notNull("foo", "foo").notEmpty("bar", "bar")
+			.notEmpty(List.of(1), "list").isInRange(0, 10, 5, "int")
+			.isInRange(0.0d, 1.0d, 1.0d, "double").isInRange("a", "c", "b", "string")
+			.isTrue(true, "condition", "should be true").getResult();
+		assertSame(ValidationResult.VALID, actual);
+		assertTrue(actual.isValid());
+	}
+
+	/**
+	 * Test method for {@link Validation#getResult()} if several rules failed
+	 */
+	@Test
+	public void testGetResultWithViolations()
+	{
+		ValidationResult actual;
+		Validation validation;
+
+		validation = Validation.start().notNull(null, "foo").notEmpty("  ", "bar")
+			.notEmpty((String)null, "baz").notEmpty(new ArrayList<>(), "list")
+			.notEmpty(new HashMap<>(), "map").notEmpty(new int[0], "array")
+			.isInRange(0, 10, 11, "int").isInRange(0.0d, 1.0d, Double.NaN, "double")
+			.isTrue(false, "condition", "should be true");
+		assertFalse(validation.isValid());
+		actual = validation.getResult();
+		assertFalse(actual.isValid());
+		assertEquals(9, actual.getViolations().size());
+		assertEquals(Violation.ofNull("foo"), actual.getViolations().get(0));
+		assertEquals(Violation.ofEmpty("bar"), actual.getViolations().get(1));
+		assertEquals(Violation.ofNull("baz"), actual.getViolations().get(2));
+		assertEquals(Violation.ofEmpty("list"), actual.getViolations().get(3));
+		assertEquals(Violation.ofEmpty("map"), actual.getViolations().get(4));
+		assertEquals(Violation.ofEmpty("array"), actual.getViolations().get(5));
+		assertEquals(ViolationType.NOT_IN_RANGE, actual.getViolations().get(6).getType());
+		assertEquals(ViolationType.NOT_IN_RANGE, actual.getViolations().get(7).getType());
+		assertEquals(ViolationType.INVALID, actual.getViolations().get(8).getType());
+		assertEquals("Given argument 'int' should have a value between 0 - 10,"
+			+ " but given argument is currently:11", actual.getViolations().get(6).getMessage());
+	}
+
+	/**
+	 * Test method for {@link Validation#throwIfInvalid()}
+	 */
+	@Test
+	public void testThrowIfInvalid()
+	{
+		ValidationException exception;
+
+		Validation.start().notNull("foo", "foo").throwIfInvalid();
+		exception = assertThrows(ValidationException.class,
+			() -> Validation.start().notNull(null, "foo").notEmpty("", "bar").throwIfInvalid());
+		assertEquals(2, exception.getResult().getViolations().size());
+		assertEquals("Given argument 'foo' may not be null." + System.lineSeparator()
+			+ "Given argument 'bar' may not be empty.", exception.getMessage());
+	}
+
+	/**
+	 * Test method for {@link Validation#isInRange(Comparable, Comparable, Comparable, String)} with
+	 * null bounds
+	 */
+	@Test
+	public void testIsInRangeNullBounds()
+	{
+		assertThrows(IllegalArgumentException.class,
+			() -> Validation.start().isInRange(null, "c", "b", "string"));
+	}
+
+}
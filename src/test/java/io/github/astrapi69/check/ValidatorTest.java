@@ -0,0 +1,63 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.check;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the interface {@link Validator}
+ */
+public class ValidatorTest
+{
+
+	/** The reusable validator for strings */
+	private static final Validator<String> VALIDATOR = (value, validation) -> validation
+		.notEmpty(value, "value").isTrue(value == null || value.length() < 5, "value", "too long");
+
+	/**
+	 * Test method for {@link Validator#validate(Object)}
+	 */
+	@Test
+	public void testValidate()
+	{
+		assertTrue(VALIDATOR.validate("foo").isValid());
+		assertEquals(Violation.ofNull("value"), VALIDATOR.validate(null).getViolations().get(0));
+		assertEquals(Violation.ofInvalid("value", "too long"),
+			VALIDATOR.validate("foobar").getViolations().get(0));
+	}
+
+	/**
+	 * Test method for {@link Validator#requireValid(Object)}
+	 */
+	@Test
+	public void testRequireValid()
+	{
+		String value = "foo";
+		assertSame(value, VALIDATOR.requireValid(value));
+		assertThrows(ValidationException.class, () -> VALIDATOR.requireValid(" "));
+	}
+
+}
@@ -0,0 +1,77 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.check;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * The unit test class for the class {@link Violation}
+ */
+public class ViolationTest
+{
+
+	/**
+	 * Test method for {@link Violation#getMessage()}
+	 */
+	@Test
+	public void testGetMessage()
+	{
+		assertEquals("Given argument 'foo' may not be null.", Violation.ofNull("foo").getMessage());
+		assertEquals("Given argument 'foo' may not be empty.",
+			Violation.ofEmpty("foo").getMessage());
+		assertEquals(
+			"Given argument 'foo' should have a value between 1 - 3, but given argument is currently:5",
+			Violation.ofNotInRange("foo", 1, 3, 5).getMessage());
+		assertEquals("Given argument 'foo' is invalid: bar",
+			Violation.ofInvalid("foo", "bar").getMessage());
+	}
+
+	/**
+	 * Test method for {@link Violation#getName()} and {@link Violation#getType()}
+	 */
+	@Test
+	public void testGetters()
+	{
+		Violation violation = Violation.ofNotInRange("foo", 1, 3, 5);
+		assertEquals("foo", violation.getName());
+		assertEquals(ViolationType.NOT_IN_RANGE, violation.getType());
+		assertEquals("1", violation.getMin());
+		assertEquals("3", violation.getMax());
+		assertEquals("5", violation.getValue());
+	}
+
+	/**
+	 * Test method for {@link Violation#equals(Object)} , {@link Violation#hashCode()}
+	 */
+	@Test
+	public void equalsContract()
+	{
+		assertEquals(Violation.ofNull("foo"), Violation.ofNull("foo"));
+		assertNotEquals(Violation.ofNull("foo"), Violation.ofEmpty("foo"));
+		EqualsVerifier.simple().forClass(Violation.class).verify();
+	}
+
+}
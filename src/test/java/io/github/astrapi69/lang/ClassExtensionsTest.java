@@ -21,7 +21,9 @@
 package io.github.astrapi69.lang;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -33,10 +35,12 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 
@@ -197,6 +201,22 @@ public class ClassExtensionsTest
 		assertEquals(expected, actual);
 	}
 
+	/**
+	 * Test method for {@link ClassExtensions#tryForName(String)}
+	 */
+	@Test
+	public void testTryForName()
+	{
+		Optional<Class<?>> actual;
+
+		actual = ClassExtensions.tryForName("io.github.astrapi69.test.object.Person");
+		assertTrue(actual.isPresent());
+		assertEquals(Person.class, actual.get());
+
+		actual = ClassExtensions.tryForName("ClassExtensionsTe");
+		assertFalse(actual.isPresent());
+	}
+
 	/**
 	 * Test method for {@link ClassExtensions#forName(String)}
 	 *
@@ -322,6 +342,44 @@ public class ClassExtensionsTest
 		assertNotNull(classLoader);
 	}
 
+	/**
+	 * Test method for {@link ClassExtensions#getClassLoader(Object)} with different context class
+	 * loaders of the current thread
+	 */
+	@Test
+	public void testGetClassLoaderObjectWithContextClassLoader() throws IOException
+	{
+		final Thread thread = Thread.currentThread();
+		final ClassLoader contextClassLoader = thread.getContextClassLoader();
+		final ClassLoader systemClassLoader = ClassLoader.getSystemClassLoader();
+		try (URLClassLoader childClassLoader = new URLClassLoader(new URL[0], systemClassLoader))
+		{
+			final Object childObject = Proxy.newProxyInstance(childClassLoader,
+				new Class<?>[] { Runnable.class }, (proxy, method, arguments) -> null);
+
+			thread.setContextClassLoader(systemClassLoader);
+			assertSame(systemClassLoader, ClassExtensions.getClassLoader());
+			assertSame(systemClassLoader, ClassExtensions.getClassLoader("bootstrap"));
+			assertSame(childClassLoader, ClassExtensions.getClassLoader(childObject));
+
+			thread.setContextClassLoader(systemClassLoader.getParent());
+			assertSame(systemClassLoader, ClassExtensions.getClassLoader());
+
+			thread.setContextClassLoader(null);
+			assertSame(systemClassLoader, ClassExtensions.getClassLoader());
+			assertSame(childClassLoader, ClassExtensions.getClassLoader(childObject));
+
+			thread.setContextClassLoader(childClassLoader);
+			assertSame(childClassLoader, ClassExtensions.getClassLoader());
+			assertSame(childClassLoader, ClassExtensions.getClassLoader(this));
+			assertSame(childClassLoader, ClassExtensions.getClassLoader(childObject));
+		}
+		finally
+		{
+			thread.setContextClassLoader(contextClassLoader);
+		}
+	}
+
 	/**
 	 * Test method for {@link ClassExtensions#getClassname(Class)}.
 	 */
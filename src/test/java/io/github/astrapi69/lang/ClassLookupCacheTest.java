@@ -0,0 +1,189 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.test.object.Person;
+
+/**
+ * The unit test class for the class {@link ClassLookupCache}
+ */
+public class ClassLookupCacheTest
+{
+
+	/**
+	 * Test method for {@link ClassLookupCache#forName(String)}
+	 *
+	 * @throws ClassNotFoundException
+	 *             is thrown if the class was not found or could not be located
+	 */
+	@Test
+	public void testForName() throws ClassNotFoundException
+	{
+		Class<?> expected;
+		Class<?> actual;
+		ClassLookupCache classLookupCache;
+
+		classLookupCache = new ClassLookupCache(16, Duration.ofMinutes(1));
+		actual = classLookupCache.forName("io.github.astrapi69.test.object.Person");
+		expected = Person.class;
+		assertEquals(expected, actual);
+		// second call is served from the cache
+		actual = classLookupCache.forName("io.github.astrapi69.test.object.Person");
+		assertEquals(expected, actual);
+
+		assertThrows(ClassNotFoundException.class,
+			() -> classLookupCache.forName("io.github.astrapi69.NotExisting"));
+		assertThrows(ClassNotFoundException.class,
+			() -> classLookupCache.forName("io.github.astrapi69.NotExisting"));
+	}
+
+	/**
+	 * Test method for {@link ClassLookupCache#tryForName(String, ClassLoader)}
+	 *
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while sleeping
+	 */
+	@Test
+	public void testTryForName() throws InterruptedException
+	{
+		Optional<Class<?>> actual;
+		ClassLookupCache classLookupCache;
+		ClassLoader classLoader;
+
+		classLoader = ClassExtensions.getClassLoader();
+		classLookupCache = new ClassLookupCache(16, Duration.ofMillis(10));
+
+		actual = classLookupCache.tryForName("java.lang.String", classLoader);
+		assertTrue(actual.isPresent());
+		assertEquals(String.class, actual.get());
+
+		actual = classLookupCache.tryForName("io.github.astrapi69.NotExisting", classLoader);
+		assertFalse(actual.isPresent());
+		actual = classLookupCache.tryForName("io.github.astrapi69.NotExisting", classLoader);
+		assertFalse(actual.isPresent());
+		// expired misses are looked up again
+		Thread.sleep(20);
+		actual = classLookupCache.tryForName("io.github.astrapi69.NotExisting", classLoader);
+		assertFalse(actual.isPresent());
+
+		classLookupCache.invalidate(classLoader);
+		actual = classLookupCache.tryForName("java.lang.String", classLoader);
+		assertTrue(actual.isPresent());
+		classLookupCache.clear();
+	}
+
+	/**
+	 * Test method for {@link ClassLookupCache#tryForName(String, ClassLoader)} with a class loader
+	 * that can not find a class or can not link it
+	 */
+	@Test
+	public void testTryForNameRemembersOnlyMissingClasses()
+	{
+		ClassLookupCache classLookupCache = new ClassLookupCache(16, Duration.ofMinutes(1));
+		AtomicInteger lookups = new AtomicInteger();
+		ClassLoader classLoader = new ClassLoader(null)
+		{
+			@Override
+			protected Class<?> findClass(final String name) throws ClassNotFoundException
+			{
+				lookups.incrementAndGet();
+				if (name.endsWith("Unlinked"))
+				{
+					throw new NoClassDefFoundError("io/github/astrapi69/MissingDependency");
+				}
+				throw new ClassNotFoundException(name);
+			}
+		};
+
+		assertFalse(classLookupCache.tryForName("io.github.astrapi69.NotExisting", classLoader)
+			.isPresent());
+		int expected = lookups.get();
+		// the miss is remembered
+		assertFalse(classLookupCache.tryForName("io.github.astrapi69.NotExisting", classLoader)
+			.isPresent());
+		assertEquals(expected, lookups.get());
+
+		assertFalse(classLookupCache.tryForName("io.github.astrapi69.Unlinked", classLoader)
+			.isPresent());
+		expected = lookups.get();
+		// the linkage error is not remembered
+		assertFalse(classLookupCache.tryForName("io.github.astrapi69.Unlinked", classLoader)
+			.isPresent());
+		assertTrue(expected < lookups.get());
+	}
+
+	/**
+	 * Test method for {@link ClassLookupCache#forName(String)} with the cause of the miss
+	 */
+	@Test
+	public void testForNameWithCause()
+	{
+		ClassLookupCache classLookupCache = new ClassLookupCache(16, Duration.ofMinutes(1));
+		ClassNotFoundException exception = assertThrows(ClassNotFoundException.class,
+			() -> classLookupCache.forName("io.github.astrapi69.NotExisting"));
+		assertTrue(exception.getCause() instanceof ClassNotFoundException);
+		// the remembered miss keeps its cause
+		ClassNotFoundException remembered = assertThrows(ClassNotFoundException.class,
+			() -> classLookupCache.forName("io.github.astrapi69.NotExisting"));
+		assertEquals(exception.getCause(), remembered.getCause());
+	}
+
+	/**
+	 * Test method for {@link ClassLookupCache#ClassLookupCache(int, Duration)} with invalid
+	 * arguments
+	 */
+	@Test
+	public void testConstructorWithInvalidArguments()
+	{
+		assertThrows(IllegalArgumentException.class,
+			() -> new ClassLookupCache(0, Duration.ofMinutes(1)));
+		assertThrows(IllegalArgumentException.class,
+			() -> new ClassLookupCache(16, Duration.ofMinutes(-1)));
+		assertThrows(NullPointerException.class, () -> new ClassLookupCache(16, null));
+	}
+
+	/**
+	 * Test method for {@link ClassLookupCache#getDefault()} and
+	 * {@link ClassLookupCache#setDefault(ClassLookupCache)}
+	 */
+	@Test
+	public void testDefault()
+	{
+		ClassLookupCache defaultInstance = ClassLookupCache.getDefault();
+		ClassLookupCache classLookupCache = new ClassLookupCache(16, Duration.ofMinutes(1));
+		ClassLookupCache.setDefault(classLookupCache);
+		assertEquals(classLookupCache, ClassLookupCache.getDefault());
+		ClassLookupCache.setDefault(defaultInstance);
+		assertEquals(defaultInstance, ClassLookupCache.getDefault());
+	}
+
+}
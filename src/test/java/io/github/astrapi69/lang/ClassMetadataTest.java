@@ -0,0 +1,127 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.test.object.Person;
+import io.github.astrapi69.test.object.enumeration.Brand;
+
+/**
+ * The unit test class for the class {@link ClassMetadata}
+ */
+public class ClassMetadataTest
+{
+
+	/**
+	 * Test method for {@link ClassMetadata#of(Class)}
+	 */
+	@Test
+	public void testOf()
+	{
+		ClassMetadata actual;
+		ClassMetadata expected;
+
+		expected = ClassMetadata.of(Person.class);
+		actual = ClassMetadata.of(Person.class);
+		assertSame(expected, actual);
+
+		assertThrows(NullPointerException.class, () -> ClassMetadata.of(null));
+	}
+
+	/**
+	 * Test method for {@link ClassMetadata#getClassType()}
+	 */
+	@Test
+	public void testGetClassType()
+	{
+		assertEquals(ClassType.ARRAY, ClassMetadata.of(String[].class).getClassType());
+		assertEquals(ClassType.COLLECTION, ClassMetadata.of(ArrayList.class).getClassType());
+		assertEquals(ClassType.MAP, ClassMetadata.of(HashMap.class).getClassType());
+		assertEquals(ClassType.ENUM, ClassMetadata.of(Brand.class).getClassType());
+		assertEquals(ClassType.PRIMITIVE, ClassMetadata.of(int.class).getClassType());
+		assertEquals(ClassType.INTERFACE, ClassMetadata.of(Runnable.class).getClassType());
+		assertEquals(ClassType.DEFAULT, ClassMetadata.of(Person.class).getClassType());
+	}
+
+	/**
+	 * Test method for {@link ClassMetadata#isCollection()} and {@link ClassMetadata#isMap()}
+	 */
+	@Test
+	public void testIsCollectionAndIsMap()
+	{
+		assertTrue(ClassMetadata.of(ArrayList.class).isCollection());
+		assertFalse(ClassMetadata.of(ArrayList.class).isMap());
+		assertTrue(ClassMetadata.of(HashMap.class).isMap());
+		assertFalse(ClassMetadata.of(HashMap.class).isCollection());
+	}
+
+	/**
+	 * Test method for {@link ClassMetadata#isPrimitiveArray()}
+	 */
+	@Test
+	public void testIsPrimitiveArray()
+	{
+		assertTrue(ClassMetadata.of(int[].class).isPrimitiveArray());
+		assertFalse(ClassMetadata.of(Integer[].class).isPrimitiveArray());
+		assertFalse(ClassMetadata.of(int.class).isPrimitiveArray());
+	}
+
+	/**
+	 * Test method for {@link ClassMetadata#isInstantiable()}
+	 */
+	@Test
+	public void testIsInstantiable()
+	{
+		assertTrue(ClassMetadata.of(Person.class).isInstantiable());
+		assertTrue(ClassMetadata.of(String[].class).isInstantiable());
+		assertFalse(ClassMetadata.of(Brand.class).isInstantiable());
+		assertFalse(ClassMetadata.of(Integer.class).isInstantiable());
+	}
+
+	/**
+	 * Test method for {@link ClassMetadata#isProxy()} and {@link ClassMetadata#isJdkProxy()}
+	 */
+	@Test
+	public void testIsProxy()
+	{
+		Map<?, ?> proxyInstance = (Map<?, ?>)Proxy.newProxyInstance(
+			ClassExtensions.getClassLoader(), new Class[] { Map.class },
+			(proxy, method, methodArgs) -> null);
+		ClassMetadata metadata = ClassMetadata.of(proxyInstance.getClass());
+		assertTrue(metadata.isJdkProxy());
+		assertTrue(metadata.isProxy());
+		assertFalse(metadata.isCglib());
+		assertFalse(ClassMetadata.of(Person.class).isProxy());
+	}
+
+}
@@ -66,6 +66,33 @@ public class EnumExtensionsTest
 		assertEquals(expected, actual);
 	}
 
+	/**
+	 * Test method for {@link EnumExtensions#enumFieldValue(Class, String, Object, Function, Enum)}
+	 */
+	@Test
+	public void testEnumFieldValueWithIndexName()
+	{
+		assertEquals(TestCar.GARAGE_PARIS, EnumExtensions.enumFieldValue(TestCar.class, "brand",
+			Brand.FERRARI, TestCar::getBrand, TestCar.UNKNOWN));
+		assertEquals(TestCar.UNKNOWN, EnumExtensions.enumFieldValue(TestCar.class, "brand",
+			Brand.MASERATI, TestCar::getBrand, TestCar.UNKNOWN));
+		assertEquals(TestCar.UNKNOWN, EnumExtensions.enumFieldValue(null, "brand",
+			Brand.FERRARI, TestCar::getBrand, TestCar.UNKNOWN));
+	}
+
+	/**
+	 * Test method for
+	 * {@link EnumExtensions#enumFieldValueFromString(Class, String, String, Function, Enum)}
+	 */
+	@Test
+	public void testEnumFieldValueFromStringWithIndexName()
+	{
+		assertEquals(KeyType.PUBLIC_KEY, EnumExtensions.enumFieldValueFromString(KeyType.class,
+			"displayValue", "public KEY", KeyType::getDisplayValue, KeyType.UNKNOWN));
+		assertEquals(KeyType.UNKNOWN, EnumExtensions.enumFieldValueFromString(KeyType.class,
+			"displayValue", "foo bar", KeyType::getDisplayValue, KeyType.UNKNOWN));
+	}
+
 	/**
 	 * Test method for
 	 * {@link EnumExtensions#enumFieldValueFromString(Class, String, Function, Enum)}
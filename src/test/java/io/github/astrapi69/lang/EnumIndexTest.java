@@ -0,0 +1,178 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.crypt.api.key.KeyType;
+import io.github.astrapi69.test.object.enumeration.Brand;
+
+/**
+ * The unit test class for the class {@link EnumIndex}
+ */
+public class EnumIndexTest
+{
+
+	/**
+	 * Test method for {@link EnumIndex#of(Class)}
+	 */
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void testOf()
+	{
+		assertSame(EnumIndex.of(TestCar.class), EnumIndex.of(TestCar.class));
+		assertThrows(IllegalArgumentException.class, () -> EnumIndex.of((Class)String.class));
+	}
+
+	/**
+	 * Test method for {@link EnumIndex#valueOf(String, Enum)}
+	 */
+	@Test
+	public void testValueOf()
+	{
+		EnumIndex<TestCar> enumIndex = EnumIndex.of(TestCar.class);
+
+		assertEquals(TestCar.GARAGE_PARIS, enumIndex.valueOf("GARAGE_PARIS", null));
+		assertEquals(TestCar.GARAGE_PARIS, enumIndex.valueOf("garage_paris", null));
+		assertEquals(TestCar.UNKNOWN, enumIndex.valueOf("foo", TestCar.UNKNOWN));
+		assertNull(enumIndex.valueOf(null, null));
+	}
+
+	/**
+	 * Test method for {@link EnumIndex#fieldValue(Function, Object, Enum)}
+	 */
+	@Test
+	public void testFieldValue()
+	{
+		EnumIndex<TestCar> enumIndex = EnumIndex.of(TestCar.class);
+
+		assertEquals(TestCar.GARAGE_BERLIN,
+			enumIndex.fieldValue(TestCar::getBrand, Brand.PORSCHE, null));
+		assertEquals(TestCar.UNKNOWN,
+			enumIndex.fieldValue(TestCar::getBrand, Brand.MASERATI, TestCar.UNKNOWN));
+		final Brand brand = Brand.FERRARI;
+		Function<TestCar, Boolean> function = testCar -> testCar.getBrand() == brand;
+		assertEquals(TestCar.GARAGE_PARIS, enumIndex.fieldValue(function, true, null));
+		// a function without an index name is called on every lookup
+		AtomicReference<Brand> state = new AtomicReference<>(Brand.FERRARI);
+		Function<TestCar, Boolean> stateful = testCar -> testCar.getBrand() == state.get();
+		assertEquals(TestCar.GARAGE_PARIS, enumIndex.fieldValue(stateful, true, null));
+		state.set(Brand.PORSCHE);
+		assertEquals(TestCar.GARAGE_BERLIN, enumIndex.fieldValue(stateful, true, null));
+	}
+
+	/**
+	 * Test method for {@link EnumIndex#fieldValue(String, Function, Object, Enum)}
+	 */
+	@Test
+	public void testFieldValueWithIndexName()
+	{
+		EnumIndex<TestCar> enumIndex = EnumIndex.of(TestCar.class);
+
+		assertEquals(TestCar.GARAGE_BERLIN,
+			enumIndex.fieldValue("brand", TestCar::getBrand, Brand.PORSCHE, null));
+		assertEquals(TestCar.GARAGE_PARIS,
+			enumIndex.fieldValue("brand", TestCar::getBrand, Brand.FERRARI, null));
+		assertEquals(TestCar.UNKNOWN,
+			enumIndex.fieldValue("brand", TestCar::getBrand, Brand.MASERATI, TestCar.UNKNOWN));
+		assertNull(enumIndex.fieldValue("brand", TestCar::getBrand, null, null));
+		// the index of a name is built once, so the function of a named index must be pure
+		AtomicInteger calls = new AtomicInteger();
+		Function<TestCar, Brand> counting = testCar -> {
+			calls.incrementAndGet();
+			return testCar.getBrand();
+		};
+		enumIndex.fieldValue("counting brand", counting, Brand.PORSCHE, null);
+		int expected = calls.get();
+		enumIndex.fieldValue("counting brand", counting, Brand.FERRARI, null);
+		assertEquals(expected, calls.get());
+	}
+
+	/**
+	 * Test method for {@link EnumIndex#fieldValueIgnoreCase(Function, String, Enum)}
+	 */
+	@Test
+	public void testFieldValueIgnoreCase()
+	{
+		EnumIndex<KeyType> enumIndex = EnumIndex.of(KeyType.class);
+
+		assertEquals(KeyType.PUBLIC_KEY,
+			enumIndex.fieldValueIgnoreCase(KeyType::getDisplayValue, "public KEY", null));
+		assertEquals(KeyType.UNKNOWN,
+			enumIndex.fieldValueIgnoreCase(KeyType::getDisplayValue, "foo bar", KeyType.UNKNOWN));
+	}
+
+	/**
+	 * Test method for {@link EnumIndex#fieldValueIgnoreCase(String, Function, String, Enum)}
+	 */
+	@Test
+	public void testFieldValueIgnoreCaseWithIndexName()
+	{
+		EnumIndex<KeyType> enumIndex = EnumIndex.of(KeyType.class);
+
+		assertEquals(KeyType.PUBLIC_KEY, enumIndex.fieldValueIgnoreCase("displayValue",
+			KeyType::getDisplayValue, "public KEY", null));
+		assertEquals(KeyType.UNKNOWN, enumIndex.fieldValueIgnoreCase("displayValue",
+			KeyType::getDisplayValue, "foo bar", KeyType.UNKNOWN));
+	}
+
+	/**
+	 * Test method for {@link EnumIndex#foldCase(String)}
+	 */
+	@Test
+	public void testFoldCase()
+	{
+		String[][] values = { { "GARAGE_PARIS", "garage_Paris" }, { "\u01C4", "\u01C5" },
+				{ "\u03C2", "\u03A3" }, { "\u0130", "i" }, { "\u00DF", "ss" },
+				{ "\uD801\uDC00", "\uD801\uDC28" }, { "foo", "bar" } };
+		for (final String[] pair : values)
+		{
+			assertEquals(pair[0].equalsIgnoreCase(pair[1]),
+				EnumIndex.foldCase(pair[0]).equals(EnumIndex.foldCase(pair[1])));
+		}
+		assertNotEquals(EnumIndex.foldCase("\u00DF"), EnumIndex.foldCase("ss"));
+		String folded = "garage_paris";
+		assertSame(folded, EnumIndex.foldCase(folded));
+	}
+
+	/**
+	 * Test method for {@link EnumIndex#values()}
+	 */
+	@Test
+	public void testValues()
+	{
+		assertEquals(Arrays.asList(TestCar.values()), EnumIndex.of(TestCar.class).values());
+		assertThrows(UnsupportedOperationException.class,
+			() -> EnumIndex.of(TestCar.class).values().clear());
+	}
+
+}
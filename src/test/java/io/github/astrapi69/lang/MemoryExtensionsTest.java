@@ -82,6 +82,19 @@ public class MemoryExtensionsTest
 		assertTrue(this.result);
 	}
 
+	/**
+	 * Test method for {@link MemoryExtensions#getUsedMemoryInKB()}.
+	 */
+	@Test
+	public void testGetUsedMemoryInKB()
+	{
+		final long expected = (Runtime.getRuntime().totalMemory()
+			- Runtime.getRuntime().freeMemory()) / 1024;
+		final long compare = MemoryExtensions.getUsedMemoryInKB();
+		this.result = expected == compare;
+		assertTrue(this.result);
+	}
+
 	/**
 	 * Test method for {@link MemoryExtensions#getTotalMemoryInKB()}.
 	 */
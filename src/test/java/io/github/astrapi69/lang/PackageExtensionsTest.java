@@ -23,9 +23,12 @@ package io.github.astrapi69.lang;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.meanbean.test.BeanTester;
 
+import io.github.astrapi69.lang.model.ClassModel;
 import io.github.astrapi69.test.object.factory.TestMessagesFactory;
 
 /**
@@ -37,6 +40,20 @@ import io.github.astrapi69.test.object.factory.TestMessagesFactory;
 public class PackageExtensionsTest
 {
 
+	/**
+	 * Test method for {@link PackageExtensions#getClassModels(String, boolean)}
+	 */
+	@Test
+	public void testGetClassModels()
+	{
+		List<ClassModel> actual = PackageExtensions.getClassModels("io.github.astrapi69.lang",
+			false);
+		assertTrue(actual.stream().anyMatch(
+			classModel -> classModel.getClassName().equals("PackageExtensions")));
+		assertTrue(actual.stream().allMatch(
+			classModel -> classModel.getPackageName().equals("io.github.astrapi69.lang")));
+	}
+
 	/**
 	 * Test method for {@link PackageExtensions#getPackageName(Class)}
 	 */
@@ -0,0 +1,157 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ResolvedTypeGraph}
+ */
+public class ResolvedTypeGraphTest
+{
+
+	/**
+	 * Test method for {@link ResolvedTypeGraph#of(Class)}
+	 */
+	@Test
+	public void testOf()
+	{
+		assertSame(ResolvedTypeGraph.of(StringHandler.class),
+			ResolvedTypeGraph.of(StringHandler.class));
+	}
+
+	/**
+	 * Test method for {@link ResolvedTypeGraph#getBaseClass()}
+	 */
+	@Test
+	public void testGetBaseClass()
+	{
+		assertEquals(AbstractHandler.class,
+			ResolvedTypeGraph.of(StringHandler.class).getBaseClass());
+		assertEquals(AbstractHandler.class,
+			ResolvedTypeGraph.of(AbstractHandler.class).getBaseClass());
+		assertEquals(Object.class, ResolvedTypeGraph.of(Object.class).getBaseClass());
+	}
+
+	/**
+	 * Test method for {@link ResolvedTypeGraph#getTypeArgument(Class, int)} with an interface
+	 * that is implemented through an abstract middle class
+	 */
+	@Test
+	public void testGetTypeArgumentFromInterface()
+	{
+		ResolvedTypeGraph graph = ResolvedTypeGraph.of(StringHandler.class);
+
+		assertTrue(graph.contains(Handler.class));
+		assertTrue(graph.contains(AbstractHandler.class));
+		assertEquals(String.class, graph.getTypeArgument(Handler.class, 0));
+		assertEquals(String.class, graph.getTypeArgument(AbstractHandler.class, 0));
+		assertNull(graph.getTypeArgument(Handler.class, 1));
+		assertNull(graph.getTypeArgument(Comparable.class, 0));
+		assertFalse(graph.contains(Comparable.class));
+	}
+
+	/**
+	 * Test method for {@link ResolvedTypeGraph#getResolvedTypes(Class)} with nested parameterized
+	 * types and generic arrays
+	 */
+	@Test
+	public void testGetResolvedTypesNested()
+	{
+		ResolvedTypeGraph graph = ResolvedTypeGraph.of(IntegerListHandler.class);
+		Type[] resolvedTypes = graph.getResolvedTypes(Handler.class);
+
+		assertEquals(1, resolvedTypes.length);
+		assertTrue(resolvedTypes[0] instanceof ParameterizedType);
+		ParameterizedType parameterizedType = (ParameterizedType)resolvedTypes[0];
+		assertEquals(List.class, parameterizedType.getRawType());
+		assertEquals(Integer.class, parameterizedType.getActualTypeArguments()[0]);
+		assertEquals(List.class, graph.getTypeArgument(Handler.class, 0));
+
+		assertEquals(Integer[].class, graph.getTypeArgument(Comparable.class, 0));
+	}
+
+	/**
+	 * Test method for {@link ResolvedTypeGraph#getResolvedTypes(Class)} with wildcards
+	 */
+	@Test
+	public void testGetResolvedTypesWildcard()
+	{
+		ResolvedTypeGraph graph = ResolvedTypeGraph.of(NumberListHandler.class);
+		ParameterizedType parameterizedType = (ParameterizedType)graph
+			.getResolvedTypes(Handler.class)[0];
+		Type argument = parameterizedType.getActualTypeArguments()[0];
+
+		assertTrue(argument instanceof WildcardType);
+		assertEquals(Number.class, TypeArgumentsExtensions.getClass(argument));
+	}
+
+	/**
+	 * Test method for {@link ResolvedTypeGraph#getTypeArguments(Class)} with unresolved type
+	 * variables
+	 */
+	@Test
+	public void testGetTypeArgumentsUnresolved()
+	{
+		List<Class<?>> typeArguments = ResolvedTypeGraph.of(AbstractHandler.class)
+			.getTypeArguments(Handler.class);
+
+		assertEquals(1, typeArguments.size());
+		assertEquals(Object.class, typeArguments.get(0));
+		assertTrue(ResolvedTypeGraph.of(Object.class).getTypeArguments(Handler.class).isEmpty());
+	}
+
+	interface Handler<T>
+	{
+	}
+
+	static abstract class AbstractHandler<X> implements Handler<X>
+	{
+	}
+
+	static class StringHandler extends AbstractHandler<String>
+	{
+	}
+
+	static abstract class ListHandler<E> implements Handler<List<E>>, Comparable<E[]>
+	{
+	}
+
+	static abstract class IntegerListHandler extends ListHandler<Integer>
+	{
+	}
+
+	static class NumberListHandler implements Handler<List<? extends Number>>
+	{
+	}
+
+}
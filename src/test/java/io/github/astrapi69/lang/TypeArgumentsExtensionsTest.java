@@ -22,6 +22,8 @@ package io.github.astrapi69.lang;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -194,6 +196,58 @@ public class TypeArgumentsExtensionsTest extends BaseTestCase
 		assertEquals(Integer.class, typeArguments.get(1));
 	}
 
+	/**
+	 * Test method for {@link TypeArgumentsExtensions#getTypeArguments(Class, Class)} that the
+	 * resolved type arguments are cached and unmodifiable
+	 */
+	@Test
+	public void testGetTypeArgumentsIsCached()
+	{
+		List<Class<?>> expected;
+		List<Class<?>> actual;
+
+		expected = TypeArgumentsExtensions.getTypeArguments(Foo.class, Bar.class);
+		actual = TypeArgumentsExtensions.getTypeArguments(Foo.class, Bar.class);
+		assertSame(expected, actual);
+		assertEquals(String.class, actual.get(0));
+		assertEquals(Integer.class, actual.get(1));
+		assertThrows(UnsupportedOperationException.class, () -> actual.add(Object.class));
+	}
+
+	/**
+	 * Test method for {@link TypeArgumentsExtensions#getTypeArguments(Class)} that the base class
+	 * and the resolved type arguments are cached
+	 */
+	@Test
+	public void testGetTypeArgumentsWithResolvedBaseClassIsCached()
+	{
+		List<Class<?>> expected;
+		List<Class<?>> actual;
+
+		expected = TypeArgumentsExtensions.getTypeArguments(Foo.class, Bar.class);
+		actual = TypeArgumentsExtensions.getTypeArguments(Bar.class);
+		assertSame(expected, actual);
+		assertEquals(String.class, TypeArgumentsExtensions.getFirstTypeArgument(Bar.class));
+		assertEquals(Integer.class, TypeArgumentsExtensions.getTypeArgument(Bar.class, 1));
+	}
+
+	/**
+	 * Test method for {@link TypeArgumentsExtensions#getTypeArguments(Class, Class)} with a
+	 * generic interface that is implemented through an abstract middle class
+	 */
+	@Test
+	public void testGetTypeArgumentsFromInterface()
+	{
+		List<Class<?>> typeArguments;
+
+		typeArguments = TypeArgumentsExtensions.getTypeArguments(Handler.class,
+			StringHandler.class);
+		assertEquals(1, typeArguments.size());
+		assertEquals(String.class, typeArguments.get(0));
+		assertEquals(String.class,
+			TypeArgumentsExtensions.getFirstTypeArgument(Handler.class, StringHandler.class));
+	}
+
 	// ====================================================================== //
 
 	/**
@@ -260,4 +314,19 @@ public class TypeArgumentsExtensionsTest extends BaseTestCase
 
 	}
 
+	interface Handler<T>
+	{
+
+	}
+
+	static abstract class AbstractHandler<T> implements Handler<T>
+	{
+
+	}
+
+	static class StringHandler extends AbstractHandler<String>
+	{
+
+	}
+
 }
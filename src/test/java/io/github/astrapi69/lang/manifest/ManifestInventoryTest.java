@@ -0,0 +1,134 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.manifest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ManifestInventory}
+ */
+public class ManifestInventoryTest
+{
+
+	ManifestInventory inventory;
+
+	ManifestVersion first;
+
+	ManifestVersion second;
+
+	ManifestVersion other;
+
+	@BeforeEach
+	public void setUp()
+	{
+		first = ManifestVersion.builder()
+			.manifest(ManifestVersionCacheTest.newManifest("library", "1.0")).build();
+		second = ManifestVersion.builder()
+			.manifest(ManifestVersionCacheTest.newManifest("library", "2.0")).build();
+		other = ManifestVersion.builder()
+			.manifest(ManifestVersionCacheTest.newManifest("other", "3.0")).build();
+		final Map<String, ManifestVersion> locations = new LinkedHashMap<>();
+		locations.put("/lib/library-1.0.jar", first);
+		locations.put("/lib/library-2.0.jar", second);
+		locations.put("/lib/other-3.0.jar", other);
+		locations.put("/classes", ManifestVersion.builder().build());
+		inventory = new ManifestInventory(locations,
+			Map.of("/lib/broken.jar", "zip END header not found"));
+	}
+
+	/**
+	 * Test method for {@link ManifestInventory#get(String)}
+	 */
+	@Test
+	public void testGet()
+	{
+		assertSame(first, inventory.get("library"));
+		assertSame(other, inventory.get("other"));
+		assertNull(inventory.get("missing"));
+	}
+
+	/**
+	 * Test method for {@link ManifestInventory#getAll(String)}
+	 */
+	@Test
+	public void testGetAll()
+	{
+		assertEquals(List.of(first, second), inventory.getAll("library"));
+		assertEquals(List.of(), inventory.getAll("missing"));
+		assertThrows(UnsupportedOperationException.class,
+			() -> inventory.getAll("library").add(other));
+	}
+
+	/**
+	 * Test method for {@link ManifestInventory#getTitles()}
+	 */
+	@Test
+	public void testGetTitles()
+	{
+		assertEquals(Set.of("library", "other"), inventory.getTitles());
+	}
+
+	/**
+	 * Test method for {@link ManifestInventory#getLocations()} and
+	 * {@link ManifestInventory#size()}
+	 */
+	@Test
+	public void testGetLocations()
+	{
+		assertEquals(4, inventory.size());
+		assertEquals(List.of("/lib/library-1.0.jar", "/lib/library-2.0.jar",
+			"/lib/other-3.0.jar", "/classes"), List.copyOf(inventory.getLocations().keySet()));
+		assertThrows(UnsupportedOperationException.class,
+			() -> inventory.getLocations().remove("/classes"));
+	}
+
+	/**
+	 * Test method for {@link ManifestInventory#getFailures()}
+	 */
+	@Test
+	public void testGetFailures()
+	{
+		assertEquals(1, inventory.getFailures().size());
+		assertTrue(inventory.getFailures().containsKey("/lib/broken.jar"));
+	}
+
+	/**
+	 * Test method for {@link ManifestInventory#toString()}
+	 */
+	@Test
+	public void testToString()
+	{
+		assertTrue(inventory.toString().contains("locations=4"));
+	}
+
+}
@@ -0,0 +1,218 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.manifest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ManifestVersionCache}
+ */
+public class ManifestVersionCacheTest
+{
+
+	/** The temporary directory for the test files */
+	private Path directory;
+
+	/**
+	 * Sets up method will be invoked before every unit test method in this class.
+	 *
+	 * @throws IOException
+	 *             if the temporary directory could not be created
+	 */
+	@BeforeEach
+	protected void setUp() throws IOException
+	{
+		directory = Files.createTempDirectory("manifest-version-cache");
+	}
+
+	/**
+	 * Tear down method will be invoked after every unit test method in this class.
+	 *
+	 * @throws IOException
+	 *             if the temporary directory could not be deleted
+	 */
+	@AfterEach
+	protected void tearDown() throws IOException
+	{
+		try (Stream<Path> paths = Files.walk(directory))
+		{
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	static Manifest newManifest(final String title, final String version)
+	{
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		manifest.getMainAttributes().put(Attributes.Name.IMPLEMENTATION_TITLE, title);
+		manifest.getMainAttributes().put(Attributes.Name.IMPLEMENTATION_VERSION, version);
+		return manifest;
+	}
+
+	static Path writeJar(final Path file, final Manifest manifest) throws IOException
+	{
+		try (JarOutputStream outputStream = new JarOutputStream(Files.newOutputStream(file),
+			manifest))
+		{
+			outputStream.flush();
+		}
+		return file;
+	}
+
+	private static void writeManifest(final Path classDirectory, final Manifest manifest)
+		throws IOException
+	{
+		Path manifestFile = classDirectory.resolve(ManifestVersionFactory.MANIFEST_PATH);
+		Files.createDirectories(manifestFile.getParent());
+		try (OutputStream outputStream = Files.newOutputStream(manifestFile))
+		{
+			manifest.write(outputStream);
+		}
+	}
+
+	/**
+	 * Test method for {@link ManifestVersionCache#get(java.net.URL)} with a class directory
+	 */
+	@Test
+	public void testGetWithClassDirectory() throws IOException
+	{
+		ManifestVersionCache cache = new ManifestVersionCache();
+		writeManifest(directory, newManifest("library", "1.0"));
+		ManifestVersion version = cache.get(directory.toUri().toURL());
+		assertEquals("library", version.getTitle());
+		assertEquals("1.0", version.getVersion());
+		assertEquals(version, cache.get(directory.toUri().toURL()));
+		assertEquals(1, cache.size());
+		// the returned version is a copy, a modification does not change the cached version
+		version.setVersion("9.9");
+		version.getManifest().getMainAttributes().put(Attributes.Name.IMPLEMENTATION_TITLE,
+			"other");
+		assertNotSame(version, cache.get(directory.toUri().toURL()));
+		assertEquals("1.0", cache.get(directory.toUri().toURL()).getVersion());
+		assertEquals("library", cache.get(directory.toUri().toURL())
+			.getManifestAttribute(Attributes.Name.IMPLEMENTATION_TITLE));
+
+		writeManifest(directory, newManifest("library", "2.0"));
+		Path manifestFile = directory.resolve(ManifestVersionFactory.MANIFEST_PATH);
+		Files.setLastModifiedTime(manifestFile, FileTime.fromMillis(
+			Files.getLastModifiedTime(manifestFile).toMillis() + 1000));
+		ManifestVersion changed = cache.get(directory.toUri().toURL());
+		assertNotSame(version, changed);
+		assertEquals("2.0", changed.getVersion());
+	}
+
+	/**
+	 * Test method for {@link ManifestVersionCache#get(java.net.URL)} that the manifest of a
+	 * returned version is an own copy that is kept from a new builder and can be replaced
+	 */
+	@Test
+	public void testGetWithOwnManifest() throws IOException
+	{
+		ManifestVersionCache cache = new ManifestVersionCache();
+		writeManifest(directory, newManifest("library", "1.0"));
+		ManifestVersion version = cache.get(directory.toUri().toURL());
+		ManifestVersion other = cache.get(directory.toUri().toURL());
+		assertNotSame(version.getManifest(), other.getManifest());
+		assertSame(version.getManifest(), version.getManifest());
+		assertEquals(version.getManifest(), version.toBuilder().build().getManifest());
+		assertEquals("library", cache.get(directory.toUri().toURL()).toBuilder().build()
+			.getManifestAttribute(Attributes.Name.IMPLEMENTATION_TITLE));
+
+		Manifest manifest = newManifest("other", "2.0");
+		other = cache.get(directory.toUri().toURL());
+		other.setManifest(manifest);
+		assertSame(manifest, other.getManifest());
+		assertEquals("1.0", cache.get(directory.toUri().toURL())
+			.getManifestAttribute(Attributes.Name.IMPLEMENTATION_VERSION));
+	}
+
+	/**
+	 * Test method for {@link ManifestVersionCache#get(java.net.URL)} with a class directory
+	 * without manifest file
+	 */
+	@Test
+	public void testGetWithoutManifest() throws IOException
+	{
+		ManifestVersionCache cache = new ManifestVersionCache();
+		ManifestVersion version = cache.get(directory.toUri().toURL());
+		assertNull(version.getManifest());
+		assertNull(version.getTitle());
+		assertEquals("", version.getManifestAttribute(Attributes.Name.IMPLEMENTATION_TITLE));
+	}
+
+	/**
+	 * Test method for {@link ManifestVersionCache#get(java.net.URL)} with a jar file
+	 */
+	@Test
+	public void testGetWithJar() throws IOException
+	{
+		ManifestVersionCache cache = new ManifestVersionCache();
+		Path jar = writeJar(directory.resolve("library.jar"), newManifest("library", "3.1"));
+		ManifestVersion version = cache.get(jar.toUri().toURL());
+		assertEquals("library", version.getTitle());
+		assertEquals("3.1", version.getVersion());
+		assertNotNull(version.getLastModified());
+		assertEquals(version, cache.get(jar.toUri().toURL()));
+		assertEquals(1, cache.size());
+
+		cache.invalidate(jar.toUri().toURL());
+		assertEquals(0, cache.size());
+		assertNotSame(version, cache.get(jar.toUri().toURL()));
+		cache.clear();
+		assertEquals(0, cache.size());
+	}
+
+	/**
+	 * Test method for {@link ManifestVersionCache#get(Class)}
+	 */
+	@Test
+	public void testGetWithClass()
+	{
+		ManifestVersionCache cache = new ManifestVersionCache();
+		ManifestVersion version = cache.get(Test.class);
+		assertNotNull(version);
+		assertEquals(version, cache.get(Test.class));
+		assertEquals(1, cache.size());
+		// classes of the JDK have no code source
+		assertNotNull(cache.get(String.class));
+		assertSame(ManifestVersionCache.getDefault(), ManifestVersionCache.getDefault());
+	}
+
+}
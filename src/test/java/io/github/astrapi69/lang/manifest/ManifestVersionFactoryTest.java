@@ -20,7 +20,18 @@
  */
 package io.github.astrapi69.lang.manifest;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -47,6 +58,100 @@ public class ManifestVersionFactoryTest
 		assertNotNull(actual);
 	}
 
+	/**
+	 * Test method for {@link ManifestVersionFactory#ofPath(Path)}
+	 */
+	@Test
+	public void testOfPath() throws IOException
+	{
+		Path jar = Files.createTempFile("manifest-version-factory", ".jar");
+		try
+		{
+			ManifestVersionCacheTest.writeJar(jar,
+				ManifestVersionCacheTest.newManifest("library", "1.0"));
+			ManifestVersion actual = ManifestVersionFactory.ofPath(jar);
+			assertEquals("library", actual.getTitle());
+			assertEquals("1.0", actual.getVersion());
+			actual = ManifestVersionFactory.ofPath(jar.resolveSibling("missing.jar"));
+			assertNull(actual.getManifest());
+		}
+		finally
+		{
+			Files.delete(jar);
+		}
+	}
+
+	/**
+	 * Test method for {@link ManifestVersionFactory#scanDirectory(Path)}
+	 */
+	@Test
+	public void testScanDirectory() throws IOException
+	{
+		Path directory = Files.createTempDirectory("manifest-inventory");
+		try
+		{
+			ManifestVersionCacheTest.writeJar(directory.resolve("library-1.0.jar"),
+				ManifestVersionCacheTest.newManifest("library", "1.0"));
+			ManifestVersionCacheTest.writeJar(directory.resolve("library-2.0.jar"),
+				ManifestVersionCacheTest.newManifest("library", "2.0"));
+			ManifestVersionCacheTest.writeJar(directory.resolve("other.war"),
+				ManifestVersionCacheTest.newManifest("other", "3.0"));
+			Files.writeString(directory.resolve("broken.jar"), "no zip file");
+			Files.writeString(directory.resolve("readme.txt"), "not scanned");
+
+			ManifestInventory actual = ManifestVersionFactory.scanDirectory(directory);
+			assertEquals(3, actual.size());
+			assertEquals(2, actual.getAll("library").size());
+			assertEquals("3.0", actual.get("other").getVersion());
+			assertEquals(1, actual.getFailures().size());
+			assertTrue(actual.getFailures()
+				.containsKey(directory.resolve("broken.jar").toString()));
+		}
+		finally
+		{
+			try (Stream<Path> paths = Files.walk(directory))
+			{
+				for (Path path : (Iterable<Path>)paths.sorted(Comparator.reverseOrder())::iterator)
+				{
+					Files.delete(path);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link ManifestVersionFactory#scan(java.util.Collection)}
+	 */
+	@Test
+	public void testScan() throws IOException
+	{
+		Path jar = Files.createTempFile("manifest-inventory", ".jar");
+		try
+		{
+			ManifestVersionCacheTest.writeJar(jar,
+				ManifestVersionCacheTest.newManifest("library", "1.0"));
+			ManifestInventory actual = ManifestVersionFactory
+				.scan(List.of(jar, jar, jar.resolveSibling("missing.jar")));
+			assertEquals(2, actual.size());
+			assertEquals("1.0", actual.get("library").getVersion());
+			assertTrue(actual.getFailures().isEmpty());
+		}
+		finally
+		{
+			Files.delete(jar);
+		}
+	}
+
+	/**
+	 * Test method for {@link ManifestVersionFactory#scanClasspath()}
+	 */
+	@Test
+	public void testScanClasspath()
+	{
+		ManifestInventory actual = ManifestVersionFactory.scanClasspath();
+		assertFalse(actual.getLocations().isEmpty());
+	}
+
 	/**
 	 * Test method for {@link ManifestVersionFactory#getManifestUrl(Class)}
 	 */
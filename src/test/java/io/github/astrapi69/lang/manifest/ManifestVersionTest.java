@@ -20,9 +20,12 @@
  */
 package io.github.astrapi69.lang.manifest;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.util.jar.Attributes;
+import java.util.jar.Manifest;
 
 import org.junit.jupiter.api.Test;
 import org.meanbean.test.BeanTester;
@@ -45,6 +48,21 @@ public class ManifestVersionTest
 		assertNotNull(manifestAttributeMainClass);
 	}
 
+	/**
+	 * Test method for {@link ManifestVersion#getTitle()} and {@link ManifestVersion#getVersion()}
+	 */
+	@Test
+	public void testGetTitleAndVersion()
+	{
+		Manifest manifest = ManifestVersionCacheTest.newManifest("library", "1.0");
+		ManifestVersion manifestVersion = ManifestVersion.builder().manifest(manifest).build();
+		assertEquals("library", manifestVersion.getTitle());
+		assertEquals("1.0", manifestVersion.getVersion());
+		manifestVersion = ManifestVersion.builder().manifest(manifest).title("other").build();
+		assertEquals("other", manifestVersion.getTitle());
+		assertNull(ManifestVersion.builder().build().getVersion());
+	}
+
 	/**
 	 * Test method for {@link ManifestVersion} constructors
 	 */
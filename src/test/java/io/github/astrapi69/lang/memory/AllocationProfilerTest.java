@@ -0,0 +1,97 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.memory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.lang.thread.ThreadMetrics;
+
+/**
+ * The unit test class for the class {@link AllocationProfiler}
+ */
+public class AllocationProfilerTest
+{
+
+	/** The sink for the allocated arrays, so the allocations are not eliminated */
+	private static volatile Object sink;
+
+	/**
+	 * Test method for {@link AllocationProfiler#measureAllocations(Runnable)}
+	 */
+	@Test
+	public void testMeasureAllocations()
+	{
+		AllocationMeasurement measurement = AllocationProfiler
+			.measureAllocations(() -> sink = new byte[256 * 1024]);
+		assertTrue(0 <= measurement.getWallTime());
+		if (AllocationProfiler.isSupported())
+		{
+			assertTrue(256 * 1024 <= measurement.getAllocatedBytes());
+		}
+		else
+		{
+			assertEquals(ThreadMetrics.UNSUPPORTED, measurement.getAllocatedBytes());
+		}
+		if (ThreadMetrics.isCpuTimeSupported())
+		{
+			assertTrue(0 <= measurement.getCpuTime());
+		}
+		assertThrows(IllegalArgumentException.class,
+			() -> AllocationProfiler.measureAllocations(null));
+	}
+
+	/**
+	 * Test method for {@link AllocationProfiler#measureAllocations(Runnable)} with an allocation
+	 * budget
+	 */
+	@Test
+	public void testMeasureAllocationsWithBudget()
+	{
+		// warm up, so the first run does not count the class loading
+		for (int i = 0; i < 100; i++)
+		{
+			AllocationProfiler.measureAllocations(() -> sink = Integer.toString(42));
+		}
+		AllocationMeasurement measurement = AllocationProfiler
+			.measureAllocations(() -> sink = Integer.toString(42));
+		if (AllocationProfiler.isSupported())
+		{
+			assertTrue(measurement.getAllocatedBytes() < 1024);
+		}
+	}
+
+	/**
+	 * Test method for {@link AllocationProfiler#measureAllocations(Runnable)} with a failing task
+	 */
+	@Test
+	public void testMeasureAllocationsWithException()
+	{
+		assertThrows(IllegalStateException.class,
+			() -> AllocationProfiler.measureAllocations(() -> {
+				throw new IllegalStateException("failed");
+			}));
+	}
+
+}
@@ -0,0 +1,80 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.memory;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link AllocationScope}
+ */
+public class AllocationScopeTest
+{
+
+	/**
+	 * Test method for {@link AllocationScope#close()}
+	 */
+	@Test
+	public void testClose()
+	{
+		List<Object> objects = new ArrayList<>();
+		AllocationScope scope = AllocationProfiler.open();
+		try (scope)
+		{
+			assertNull(scope.getMeasurement());
+			for (int i = 0; i < 1000; i++)
+			{
+				objects.add(new Object());
+			}
+		}
+		AllocationMeasurement measurement = scope.getMeasurement();
+		assertNotNull(measurement);
+		if (AllocationProfiler.isSupported())
+		{
+			assertTrue(1000 * 12 <= measurement.getAllocatedBytes());
+		}
+		assertSame(measurement, scope.stop());
+	}
+
+	/**
+	 * Test method for {@link AllocationScope#stop()} from another thread
+	 */
+	@Test
+	public void testStopFromOtherThread()
+	{
+		AllocationScope scope = AllocationProfiler.open();
+		CompletionException exception = assertThrows(CompletionException.class,
+			() -> CompletableFuture.runAsync(scope::stop).join());
+		assertTrue(exception.getCause() instanceof IllegalStateException);
+		assertNotNull(scope.stop());
+	}
+
+}
@@ -0,0 +1,69 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.memory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.meanbean.test.BeanTester;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * The unit test class for the class {@link MemoryPoolUsage}
+ */
+public class MemoryPoolUsageTest
+{
+
+	/**
+	 * Test method for {@link MemoryPoolUsage#equals(Object)} , {@link MemoryPoolUsage#hashCode()}
+	 */
+	@Test
+	public void equalsContract()
+	{
+		EqualsVerifier.simple().forClass(MemoryPoolUsage.class).verify();
+	}
+
+	/**
+	 * Test method for {@link MemoryPoolUsage#getOccupancy()}
+	 */
+	@Test
+	public void testGetOccupancy()
+	{
+		MemoryPoolUsage usage = MemoryPoolUsage.builder().used(25).committed(50).max(100).build();
+		assertEquals(0.25, usage.getOccupancy(), 0.0001);
+		usage = usage.toBuilder().max(-1).build();
+		assertEquals(0.5, usage.getOccupancy(), 0.0001);
+		usage = usage.toBuilder().committed(0).build();
+		assertEquals(0.0, usage.getOccupancy(), 0.0001);
+	}
+
+	/**
+	 * Test method for {@link MemoryPoolUsage}
+	 */
+	@Test
+	public void testWithBeanTester()
+	{
+		final BeanTester beanTester = new BeanTester();
+		beanTester.testBean(MemoryPoolUsage.class);
+	}
+
+}
@@ -0,0 +1,66 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.memory;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * The unit test class for the class {@link MemorySnapshot}
+ */
+public class MemorySnapshotTest
+{
+
+	/**
+	 * Test method for {@link MemorySnapshot#equals(Object)} , {@link MemorySnapshot#hashCode()}
+	 */
+	@Test
+	public void equalsContract()
+	{
+		EqualsVerifier.simple().forClass(MemorySnapshot.class).verify();
+	}
+
+	/**
+	 * Test method for {@link MemorySnapshot#findPool(String)} and
+	 * {@link MemorySnapshot#findBufferPool(String)}
+	 */
+	@Test
+	public void testFind()
+	{
+		MemoryPoolUsage pool = MemoryPoolUsage.builder().name("Eden Space").build();
+		BufferPoolUsage bufferPool = BufferPoolUsage.builder().name("direct").build();
+		MemorySnapshot snapshot = MemorySnapshot.builder().pools(List.of(pool))
+			.bufferPools(List.of(bufferPool)).build();
+		assertSame(pool, snapshot.findPool("Eden Space"));
+		assertNull(snapshot.findPool("Old Gen"));
+		assertSame(bufferPool, snapshot.findBufferPool("direct"));
+		assertNull(snapshot.findBufferPool("mapped"));
+		assertNull(new MemorySnapshot().findPool("Eden Space"));
+		assertNull(new MemorySnapshot().findBufferPool("direct"));
+	}
+
+}
@@ -0,0 +1,127 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.memory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.MemoryType;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.lang.thread.ThreadMetrics;
+
+/**
+ * The unit test class for the class {@link MemoryTelemetry}
+ */
+public class MemoryTelemetryTest
+{
+
+	/**
+	 * Test method for {@link MemoryTelemetry#snapshot()}
+	 */
+	@Test
+	public void testSnapshot()
+	{
+		MemorySnapshot snapshot = MemoryTelemetry.snapshot();
+		assertTrue(0 < snapshot.getHeapUsed());
+		assertTrue(snapshot.getHeapUsed() <= snapshot.getHeapCommitted());
+		assertTrue(0 < snapshot.getNonHeapUsed());
+		assertFalse(snapshot.getPools().isEmpty());
+		assertTrue(
+			snapshot.getPools().stream().anyMatch(pool -> pool.getType() == MemoryType.HEAP));
+		assertFalse(snapshot.getGarbageCollectors().isEmpty());
+		assertEquals(ThreadMetrics.isAllocatedBytesSupported(), 0 < snapshot.getAllocatedBytes());
+	}
+
+	/**
+	 * Test method for {@link MemoryTelemetry#getBufferPools()}
+	 */
+	@Test
+	public void testGetBufferPools()
+	{
+		ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+		List<BufferPoolUsage> bufferPools = MemoryTelemetry.getBufferPools();
+		BufferPoolUsage direct = MemorySnapshot.builder().bufferPools(bufferPools).build()
+			.findBufferPool("direct");
+		assertNotNull(direct);
+		assertTrue(0 < direct.getCount());
+		assertTrue(buffer.capacity() <= direct.getTotalCapacity());
+	}
+
+	/**
+	 * Test method for {@link MemoryTelemetry#getAllocationRate(MemorySnapshot, MemorySnapshot)}
+	 */
+	@Test
+	public void testGetAllocationRate()
+	{
+		MemorySnapshot before = MemoryTelemetry.snapshot();
+		byte[][] arrays = new byte[16][];
+		for (int i = 0; i < arrays.length; i++)
+		{
+			arrays[i] = new byte[64 * 1024];
+		}
+		MemorySnapshot after = MemoryTelemetry.snapshot();
+		double allocationRate = MemoryTelemetry.getAllocationRate(before, after);
+		if (ThreadMetrics.isAllocatedBytesSupported())
+		{
+			assertTrue(0 < allocationRate);
+		}
+		else
+		{
+			assertEquals(ThreadMetrics.UNSUPPORTED, allocationRate, 0.0);
+		}
+		MemorySnapshot unsupported = before.toBuilder().allocatedBytes(-1).build();
+		assertEquals(-1.0, MemoryTelemetry.getAllocationRate(unsupported, after), 0.0);
+		before = MemorySnapshot.builder().nanoTime(0).allocatedBytes(1000).build();
+		after = MemorySnapshot.builder().nanoTime(500_000_000).allocatedBytes(2000).build();
+		assertEquals(2000.0, MemoryTelemetry.getAllocationRate(before, after), 0.0001);
+	}
+
+	/**
+	 * Test method for {@link MemoryTelemetry#getCollectionCount(MemorySnapshot, MemorySnapshot)}
+	 * and {@link MemoryTelemetry#getCollectionTime(MemorySnapshot, MemorySnapshot)}
+	 */
+	@Test
+	public void testGetCollectionCountAndTime()
+	{
+		MemorySnapshot before = MemorySnapshot.builder().garbageCollectors(List.of(
+			GarbageCollectorUsage.builder().name("young").collectionCount(3).collectionTime(30)
+				.build()))
+			.build();
+		MemorySnapshot after = MemorySnapshot.builder()
+			.garbageCollectors(List.of(
+				GarbageCollectorUsage.builder().name("young").collectionCount(5).collectionTime(45)
+					.build(),
+				GarbageCollectorUsage.builder().name("old").collectionCount(1).collectionTime(100)
+					.build()))
+			.build();
+		assertEquals(3, MemoryTelemetry.getCollectionCount(before, after));
+		assertEquals(115, MemoryTelemetry.getCollectionTime(before, after));
+		MemorySnapshot snapshot = MemoryTelemetry.snapshot();
+		assertEquals(0, MemoryTelemetry.getCollectionCount(snapshot, snapshot));
+	}
+
+}
@@ -0,0 +1,96 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.memory;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link MemoryThresholdMonitor}
+ */
+public class MemoryThresholdMonitorTest
+{
+
+	/**
+	 * Test method for {@link MemoryThresholdMonitor#start()}
+	 */
+	@Test
+	public void testStart() throws InterruptedException
+	{
+		CountDownLatch notified = new CountDownLatch(1);
+		AtomicReference<MemoryPoolUsage> exceeded = new AtomicReference<>();
+		try (MemoryThresholdMonitor monitor = new MemoryThresholdMonitor(Double.MIN_VALUE,
+			(usage, afterCollection) -> {
+				exceeded.compareAndSet(null, usage);
+				notified.countDown();
+			}).start())
+		{
+			assertTrue(monitor.isRunning());
+			assertThrows(IllegalStateException.class, monitor::start);
+			assertFalse(monitor.getMonitoredPools().isEmpty());
+			// the smallest threshold is exceeded from the first allocation or collection
+			byte[][] arrays = new byte[64][];
+			for (int i = 0; i < arrays.length && notified.getCount() != 0; i++)
+			{
+				arrays[i] = new byte[1024 * 1024];
+				System.gc();
+			}
+			assertTrue(notified.await(5, TimeUnit.SECONDS));
+			assertNotNull(exceeded.get());
+			assertTrue(monitor.getMonitoredPools().contains(exceeded.get().getName()));
+			monitor.close();
+			assertFalse(monitor.isRunning());
+		}
+		for (MemoryPoolMXBean memoryPoolMXBean : ManagementFactory.getMemoryPoolMXBeans())
+		{
+			if (memoryPoolMXBean.isCollectionUsageThresholdSupported())
+			{
+				assertTrue(memoryPoolMXBean.getCollectionUsageThreshold() == 0);
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link MemoryThresholdMonitor} constructor with invalid arguments
+	 */
+	@Test
+	public void testConstructor()
+	{
+		assertThrows(IllegalArgumentException.class,
+			() -> new MemoryThresholdMonitor(0.0, (usage, afterCollection) -> {
+			}));
+		assertThrows(IllegalArgumentException.class,
+			() -> new MemoryThresholdMonitor(1.5, (usage, afterCollection) -> {
+			}));
+		assertThrows(IllegalArgumentException.class, () -> new MemoryThresholdMonitor(0.5, null));
+	}
+
+}
@@ -0,0 +1,167 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.memory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ObjectSizeEstimator}
+ */
+public class ObjectSizeEstimatorTest
+{
+
+	/**
+	 * Node class for test the deep size with cycles
+	 */
+	static class Node
+	{
+		/** The value */
+		long value;
+
+		/** The next node */
+		Node next;
+	}
+
+	/**
+	 * List class with an own field for test the deep size of a subclass of a JDK class
+	 */
+	static class NodeList extends ArrayList<String>
+	{
+		private static final long serialVersionUID = 1L;
+
+		/** The node */
+		Node node;
+	}
+
+	/**
+	 * Test method for {@link ObjectSizeEstimator#shallowSizeOf(Object)}
+	 */
+	@Test
+	public void testShallowSizeOf()
+	{
+		int header = ObjectSizeEstimator.getObjectHeaderSize();
+		int reference = ObjectSizeEstimator.getReferenceSize();
+		assertEquals(align(header), ObjectSizeEstimator.shallowSizeOf(new Object()));
+		assertEquals(align(header + 4), ObjectSizeEstimator.shallowSizeOf(Integer.valueOf(1)));
+		assertEquals(align(header + 8), ObjectSizeEstimator.shallowSizeOf(Long.valueOf(1L)));
+		assertEquals(align(header + 8 + reference), ObjectSizeEstimator.shallowSizeOf(new Node()));
+		assertEquals(align(header + 8 + reference), ObjectSizeEstimator.shallowSizeOf(Node.class));
+		assertEquals(align(ObjectSizeEstimator.getArrayHeaderSize() + 100),
+			ObjectSizeEstimator.shallowSizeOf(new byte[100]));
+		assertEquals(align(ObjectSizeEstimator.getArrayHeaderSize() + 10 * 8),
+			ObjectSizeEstimator.shallowSizeOf(new long[10]));
+		assertEquals(align(ObjectSizeEstimator.getArrayHeaderSize() + 10 * reference),
+			ObjectSizeEstimator.shallowSizeOf(new String[10]));
+		assertEquals(0, ObjectSizeEstimator.shallowSizeOf((Object)null));
+		assertThrows(IllegalArgumentException.class,
+			() -> ObjectSizeEstimator.shallowSizeOf(int[].class));
+	}
+
+	/**
+	 * Test method for {@link ObjectSizeEstimator#deepSizeOf(Object)}
+	 */
+	@Test
+	public void testDeepSizeOf()
+	{
+		Node first = new Node();
+		Node second = new Node();
+		first.next = second;
+		second.next = first;
+		long nodeSize = ObjectSizeEstimator.shallowSizeOf(Node.class);
+		// the cycle is counted once
+		assertEquals(2 * nodeSize, ObjectSizeEstimator.deepSizeOf(first));
+		assertEquals(nodeSize, ObjectSizeEstimator.deepSizeOf(first, 1));
+		Node[] nodes = { first, second, first };
+		assertEquals(ObjectSizeEstimator.shallowSizeOf(nodes) + 2 * nodeSize,
+			ObjectSizeEstimator.deepSizeOf(nodes));
+		assertEquals(0, ObjectSizeEstimator.deepSizeOf(null));
+		assertThrows(IllegalArgumentException.class,
+			() -> ObjectSizeEstimator.deepSizeOf(first, 0));
+	}
+
+	/**
+	 * Test method for {@link ObjectSizeEstimator#deepSizeOf(Object)} with classes of the JDK
+	 */
+	@Test
+	public void testDeepSizeOfJdkClasses()
+	{
+		String latin1 = "0123456789";
+		String utf16 = "\u20ac123456789";
+		assertTrue(ObjectSizeEstimator.shallowSizeOf(latin1) + 10 <= ObjectSizeEstimator
+			.deepSizeOf(latin1));
+		assertTrue(ObjectSizeEstimator.deepSizeOf(latin1) < ObjectSizeEstimator.deepSizeOf(utf16));
+
+		List<String> list = new ArrayList<>();
+		long empty = ObjectSizeEstimator.deepSizeOf(list);
+		for (int i = 0; i < 100; i++)
+		{
+			list.add("value-" + i);
+		}
+		long full = ObjectSizeEstimator.deepSizeOf(list);
+		assertTrue(empty + 100 * ObjectSizeEstimator.deepSizeOf("value-0") <= full);
+
+		Map<String, Integer> map = new HashMap<>();
+		for (int i = 0; i < 100; i++)
+		{
+			map.put("key-" + i, 1000 + i);
+		}
+		assertTrue(100 * (ObjectSizeEstimator.deepSizeOf("key-0")
+			+ ObjectSizeEstimator.shallowSizeOf(Integer.valueOf(1000))) < ObjectSizeEstimator
+				.deepSizeOf(map));
+		// shared objects like enum constants and classes are not counted
+		assertEquals(0, ObjectSizeEstimator.deepSizeOf(Thread.State.NEW));
+		assertEquals(0, ObjectSizeEstimator.deepSizeOf(String.class));
+	}
+
+	/**
+	 * Test method for {@link ObjectSizeEstimator#deepSizeOf(Object)} with a subclass of a JDK class
+	 * that has fields that can not be read
+	 */
+	@Test
+	public void testDeepSizeOfSubclassOfJdkClass()
+	{
+		NodeList nodeList = new NodeList();
+		nodeList.add("value");
+		long withoutNode = ObjectSizeEstimator.deepSizeOf(nodeList);
+		Node first = new Node();
+		first.next = new Node();
+		nodeList.node = first;
+		long nodeSize = ObjectSizeEstimator.shallowSizeOf(Node.class);
+		// the own field is followed although the fields of the ArrayList can not be read
+		assertEquals(withoutNode + 2 * nodeSize, ObjectSizeEstimator.deepSizeOf(nodeList));
+		assertTrue(ObjectSizeEstimator.deepSizeOf("value") < withoutNode);
+	}
+
+	private static long align(final long size)
+	{
+		return (size + 7) / 8 * 8;
+	}
+
+}
@@ -0,0 +1,198 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.lang.model.ClassModel;
+
+/**
+ * The unit test class for the class {@link ClassFileReader}
+ */
+public class ClassFileReaderTest
+{
+
+	/**
+	 * Test method for {@link ClassFileReader#read(InputStream)} with a top level class
+	 */
+	@Test
+	public void testReadClass() throws IOException
+	{
+		ClassModel actual = read(ClassScanner.class);
+		assertEquals("ClassScanner", actual.getClassName());
+		assertEquals("io.github.astrapi69.lang.resource", actual.getPackageName());
+		assertEquals("java.lang.Object", actual.getExtendedClassName());
+		assertEquals(List.of(), actual.getInterfaceImplementations());
+		assertEquals(List.of(Modifier.PUBLIC, Modifier.FINAL), actual.getModifiers());
+		assertEquals(ElementKind.CLASS, actual.getKind());
+		assertEquals(List.of(), actual.getClassAnnotations());
+		assertNull(actual.getMethods());
+	}
+
+	/**
+	 * Test method for {@link ClassFileReader#read(InputStream)} with nested classes, annotations
+	 * and interfaces
+	 */
+	@Test
+	public void testReadNestedClass() throws IOException
+	{
+		ClassModel actual = read(AnnotatedSupplier.class);
+		assertEquals("ClassFileReaderTest$AnnotatedSupplier", actual.getClassName());
+		assertEquals("io.github.astrapi69.lang.resource", actual.getPackageName());
+		assertEquals(ClassFileReaderTest.class.getName() + "$AbstractSupplier",
+			actual.getExtendedClassName());
+		assertEquals(List.of("java.io.Serializable", "java.lang.Runnable"),
+			actual.getInterfaceImplementations());
+		assertEquals(List.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL),
+			actual.getModifiers());
+		assertEquals(2, actual.getClassAnnotations().size());
+		ClassModel annotation = actual.getClassAnnotations().get(0);
+		assertEquals("Deprecated", annotation.getClassName());
+		assertEquals("java.lang", annotation.getPackageName());
+		assertEquals(ElementKind.ANNOTATION_TYPE, annotation.getKind());
+		assertEquals("ClassFileReaderTest$Marker",
+			actual.getClassAnnotations().get(1).getClassName());
+
+		actual = read(AbstractSupplier.class);
+		assertEquals(List.of(Modifier.ABSTRACT, Modifier.STATIC), actual.getModifiers());
+		assertEquals(List.of("java.util.function.Supplier"),
+			actual.getInterfaceImplementations());
+	}
+
+	/**
+	 * Test method for {@link ClassFileReader#read(InputStream)} with the kinds of the classes
+	 */
+	@Test
+	public void testReadKind() throws IOException
+	{
+		assertEquals(ElementKind.INTERFACE, read(Supplier.class).getKind());
+		assertEquals(ElementKind.ANNOTATION_TYPE, read(Marker.class).getKind());
+		assertEquals(ElementKind.ENUM, read(Color.class).getKind());
+		assertEquals(ElementKind.RECORD, read(Point.class).getKind());
+		assertEquals("java.lang.Record", read(Point.class).getExtendedClassName());
+		assertEquals("java.lang.Enum", read(Color.class).getExtendedClassName());
+		assertNull(read(Object.class).getExtendedClassName());
+	}
+
+	/**
+	 * Test method for {@link ClassFileReader#read(ByteBuffer)}
+	 */
+	@Test
+	public void testReadByteBuffer() throws IOException
+	{
+		byte[] bytes;
+		try (InputStream inputStream = getClassFile(ClassFileReader.class))
+		{
+			bytes = inputStream.readAllBytes();
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 3);
+		buffer.put(new byte[] { 1, 2, 3 }).put(bytes).position(3);
+		assertEquals("ClassFileReader", ClassFileReader.read(buffer).getClassName());
+		assertEquals(3, buffer.position());
+	}
+
+	/**
+	 * Test method for {@link ClassFileReader#read(byte[])} with invalid class files
+	 */
+	@Test
+	public void testReadInvalid() throws IOException
+	{
+		assertThrows(IllegalArgumentException.class,
+			() -> ClassFileReader.read(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }));
+		byte[] bytes;
+		try (InputStream inputStream = getClassFile(ClassFileReader.class))
+		{
+			bytes = inputStream.readNBytes(100);
+		}
+		assertThrows(IllegalArgumentException.class, () -> ClassFileReader.read(bytes));
+	}
+
+	private static ClassModel read(final Class<?> clazz) throws IOException
+	{
+		try (InputStream inputStream = getClassFile(clazz))
+		{
+			return ClassFileReader.read(inputStream);
+		}
+	}
+
+	private static InputStream getClassFile(final Class<?> clazz)
+	{
+		String name = clazz.getName();
+		return clazz.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class");
+	}
+
+	@Retention(RetentionPolicy.CLASS)
+	@interface Marker
+	{
+	}
+
+	enum Color
+	{
+		RED, GREEN
+	}
+
+	record Point(int x, int y)
+	{
+	}
+
+	abstract static class AbstractSupplier implements Supplier<String>
+	{
+	}
+
+	@Deprecated
+	@Marker
+	private static final class AnnotatedSupplier extends AbstractSupplier
+		implements Serializable, Runnable
+	{
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public String get()
+		{
+			return "value";
+		}
+
+		@Override
+		public void run()
+		{
+		}
+
+	}
+
+}
@@ -0,0 +1,187 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.lang.model.ClassModel;
+
+/**
+ * The unit test class for the class {@link ClassScanner}
+ */
+public class ClassScannerTest
+{
+
+	/** The flag if the class {@link Initializable} was initialized */
+	static boolean initialized;
+
+	Path directory;
+
+	/**
+	 * Sets up method will be invoked before every unit test method in this class.
+	 *
+	 * @throws IOException
+	 *             if the temporary directory could not be created
+	 */
+	@BeforeEach
+	protected void setUp() throws IOException
+	{
+		directory = Files.createTempDirectory("class-scanner");
+	}
+
+	/**
+	 * Tear down method will be invoked after every unit test method in this class.
+	 *
+	 * @throws IOException
+	 *             if the temporary directory could not be deleted
+	 */
+	@AfterEach
+	protected void tearDown() throws IOException
+	{
+		try (Stream<Path> paths = Files.walk(directory))
+		{
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	/**
+	 * Test method for {@link ClassScanner#scan(String, boolean)} over the class path
+	 */
+	@Test
+	public void testScan()
+	{
+		ClassScanner classScanner = new ClassScanner(ResourceIndex.getDefault());
+		List<ClassModel> actual = classScanner.scan("io.github.astrapi69.lang.resource", false);
+		Set<String> names = actual.stream().map(ClassScanner::getQualifiedName)
+			.collect(Collectors.toSet());
+		assertTrue(names.contains(ClassScanner.class.getName()));
+		assertTrue(names.contains(ResourceIndex.class.getName()));
+		assertTrue(names.contains(Initializable.class.getName()));
+		assertFalse(names.contains("io.github.astrapi69.lang.resource.package-info"));
+		// the classes are read from the class files and not loaded
+		assertFalse(initialized);
+
+		List<ClassModel> recursive = classScanner.scan("io.github.astrapi69.lang", true);
+		assertTrue(recursive.size() > actual.size());
+		assertTrue(recursive.stream().map(ClassScanner::getQualifiedName)
+			.anyMatch(ClassModel.class.getName()::equals));
+		assertTrue(classScanner.scan("io.github.astrapi69.lang", false).stream()
+			.noneMatch(classModel -> classModel.getPackageName()
+				.equals("io.github.astrapi69.lang.resource")));
+	}
+
+	/**
+	 * Test method for {@link ClassScanner#scan(String, boolean)} over an archive
+	 */
+	@Test
+	public void testScanArchive() throws IOException
+	{
+		Path jar = directory.resolve("classes.jar");
+		try (JarOutputStream outputStream = new JarOutputStream(Files.newOutputStream(jar)))
+		{
+			for (Class<?> clazz : List.of(ClassScanner.class, Initializable.class))
+			{
+				String name = clazz.getName().replace('.', '/') + ".class";
+				outputStream.putNextEntry(new JarEntry(name));
+				try (InputStream inputStream = ClassLoader.getSystemResourceAsStream(name))
+				{
+					inputStream.transferTo(outputStream);
+				}
+				outputStream.closeEntry();
+			}
+			outputStream.putNextEntry(new JarEntry("io/github/astrapi69/lang/resource/Broken.txt"));
+			outputStream.closeEntry();
+		}
+		ClassScanner classScanner = new ClassScanner(ResourceIndex.of(List.of(jar)));
+		List<ClassModel> actual = classScanner.scan("io.github.astrapi69.lang", true);
+		assertEquals(List.of(ClassScanner.class.getName(), Initializable.class.getName()),
+			actual.stream().map(ClassScanner::getQualifiedName).collect(Collectors.toList()));
+		assertFalse(initialized);
+	}
+
+	/**
+	 * Test method for {@link ClassScanner#scan(String, boolean)} with an invalid and a removed
+	 * class file that are skipped
+	 */
+	@Test
+	public void testScanInvalid() throws IOException
+	{
+		Path classFile = directory.resolve("com/acme/Broken.class");
+		Files.createDirectories(classFile.getParent());
+		Files.writeString(classFile, "no class file");
+		Path removedFile = directory.resolve("com/acme/Removed.class");
+		Files.writeString(removedFile, "removed class file");
+		String name = Initializable.class.getName().replace('.', '/') + ".class";
+		Path validFile = directory.resolve(name);
+		Files.createDirectories(validFile.getParent());
+		try (InputStream inputStream = ClassLoader.getSystemResourceAsStream(name))
+		{
+			Files.copy(inputStream, validFile);
+		}
+		ClassScanner classScanner = new ClassScanner(ResourceIndex.of(List.of(directory)));
+		Files.delete(removedFile);
+		assertEquals(List.of(), classScanner.scan("com.acme", false));
+		assertEquals(List.of(Initializable.class.getName()),
+			classScanner.scan("", true).stream().map(ClassScanner::getQualifiedName)
+				.collect(Collectors.toList()));
+		assertEquals(List.of(), classScanner.scan("org.acme", true));
+		assertFalse(initialized);
+	}
+
+	/**
+	 * Test method for {@link ClassScanner#getQualifiedName(ClassModel)}
+	 */
+	@Test
+	public void testGetQualifiedName()
+	{
+		assertEquals("com.acme.Plugin", ClassScanner.getQualifiedName(
+			ClassModel.builder().packageName("com.acme").className("Plugin").build()));
+		assertEquals("Plugin", ClassScanner.getQualifiedName(
+			ClassModel.builder().packageName("").className("Plugin").build()));
+	}
+
+	static class Initializable
+	{
+		static
+		{
+			initialized = true;
+		}
+	}
+
+}
@@ -0,0 +1,125 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ClasspathLocations}
+ */
+public class ClasspathLocationsTest
+{
+
+	Path directory;
+
+	/**
+	 * Sets up method will be invoked before every unit test method in this class.
+	 *
+	 * @throws IOException
+	 *             if the temporary directory could not be created
+	 */
+	@BeforeEach
+	protected void setUp() throws IOException
+	{
+		directory = Files.createTempDirectory("classpath-locations");
+	}
+
+	/**
+	 * Tear down method will be invoked after every unit test method in this class.
+	 *
+	 * @throws IOException
+	 *             if the temporary directory could not be deleted
+	 */
+	@AfterEach
+	protected void tearDown() throws IOException
+	{
+		try (Stream<Path> paths = Files.walk(directory))
+		{
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	/**
+	 * Test method for {@link ClasspathLocations#get()}
+	 */
+	@Test
+	public void testGet()
+	{
+		List<Path> actual = ClasspathLocations.get();
+		assertFalse(actual.isEmpty());
+		for (Path location : actual)
+		{
+			assertTrue(Files.isDirectory(location) || ClasspathLocations.isArchive(location));
+		}
+	}
+
+	/**
+	 * Test method for {@link ClasspathLocations#getArchives(Path)}
+	 */
+	@Test
+	public void testGetArchives() throws IOException
+	{
+		Path second = writeJar(directory.resolve("b.jar"));
+		Path first = writeJar(directory.resolve("a.war"));
+		Files.writeString(directory.resolve("c.txt"), "no archive");
+		Files.createDirectory(directory.resolve("d.jar"));
+
+		assertEquals(List.of(first, second), ClasspathLocations.getArchives(directory));
+	}
+
+	/**
+	 * Test method for {@link ClasspathLocations#isArchive(Path)}
+	 */
+	@Test
+	public void testIsArchive() throws IOException
+	{
+		assertTrue(ClasspathLocations.isArchive(writeJar(directory.resolve("library.JAR"))));
+		assertTrue(ClasspathLocations.isArchive(writeJar(directory.resolve("application.ear"))));
+		assertFalse(ClasspathLocations.isArchive(directory.resolve("missing.jar")));
+		assertFalse(ClasspathLocations.isArchive(directory));
+	}
+
+	private static Path writeJar(final Path file) throws IOException
+	{
+		try (JarOutputStream outputStream = new JarOutputStream(Files.newOutputStream(file),
+			new Manifest()))
+		{
+			outputStream.flush();
+		}
+		return file;
+	}
+
+}
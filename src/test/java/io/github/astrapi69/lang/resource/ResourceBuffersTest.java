@@ -0,0 +1,363 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ResourceBuffers}
+ */
+public class ResourceBuffersTest
+{
+
+	/** The name of the entry in the archive */
+	private static final String ENTRY_NAME = "models/lookup-table.bin";
+
+	Path directory;
+
+	Path jar;
+
+	ResourceBuffers resourceBuffers;
+
+	/**
+	 * Sets up method will be invoked before every unit test method in this class.
+	 *
+	 * @throws IOException
+	 *             if the temporary files could not be created
+	 */
+	@BeforeEach
+	protected void setUp() throws IOException
+	{
+		directory = Files.createTempDirectory("resource-buffers");
+		jar = writeJar(directory.resolve("models.jar"), "first content");
+		resourceBuffers = new ResourceBuffers(directory.resolve("extracted"));
+	}
+
+	/**
+	 * Tear down method will be invoked after every unit test method in this class.
+	 *
+	 * @throws IOException
+	 *             if the temporary directory could not be deleted
+	 */
+	@AfterEach
+	protected void tearDown() throws IOException
+	{
+		try (Stream<Path> paths = Files.walk(directory))
+		{
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	/**
+	 * Test method for {@link ResourceBuffers#getBuffer(URL)} with a file
+	 */
+	@Test
+	public void testGetBufferOfFile() throws IOException
+	{
+		Path file = directory.resolve("table.bin");
+		Files.writeString(file, "file content");
+
+		ByteBuffer actual = resourceBuffers.getBuffer(file.toUri().toURL());
+		assertTrue(actual instanceof MappedByteBuffer);
+		assertTrue(actual.isReadOnly());
+		assertEquals("file content", toString(actual));
+		assertEquals(file, resourceBuffers.getFile(file.toUri().toURL()));
+		assertEquals(0, resourceBuffers.size());
+	}
+
+	/**
+	 * Test method for {@link ResourceBuffers#getBuffer(URL)} with an entry of an archive
+	 */
+	@Test
+	public void testGetBufferOfArchiveEntry() throws IOException, NoSuchAlgorithmException
+	{
+		URL url = toURL(jar);
+		ByteBuffer actual = resourceBuffers.getBuffer(url);
+		assertTrue(actual.isReadOnly());
+		assertEquals("first content", toString(actual));
+		// the position of the cached buffer is not shared
+		assertEquals("first content", toString(resourceBuffers.getBuffer(url)));
+		assertEquals(1, resourceBuffers.size());
+
+		Path file = resourceBuffers.getFile(url);
+		assertEquals(directory.resolve("extracted"), file.getParent());
+		assertEquals(sha256("first content"), file.getFileName().toString());
+		assertEquals(file, resourceBuffers.getFile(url));
+	}
+
+	/**
+	 * Test method for {@link ResourceBuffers#getBuffer(URL)} with a modified archive
+	 */
+	@Test
+	public void testGetBufferOfModifiedArchive() throws IOException
+	{
+		URL url = toURL(jar);
+		assertEquals("first content", toString(resourceBuffers.getBuffer(url)));
+
+		writeJar(jar, "second content");
+		Files.setLastModifiedTime(jar,
+			FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 10_000));
+		assertEquals("second content", toString(resourceBuffers.getBuffer(url)));
+		assertEquals(1, resourceBuffers.size());
+
+		// a deleted extracted file is extracted again
+		Files.delete(resourceBuffers.getFile(url));
+		assertEquals("second content", toString(resourceBuffers.getBuffer(url)));
+		assertTrue(Files.exists(resourceBuffers.getFile(url)));
+
+		resourceBuffers.clear();
+		assertEquals(0, resourceBuffers.size());
+	}
+
+	/**
+	 * Test method for {@link ResourceBuffers#getBuffer(URL)} with an entry that does not exist in
+	 * the archive
+	 */
+	@Test
+	public void testGetBufferOfMissingEntry() throws IOException
+	{
+		URL url = new URL("jar:" + jar.toUri() + "!/models/missing.bin");
+		assertThrows(IOException.class, () -> resourceBuffers.getBuffer(url));
+		// a failed extraction is not cached
+		assertEquals(0, resourceBuffers.size());
+		assertThrows(IOException.class, () -> resourceBuffers.getFile(url));
+		assertEquals(0, resourceBuffers.size());
+	}
+
+	/**
+	 * Test method for {@link ResourceBuffers#getBuffer(URL)} with concurrent callers
+	 */
+	@Test
+	public void testGetBufferConcurrent() throws Exception
+	{
+		URL url = toURL(jar);
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+		try
+		{
+			List<Callable<String>> tasks = new ArrayList<>();
+			for (int i = 0; i < 32; i++)
+			{
+				tasks.add(() -> toString(resourceBuffers.getBuffer(url)));
+			}
+			for (Future<String> future : executorService.invokeAll(tasks))
+			{
+				assertEquals("first content", future.get());
+			}
+		}
+		finally
+		{
+			executorService.shutdownNow();
+		}
+		try (Stream<Path> files = Files.list(directory.resolve("extracted")))
+		{
+			assertEquals(1, files.count());
+		}
+	}
+
+	/**
+	 * Test method for {@link ResourceBuffers#getBuffer(URL)} with a planted file that has the name
+	 * of the extracted file
+	 */
+	@Test
+	public void testGetBufferReplacesExistingFile() throws IOException, NoSuchAlgorithmException
+	{
+		Path extracted = directory.resolve("extracted");
+		Files.createDirectories(extracted);
+		Files.writeString(extracted.resolve(sha256("first content")), "planted content");
+
+		URL url = toURL(jar);
+		assertEquals("first content", toString(resourceBuffers.getBuffer(url)));
+		assertEquals("first content", Files.readString(resourceBuffers.getFile(url)));
+	}
+
+	/**
+	 * Test method for {@link ResourceBuffers#getExtractionDirectory()} after an extraction
+	 */
+	@Test
+	public void testGetExtractionDirectory() throws IOException
+	{
+		Path extracted = directory.resolve("extracted");
+		resourceBuffers.getBuffer(toURL(jar));
+		assertEquals(extracted, resourceBuffers.getExtractionDirectory());
+		if (extracted.getFileSystem().supportedFileAttributeViews().contains("posix"))
+		{
+			assertEquals(PosixFilePermissions.fromString("rwx------"),
+				Files.getPosixFilePermissions(extracted));
+		}
+	}
+
+	/**
+	 * Test method for {@link ResourceBuffers#getExtractionDirectory()} with a directory that can
+	 * not be trusted
+	 */
+	@Test
+	public void testGetExtractionDirectoryNotTrusted() throws IOException
+	{
+		Path target = Files.createDirectory(directory.resolve("target"));
+		Path link;
+		try
+		{
+			link = Files.createSymbolicLink(directory.resolve("link"), target);
+		}
+		catch (UnsupportedOperationException | IOException e)
+		{
+			// symbolic links are not supported on this platform
+			return;
+		}
+		ResourceBuffers linkedBuffers = new ResourceBuffers(link);
+		assertEquals("first content", toString(linkedBuffers.getBuffer(toURL(jar))));
+		Path extractionDirectory = linkedBuffers.getExtractionDirectory();
+		try
+		{
+			assertNotEquals(link, extractionDirectory);
+			assertEquals(extractionDirectory, linkedBuffers.getFile(toURL(jar)).getParent());
+			try (Stream<Path> files = Files.list(target))
+			{
+				assertEquals(0, files.count());
+			}
+		}
+		finally
+		{
+			linkedBuffers.clear();
+			try (Stream<Path> paths = Files.walk(extractionDirectory))
+			{
+				paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link ResourceBuffers#getBuffer(String)}
+	 */
+	@Test
+	public void testGetBufferOfName() throws IOException
+	{
+		ByteBuffer actual = resourceBuffers
+			.getBuffer(ResourceBuffersTest.class.getName().replace('.', '/') + ".class");
+		assertNotNull(actual);
+		assertEquals(0xCAFEBABE, actual.getInt());
+		assertNull(resourceBuffers.getBuffer("io/github/astrapi69/missing.properties"));
+		actual = resourceBuffers.getBuffer("ResourceBuffersTest.class", this);
+		assertEquals(0xCAFEBABE, actual.getInt());
+	}
+
+	/**
+	 * Test method for {@link ResourceBuffers#getFile(URL)} with an url that is neither a file nor
+	 * an entry of a local archive
+	 */
+	@Test
+	public void testGetFileOfStream() throws IOException, NoSuchAlgorithmException
+	{
+		URL url = new URL(null, "test:models", new URLStreamHandler()
+		{
+			@Override
+			protected URLConnection openConnection(final URL u)
+			{
+				return new URLConnection(u)
+				{
+					@Override
+					public void connect()
+					{
+					}
+
+					@Override
+					public InputStream getInputStream()
+					{
+						return new ByteArrayInputStream(
+							"stream content".getBytes(StandardCharsets.UTF_8));
+					}
+				};
+			}
+		});
+		Path file = resourceBuffers.getFile(url);
+		assertEquals(directory.resolve("extracted"), file.getParent());
+		assertEquals(sha256("stream content"), file.getFileName().toString());
+		assertEquals("stream content", Files.readString(file));
+		assertEquals(file, resourceBuffers.getFile(url));
+		assertEquals("stream content", toString(resourceBuffers.getBuffer(url)));
+		// the content of a stream is not cached
+		assertEquals(0, resourceBuffers.size());
+	}
+
+	private static Path writeJar(final Path file, final String content) throws IOException
+	{
+		try (JarOutputStream outputStream = new JarOutputStream(Files.newOutputStream(file)))
+		{
+			outputStream.putNextEntry(new JarEntry(ENTRY_NAME));
+			outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+			outputStream.closeEntry();
+		}
+		return file;
+	}
+
+	private static URL toURL(final Path archive) throws IOException
+	{
+		return new URL("jar:" + archive.toUri() + "!/" + ENTRY_NAME);
+	}
+
+	private static String toString(final ByteBuffer buffer)
+	{
+		return StandardCharsets.UTF_8.decode(buffer).toString();
+	}
+
+	private static String sha256(final String content) throws NoSuchAlgorithmException
+	{
+		return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+			.digest(content.getBytes(StandardCharsets.UTF_8)));
+	}
+
+}
@@ -0,0 +1,204 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ResourceCache}
+ */
+public class ResourceCacheTest
+{
+
+	Path directory;
+
+	URLClassLoader classLoader;
+
+	/**
+	 * Sets up method will be invoked before every unit test method in this class.
+	 *
+	 * @throws IOException
+	 *             if the temporary files could not be created
+	 */
+	@BeforeEach
+	protected void setUp() throws IOException
+	{
+		directory = Files.createTempDirectory("resource-cache");
+		Files.writeString(directory.resolve("a.txt"), "aaaa");
+		Files.writeString(directory.resolve("b.txt"), "bbbb");
+		Files.writeString(directory.resolve("c.txt"), "cccc");
+		Files.writeString(directory.resolve("large.txt"), "0123456789");
+		classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL() }, null);
+	}
+
+	/**
+	 * Tear down method will be invoked after every unit test method in this class.
+	 *
+	 * @throws IOException
+	 *             if the temporary directory could not be deleted
+	 */
+	@AfterEach
+	protected void tearDown() throws IOException
+	{
+		classLoader.close();
+		try (Stream<Path> paths = Files.walk(directory))
+		{
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	/**
+	 * Test method for {@link ResourceCache#getResourceAsStream(String, ClassLoader)}
+	 */
+	@Test
+	public void testGetResourceAsStream() throws IOException
+	{
+		ResourceCache resourceCache = new ResourceCache(1024);
+		assertEquals("aaaa", read(resourceCache.getResourceAsStream("a.txt", classLoader)));
+		// the cached bytes are returned even if the file was changed
+		Files.writeString(directory.resolve("a.txt"), "changed");
+		assertEquals("aaaa", read(resourceCache.getResourceAsStream("/a.txt", classLoader)));
+		assertNull(resourceCache.getResourceAsStream("missing.txt", classLoader));
+
+		ResourceCacheStatistics statistics = resourceCache.getStatistics();
+		assertEquals(1, statistics.getHitCount());
+		assertEquals(2, statistics.getMissCount());
+		assertEquals(1, statistics.getSize());
+		assertEquals(4, statistics.getWeightedSize());
+		assertEquals(1024, statistics.getMaximumWeight());
+
+		resourceCache.invalidate("a.txt", classLoader);
+		assertEquals("changed", read(resourceCache.getResourceAsStream("a.txt", classLoader)));
+	}
+
+	/**
+	 * Test method for {@link ResourceCache#getBuffer(String, ClassLoader)}
+	 */
+	@Test
+	public void testGetBuffer()
+	{
+		ResourceCache resourceCache = new ResourceCache(1024);
+		ByteBuffer actual = resourceCache.getBuffer("b.txt", classLoader);
+		assertTrue(actual.isReadOnly());
+		assertEquals("bbbb", StandardCharsets.UTF_8.decode(actual).toString());
+		assertEquals(4, resourceCache.getBuffer("b.txt", classLoader).remaining());
+		assertNull(resourceCache.getBuffer("missing.txt", classLoader));
+	}
+
+	/**
+	 * Test method for {@link ResourceCache} with the eviction of the least recently used resources
+	 */
+	@Test
+	public void testEviction() throws IOException
+	{
+		ResourceCache resourceCache = new ResourceCache(8);
+		read(resourceCache.getResourceAsStream("a.txt", classLoader));
+		read(resourceCache.getResourceAsStream("b.txt", classLoader));
+		// a.txt is now the most recently used resource
+		read(resourceCache.getResourceAsStream("a.txt", classLoader));
+		read(resourceCache.getResourceAsStream("c.txt", classLoader));
+
+		ResourceCacheStatistics statistics = resourceCache.getStatistics();
+		assertEquals(1, statistics.getEvictionCount());
+		assertEquals(2, statistics.getSize());
+		assertEquals(8, statistics.getWeightedSize());
+		read(resourceCache.getResourceAsStream("a.txt", classLoader));
+		assertEquals(2, resourceCache.getStatistics().getHitCount());
+		read(resourceCache.getResourceAsStream("b.txt", classLoader));
+		assertEquals(4, resourceCache.getStatistics().getMissCount());
+
+		// a resource bigger than the maximum weight is not cached
+		assertEquals("0123456789",
+			read(resourceCache.getResourceAsStream("large.txt", classLoader)));
+		assertEquals(2, resourceCache.size());
+	}
+
+	/**
+	 * Test method for {@link ResourceCache#invalidate(ClassLoader)} and
+	 * {@link ResourceCache#invalidateAll()}
+	 */
+	@Test
+	public void testInvalidate() throws IOException
+	{
+		ResourceCache resourceCache = new ResourceCache(1024 * 1024);
+		read(resourceCache.getResourceAsStream("a.txt", classLoader));
+		assertNotNull(resourceCache.getResourceAsStream(
+			ResourceCacheTest.class.getName().replace('.', '/') + ".class"));
+		assertEquals(2, resourceCache.size());
+
+		resourceCache.invalidate(classLoader);
+		assertEquals(1, resourceCache.size());
+		resourceCache.invalidateAll();
+		assertEquals(0, resourceCache.size());
+		assertEquals(0, resourceCache.getStatistics().getWeightedSize());
+	}
+
+	/**
+	 * Test method for {@link ResourceCache#getDefault()} and
+	 * {@link ResourceCache#setDefault(ResourceCache)}
+	 */
+	@Test
+	public void testGetDefault()
+	{
+		ResourceCache defaultCache = ResourceCache.getDefault();
+		assertEquals(ResourceCache.DEFAULT_MAXIMUM_WEIGHT, defaultCache.getMaximumWeight());
+		ResourceCache resourceCache = new ResourceCache(1024);
+		try
+		{
+			ResourceCache.setDefault(resourceCache);
+			assertSame(resourceCache, ResourceCache.getDefault());
+		}
+		finally
+		{
+			ResourceCache.setDefault(defaultCache);
+		}
+		assertThrows(IllegalArgumentException.class, () -> new ResourceCache(0));
+	}
+
+	private static String read(final InputStream inputStream) throws IOException
+	{
+		try (InputStream stream = inputStream)
+		{
+			return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+}
@@ -0,0 +1,287 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ResourceIndex}
+ */
+public class ResourceIndexTest
+{
+
+	Path directory;
+
+	Path classes;
+
+	Path jar;
+
+	ResourceIndex resourceIndex;
+
+	/**
+	 * Sets up method will be invoked before every unit test method in this class.
+	 *
+	 * @throws IOException
+	 *             if the temporary files could not be created
+	 */
+	@BeforeEach
+	protected void setUp() throws IOException
+	{
+		directory = Files.createTempDirectory("resource-index");
+		classes = Files.createDirectory(directory.resolve("classes"));
+		write(classes, "com/acme/plugins/FirstPlugin.class", "first");
+		write(classes, "com/acme/plugins/plugin.properties", "name=first");
+		write(classes, "META-INF/services/com.acme.Plugin", "com.acme.plugins.FirstPlugin");
+		jar = directory.resolve("library.jar");
+		try (JarOutputStream outputStream = new JarOutputStream(Files.newOutputStream(jar)))
+		{
+			// without directory entries
+			for (String name : List.of("com/acme/plugins/SecondPlugin.class",
+				"com/acme/plugins/plugin.properties", "com/acme/util/Strings.class"))
+			{
+				outputStream.putNextEntry(new JarEntry(name));
+				outputStream.write(name.getBytes(StandardCharsets.UTF_8));
+				outputStream.closeEntry();
+			}
+		}
+		resourceIndex = ResourceIndex.of(List.of(classes, jar));
+	}
+
+	/**
+	 * Tear down method will be invoked after every unit test method in this class.
+	 *
+	 * @throws IOException
+	 *             if the temporary directory could not be deleted
+	 */
+	@AfterEach
+	protected void tearDown() throws IOException
+	{
+		resourceIndex.close();
+		try (Stream<Path> paths = Files.walk(directory))
+		{
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	/**
+	 * Test method for {@link ResourceIndex#getLocations(String)}
+	 */
+	@Test
+	public void testGetLocations()
+	{
+		assertEquals(List.of(classes, jar),
+			resourceIndex.getLocations("com/acme/plugins/plugin.properties"));
+		assertEquals(List.of(classes, jar), resourceIndex.getLocations("com/acme/plugins"));
+		assertEquals(List.of(classes, jar), resourceIndex.getLocations("/com/acme/plugins/"));
+		assertEquals(List.of(jar), resourceIndex.getLocations("com/acme/util"));
+		assertEquals(List.of(), resourceIndex.getLocations("com/acme/missing"));
+	}
+
+	/**
+	 * Test method for {@link ResourceIndex#contains(String)}
+	 */
+	@Test
+	public void testContains()
+	{
+		assertTrue(resourceIndex.contains("META-INF/services/com.acme.Plugin"));
+		assertTrue(resourceIndex.contains("com/acme"));
+		assertFalse(resourceIndex.contains("com/acme/plugins/ThirdPlugin.class"));
+	}
+
+	/**
+	 * Test method for {@link ResourceIndex#getResources(String)}
+	 */
+	@Test
+	public void testGetResources() throws IOException
+	{
+		List<URL> actual = resourceIndex.getResources("com/acme/plugins/plugin.properties");
+		assertEquals(2, actual.size());
+		assertEquals("file", actual.get(0).getProtocol());
+		assertEquals("jar", actual.get(1).getProtocol());
+		try (InputStream inputStream = actual.get(0).openStream())
+		{
+			assertEquals("name=first",
+				new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+		}
+		try (InputStream inputStream = actual.get(1).openStream())
+		{
+			assertEquals("com/acme/plugins/plugin.properties",
+				new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * Test method for {@link ResourceIndex#getDirectories(String)}
+	 */
+	@Test
+	public void testGetDirectories()
+	{
+		List<Path> actual = resourceIndex.getDirectories("com/acme/plugins");
+		assertEquals(1, actual.size());
+		assertTrue(Files.isDirectory(actual.get(0)));
+		assertEquals(List.of(), resourceIndex.getDirectories("com/acme/util"));
+	}
+
+	/**
+	 * Test method for {@link ResourceIndex#findByPrefix(String)}
+	 */
+	@Test
+	public void testFindByPrefix()
+	{
+		assertEquals(
+			Set.of("com/acme/plugins/FirstPlugin.class", "com/acme/plugins/SecondPlugin.class",
+				"com/acme/plugins/plugin.properties"),
+			resourceIndex.findByPrefix("com/acme/plugins/"));
+		assertEquals(4, resourceIndex.findByPrefix("com/").size());
+		assertEquals(5, resourceIndex.findByPrefix("").size());
+		assertEquals(Set.of(), resourceIndex.findByPrefix("org/"));
+	}
+
+	/**
+	 * Test method for {@link ResourceIndex#findByGlob(String)}
+	 */
+	@Test
+	public void testFindByGlob()
+	{
+		assertEquals(
+			Set.of("com/acme/plugins/FirstPlugin.class", "com/acme/plugins/SecondPlugin.class"),
+			resourceIndex.findByGlob("com/acme/plugins/*Plugin.class"));
+		assertEquals(Set.of("com/acme/plugins/plugin.properties"),
+			resourceIndex.findByGlob("**/*.properties"));
+		assertEquals(3, resourceIndex.findByGlob("com/**.class").size());
+		assertEquals(Set.of("com/acme/util/Strings.class"),
+			resourceIndex.findByGlob("com/acme/????/*.class"));
+		assertEquals(Set.of("META-INF/services/com.acme.Plugin"),
+			resourceIndex.findByGlob("META-INF/services/*"));
+	}
+
+	/**
+	 * Test method for {@link ResourceIndex#refresh()} and {@link ResourceIndex#refresh(Path)}
+	 */
+	@Test
+	public void testRefresh() throws IOException
+	{
+		write(classes, "com/acme/plugins/ThirdPlugin.class", "third");
+		Files.delete(classes.resolve("com/acme/plugins/plugin.properties"));
+		assertFalse(resourceIndex.contains("com/acme/plugins/ThirdPlugin.class"));
+
+		resourceIndex.refresh(classes);
+		assertTrue(resourceIndex.contains("com/acme/plugins/ThirdPlugin.class"));
+		assertEquals(List.of(jar),
+			resourceIndex.getLocations("com/acme/plugins/plugin.properties"));
+
+		write(classes, "com/acme/plugins/plugin.properties", "name=first");
+		resourceIndex.refresh();
+		assertEquals(List.of(classes, jar),
+			resourceIndex.getLocations("com/acme/plugins/plugin.properties"));
+
+		assertThrows(IllegalArgumentException.class,
+			() -> resourceIndex.refresh(directory.resolve("other")));
+	}
+
+	/**
+	 * Test method for {@link ResourceIndex#watch()} and {@link ResourceIndex#close()}
+	 */
+	@Test
+	public void testWatch() throws IOException
+	{
+		try (ResourceIndex watched = resourceIndex.watch())
+		{
+			assertSame(resourceIndex, watched);
+			assertTrue(watched.isWatching());
+
+			write(classes, "com/acme/plugins/ThirdPlugin.class", "third");
+			awaitTrue(() -> watched.contains("com/acme/plugins/ThirdPlugin.class"));
+			write(classes, "com/acme/extensions/Extension.class", "extension");
+			awaitTrue(() -> watched.contains("com/acme/extensions/Extension.class"));
+			assertEquals(List.of(classes), watched.getLocations("com/acme/extensions"));
+
+			Files.delete(classes.resolve("com/acme/plugins/plugin.properties"));
+			awaitTrue(() -> watched.getLocations("com/acme/plugins/plugin.properties")
+				.equals(List.of(jar)));
+		}
+		assertFalse(resourceIndex.isWatching());
+	}
+
+	/**
+	 * Test method for {@link ResourceIndex#ofClasspath()} and {@link ResourceIndex#getDefault()}
+	 */
+	@Test
+	public void testOfClasspath()
+	{
+		ResourceIndex actual = ResourceIndex.getDefault();
+		assertNotNull(actual);
+		assertSame(actual, ResourceIndex.getDefault());
+		assertTrue(actual.contains("org/junit/jupiter/api/Test.class"));
+		assertTrue(actual.contains(ResourceIndexTest.class.getName().replace('.', '/') + ".class"));
+		assertFalse(actual.findByPrefix("org/junit/jupiter/api/").isEmpty());
+	}
+
+	private static void write(final Path root, final String name, final String content)
+		throws IOException
+	{
+		Path file = root.resolve(name);
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, content);
+	}
+
+	private static void awaitTrue(final BooleanSupplier condition)
+	{
+		long deadline = System.currentTimeMillis() + 30_000;
+		while (!condition.getAsBoolean())
+		{
+			assertTrue(System.currentTimeMillis() < deadline, "condition not reached in time");
+			try
+			{
+				Thread.sleep(20);
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+}
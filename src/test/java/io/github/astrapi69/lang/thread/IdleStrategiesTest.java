@@ -0,0 +1,89 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link IdleStrategies}
+ */
+public class IdleStrategiesTest
+{
+
+	/**
+	 * Test method for {@link IdleStrategies#busySpin()} and {@link IdleStrategies#yielding()}
+	 */
+	@Test
+	public void testBusySpinAndYielding()
+	{
+		IdleStrategies.busySpin().idle(0);
+		IdleStrategies.yielding().idle(0);
+		IdleStrategies.yielding().idle(1);
+	}
+
+	/**
+	 * Test method for {@link IdleStrategies#backoff(int, int, long, long, TimeUnit)}
+	 */
+	@Test
+	public void testBackoff()
+	{
+		IdleStrategy idleStrategy = IdleStrategies.backoff(1, 1, 1, 2, TimeUnit.MILLISECONDS);
+		long start = System.nanoTime();
+		for (int i = 0; i < 6; i++)
+		{
+			idleStrategy.idle(0);
+		}
+		// 1 spin, 1 yield and 4 parks with 1, 2, 2 and 2 milliseconds
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(7));
+		idleStrategy.idle(1);
+		assertThrows(IllegalArgumentException.class,
+			() -> IdleStrategies.backoff(1, 1, 2, 1, TimeUnit.MILLISECONDS));
+	}
+
+	/**
+	 * Test method for {@link IdleStrategies#blocking(long, TimeUnit)}
+	 */
+	@Test
+	public void testBlocking() throws InterruptedException
+	{
+		IdleStrategy idleStrategy = IdleStrategies.blocking(10, TimeUnit.SECONDS);
+		CountDownLatch idled = new CountDownLatch(1);
+		Thread thread = new Thread(() -> {
+			idleStrategy.idle(0);
+			idled.countDown();
+		});
+		thread.start();
+		Thread.sleep(50);
+		idleStrategy.signal();
+		assertTrue(idled.await(1, TimeUnit.SECONDS));
+
+		long start = System.nanoTime();
+		IdleStrategies.blocking(20, TimeUnit.MILLISECONDS).idle(0);
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(15));
+	}
+
+}
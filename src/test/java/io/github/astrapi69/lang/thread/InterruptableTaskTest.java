@@ -0,0 +1,75 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link InterruptableTask}
+ */
+public class InterruptableTaskTest
+{
+
+	/**
+	 * Test method for {@link InterruptableTask#interrupt()}
+	 */
+	@Test
+	public void testInterrupt() throws InterruptedException
+	{
+		AtomicInteger counter = new AtomicInteger();
+		CountDownLatch processed = new CountDownLatch(1);
+		InterruptableTask task = new InterruptableTask()
+		{
+			@Override
+			protected void process()
+			{
+				counter.incrementAndGet();
+				processed.countDown();
+				try
+				{
+					Thread.sleep(10);
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+		assertTrue(task.join(10));
+		task.start();
+		assertThrows(IllegalStateException.class, task::start);
+		assertTrue(processed.await(1, TimeUnit.SECONDS));
+		assertFalse(task.isInterrupted());
+		task.interrupt();
+		assertTrue(task.isInterrupted());
+		assertTrue(task.join(1000));
+		assertTrue(0 < counter.get());
+	}
+
+}
@@ -0,0 +1,207 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ManagedExecutors}
+ */
+public class ManagedExecutorsTest
+{
+
+	/**
+	 * Test method for {@link ManagedExecutors#getForkJoinPool(int)}
+	 */
+	@Test
+	public void testGetForkJoinPool() throws Exception
+	{
+		ForkJoinPool pool = ManagedExecutors.getForkJoinPool(2);
+		assertSame(pool, ManagedExecutors.getForkJoinPool(2));
+		assertNotSame(pool, ManagedExecutors.getForkJoinPool(3));
+		assertEquals(2, pool.getParallelism());
+		String threadName = pool.submit(() -> Thread.currentThread().getName()).get();
+		assertTrue(threadName.startsWith("jobj-fork-join-2-"));
+		assertTrue(pool.submit(() -> Thread.currentThread().isDaemon()).get());
+		assertThrows(IllegalArgumentException.class, () -> ManagedExecutors.getForkJoinPool(0));
+	}
+
+	/**
+	 * Test method for {@link ManagedExecutors#getSharedExecutor()}
+	 */
+	@Test
+	public void testGetSharedExecutor() throws Exception
+	{
+		ExecutorService executor = ManagedExecutors.getSharedExecutor();
+		assertSame(executor, ManagedExecutors.getSharedExecutor());
+		String threadName = executor.submit(() -> Thread.currentThread().getName()).get();
+		assertTrue(threadName.startsWith("jobj-shared-"));
+	}
+
+	/**
+	 * Test method for {@link ManagedExecutors#getTaskExecutor()}
+	 */
+	@Test
+	public void testGetTaskExecutor() throws Exception
+	{
+		ExecutorService executor = ManagedExecutors.getTaskExecutor();
+		assertSame(executor, ManagedExecutors.getTaskExecutor());
+		// more blocking tasks than the shared executor has threads run at the same time
+		int tasks = Math.max(2, ThreadExtensions.getAvailableProcessors()) + 2;
+		CountDownLatch started = new CountDownLatch(tasks);
+		CountDownLatch release = new CountDownLatch(1);
+		for (int i = 0; i < tasks; i++)
+		{
+			executor.submit(() -> {
+				started.countDown();
+				release.await();
+				return null;
+			});
+		}
+		try
+		{
+			assertTrue(started.await(5, TimeUnit.SECONDS));
+		}
+		finally
+		{
+			release.countDown();
+		}
+	}
+
+	/**
+	 * Test method for {@link ManagedExecutors#getScheduler()}
+	 */
+	@Test
+	public void testGetScheduler() throws Exception
+	{
+		ScheduledExecutorService scheduler = ManagedExecutors.getScheduler();
+		assertSame(scheduler, ManagedExecutors.getScheduler());
+		String threadName = scheduler
+			.schedule(() -> Thread.currentThread().getName(), 1, TimeUnit.MILLISECONDS).get();
+		assertTrue(threadName.startsWith("jobj-scheduler-"));
+	}
+
+	/**
+	 * Test method for {@link ManagedExecutors#newBoundedExecutor(String, int, int)}
+	 */
+	@Test
+	public void testNewBoundedExecutor() throws Exception
+	{
+		CountDownLatch latch = new CountDownLatch(1);
+		ThreadPoolExecutor executor = ManagedExecutors.newBoundedExecutor("test", 1, 1);
+		try
+		{
+			executor.execute(() -> {
+				try
+				{
+					latch.await();
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+				}
+			});
+			executor.execute(() -> {
+			});
+			assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+			}));
+		}
+		finally
+		{
+			latch.countDown();
+			executor.shutdown();
+		}
+		assertThrows(IllegalArgumentException.class,
+			() -> ManagedExecutors.newBoundedExecutor("test", 0, 1));
+		assertThrows(IllegalArgumentException.class,
+			() -> ManagedExecutors.newBoundedExecutor("test", 1, 0));
+	}
+
+	/**
+	 * Test method for {@link ManagedExecutors#shutdown(long)}
+	 */
+	@Test
+	public void testShutdown()
+	{
+		ForkJoinPool pool = ManagedExecutors.getForkJoinPool(4);
+		ExecutorService executor = ManagedExecutors.getSharedExecutor();
+		ExecutorService taskExecutor = ManagedExecutors.getTaskExecutor();
+		ScheduledExecutorService scheduler = ManagedExecutors.getScheduler();
+		ManagedExecutors.shutdown(1);
+		assertTrue(pool.isShutdown());
+		assertTrue(executor.isShutdown());
+		assertTrue(taskExecutor.isShutdown());
+		assertNotSame(taskExecutor, ManagedExecutors.getTaskExecutor());
+		assertTrue(scheduler.isShutdown());
+		assertNotSame(scheduler, ManagedExecutors.getScheduler());
+		assertNotSame(pool, ManagedExecutors.getForkJoinPool(4));
+		assertNotSame(executor, ManagedExecutors.getSharedExecutor());
+		assertFalse(ManagedExecutors.getSharedExecutor().isShutdown());
+	}
+
+	/**
+	 * Test method for {@link ManagedExecutors#shutdownNow()}
+	 */
+	@Test
+	public void testShutdownNow() throws InterruptedException
+	{
+		ExecutorService taskExecutor = ManagedExecutors.getTaskExecutor();
+		ScheduledExecutorService scheduler = ManagedExecutors.getScheduler();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		taskExecutor.execute(() -> {
+			started.countDown();
+			try
+			{
+				Thread.sleep(60_000);
+			}
+			catch (InterruptedException e)
+			{
+				interrupted.countDown();
+			}
+		});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		long start = System.nanoTime();
+		ManagedExecutors.shutdownNow();
+		// the running task is interrupted without waiting for its termination
+		assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 1);
+		assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+		assertTrue(taskExecutor.isShutdown());
+		assertTrue(scheduler.isShutdown());
+		assertNotSame(taskExecutor, ManagedExecutors.getTaskExecutor());
+	}
+
+}
@@ -0,0 +1,197 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ThreadAnalyzer}
+ */
+public class ThreadAnalyzerTest
+{
+
+	private static ThreadSample sample(final long threadId, final String name,
+		final Thread.State state, final long cpuTime)
+	{
+		return ThreadSample.builder().threadId(threadId).name(name).state(state).cpuTime(cpuTime)
+			.allocatedBytes(-1).lockOwnerId(-1).build();
+	}
+
+	private static ThreadSnapshot snapshot(final long nanoTime, final ThreadSample... samples)
+	{
+		return ThreadSnapshot.builder().nanoTime(nanoTime).threads(List.of(samples)).build();
+	}
+
+	/**
+	 * Test method for {@link ThreadAnalyzer#analyze(ThreadSnapshot, ThreadSnapshot)}
+	 */
+	@Test
+	public void testAnalyze()
+	{
+		ThreadSnapshot before = snapshot(0, sample(1, "main", Thread.State.RUNNABLE, 100),
+			sample(2, "pool-1-thread-1", Thread.State.RUNNABLE, 1_000),
+			sample(3, "pool-1-thread-2", Thread.State.WAITING, 0));
+		ThreadSample blocked = sample(3, "pool-1-thread-2", Thread.State.BLOCKED, 0).toBuilder()
+			.lockName("java.lang.Object@1").lockOwnerId(2).lockOwnerName("pool-1-thread-1")
+			.blockedCount(5).build();
+		ThreadSnapshot after = snapshot(1_000_000, sample(1, "main", Thread.State.RUNNABLE, 200),
+			sample(2, "pool-1-thread-1", Thread.State.RUNNABLE, 501_000), blocked,
+			sample(4, "worker", Thread.State.RUNNABLE, 300));
+
+		ThreadReport report = ThreadAnalyzer.analyze(before, after);
+		assertEquals(1_000_000, report.getElapsedTime());
+
+		List<ThreadActivity> hotThreads = report.getHotThreads();
+		assertEquals(4, hotThreads.size());
+		assertEquals("pool-1-thread-1", hotThreads.get(0).getName());
+		assertEquals(500_000, hotThreads.get(0).getCpuTime());
+		assertEquals(0.5, hotThreads.get(0).getCpuUsage(), 0.0001);
+		assertEquals(-1, hotThreads.get(0).getAllocatedBytes());
+		// the thread 'worker' is new, so the whole cpu time counts
+		assertEquals("worker", hotThreads.get(1).getName());
+		assertEquals(300, hotThreads.get(1).getCpuTime());
+		assertEquals("main", hotThreads.get(2).getName());
+
+		List<LockHotSpot> lockHotSpots = report.getLockHotSpots();
+		assertEquals(1, lockHotSpots.size());
+		assertEquals("java.lang.Object@1", lockHotSpots.get(0).getLockName());
+		assertEquals("pool-1-thread-1", lockHotSpots.get(0).getOwnerName());
+		assertEquals(List.of("pool-1-thread-2"), lockHotSpots.get(0).getWaitingThreads());
+		assertEquals(5, lockHotSpots.get(0).getBlockedCount());
+
+		assertFalse(report.hasDeadlock());
+
+		List<ThreadPoolSummary> pools = report.getPools();
+		assertEquals(3, pools.size());
+		assertEquals("pool-1-thread", pools.get(0).getPoolName());
+		assertEquals(2, pools.get(0).getThreadCount());
+		assertEquals(500_000, pools.get(0).getCpuTime());
+		assertEquals(Integer.valueOf(1), pools.get(0).getStates().get(Thread.State.BLOCKED));
+
+		String text = ThreadAnalyzer.toText(report);
+		assertTrue(text.contains("\"pool-1-thread-1\" #2"));
+		assertTrue(text.contains("java.lang.Object@1 owned by \"pool-1-thread-1\" #2"));
+	}
+
+	/**
+	 * Test method for {@link ThreadAnalyzer#analyze(ThreadSnapshot, ThreadSnapshot)} with a
+	 * deadlock
+	 */
+	@Test
+	public void testAnalyzeWithDeadlock()
+	{
+		ThreadSnapshot after = snapshot(0,
+			sample(1, "a", Thread.State.BLOCKED, 0).toBuilder().lockName("lock-b").lockOwnerId(2)
+				.build(),
+			sample(2, "b", Thread.State.BLOCKED, 0).toBuilder().lockName("lock-c").lockOwnerId(3)
+				.build(),
+			sample(3, "c", Thread.State.WAITING, 0).toBuilder().lockName("lock-a").lockOwnerId(2)
+				.build(),
+			sample(4, "d", Thread.State.BLOCKED, 0).toBuilder().lockName("lock-a").lockOwnerId(1)
+				.build());
+		ThreadReport report = ThreadAnalyzer.analyze(snapshot(0), after);
+		assertTrue(report.hasDeadlock());
+		assertEquals(List.of(List.of("b", "c")), report.getDeadlocks());
+		assertTrue(ThreadAnalyzer.toText(report).contains("Deadlock: \"b\" -> \"c\" -> \"b\""));
+	}
+
+	/**
+	 * Test method for {@link ThreadAnalyzer#analyze(long, TimeUnit)} with a real deadlock
+	 */
+	@Test
+	public void testAnalyzeWithInterval() throws InterruptedException
+	{
+		ReentrantLock first = new ReentrantLock();
+		ReentrantLock second = new ReentrantLock();
+		CountDownLatch locked = new CountDownLatch(2);
+		Thread thread1 = new Thread(() -> lockBoth(first, second, locked), "deadlock-1");
+		Thread thread2 = new Thread(() -> lockBoth(second, first, locked), "deadlock-2");
+		thread1.start();
+		thread2.start();
+		try
+		{
+			locked.await();
+			while (!first.hasQueuedThreads() || !second.hasQueuedThreads())
+			{
+				Thread.sleep(1);
+			}
+			ThreadReport report = ThreadAnalyzer.analyze(10, TimeUnit.MILLISECONDS);
+			assertTrue(report.hasDeadlock());
+			assertEquals(1, report.getDeadlocks().size());
+			assertTrue(
+				report.getDeadlocks().get(0).containsAll(List.of("deadlock-1", "deadlock-2")));
+			assertEquals(2, report.getLockHotSpots().stream()
+				.filter(lockHotSpot -> lockHotSpot.getOwnerName().startsWith("deadlock-")).count());
+		}
+		finally
+		{
+			thread1.interrupt();
+			thread2.interrupt();
+			thread1.join();
+			thread2.join();
+		}
+	}
+
+	private static void lockBoth(final ReentrantLock first, final ReentrantLock second,
+		final CountDownLatch locked)
+	{
+		first.lock();
+		try
+		{
+			locked.countDown();
+			locked.await();
+			second.lockInterruptibly();
+			second.unlock();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		finally
+		{
+			first.unlock();
+		}
+	}
+
+	/**
+	 * Test method for {@link ThreadAnalyzer#getPoolName(String)}
+	 */
+	@Test
+	public void testGetPoolName()
+	{
+		assertEquals("pool-1-thread", ThreadAnalyzer.getPoolName("pool-1-thread-12"));
+		assertEquals("jobj-fork-join-4", ThreadAnalyzer.getPoolName("jobj-fork-join-4-1"));
+		assertEquals("Worker", ThreadAnalyzer.getPoolName("Worker#3"));
+		assertEquals("main", ThreadAnalyzer.getPoolName("main"));
+		assertEquals("42", ThreadAnalyzer.getPoolName("42"));
+		assertEquals("", ThreadAnalyzer.getPoolName(null));
+	}
+
+}
@@ -23,11 +23,17 @@ package io.github.astrapi69.lang.thread;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
@@ -214,6 +220,215 @@ public class ThreadExtensionsTest extends BaseTestCase
 		assertEquals(actual, expected);
 	}
 
+	/**
+	 * Test method for {@link ThreadExtensions#runCallable(Callable, Executor)}
+	 */
+	@Test
+	public void testRunCallable() throws ExecutionException, InterruptedException
+	{
+		String actual;
+		String expected;
+
+		expected = "foo";
+		actual = ThreadExtensions.runCallable(() -> "foo", Runnable::run);
+		assertEquals(expected, actual);
+		actual = ThreadExtensions.runCallable(() -> "foo", ManagedExecutors.getSharedExecutor());
+		assertEquals(expected, actual);
+		assertThrows(ExecutionException.class, () -> ThreadExtensions.runCallable(() -> {
+			throw new IllegalStateException("bar");
+		}, Runnable::run));
+	}
+
+	/**
+	 * Test method for {@link ThreadExtensions#runAsyncSupplier(Supplier, Executor)}
+	 */
+	@Test
+	public void testRunAsyncSupplier() throws ExecutionException, InterruptedException
+	{
+		String actual;
+		String expected;
+
+		expected = "foo";
+		actual = ThreadExtensions.runAsyncSupplier(() -> "foo", Runnable::run);
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * Test method for
+	 * {@link ThreadExtensions#runWithTimeout(Runnable, long, TimeUnit, ExecutorService)}
+	 */
+	@Test
+	public void testRunWithTimeoutWithExecutor() throws TimeoutException
+	{
+		ExecutorService executor = ManagedExecutors.newBoundedExecutor("timeout-test", 1, 1);
+		try
+		{
+			ThreadExtensions.runWithTimeout(() -> {
+			}, 1, TimeUnit.SECONDS, executor);
+			assertThrows(TimeoutException.class, () -> ThreadExtensions.runWithTimeout(() -> {
+				try
+				{
+					Thread.sleep(5000);
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+				}
+			}, 100, TimeUnit.MILLISECONDS, executor));
+			assertFalse(executor.isShutdown());
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Test method for {@link ThreadExtensions#runWithTimeout(Runnable, long, TimeUnit)} with
+	 * nested calls that are deeper than the shared executor has threads
+	 */
+	@Test
+	public void testRunWithTimeoutNested() throws TimeoutException
+	{
+		int depth = Math.max(2, ThreadExtensions.getAvailableProcessors()) + 2;
+		CountDownLatch innermost = new CountDownLatch(1);
+		runNestedWithTimeout(depth, innermost);
+		assertEquals(0, innermost.getCount());
+	}
+
+	private static void runNestedWithTimeout(final int depth, final CountDownLatch innermost)
+		throws TimeoutException
+	{
+		if (depth == 0)
+		{
+			innermost.countDown();
+			return;
+		}
+		ThreadExtensions.runWithTimeout(() -> {
+			try
+			{
+				runNestedWithTimeout(depth - 1, innermost);
+			}
+			catch (TimeoutException e)
+			{
+				throw new IllegalStateException(e);
+			}
+		}, 10, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Test method for {@link ThreadExtensions#supplyAsyncWithTimeout(Supplier, long, TimeUnit)}
+	 */
+	@Test
+	public void testSupplyAsyncWithTimeout() throws Exception
+	{
+		String actual;
+		String expected;
+		CompletableFuture<String> future;
+		ExecutionException exception;
+
+		expected = "foo";
+		actual = ThreadExtensions.supplyAsyncWithTimeout(() -> "foo", 1, TimeUnit.SECONDS).get();
+		assertEquals(expected, actual);
+
+		future = ThreadExtensions.supplyAsyncWithTimeout(() -> {
+			throw new IllegalStateException("bar");
+		}, 1, TimeUnit.SECONDS);
+		exception = assertThrows(ExecutionException.class, future::get);
+		assertTrue(exception.getCause() instanceof IllegalStateException);
+
+		CountDownLatch interrupted = new CountDownLatch(1);
+		future = ThreadExtensions.supplyAsyncWithTimeout(() -> {
+			try
+			{
+				Thread.sleep(5000);
+			}
+			catch (InterruptedException e)
+			{
+				interrupted.countDown();
+			}
+			return "too late";
+		}, 100, TimeUnit.MILLISECONDS);
+		exception = assertThrows(ExecutionException.class, future::get);
+		assertTrue(exception.getCause() instanceof TimeoutException);
+		assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * Test method for {@link ThreadExtensions#runAsyncWithTimeout(Runnable, long, TimeUnit)}
+	 */
+	@Test
+	public void testRunAsyncWithTimeoutCancel() throws Exception
+	{
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		CompletableFuture<Void> future = ThreadExtensions.runAsyncWithTimeout(() -> {
+			started.countDown();
+			try
+			{
+				Thread.sleep(5000);
+			}
+			catch (InterruptedException e)
+			{
+				interrupted.countDown();
+			}
+		}, 10, TimeUnit.SECONDS);
+		assertTrue(started.await(1, TimeUnit.SECONDS));
+		assertTrue(future.cancel(true));
+		assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+		assertTrue(future.isCancelled());
+	}
+
+	/**
+	 * Test method for {@link ThreadExtensions#supplyAsyncWithTimeout(Supplier, long, TimeUnit)}
+	 * with more blocking tasks than threads of the shared executor
+	 */
+	@Test
+	public void testSupplyAsyncWithTimeoutBlockingTasks() throws Exception
+	{
+		int tasks = Math.max(2, Runtime.getRuntime().availableProcessors()) + 2;
+		CountDownLatch started = new CountDownLatch(tasks);
+		CountDownLatch release = new CountDownLatch(1);
+		List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+		for (int i = 0; i < tasks; i++)
+		{
+			futures.add(ThreadExtensions.supplyAsyncWithTimeout(() -> {
+				started.countDown();
+				try
+				{
+					return release.await(10, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			}, 10, TimeUnit.SECONDS));
+		}
+		// every task runs on an own thread, so no task waits for another one
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		release.countDown();
+		for (CompletableFuture<Boolean> future : futures)
+		{
+			assertTrue(future.get(5, TimeUnit.SECONDS));
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link ThreadExtensions#supplyAsyncWithTimeout(Supplier, long, TimeUnit, Executor)} with a
+	 * rejecting executor
+	 */
+	@Test
+	public void testSupplyAsyncWithTimeoutRejected()
+	{
+		CompletableFuture<String> future = ThreadExtensions.supplyAsyncWithTimeout(() -> "foo", 1,
+			TimeUnit.SECONDS, runnable -> {
+				throw new RejectedExecutionException("full");
+			});
+		assertTrue(future.isCompletedExceptionally());
+	}
+
 	/**
 	 * Test method for {@link ThreadExtensions}
 	 */
@@ -0,0 +1,77 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ThreadMetrics}
+ */
+public class ThreadMetricsTest
+{
+
+	/**
+	 * Test method for {@link ThreadMetrics#getCurrentThreadAllocatedBytes()}
+	 */
+	@Test
+	public void testGetCurrentThreadAllocatedBytes()
+	{
+		if (!ThreadMetrics.isAllocatedBytesSupported())
+		{
+			assertEquals(ThreadMetrics.UNSUPPORTED, ThreadMetrics.getCurrentThreadAllocatedBytes());
+			return;
+		}
+		long before = ThreadMetrics.getCurrentThreadAllocatedBytes();
+		byte[] bytes = new byte[1024 * 1024];
+		long after = ThreadMetrics.getCurrentThreadAllocatedBytes();
+		assertTrue(after - before >= bytes.length);
+	}
+
+	/**
+	 * Test method for {@link ThreadMetrics#getThreadAllocatedBytes(long[])},
+	 * {@link ThreadMetrics#getThreadCpuTime(long[])} and
+	 * {@link ThreadMetrics#getThreadUserTime(long[])}
+	 */
+	@Test
+	public void testBulkMetrics()
+	{
+		long[] threadIds = { Thread.currentThread().getId(), Long.MAX_VALUE };
+		long[] allocatedBytes = ThreadMetrics.getThreadAllocatedBytes(threadIds);
+		long[] cpuTimes = ThreadMetrics.getThreadCpuTime(threadIds);
+		long[] userTimes = ThreadMetrics.getThreadUserTime(threadIds);
+		assertEquals(2, allocatedBytes.length);
+		assertEquals(2, cpuTimes.length);
+		assertEquals(2, userTimes.length);
+		// the thread with the id Long.MAX_VALUE does not exist
+		assertEquals(ThreadMetrics.UNSUPPORTED, allocatedBytes[1]);
+		assertEquals(ThreadMetrics.UNSUPPORTED, cpuTimes[1]);
+		if (ThreadMetrics.isCpuTimeSupported())
+		{
+			assertTrue(0 < cpuTimes[0]);
+			assertEquals(ThreadMetrics.getThreadMXBean().isThreadCpuTimeEnabled(),
+				0 < ThreadMetrics.getCurrentThreadCpuTime());
+		}
+	}
+
+}
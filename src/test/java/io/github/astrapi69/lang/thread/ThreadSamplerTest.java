@@ -0,0 +1,163 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ThreadSampler}
+ */
+public class ThreadSamplerTest
+{
+
+	/**
+	 * Test method for {@link ThreadSampler#sample()}
+	 */
+	@Test
+	public void testSample()
+	{
+		ThreadSampler sampler = new ThreadSampler();
+		assertNull(sampler.getLatest());
+		ThreadSnapshot snapshot = sampler.sample();
+		assertSame(snapshot, sampler.getLatest());
+		ThreadSample current = snapshot.findThread(Thread.currentThread().getId());
+		assertNotNull(current);
+		assertEquals(Thread.currentThread().getName(), current.getName());
+		assertEquals(Thread.State.RUNNABLE, current.getState());
+		assertNull(current.getPreviousState());
+		assertEquals(0, current.getStackTrace().length);
+		if (ThreadMetrics.isCpuTimeSupported())
+		{
+			assertTrue(current.getCpuTime() > 0);
+		}
+		if (ThreadMetrics.isAllocatedBytesSupported())
+		{
+			assertTrue(current.getAllocatedBytes() > 0);
+		}
+		current = sampler.sample().findThread(Thread.currentThread().getId());
+		assertEquals(Thread.State.RUNNABLE, current.getPreviousState());
+	}
+
+	/**
+	 * Test method for {@link ThreadSampler#sample()} with stack traces
+	 */
+	@Test
+	public void testSampleWithStackTraces()
+	{
+		ThreadSampler sampler = new ThreadSampler(1, 5);
+		ThreadSample current = sampler.sample().findThread(Thread.currentThread().getId());
+		assertTrue(0 < current.getStackTrace().length);
+		assertTrue(current.getStackTrace().length <= 5);
+	}
+
+	/**
+	 * Test method for {@link ThreadSampler#sample()} with the state transitions of a thread
+	 */
+	@Test
+	public void testStateTransitions() throws InterruptedException
+	{
+		Object lock = new Object();
+		ThreadSampler sampler = new ThreadSampler();
+		Thread thread;
+		synchronized (lock)
+		{
+			thread = new Thread(() -> {
+				synchronized (lock)
+				{
+					lock.notifyAll();
+				}
+			}, "blocked-thread");
+			thread.start();
+			while (thread.getState() != Thread.State.BLOCKED)
+			{
+				Thread.sleep(1);
+			}
+			ThreadSample blocked = sampler.sample().findThread(thread.getId());
+			assertEquals(Thread.State.BLOCKED, blocked.getState());
+			assertEquals(Thread.currentThread().getId(), blocked.getLockOwnerId());
+			assertEquals(0, blocked.getStateTransitions());
+			lock.wait(10);
+		}
+		thread.join();
+		ThreadSample current = sampler.sample().findThread(Thread.currentThread().getId());
+		assertNotNull(current);
+		assertNull(sampler.getLatest().findThread(thread.getId()));
+	}
+
+	/**
+	 * Test method for {@link ThreadSampler#getSnapshots()} with a full ring buffer
+	 */
+	@Test
+	public void testGetSnapshots()
+	{
+		ThreadSampler sampler = new ThreadSampler(3, 0);
+		ThreadSnapshot first = sampler.sample();
+		sampler.sample();
+		sampler.sample();
+		assertSame(first, sampler.getSnapshots().get(0));
+		ThreadSnapshot latest = sampler.sample();
+		List<ThreadSnapshot> snapshots = sampler.getSnapshots();
+		assertEquals(3, snapshots.size());
+		assertEquals(3, sampler.getCapacity());
+		assertFalse(snapshots.contains(first));
+		assertSame(latest, snapshots.get(2));
+		assertSame(latest, sampler.getLatest());
+		sampler.clear();
+		assertEquals(0, sampler.size());
+		assertNull(sampler.getLatest());
+		assertThrows(IllegalArgumentException.class, () -> new ThreadSampler(0, 0));
+	}
+
+	/**
+	 * Test method for {@link ThreadSampler#start(long, TimeUnit)} and {@link ThreadSampler#stop()}
+	 */
+	@Test
+	public void testStartAndStop() throws InterruptedException
+	{
+		try (ThreadSampler sampler = new ThreadSampler(10, 0))
+		{
+			sampler.start(10, TimeUnit.MILLISECONDS);
+			assertTrue(sampler.isRunning());
+			assertThrows(IllegalStateException.class,
+				() -> sampler.start(10, TimeUnit.MILLISECONDS));
+			long deadline = System.currentTimeMillis() + 2000;
+			while (sampler.size() < 3 && System.currentTimeMillis() < deadline)
+			{
+				Thread.sleep(10);
+			}
+			assertTrue(3 <= sampler.size());
+			sampler.stop();
+			assertFalse(sampler.isRunning());
+		}
+	}
+
+}
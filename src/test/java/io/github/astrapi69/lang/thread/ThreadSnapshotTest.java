@@ -0,0 +1,72 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.meanbean.test.BeanTester;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * The unit test class for the class {@link ThreadSnapshot}
+ */
+public class ThreadSnapshotTest
+{
+
+	/**
+	 * Test method for {@link ThreadSnapshot#findThread(long)}
+	 */
+	@Test
+	public void testFindThread()
+	{
+		ThreadSample main = ThreadSample.builder().threadId(1L).name("main").build();
+		ThreadSample worker = ThreadSample.builder().threadId(2L).name("worker").build();
+		ThreadSnapshot snapshot = ThreadSnapshot.builder().threads(List.of(main, worker)).build();
+		assertSame(worker, snapshot.findThread(2L));
+		assertNull(snapshot.findThread(3L));
+		assertNull(new ThreadSnapshot().findThread(1L));
+	}
+
+	/**
+	 * Test method for {@link ThreadSnapshot#equals(Object)} , {@link ThreadSnapshot#hashCode()}
+	 */
+	@Test
+	public void equalsContract()
+	{
+		EqualsVerifier.simple().forClass(ThreadSnapshot.class).verify();
+	}
+
+	/**
+	 * Test method for {@link ThreadSnapshot}
+	 */
+	@Test
+	public void testWithBeanTester()
+	{
+		final BeanTester beanTester = new BeanTester();
+		beanTester.testBean(ThreadSnapshot.class);
+	}
+
+}
@@ -0,0 +1,183 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link VirtualThreads}. The tests run against the variant of
+ * the running java version
+ */
+public class VirtualThreadsTest
+{
+
+	/**
+	 * Test method for {@link VirtualThreads#startThread(Runnable)}
+	 */
+	@Test
+	public void testStartThread() throws InterruptedException
+	{
+		CountDownLatch latch = new CountDownLatch(1);
+		Thread thread = VirtualThreads.startThread(latch::countDown);
+		assertTrue(latch.await(1, TimeUnit.SECONDS));
+		assertTrue(thread.getName().startsWith(VirtualThreads.THREAD_NAME_PREFIX + "-"));
+		assertTrue(thread.isDaemon());
+	}
+
+	/**
+	 * Test method for {@link VirtualThreads#newThreadPerTaskExecutor()}
+	 */
+	@Test
+	public void testNewThreadPerTaskExecutor() throws Exception
+	{
+		ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor();
+		try
+		{
+			assertEquals("foo", executor.submit(() -> "foo").get());
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Test method for {@link VirtualThreads#runWithTimeout(Runnable, long, TimeUnit)}
+	 */
+	@Test
+	public void testRunWithTimeout() throws TimeoutException
+	{
+		VirtualThreads.runWithTimeout(() -> {
+		}, 1, TimeUnit.SECONDS);
+		assertThrows(TimeoutException.class, () -> VirtualThreads.runWithTimeout(() -> {
+			try
+			{
+				Thread.sleep(5000);
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}, 100, TimeUnit.MILLISECONDS));
+	}
+
+	/**
+	 * Test method for {@link VirtualThreads#runAll(java.util.Collection)}
+	 */
+	@Test
+	public void testRunAll() throws Exception
+	{
+		List<String> actual;
+		List<Callable<String>> tasks;
+
+		tasks = List.of(() -> "foo", () -> "bar");
+		actual = VirtualThreads.runAll(tasks);
+		assertEquals(List.of("foo", "bar"), actual);
+
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		List<Callable<String>> failingTasks = List.of(() -> {
+			started.await();
+			throw new IllegalStateException("fails fast");
+		}, () -> {
+			started.countDown();
+			try
+			{
+				Thread.sleep(5000);
+			}
+			catch (InterruptedException e)
+			{
+				interrupted.countDown();
+			}
+			return "too late";
+		});
+		ExecutionException exception = assertThrows(ExecutionException.class,
+			() -> VirtualThreads.runAll(failingTasks));
+		assertTrue(exception.getCause() instanceof IllegalStateException);
+		assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * Test method for {@link VirtualThreads#runFirstSuccess(java.util.Collection)}
+	 */
+	@Test
+	public void testRunFirstSuccess() throws Exception
+	{
+		String actual;
+		List<Callable<String>> tasks;
+
+		tasks = List.of(() -> {
+			throw new IllegalStateException("fails");
+		}, () -> "foo");
+		actual = VirtualThreads.runFirstSuccess(tasks);
+		assertEquals("foo", actual);
+
+		List<Callable<String>> failingTasks = List.of(() -> {
+			throw new IllegalStateException("fails");
+		});
+		assertThrows(ExecutionException.class, () -> VirtualThreads.runFirstSuccess(failingTasks));
+		assertThrows(IllegalArgumentException.class,
+			() -> VirtualThreads.runFirstSuccess(List.<Callable<String>> of()));
+	}
+
+	/**
+	 * Test method for {@link VirtualThreads#runFirstSuccess(java.util.Collection)} with a task
+	 * that ignores the interrupt
+	 */
+	@Test
+	public void testRunFirstSuccessWithoutWaitingForCancelledTasks() throws Exception
+	{
+		CountDownLatch release = new CountDownLatch(1);
+		List<Callable<String>> tasks = List.of(() -> "foo", () -> {
+			// ignores the interrupt of the cancellation
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (release.getCount() != 0 && System.nanoTime() < deadline)
+			{
+				Thread.onSpinWait();
+			}
+			return "bar";
+		});
+		try
+		{
+			long start = System.nanoTime();
+			assertEquals("foo", VirtualThreads.runFirstSuccess(tasks));
+			// the cancelled task is interrupted but not awaited
+			assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 2);
+		}
+		finally
+		{
+			release.countDown();
+		}
+	}
+
+}
@@ -0,0 +1,152 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.lang.thread;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link Worker}
+ */
+public class WorkerTest
+{
+
+	/**
+	 * Test method for {@link Worker#start()}, {@link Worker#shutdown()} and the counters
+	 */
+	@Test
+	public void testStartAndShutdown() throws InterruptedException
+	{
+		ConcurrentLinkedQueue<String> queue = new ConcurrentLinkedQueue<>();
+		CountDownLatch processed = new CountDownLatch(3);
+		Worker worker = new Worker("test-worker", () -> {
+			String item = queue.poll();
+			if (item == null)
+			{
+				return 0;
+			}
+			processed.countDown();
+			return 1;
+		}, IdleStrategies.blocking(1, TimeUnit.SECONDS));
+		assertEquals(WorkerState.NEW, worker.getState());
+		worker.start();
+		assertThrows(IllegalStateException.class, worker::start);
+		assertEquals(WorkerState.RUNNING, worker.getState());
+		queue.add("foo");
+		queue.add("bar");
+		queue.add("baz");
+		worker.signal();
+		assertTrue(processed.await(1, TimeUnit.SECONDS));
+		worker.shutdown();
+		assertTrue(worker.awaitTermination(1, TimeUnit.SECONDS));
+		assertEquals(WorkerState.TERMINATED, worker.getState());
+		assertEquals(3, worker.getWorkCount());
+		assertTrue(worker.getIterationCount() >= 3);
+		assertTrue(worker.getIdleCount() >= 1);
+		assertTrue(worker.getIdleTime(TimeUnit.NANOSECONDS) > 0);
+		assertEquals("test-worker", worker.getName());
+	}
+
+	/**
+	 * Test method for {@link Worker#pause()} and {@link Worker#resume()}
+	 */
+	@Test
+	public void testPauseAndResume() throws InterruptedException
+	{
+		AtomicInteger counter = new AtomicInteger();
+		Worker worker = new Worker("pause-worker", () -> {
+			counter.incrementAndGet();
+			return 0;
+		}, IdleStrategies.backoff()).start();
+		worker.pause();
+		assertEquals(WorkerState.PAUSED, worker.getState());
+		Thread.sleep(50);
+		int paused = counter.get();
+		Thread.sleep(50);
+		assertEquals(paused, counter.get());
+		worker.resume();
+		assertEquals(WorkerState.RUNNING, worker.getState());
+		Thread.sleep(50);
+		assertTrue(paused < counter.get());
+		worker.shutdown();
+		assertTrue(worker.awaitTermination(1, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * Test method for {@link Worker} that is interrupted while it is paused or idle
+	 */
+	@Test
+	public void testInterrupt() throws InterruptedException
+	{
+		AtomicReference<Thread> workerThread = new AtomicReference<>();
+		Worker worker = new Worker("interrupted-worker", () -> 0,
+			IdleStrategies.blocking(1, TimeUnit.SECONDS)).start(runnable -> {
+				Thread thread = new Thread(runnable, "interrupted-worker");
+				thread.setDaemon(true);
+				workerThread.set(thread);
+				return thread;
+			});
+		worker.pause();
+		Thread.sleep(50);
+		workerThread.get().interrupt();
+		assertTrue(worker.awaitTermination(1, TimeUnit.SECONDS));
+		assertEquals(WorkerState.TERMINATED, worker.getState());
+
+		Worker idleWorker = new Worker("interrupted-idle-worker", () -> 0,
+			IdleStrategies.backoff()).start(runnable -> {
+				Thread thread = new Thread(runnable, "interrupted-idle-worker");
+				thread.setDaemon(true);
+				workerThread.set(thread);
+				return thread;
+			});
+		Thread.sleep(50);
+		workerThread.get().interrupt();
+		assertTrue(idleWorker.awaitTermination(1, TimeUnit.SECONDS));
+		assertEquals(WorkerState.TERMINATED, idleWorker.getState());
+	}
+
+	/**
+	 * Test method for {@link Worker} with a failing task
+	 */
+	@Test
+	public void testFailingTask() throws InterruptedException
+	{
+		CountDownLatch failed = new CountDownLatch(2);
+		Worker worker = new Worker("failing-worker", () -> {
+			failed.countDown();
+			throw new IllegalStateException("fails");
+		}, IdleStrategies.yielding()).start();
+		assertTrue(failed.await(1, TimeUnit.SECONDS));
+		worker.shutdown();
+		assertTrue(worker.awaitTermination(1, TimeUnit.SECONDS));
+		assertTrue(worker.getErrorCount() >= 2);
+	}
+
+}